@@ -0,0 +1,120 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.around.LogAround;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Benchmark for the overhead per invocation of {@link LogAround} through the native advisors,
+ * against the AspectJ aspects, with the annotation on the method and on the class.
+ *
+ * @author Andy Lian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvisorTypeBenchmark {
+
+  @Param({"NATIVE", "ASPECTJ"})
+  private String advisorType;
+
+  /** Logging disabled, or enabled on the calling thread. */
+  @Param({"disabled", "enabled"})
+  private String mode;
+
+  private ConfigurableApplicationContext context;
+
+  private MethodContext methodContext;
+
+  private ClassContext classContext;
+
+  private final List<String> parameter = List.of("foo", "bar", "baz");
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        new SpringApplicationBuilder(BenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "logging.config=classpath:logback-benchmark.xml",
+                "logging.level." + AdvisorTypeBenchmark.class.getName() + "=" + loggingLevel(),
+                AopLoggersProperties.PREFIX + ".advisor-type=" + advisorType)
+            .run();
+    methodContext = context.getBean(MethodContext.class);
+    classContext = context.getBean(ClassContext.class);
+  }
+
+  private String loggingLevel() {
+    return mode.equals("disabled") ? "OFF" : "DEBUG";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Object methodContext() {
+    return methodContext.foo(parameter);
+  }
+
+  @Benchmark
+  public Object classContext() {
+    return classContext.foo(parameter);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableAutoConfiguration
+  static class BenchmarkConfiguration {
+
+    @Bean
+    public MethodContext methodContext() {
+      return new MethodContext();
+    }
+
+    @Bean
+    public ClassContext classContext() {
+      return new ClassContext();
+    }
+  }
+
+  static class MethodContext {
+
+    @LogAround
+    public List<String> foo(final List<String> foo) {
+      return foo;
+    }
+  }
+
+  @LogAround
+  static class ClassContext {
+
+    public List<String> foo(final List<String> foo) {
+      return foo;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.before.LogBefore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Benchmark for the startup time of an application context with annotated and not annotated beans,
+ * matched by the native advisors against the AspectJ aspects.
+ *
+ * <p>Each application context is started in a fresh fork, so that the AspectJ weaver's expression
+ * parser and the class metadata are not warmed up by a previous iteration.
+ *
+ * @author Andy Lian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class AdvisorTypeStartupBenchmark {
+
+  private static final List<Class<?>> BEAN_CLASSES =
+      List.of(
+          AnnotatedMethods.class,
+          AnnotatedClass.class,
+          NotAnnotated1.class,
+          NotAnnotated2.class,
+          NotAnnotated3.class,
+          NotAnnotated4.class);
+
+  /** Number of beans registered per bean class. */
+  private static final int BEANS_PER_CLASS = 50;
+
+  @Param({"NATIVE", "ASPECTJ"})
+  private String advisorType;
+
+  @Benchmark
+  public ConfigurableApplicationContext startup() {
+    final ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(BenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .initializers(this::registerBeans)
+            .properties(
+                "logging.config=classpath:logback-benchmark.xml",
+                AopLoggersProperties.PREFIX + ".advisor-type=" + advisorType)
+            .run();
+    context.close();
+    return context;
+  }
+
+  private void registerBeans(final ConfigurableApplicationContext context) {
+    final GenericApplicationContext applicationContext = (GenericApplicationContext) context;
+    for (Class<?> beanClass : BEAN_CLASSES) {
+      for (int index = 0; index < BEANS_PER_CLASS; index++) {
+        applicationContext.registerBean(beanClass.getSimpleName() + index, beanClass);
+      }
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableAutoConfiguration
+  static class BenchmarkConfiguration {}
+
+  public static class AnnotatedMethods {
+
+    @LogAround
+    public String foo() {
+      return "foo";
+    }
+
+    @LogBefore
+    public String bar() {
+      return "bar";
+    }
+
+    public String baz() {
+      return "baz";
+    }
+  }
+
+  @LogAround
+  public static class AnnotatedClass {
+
+    public String foo() {
+      return "foo";
+    }
+
+    public String bar() {
+      return "bar";
+    }
+  }
+
+  public static class NotAnnotated1 {
+
+    public String foo() {
+      return "foo";
+    }
+
+    public String bar() {
+      return "bar";
+    }
+  }
+
+  public static class NotAnnotated2 {
+
+    public String foo() {
+      return "foo";
+    }
+
+    public String bar() {
+      return "bar";
+    }
+  }
+
+  public static class NotAnnotated3 {
+
+    public String foo() {
+      return "foo";
+    }
+
+    public String bar() {
+      return "bar";
+    }
+  }
+
+  public static class NotAnnotated4 {
+
+    public String foo() {
+      return "foo";
+    }
+
+    public String bar() {
+      return "bar";
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package im.aop.loggers.advice.around;
+
+import im.aop.loggers.dispatch.AsyncLogDispatcherProperties;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Benchmark for the overhead of {@link LogAroundService#logAround} per invocation, through the
+ * {@link LogAround} advised proxy, against invoking the target method directly.
+ *
+ * <p>Run with <code>-prof gc</code> to report the allocation rate per operation.
+ *
+ * @author Andy Lian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogAroundServiceBenchmark {
+
+  /** Logging disabled, enabled on the calling thread, or enabled with asynchronous dispatching. */
+  @Param({"disabled", "enabled", "async"})
+  private String mode;
+
+  private ConfigurableApplicationContext context;
+
+  private Foo advisedFoo;
+
+  private final Foo foo = new Foo();
+
+  private final List<String> parameter = List.of("foo", "bar", "baz");
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        new SpringApplicationBuilder(BenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "logging.config=classpath:logback-benchmark.xml",
+                "logging.level." + Foo.class.getName() + "=" + loggingLevel(),
+                AsyncLogDispatcherProperties.PREFIX + ".enabled=" + mode.equals("async"))
+            .run();
+    advisedFoo = context.getBean(Foo.class);
+  }
+
+  private String loggingLevel() {
+    return mode.equals("disabled") ? "OFF" : "DEBUG";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Object baseline() {
+    return foo.foo(parameter);
+  }
+
+  @Benchmark
+  public Object logAround() {
+    return advisedFoo.foo(parameter);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableAutoConfiguration
+  static class BenchmarkConfiguration {
+
+    @Bean
+    public Foo foo() {
+      return new Foo();
+    }
+  }
+
+  static class Foo {
+
+    @LogAround
+    public List<String> foo(final List<String> foo) {
+      return foo;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package im.aop.loggers.messageinterpolation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link StringSubstitutor#substitute} with templates of varying number of variables.
+ *
+ * @author Andy Lian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringSubstitutorBenchmark {
+
+  @Param({"0", "2", "8", "32"})
+  private int variableCount;
+
+  private final StringSubstitutor stringSubstitutor = new StringSubstitutor();
+
+  private final StringSupplierLookup stringLookup = new StringSupplierLookup();
+
+  private String template;
+
+  @Setup
+  public void setup() {
+    final StringBuilder builder = new StringBuilder("Entering [{method}] with parameters");
+    for (int index = 0; index < variableCount; index++) {
+      final String key = "variable-" + index;
+      final String value = "value-" + index;
+      stringLookup.addStringSupplier(key, () -> value);
+      builder.append(" [").append(key).append("={").append(key).append("}]");
+    }
+    stringLookup.addStringSupplier("method", () -> "Foo foo(String)");
+    template = builder.toString();
+  }
+
+  @Benchmark
+  public String substitute() {
+    return stringSubstitutor.substitute(template, stringLookup);
+  }
+}
@@ -0,0 +1,147 @@
+package im.aop.loggers.messageinterpolation;
+
+import im.aop.loggers.AopLoggersProperties;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Benchmark for the {@link ToStringStrategy} implementations rendering method parameters and return
+ * values, on a list of orders of varying size.
+ *
+ * @author Andy Lian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToStringStrategyBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int size;
+
+  private ConfigurableApplicationContext context;
+
+  private ReflectionToStringStrategy reflectionToStringStrategy;
+
+  private IterableToStringStrategy iterableToStringStrategy;
+
+  private PageToStringStrategy pageToStringStrategy;
+
+  private ToStringStrategyFactory toStringStrategyFactory;
+
+  private Order order;
+
+  private List<Order> orders;
+
+  private Page<Order> page;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context =
+        new SpringApplicationBuilder(
+                StringSubstitutorConfiguration.class, AopLoggersProperties.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "logging.config=classpath:logback-benchmark.xml",
+                ReflectionToStringProperties.PREFIX + ".base-classes=" + Order.class.getName())
+            .run();
+    reflectionToStringStrategy = context.getBean(ReflectionToStringStrategy.class);
+    iterableToStringStrategy = context.getBean(IterableToStringStrategy.class);
+    pageToStringStrategy = context.getBean(PageToStringStrategy.class);
+    toStringStrategyFactory = context.getBean(ToStringStrategyFactory.class);
+
+    orders = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      orders.add(
+          new Order(
+              "ORD-" + index,
+              "customer-" + index,
+              BigDecimal.valueOf(index * 100L, 2),
+              LocalDate.of(2025, 1, 1).plusDays(index),
+              null,
+              "secret-" + index));
+    }
+    order = orders.get(0);
+    page = new PageImpl<>(orders, PageRequest.of(0, size), size * 10L);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String reflectionToString() {
+    return reflectionToStringStrategy.toString(order);
+  }
+
+  @Benchmark
+  public String iterableToString() {
+    return iterableToStringStrategy.toString(orders);
+  }
+
+  @Benchmark
+  public String pageToString() {
+    return pageToStringStrategy.toString(page);
+  }
+
+  @Benchmark
+  public String toStringStrategyFactory() {
+    return toStringStrategyFactory.findOrDefault(orders).toString(orders);
+  }
+
+  static class Order {
+
+    private final String orderId;
+
+    private final String customerId;
+
+    private final BigDecimal amount;
+
+    private final LocalDate orderDate;
+
+    private final String remarks;
+
+    private final String secret;
+
+    Order(
+        final String orderId,
+        final String customerId,
+        final BigDecimal amount,
+        final LocalDate orderDate,
+        final String remarks,
+        final String secret) {
+      this.orderId = orderId;
+      this.customerId = customerId;
+      this.amount = amount;
+      this.orderDate = orderDate;
+      this.remarks = remarks;
+      this.secret = secret;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package im.aop.loggers;
+
+/**
+ * How the AOP Loggers annotations are applied to the Spring beans, when the aspects are not woven
+ * by AspectJ.
+ *
+ * @author Andy Lian
+ */
+public enum AdvisorType {
+
+  /** Advisors matching the annotations natively, invoking a method interceptor. */
+  NATIVE,
+
+  /** {@code @Aspect} advices matched by AspectJ pointcut expressions. */
+  ASPECTJ
+}
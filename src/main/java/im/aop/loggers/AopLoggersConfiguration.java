@@ -1,5 +1,6 @@
 package im.aop.loggers;
 
+import im.aop.loggers.advice.LogAdvisorConfiguration;
 import im.aop.loggers.advice.aftercommit.LogAfterCommitConfiguration;
 import im.aop.loggers.advice.afterreturning.LogAfterReturningConfiguration;
 import im.aop.loggers.advice.afterrollback.LogAfterRollbackConfiguration;
@@ -7,19 +8,32 @@ import im.aop.loggers.advice.afterthrowing.LogAfterThrowingConfiguration;
 import im.aop.loggers.advice.around.LogAroundConfiguration;
 import im.aop.loggers.advice.before.LogBeforeConfiguration;
 import im.aop.loggers.advice.beforecommit.LogBeforeCommitConfiguration;
+import im.aop.loggers.dispatch.LogDispatcherConfiguration;
+import im.aop.loggers.exception.ExceptionDeduplicationConfiguration;
+import im.aop.loggers.exception.StackTraceConfiguration;
+import im.aop.loggers.index.AopLoggersIndexConfiguration;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AopLoggersMetricsConfiguration;
+import im.aop.loggers.tail.TailLogConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 
 @EnableConfigurationProperties({AopLoggersProperties.class})
 @Import({
   StringSubstitutorConfiguration.class,
+  LogDispatcherConfiguration.class,
+  TailLogConfiguration.class,
+  ExceptionDeduplicationConfiguration.class,
+  StackTraceConfiguration.class,
+  AopLoggersMetricsConfiguration.class,
+  AopLoggersIndexConfiguration.class,
   LogAfterReturningConfiguration.class,
   LogAfterThrowingConfiguration.class,
   LogAroundConfiguration.class,
   LogBeforeConfiguration.class,
   LogBeforeCommitConfiguration.class,
   LogAfterCommitConfiguration.class,
-  LogAfterRollbackConfiguration.class
+  LogAfterRollbackConfiguration.class,
+  LogAdvisorConfiguration.class
 })
 public class AopLoggersConfiguration {}
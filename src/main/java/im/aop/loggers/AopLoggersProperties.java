@@ -1,7 +1,11 @@
 package im.aop.loggers;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -36,6 +40,10 @@ public class AopLoggersProperties {
   @NotBlank
   private String exitedMessage = "[{method}] exited normally with return value [{return-value}]";
 
+  /** Cancelled message template, for a Reactor return value whose subscription is cancelled */
+  @NotBlank
+  private String cancelledMessage = "[{method}] cancelled after [{element-count}] elements";
+
   /** Log Level for exited abnormally message */
   @NotNull private Level exitedAbnormallyLevel = Level.ERROR;
 
@@ -61,6 +69,52 @@ public class AopLoggersProperties {
   private String elapsedWarningMessage =
       "[{method}] reached elapsed time limit [{elapsed-time-limit}]";
 
+  /**
+   * Whether to defer the entering message of @LogAround until the method exits abnormally or
+   * exceeds the elapsed time limit
+   */
+  private boolean deferEntering = false;
+
+  /** Deferred entering message template */
+  @NotBlank
+  private String deferredEnteringMessage =
+      "Entering [{method}] at [{entered-at}] with parameters [{parameters}]";
+
+  /** Exited normally message template, when the entering message is deferred */
+  @NotBlank
+  private String deferredExitedMessage =
+      "[{method}] with parameters [{parameters}] exited normally with return value"
+          + " [{return-value}] elapsed [{elapsed}]";
+
+  /** Ratio of invocations logged for each method, greater than 0.0 and up to 1.0 */
+  @DecimalMin(value = "0.0", inclusive = false)
+  @DecimalMax("1.0")
+  private double sampleRate = 1.0;
+
+  /** Maximum number of invocations logged per second for each method, 0 for unlimited */
+  private long maxPerSecond = 0;
+
+  /** Whether exited abnormally messages are logged regardless of sampling */
+  private boolean exceptionsBypassSampling = true;
+
+  /** Whether elapsed warning messages are logged regardless of sampling */
+  private boolean elapsedWarningsBypassSampling = true;
+
+  /**
+   * How an exception already logged by an inner annotated method is logged by the outer ones it
+   * propagates through
+   */
+  @NotNull private RepeatedExceptionPolicy repeatedExceptionPolicy = RepeatedExceptionPolicy.LOG;
+
+  /** How the annotations are applied to the Spring beans, when the aspects are not woven */
+  @NotNull private AdvisorType advisorType = AdvisorType.ASPECTJ;
+
+  /**
+   * Whether to restrict the advised classes to the ones listed in the index generated at build
+   * time, when found on the classpath. The classes missing from the index are never advised
+   */
+  private boolean useIndex = false;
+
   /** Log Level for committing transaction message */
   @NotNull private Level committingTransactionLevel = Level.DEBUG;
 
@@ -84,4 +138,13 @@ public class AopLoggersProperties {
   @NotBlank
   private String transactionRollbackedMessage =
       "Transaction rollbacked for [{method}] with parameters [{parameters}]";
+
+  /** Incremented each time the properties are bound, to invalidate values derived from them */
+  @Setter(AccessLevel.NONE)
+  private volatile int revision;
+
+  @PostConstruct
+  void postConstruct() {
+    revision++;
+  }
 }
@@ -0,0 +1,19 @@
+package im.aop.loggers;
+
+/**
+ * How an exception already logged by an inner annotated method is logged again by the outer
+ * annotated methods it propagates through, with {@code @LogAfterThrowing} and {@code @LogAround}.
+ *
+ * @author Andy Lian
+ */
+public enum RepeatedExceptionPolicy {
+
+  /** Log the exited abnormally message with the stack trace at every method. */
+  LOG,
+
+  /** Log the exited abnormally message without the stack trace at the outer methods. */
+  LOG_WITHOUT_STACK_TRACE,
+
+  /** Log nothing at the outer methods. */
+  SKIP
+}
@@ -0,0 +1,89 @@
+package im.aop.loggers.advice;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Resolve the annotation advising a public method, the annotation on the method taking precedence
+ * over the annotation on its declaring class, so that each method is advised once per annotation
+ * type.
+ *
+ * <p>The method annotation is looked up on the most specific method of the target class first, then
+ * on the invoked method, e.g. declared by an interface. The class annotation is looked up on the
+ * class declaring the most specific method, <code>toString()</code> excluded, the same way as the
+ * <code>@within</code> pointcuts of the aspects.
+ *
+ * <p>Annotations are looked up as merged annotations and cached per method and target class, so
+ * that the same annotation instance is returned on every invocation.
+ *
+ * @param <A> annotation type
+ * @author Andy Lian
+ */
+public final class AnnotatedMethodResolver<A extends Annotation> {
+
+  private final Class<A> annotationType;
+
+  private final Map<MethodClassKey, A> annotations = new ConcurrentHashMap<>();
+
+  public AnnotatedMethodResolver(final Class<A> annotationType) {
+    this.annotationType = Objects.requireNonNull(annotationType);
+  }
+
+  public Class<A> getAnnotationType() {
+    return annotationType;
+  }
+
+  /**
+   * Return the annotation advising the method invoked on the target class.
+   *
+   * @param method invoked method
+   * @param targetClass target class, may be null
+   * @return annotation, or null if the method is not advised
+   */
+  public A resolve(final Method method, final Class<?> targetClass) {
+    final MethodClassKey key = new MethodClassKey(method, targetClass);
+    final A annotation = annotations.get(key);
+    if (annotation != null) {
+      return annotation;
+    }
+
+    final A resolvedAnnotation = find(method, targetClass);
+    if (resolvedAnnotation == null) {
+      return null;
+    }
+    // Only advised methods are cached, as most methods looked up while matching are not.
+    final A cachedAnnotation = annotations.putIfAbsent(key, resolvedAnnotation);
+    return cachedAnnotation != null ? cachedAnnotation : resolvedAnnotation;
+  }
+
+  private A find(final Method method, final Class<?> targetClass) {
+    final Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+    if (!Modifier.isPublic(specificMethod.getModifiers())) {
+      return null;
+    }
+
+    A annotation = AnnotatedElementUtils.getMergedAnnotation(specificMethod, annotationType);
+    if (annotation == null && specificMethod != method) {
+      annotation = AnnotatedElementUtils.getMergedAnnotation(method, annotationType);
+    }
+    if (annotation == null && !isToStringMethod(specificMethod)) {
+      annotation =
+          AnnotatedElementUtils.getMergedAnnotation(
+              specificMethod.getDeclaringClass(), annotationType);
+    }
+    return annotation;
+  }
+
+  private boolean isToStringMethod(final Method method) {
+    return method.getName().equals("toString")
+        && method.getParameterCount() == 0
+        && method.getReturnType() == String.class;
+  }
+}
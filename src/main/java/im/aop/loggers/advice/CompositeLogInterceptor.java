@@ -0,0 +1,115 @@
+package im.aop.loggers.advice;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+/**
+ * {@link MethodInterceptor} invoking every {@link LogMethodInterceptor} whose annotation advises
+ * the invoked method, within a single entry of the proxy's interceptor chain, so that stacked
+ * annotations, e.g. {@link im.aop.loggers.advice.before.LogBefore} and {@link
+ * im.aop.loggers.advice.afterreturning.LogAfterReturning}, are applied by one interception.
+ *
+ * <p>The interceptors resolved for a method, with their annotation, are cached per method and
+ * target class.
+ *
+ * @author Andy Lian
+ */
+public final class CompositeLogInterceptor implements MethodInterceptor {
+
+  private static final ResolvedInterceptor<?>[] NO_INTERCEPTORS = new ResolvedInterceptor<?>[0];
+
+  private final List<LogMethodInterceptor<?>> interceptors;
+
+  private final Map<MethodClassKey, ResolvedInterceptor<?>[]> resolvedInterceptors =
+      new ConcurrentHashMap<>();
+
+  public CompositeLogInterceptor(final List<? extends LogMethodInterceptor<?>> interceptors) {
+    final List<LogMethodInterceptor<?>> sortedInterceptors = new ArrayList<>(interceptors);
+    AnnotationAwareOrderComparator.sort(sortedInterceptors);
+    this.interceptors = List.copyOf(sortedInterceptors);
+  }
+
+  public List<LogMethodInterceptor<?>> getInterceptors() {
+    return interceptors;
+  }
+
+  /**
+   * Whether any of the interceptors advises the method invoked on the target class.
+   *
+   * @param method invoked method
+   * @param targetClass target class, may be null
+   * @return true if advised
+   */
+  public boolean matches(final Method method, final Class<?> targetClass) {
+    for (LogMethodInterceptor<?> interceptor : interceptors) {
+      if (interceptor.getAnnotatedMethodResolver().resolve(method, targetClass) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Object invoke(final MethodInvocation invocation) throws Throwable {
+    final ResolvedInterceptor<?>[] interceptors = resolve(invocation);
+    if (interceptors.length == 0) {
+      return invocation.proceed();
+    }
+    if (interceptors.length == 1) {
+      return interceptors[0].invoke(invocation);
+    }
+    if (!(invocation instanceof ProxyMethodInvocation proxyMethodInvocation)) {
+      throw new IllegalStateException(
+          "MethodInvocation is not a Spring ProxyMethodInvocation: " + invocation);
+    }
+    return new StackedMethodInvocation(proxyMethodInvocation, interceptors, 0).proceed();
+  }
+
+  private ResolvedInterceptor<?>[] resolve(final MethodInvocation invocation) {
+    final Object target = invocation.getThis();
+    final Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : null;
+    // Only invoked for the methods matched by the advisor, so every result is cached.
+    return resolvedInterceptors.computeIfAbsent(
+        new MethodClassKey(invocation.getMethod(), targetClass),
+        key -> resolve(invocation.getMethod(), targetClass));
+  }
+
+  private ResolvedInterceptor<?>[] resolve(final Method method, final Class<?> targetClass) {
+    final List<ResolvedInterceptor<?>> resolved = new ArrayList<>(interceptors.size());
+    for (LogMethodInterceptor<?> interceptor : interceptors) {
+      final ResolvedInterceptor<?> resolvedInterceptor =
+          ResolvedInterceptor.of(interceptor, method, targetClass);
+      if (resolvedInterceptor != null) {
+        resolved.add(resolvedInterceptor);
+      }
+    }
+    return resolved.isEmpty() ? NO_INTERCEPTORS : resolved.toArray(ResolvedInterceptor<?>[]::new);
+  }
+
+  /** Interceptor with the annotation it resolved for a method. */
+  record ResolvedInterceptor<A extends Annotation>(
+      LogMethodInterceptor<A> interceptor, A annotation) {
+
+    static <A extends Annotation> ResolvedInterceptor<A> of(
+        final LogMethodInterceptor<A> interceptor,
+        final Method method,
+        final Class<?> targetClass) {
+      final A annotation = interceptor.getAnnotatedMethodResolver().resolve(method, targetClass);
+      return annotation != null ? new ResolvedInterceptor<>(interceptor, annotation) : null;
+    }
+
+    Object invoke(final MethodInvocation invocation) throws Throwable {
+      return interceptor.invoke(invocation, annotation);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AdvisorType;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.annotation.Conditional;
+
+/**
+ * {@link Conditional @Conditional} that matches when the advices of an aspect are applied by the
+ * given {@link AdvisorType}, as configured by <code>im.aop.loggers.advisor-type</code>. Aspects
+ * woven by AspectJ are always applied by {@link AdvisorType#ASPECTJ}.
+ *
+ * @author Andy Lian
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(OnAdvisorTypeCondition.class)
+public @interface ConditionalOnAdvisorType {
+
+  /** Advisor type to match. */
+  AdvisorType value();
+
+  /** Aspect class, checked for AspectJ weaving. */
+  Class<?> aspect();
+}
@@ -0,0 +1,115 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AopLoggersProperties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decide whether an invocation of a join point is logged, by sampling a ratio of the invocations
+ * and limiting the number of invocations logged per second.
+ *
+ * <p>The rate limit is a token bucket holding up to one second of invocations, implemented with the
+ * generic cell rate algorithm on a single {@link AtomicLong}, so that concurrent invocations never
+ * block each other.
+ *
+ * @author Andy Lian
+ */
+public final class InvocationSampler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InvocationSampler.class);
+
+  /** Sampler logging every invocation. */
+  public static final InvocationSampler ALWAYS = new InvocationSampler(1.0, 0);
+
+  private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final double sampleRate;
+
+  private final long intervalNanos;
+
+  private final long toleranceNanos;
+
+  private final AtomicLong theoreticalArrivalTime;
+
+  private InvocationSampler(final double sampleRate, final long maxPerSecond) {
+    if (!isValidSampleRate(sampleRate)) {
+      throw new IllegalArgumentException(
+          "Sample rate must be greater than 0.0 and up to 1.0: " + sampleRate);
+    }
+
+    this.sampleRate = sampleRate;
+    this.intervalNanos = maxPerSecond > 0 ? Math.max(1, ONE_SECOND_NANOS / maxPerSecond) : 0;
+    this.toleranceNanos = ONE_SECOND_NANOS - intervalNanos;
+    this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Create a sampler for a join point, falling back to the {@code sample-rate} and {@code
+   * max-per-second} of {@link AopLoggersProperties} for annotation attributes left to 0.
+   *
+   * <p>An invalid sample rate falls back to the default with a warning, as the sampler is created
+   * on the first invocation of the join point, which must not fail on a logging misconfiguration.
+   *
+   * @param sampleRate ratio of invocations logged, 0.0 to use the default
+   * @param maxPerSecond maximum invocations logged per second, 0 to use the default, negative for
+   *     unlimited
+   * @param aopLoggersProperties default values
+   * @return sampler, {@link #ALWAYS} if every invocation is logged
+   */
+  public static InvocationSampler of(
+      final double sampleRate,
+      final long maxPerSecond,
+      final AopLoggersProperties aopLoggersProperties) {
+    final double resolvedSampleRate =
+        sampleRate == 0.0 || !isValidSampleRate(sampleRate)
+            ? aopLoggersProperties.getSampleRate()
+            : sampleRate;
+    if (resolvedSampleRate != sampleRate && sampleRate != 0.0) {
+      LOGGER.warn(
+          "Ignoring sampleRate [{}], not greater than 0.0 and up to 1.0, using [{}] instead",
+          sampleRate,
+          resolvedSampleRate);
+    }
+    final long resolvedMaxPerSecond =
+        maxPerSecond == 0 ? aopLoggersProperties.getMaxPerSecond() : maxPerSecond;
+
+    if (resolvedSampleRate == 1.0 && resolvedMaxPerSecond <= 0) {
+      return ALWAYS;
+    }
+    return new InvocationSampler(resolvedSampleRate, resolvedMaxPerSecond);
+  }
+
+  private static boolean isValidSampleRate(final double sampleRate) {
+    return sampleRate > 0.0 && sampleRate <= 1.0;
+  }
+
+  /**
+   * @return Whether the invocation is logged
+   */
+  public boolean sample() {
+    if (this == ALWAYS) {
+      return true;
+    }
+    if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return false;
+    }
+    return intervalNanos == 0 || tryAcquire();
+  }
+
+  private boolean tryAcquire() {
+    final long now = System.nanoTime();
+    while (true) {
+      final long arrivalTime = theoreticalArrivalTime.get();
+      final long startTime = arrivalTime - now > 0 ? arrivalTime : now;
+      if (startTime - now > toleranceNanos) {
+        return false;
+      }
+      if (theoreticalArrivalTime.compareAndSet(arrivalTime, startTime + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
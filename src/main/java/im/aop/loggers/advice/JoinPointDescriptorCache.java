@@ -0,0 +1,102 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AopLoggersProperties;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Cache of descriptors computed once per target {@link Method} and annotation instance, holding
+ * what can be resolved ahead of the invocation such as the Logger, the logging levels and the
+ * message templates.
+ *
+ * <p>Cached descriptors are discarded whenever {@link AopLoggersProperties} is rebound, as detected
+ * by its {@code revision}.
+ *
+ * @param <A> annotation type
+ * @param <D> descriptor type
+ * @author Andy Lian
+ */
+public final class JoinPointDescriptorCache<A extends Annotation, D> {
+
+  private final AopLoggersProperties aopLoggersProperties;
+
+  private final BiFunction<JoinPoint, A, D> descriptorFactory;
+
+  private final Map<Method, Node<A, D>> descriptors = new ConcurrentHashMap<>();
+
+  private volatile int revision;
+
+  public JoinPointDescriptorCache(
+      final AopLoggersProperties aopLoggersProperties,
+      final BiFunction<JoinPoint, A, D> descriptorFactory) {
+    this.aopLoggersProperties = Objects.requireNonNull(aopLoggersProperties);
+    this.descriptorFactory = Objects.requireNonNull(descriptorFactory);
+    this.revision = aopLoggersProperties.getRevision();
+  }
+
+  /**
+   * Return the cached descriptor for the join point's method and annotation, creating it if not
+   * cached.
+   *
+   * @param joinPoint join point
+   * @param annotation annotation bound to the join point
+   * @return descriptor
+   */
+  public D get(final JoinPoint joinPoint, final A annotation) {
+    final int currentRevision = aopLoggersProperties.getRevision();
+    if (currentRevision != revision) {
+      descriptors.clear();
+      revision = currentRevision;
+    }
+
+    final Method method = method(joinPoint);
+    if (method == null) {
+      return descriptorFactory.apply(joinPoint, annotation);
+    }
+
+    for (Node<A, D> node = descriptors.get(method); node != null; node = node.next) {
+      if (node.annotation == annotation) {
+        return node.descriptor;
+      }
+    }
+
+    final D descriptor = descriptorFactory.apply(joinPoint, annotation);
+    descriptors.compute(method, (key, head) -> new Node<>(annotation, descriptor, head));
+    return descriptor;
+  }
+
+  /** Discard all cached descriptors. */
+  public void clear() {
+    descriptors.clear();
+  }
+
+  public int size() {
+    int size = 0;
+    for (Node<A, D> head : descriptors.values()) {
+      for (Node<A, D> node = head; node != null; node = node.next) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private Method method(final JoinPoint joinPoint) {
+    final Signature signature = joinPoint.getSignature();
+    return signature instanceof MethodSignature methodSignature
+        ? methodSignature.getMethod()
+        : null;
+  }
+
+  /**
+   * Descriptors of the same method are chained, as a method may be bound with different annotation
+   * instances, e.g. declared on both the method and its class.
+   */
+  private record Node<A, D>(A annotation, D descriptor, Node<A, D> next) {}
+}
@@ -0,0 +1,60 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.index.AopLoggersIndex;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+
+/**
+ * Advisor applying the {@link LogMethodInterceptor}s to the methods resolved with their annotation
+ * by their {@link AnnotatedMethodResolver}, without parsing nor evaluating AspectJ pointcut
+ * expressions. A method annotated with several annotations is advised once, by a {@link
+ * CompositeLogInterceptor}.
+ *
+ * <p>When an {@link AopLoggersIndex} is available, only the classes it lists for any of the
+ * annotations are matched.
+ *
+ * @author Andy Lian
+ */
+public class LogAdvisor extends StaticMethodMatcherPointcutAdvisor {
+
+  private final CompositeLogInterceptor compositeLogInterceptor;
+
+  /**
+   * @param interceptors interceptors of the advised methods
+   * @param aopLoggersIndex index of the annotated classes, may be null
+   */
+  public LogAdvisor(
+      final List<? extends LogMethodInterceptor<?>> interceptors,
+      final AopLoggersIndex aopLoggersIndex) {
+    this(new CompositeLogInterceptor(interceptors), aopLoggersIndex);
+  }
+
+  private LogAdvisor(
+      final CompositeLogInterceptor compositeLogInterceptor,
+      final AopLoggersIndex aopLoggersIndex) {
+    super(compositeLogInterceptor);
+    this.compositeLogInterceptor = compositeLogInterceptor;
+    if (aopLoggersIndex != null) {
+      setClassFilter(indexClassFilter(aopLoggersIndex));
+    }
+  }
+
+  private ClassFilter indexClassFilter(final AopLoggersIndex aopLoggersIndex) {
+    final List<LogMethodInterceptor<?>> interceptors = compositeLogInterceptor.getInterceptors();
+    final ClassFilter[] classFilters = new ClassFilter[interceptors.size()];
+    for (int index = 0; index < classFilters.length; index++) {
+      classFilters[index] =
+          aopLoggersIndex.classFilter(
+              interceptors.get(index).getAnnotatedMethodResolver().getAnnotationType());
+    }
+    return classFilters.length == 1 ? classFilters[0] : ClassFilters.union(classFilters);
+  }
+
+  @Override
+  public boolean matches(final Method method, final Class<?> targetClass) {
+    return compositeLogInterceptor.matches(method, targetClass);
+  }
+}
@@ -0,0 +1,29 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.index.AopLoggersIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Configuration of the {@link LogAdvisor} applying the {@link LogMethodInterceptor}s of the native
+ * advisor type, imported after the configurations of the advices.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+public class LogAdvisorConfiguration {
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnBean(LogMethodInterceptor.class)
+  public LogAdvisor logAdvisor(
+      final ObjectProvider<LogMethodInterceptor<?>> logMethodInterceptors,
+      final ObjectProvider<AopLoggersIndex> aopLoggersIndex) {
+    return new LogAdvisor(
+        logMethodInterceptors.stream().toList(), aopLoggersIndex.getIfAvailable());
+  }
+}
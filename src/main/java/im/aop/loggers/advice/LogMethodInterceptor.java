@@ -0,0 +1,74 @@
+package im.aop.loggers.advice;
+
+import java.lang.annotation.Annotation;
+import java.util.Objects;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+
+/**
+ * Base {@link MethodInterceptor} of the native advisors, handing the annotation resolved for the
+ * invoked method to the advice services through the same {@link ProceedingJoinPoint} as the
+ * aspects.
+ *
+ * <p>The interceptors advising the same method are invoked by the {@link LogAdvisor} in their
+ * {@link Ordered order}, the first being the outermost.
+ *
+ * @param <A> annotation type
+ * @author Andy Lian
+ */
+public abstract class LogMethodInterceptor<A extends Annotation>
+    implements MethodInterceptor, Ordered {
+
+  private final AnnotatedMethodResolver<A> annotatedMethodResolver;
+
+  protected LogMethodInterceptor(final AnnotatedMethodResolver<A> annotatedMethodResolver) {
+    this.annotatedMethodResolver = Objects.requireNonNull(annotatedMethodResolver);
+  }
+
+  public AnnotatedMethodResolver<A> getAnnotatedMethodResolver() {
+    return annotatedMethodResolver;
+  }
+
+  @Override
+  public int getOrder() {
+    return 0;
+  }
+
+  @Override
+  public Object invoke(final MethodInvocation invocation) throws Throwable {
+    final A annotation =
+        annotatedMethodResolver.resolve(invocation.getMethod(), targetClass(invocation));
+    if (annotation == null) {
+      return invocation.proceed();
+    }
+    return invoke(invocation, annotation);
+  }
+
+  /**
+   * Advise the invocation of a method resolved with the annotation.
+   *
+   * @param invocation method invocation
+   * @param annotation annotation advising the method
+   * @return return value of the invocation
+   * @throws Throwable thrown by the invocation
+   */
+  protected abstract Object invoke(MethodInvocation invocation, A annotation) throws Throwable;
+
+  protected ProceedingJoinPoint joinPoint(final MethodInvocation invocation) {
+    if (!(invocation instanceof ProxyMethodInvocation proxyMethodInvocation)) {
+      throw new IllegalStateException(
+          "MethodInvocation is not a Spring ProxyMethodInvocation: " + invocation);
+    }
+    return new MethodInvocationProceedingJoinPoint(proxyMethodInvocation);
+  }
+
+  private Class<?> targetClass(final MethodInvocation invocation) {
+    final Object target = invocation.getThis();
+    return target != null ? AopUtils.getTargetClass(target) : null;
+  }
+}
@@ -0,0 +1,47 @@
+package im.aop.loggers.advice;
+
+import im.aop.loggers.AdvisorType;
+import im.aop.loggers.AopLoggersProperties;
+import java.util.Map;
+import org.aspectj.lang.Aspects;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * {@link SpringBootCondition} for {@link ConditionalOnAdvisorType}.
+ *
+ * @author Andy Lian
+ */
+class OnAdvisorTypeCondition extends SpringBootCondition {
+
+  private static final String ADVISOR_TYPE_PROPERTY = AopLoggersProperties.PREFIX + ".advisor-type";
+
+  @Override
+  public ConditionOutcome getMatchOutcome(
+      final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+    final Map<String, Object> attributes =
+        metadata.getAnnotationAttributes(ConditionalOnAdvisorType.class.getName());
+    final AdvisorType advisorType = (AdvisorType) attributes.get("value");
+    final Class<?> aspect = (Class<?>) attributes.get("aspect");
+
+    final AdvisorType resolvedAdvisorType;
+    final String message;
+    if (Aspects.hasAspect(aspect)) {
+      resolvedAdvisorType = AdvisorType.ASPECTJ;
+      message = aspect.getSimpleName() + " is woven by AspectJ";
+    } else {
+      resolvedAdvisorType =
+          Binder.get(context.getEnvironment())
+              .bind(ADVISOR_TYPE_PROPERTY, AdvisorType.class)
+              .orElse(AdvisorType.ASPECTJ);
+      message = ADVISOR_TYPE_PROPERTY + " is " + resolvedAdvisorType;
+    }
+
+    return resolvedAdvisorType == advisorType
+        ? ConditionOutcome.match(message)
+        : ConditionOutcome.noMatch(message);
+  }
+}
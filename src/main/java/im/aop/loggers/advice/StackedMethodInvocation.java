@@ -0,0 +1,100 @@
+package im.aop.loggers.advice;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+
+/**
+ * {@link ProxyMethodInvocation} invoking the remaining interceptors of a {@link
+ * CompositeLogInterceptor} on {@link #proceed()}, then proceeding with the proxy's interceptor
+ * chain.
+ *
+ * <p>Clones proceed from the same interceptor, as required by {@link
+ * org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint#proceed()}.
+ *
+ * @author Andy Lian
+ */
+final class StackedMethodInvocation implements ProxyMethodInvocation {
+
+  private final ProxyMethodInvocation invocation;
+
+  private final CompositeLogInterceptor.ResolvedInterceptor<?>[] interceptors;
+
+  private final int index;
+
+  StackedMethodInvocation(
+      final ProxyMethodInvocation invocation,
+      final CompositeLogInterceptor.ResolvedInterceptor<?>[] interceptors,
+      final int index) {
+    this.invocation = invocation;
+    this.interceptors = interceptors;
+    this.index = index;
+  }
+
+  @Override
+  public Object proceed() throws Throwable {
+    if (index == interceptors.length) {
+      return invocation.proceed();
+    }
+    return interceptors[index].invoke(
+        new StackedMethodInvocation(invocation, interceptors, index + 1));
+  }
+
+  @Override
+  public MethodInvocation invocableClone() {
+    return new StackedMethodInvocation(
+        (ProxyMethodInvocation) invocation.invocableClone(), interceptors, index);
+  }
+
+  @Override
+  public MethodInvocation invocableClone(final Object... arguments) {
+    return new StackedMethodInvocation(
+        (ProxyMethodInvocation) invocation.invocableClone(arguments), interceptors, index);
+  }
+
+  @Override
+  public Object getProxy() {
+    return invocation.getProxy();
+  }
+
+  @Override
+  public void setArguments(final Object... arguments) {
+    invocation.setArguments(arguments);
+  }
+
+  @Override
+  public void setUserAttribute(final String key, final Object value) {
+    invocation.setUserAttribute(key, value);
+  }
+
+  @Override
+  public Object getUserAttribute(final String key) {
+    return invocation.getUserAttribute(key);
+  }
+
+  @Override
+  public Method getMethod() {
+    return invocation.getMethod();
+  }
+
+  @Override
+  public Object[] getArguments() {
+    return invocation.getArguments();
+  }
+
+  @Override
+  public Object getThis() {
+    return invocation.getThis();
+  }
+
+  @Override
+  public AccessibleObject getStaticPart() {
+    return invocation.getStaticPart();
+  }
+
+  @Override
+  public String toString() {
+    return "StackedMethodInvocation: " + invocation;
+  }
+}
@@ -24,13 +24,17 @@ public class LogAfterCommitAdvice {
   @Pointcut("execution(String *.toString())")
   void toStringMethod() {}
 
+  @Pointcut("@annotation(im.aop.loggers.advice.aftercommit.LogAfterCommit)")
+  void logAfterCommitMethod() {}
+
   @Pointcut(value = "@annotation(logAfterCommit)", argNames = "logAfterCommit")
   void logAfterCommitMethodContext(final LogAfterCommit logAfterCommit) {}
 
   @Before(
       value = "publicMethod() && logAfterCommitMethodContext(logAfterCommit)",
       argNames = "joinPoint, logAfterCommit")
-  void logAfterCommitMethodContext(final JoinPoint joinPoint, final LogAfterCommit logAfterCommit) {
+  public void logAfterCommitMethodContext(
+      final JoinPoint joinPoint, final LogAfterCommit logAfterCommit) {
     logAfterCommit(joinPoint, logAfterCommit);
   }
 
@@ -38,14 +42,18 @@ public class LogAfterCommitAdvice {
   void logAfterCommitClassContext(final LogAfterCommit logAfterCommit) {}
 
   @Before(
-      value = "publicMethod() && !toStringMethod() && logAfterCommitClassContext(logAfterCommit)",
+      value =
+          "publicMethod() && !toStringMethod() && !logAfterCommitMethod()"
+              + " && logAfterCommitClassContext(logAfterCommit)",
       argNames = "joinPoint, logAfterCommit")
-  void logAfterCommitClassContext(final JoinPoint joinPoint, final LogAfterCommit logAfterCommit) {
+  public void logAfterCommitClassContext(
+      final JoinPoint joinPoint, final LogAfterCommit logAfterCommit) {
     logAfterCommit(joinPoint, logAfterCommit);
   }
 
   protected void logAfterCommit(final JoinPoint joinPoint, final LogAfterCommit logAfterCommit) {
-    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+    if (logAfterCommitService == null
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
       return;
     }
 
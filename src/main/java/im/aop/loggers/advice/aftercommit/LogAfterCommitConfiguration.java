@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.aftercommit;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogAfterCommitConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogAfterCommitAdvice.class)
   public LogAfterCommitAdvice logAfterCommitAdvice() {
-    return new LogAfterCommitAdvice();
+    return AspectUtil.aspectOf(LogAfterCommitAdvice.class, LogAfterCommitAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogAfterCommitAdvice.class)
+  public LogAfterCommitInterceptor logAfterCommitInterceptor(
+      final ObjectProvider<LogAfterCommitService> logAfterCommitService) {
+    return new LogAfterCommitInterceptor(
+        new AnnotatedMethodResolver<>(LogAfterCommit.class),
+        SingletonSupplier.of(logAfterCommitService::getObject));
   }
 
   @Bean
@@ -0,0 +1,13 @@
+package im.aop.loggers.advice.aftercommit;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import org.slf4j.Logger;
+
+/**
+ * Values resolved once per join point for {@link LogAfterCommit}, from the annotation attributes
+ * and their default in {@link im.aop.loggers.AopLoggersProperties}.
+ *
+ * @author Andy Lian
+ */
+record LogAfterCommitDescriptor(Logger logger, Level level, MessageTemplate messageTemplate) {}
@@ -0,0 +1,43 @@
+package im.aop.loggers.advice.aftercommit;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Native method interceptor for {@link LogAfterCommit}.
+ *
+ * @author Andy Lian
+ */
+public class LogAfterCommitInterceptor extends LogMethodInterceptor<LogAfterCommit> {
+
+  private final Supplier<LogAfterCommitService> logAfterCommitService;
+
+  public LogAfterCommitInterceptor(
+      final AnnotatedMethodResolver<LogAfterCommit> annotatedMethodResolver,
+      final Supplier<LogAfterCommitService> logAfterCommitService) {
+    super(annotatedMethodResolver);
+    this.logAfterCommitService = logAfterCommitService;
+  }
+
+  @Override
+  protected Object invoke(final MethodInvocation invocation, final LogAfterCommit logAfterCommit)
+      throws Throwable {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      final JoinPoint joinPoint = joinPoint(invocation);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+              logAfterCommitService.get().logAfterCommit(joinPoint, logAfterCommit);
+            }
+          });
+    }
+    return invocation.proceed();
+  }
+}
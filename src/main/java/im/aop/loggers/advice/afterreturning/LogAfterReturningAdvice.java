@@ -25,6 +25,9 @@ public class LogAfterReturningAdvice {
   void toStringMethod() {
   }
 
+  @Pointcut("@annotation(im.aop.loggers.advice.afterreturning.LogAfterReturning)")
+  void logAfterReturningMethod() {}
+
   @Pointcut(value = "@annotation(logAfterReturning)", argNames = "logAfterReturning")
   void logAfterReturningMethodContext(final LogAfterReturning logAfterReturning) {
   }
@@ -33,7 +36,7 @@ public class LogAfterReturningAdvice {
       value = "publicMethod() && logAfterReturningMethodContext(logAfterReturning)",
       argNames = "joinPoint, logAfterReturning, returnValue",
       returning = "returnValue")
-  void logAfterReturningMethodContext(
+  public void logAfterReturningMethodContext(
       final JoinPoint joinPoint,
       final LogAfterReturning logAfterReturning,
       final Object returnValue) {
@@ -46,10 +49,11 @@ public class LogAfterReturningAdvice {
 
   @AfterReturning(
       value =
-          "publicMethod() && !toStringMethod() && logAfterReturningClassContext(logAfterReturning)",
+          "publicMethod() && !toStringMethod() && !logAfterReturningMethod()"
+              + " && logAfterReturningClassContext(logAfterReturning)",
       argNames = "joinPoint, logAfterReturning, returnValue",
       returning = "returnValue")
-  void logAfterReturningClassContext(
+  public void logAfterReturningClassContext(
       final JoinPoint joinPoint,
       final LogAfterReturning logAfterReturning,
       final Object returnValue) {
@@ -60,6 +64,9 @@ public class LogAfterReturningAdvice {
       final JoinPoint joinPoint,
       final LogAfterReturning logAfterReturning,
       final Object returnValue) {
+    if (logAfterReturningService == null) {
+      return;
+    }
     logAfterReturningService.logAfterReturning(joinPoint, logAfterReturning, returnValue);
   }
 }
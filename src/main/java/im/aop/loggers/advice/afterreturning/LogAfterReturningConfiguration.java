@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.afterreturning;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogAfterReturningConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogAfterReturningAdvice.class)
   public LogAfterReturningAdvice logAfterReturningAdvice() {
-    return new LogAfterReturningAdvice();
+    return AspectUtil.aspectOf(LogAfterReturningAdvice.class, LogAfterReturningAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogAfterReturningAdvice.class)
+  public LogAfterReturningInterceptor logAfterReturningInterceptor(
+      final ObjectProvider<LogAfterReturningService> logAfterReturningService) {
+    return new LogAfterReturningInterceptor(
+        new AnnotatedMethodResolver<>(LogAfterReturning.class),
+        SingletonSupplier.of(logAfterReturningService::getObject));
   }
 
   @Bean
@@ -0,0 +1,16 @@
+package im.aop.loggers.advice.afterreturning;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import org.slf4j.Logger;
+
+/**
+ * Values resolved once per join point for {@link LogAfterReturning}, from the annotation attributes
+ * and their default in {@link im.aop.loggers.AopLoggersProperties}, and the {@link
+ * InvocationSampler} of the join point.
+ *
+ * @author Andy Lian
+ */
+record LogAfterReturningDescriptor(
+    Logger logger, Level level, MessageTemplate messageTemplate, InvocationSampler sampler) {}
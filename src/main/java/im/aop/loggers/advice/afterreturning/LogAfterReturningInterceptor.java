@@ -0,0 +1,34 @@
+package im.aop.loggers.advice.afterreturning;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Native method interceptor for {@link LogAfterReturning}.
+ *
+ * @author Andy Lian
+ */
+public class LogAfterReturningInterceptor extends LogMethodInterceptor<LogAfterReturning> {
+
+  private final Supplier<LogAfterReturningService> logAfterReturningService;
+
+  public LogAfterReturningInterceptor(
+      final AnnotatedMethodResolver<LogAfterReturning> annotatedMethodResolver,
+      final Supplier<LogAfterReturningService> logAfterReturningService) {
+    super(annotatedMethodResolver);
+    this.logAfterReturningService = logAfterReturningService;
+  }
+
+  @Override
+  protected Object invoke(
+      final MethodInvocation invocation, final LogAfterReturning logAfterReturning)
+      throws Throwable {
+    final Object returnValue = invocation.proceed();
+    logAfterReturningService
+        .get()
+        .logAfterReturning(joinPoint(invocation), logAfterReturning, returnValue);
+    return returnValue;
+  }
+}
@@ -2,81 +2,103 @@ package im.aop.loggers.advice.afterreturning;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.advice.JoinPointDescriptorCache;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
 import im.aop.loggers.messageinterpolation.JoinPointStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
 import im.aop.loggers.messageinterpolation.ReturnValueStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.StringSubstitutor;
 import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import im.aop.loggers.util.LoggerUtil;
-import java.time.Duration;
 import java.util.Objects;
 import org.aspectj.lang.JoinPoint;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class LogAfterReturningService {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(LogAfterReturningService.class);
-
   @Autowired private StringSubstitutor stringSubstitutor;
 
+  @Autowired(required = false)
+  private LogDispatcher logDispatcher = SynchronousLogDispatcher.INSTANCE;
+
+  @Autowired(required = false)
+  private AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+
   @Autowired private JoinPointStringSupplierRegistrar joinPointStringSupplierRegistrar;
 
   @Autowired private ReturnValueStringSupplierRegistrar returnValueStringSupplierRegistrar;
 
   private final AopLoggersProperties aopLoggersProperties;
 
+  private final JoinPointDescriptorCache<LogAfterReturning, LogAfterReturningDescriptor>
+      descriptorCache;
+
   public LogAfterReturningService(final AopLoggersProperties aopLoggersProperties) {
     this.aopLoggersProperties = Objects.requireNonNull(aopLoggersProperties);
+    this.descriptorCache =
+        new JoinPointDescriptorCache<>(aopLoggersProperties, this::createDescriptor);
   }
 
   public void logAfterReturning(
       final JoinPoint joinPoint, final LogAfterReturning annotation, final Object returnValue) {
-    final long startTime = System.nanoTime();
+    final AdviceStatistics statistics = aopLoggersStatistics.get(AdviceType.LOG_AFTER_RETURNING);
+    statistics.recordInvocation();
 
-    final Logger logger = LoggerUtil.getLogger(annotation.declaringClass(), joinPoint);
-    final Level loggingLevel = getLoggingLevel(annotation.level());
-    if (isLoggingLevelDisabled(logger, loggingLevel)) {
-      logElapsed(startTime);
+    final LogAfterReturningDescriptor descriptor = descriptorCache.get(joinPoint, annotation);
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.level())) {
+      statistics.recordSuppressed(1);
+      return;
+    }
+    if (!descriptor.sampler().sample()) {
+      statistics.recordSkipped();
       return;
     }
 
     final StringSupplierLookup stringLookup = new StringSupplierLookup();
 
-    logMessage(
-        joinPoint, loggingLevel, annotation.exitedMessage(), logger, stringLookup, returnValue);
-    logElapsed(startTime);
+    final long renderStartTime = System.nanoTime();
+    logMessage(joinPoint, descriptor, stringLookup, returnValue);
+    statistics.recordEmitted(System.nanoTime() - renderStartTime);
   }
 
-  private void logElapsed(long startTime) {
-    LOGGER.debug(
-        "[logAfterReturning] elapsed [{}]", Duration.ofNanos(System.nanoTime() - startTime));
+  private LogAfterReturningDescriptor createDescriptor(
+      final JoinPoint joinPoint, final LogAfterReturning annotation) {
+    return new LogAfterReturningDescriptor(
+        LoggerUtil.getLogger(annotation.declaringClass(), joinPoint),
+        getLoggingLevel(annotation.level()),
+        getMessageTemplate(annotation.exitedMessage()),
+        InvocationSampler.of(
+            annotation.sampleRate(), annotation.maxPerSecond(), aopLoggersProperties));
   }
 
   private boolean isLoggingLevelDisabled(final Logger logger, final Level loggingLevel) {
-    return !(LoggerUtil.isEnabled(logger, loggingLevel));
+    return !(logDispatcher.isEnabled(logger, loggingLevel));
   }
 
   private void logMessage(
       final JoinPoint joinPoint,
-      final Level loggingLevel,
-      final String messageTemplate,
-      final Logger logger,
+      final LogAfterReturningDescriptor descriptor,
       final StringSupplierLookup stringLookup,
       final Object returnValue) {
     joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
     returnValueStringSupplierRegistrar.register(stringLookup, joinPoint, returnValue);
 
-    final String message =
-        stringSubstitutor.substitute(getMessageTemplate(messageTemplate), stringLookup);
-    LoggerUtil.log(logger, loggingLevel, message);
+    logDispatcher.dispatch(
+        descriptor.logger(), descriptor.level(), descriptor.messageTemplate(), stringLookup, null);
   }
 
   private Level getLoggingLevel(final Level loggingLevel) {
     return loggingLevel == Level.DEFAULT ? aopLoggersProperties.getExitedLevel() : loggingLevel;
   }
 
-  private String getMessageTemplate(final String messageTemplate) {
-    return messageTemplate.isEmpty() ? aopLoggersProperties.getExitedMessage() : messageTemplate;
+  private MessageTemplate getMessageTemplate(final String messageTemplate) {
+    return stringSubstitutor.compile(
+        messageTemplate.isEmpty() ? aopLoggersProperties.getExitedMessage() : messageTemplate);
   }
 }
@@ -24,13 +24,16 @@ public class LogAfterRollbackAdvice {
   @Pointcut("execution(String *.toString())")
   void toStringMethod() {}
 
+  @Pointcut("@annotation(im.aop.loggers.advice.afterrollback.LogAfterRollback)")
+  void logAfterRollbackMethod() {}
+
   @Pointcut(value = "@annotation(logAfterRollback)", argNames = "logAfterRollback")
   void logAfterRollbackMethodContext(final LogAfterRollback logAfterRollback) {}
 
   @Before(
       value = "publicMethod() && logAfterRollbackMethodContext(logAfterRollback)",
       argNames = "joinPoint, logAfterRollback")
-  void logAfterRollbackMethodContext(
+  public void logAfterRollbackMethodContext(
       final JoinPoint joinPoint, final LogAfterRollback logAfterRollback) {
     logAfterRollback(joinPoint, logAfterRollback);
   }
@@ -40,16 +43,18 @@ public class LogAfterRollbackAdvice {
 
   @Before(
       value =
-          "publicMethod() && !toStringMethod() && logAfterRollbackClassContext(logAfterRollback)",
+          "publicMethod() && !toStringMethod() && !logAfterRollbackMethod()"
+              + " && logAfterRollbackClassContext(logAfterRollback)",
       argNames = "joinPoint, logAfterRollback")
-  void logAfterRollbackClassContext(
+  public void logAfterRollbackClassContext(
       final JoinPoint joinPoint, final LogAfterRollback logAfterRollback) {
     logAfterRollback(joinPoint, logAfterRollback);
   }
 
   protected void logAfterRollback(
       final JoinPoint joinPoint, final LogAfterRollback logAfterRollback) {
-    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+    if (logAfterRollbackService == null
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
       return;
     }
 
@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.afterrollback;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogAfterRollbackConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogAfterRollbackAdvice.class)
   public LogAfterRollbackAdvice logAfterRollbackAdvice() {
-    return new LogAfterRollbackAdvice();
+    return AspectUtil.aspectOf(LogAfterRollbackAdvice.class, LogAfterRollbackAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogAfterRollbackAdvice.class)
+  public LogAfterRollbackInterceptor logAfterRollbackInterceptor(
+      final ObjectProvider<LogAfterRollbackService> logAfterRollbackService) {
+    return new LogAfterRollbackInterceptor(
+        new AnnotatedMethodResolver<>(LogAfterRollback.class),
+        SingletonSupplier.of(logAfterRollbackService::getObject));
   }
 
   @Bean
@@ -0,0 +1,45 @@
+package im.aop.loggers.advice.afterrollback;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Native method interceptor for {@link LogAfterRollback}.
+ *
+ * @author Andy Lian
+ */
+public class LogAfterRollbackInterceptor extends LogMethodInterceptor<LogAfterRollback> {
+
+  private final Supplier<LogAfterRollbackService> logAfterRollbackService;
+
+  public LogAfterRollbackInterceptor(
+      final AnnotatedMethodResolver<LogAfterRollback> annotatedMethodResolver,
+      final Supplier<LogAfterRollbackService> logAfterRollbackService) {
+    super(annotatedMethodResolver);
+    this.logAfterRollbackService = logAfterRollbackService;
+  }
+
+  @Override
+  protected Object invoke(
+      final MethodInvocation invocation, final LogAfterRollback logAfterRollback) throws Throwable {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      final JoinPoint joinPoint = joinPoint(invocation);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(final int status) {
+              if (status == STATUS_ROLLED_BACK) {
+                logAfterRollbackService.get().logAfterRollback(joinPoint, logAfterRollback);
+              }
+            }
+          });
+    }
+    return invocation.proceed();
+  }
+}
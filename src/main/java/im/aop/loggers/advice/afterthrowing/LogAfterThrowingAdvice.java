@@ -1,7 +1,7 @@
 package im.aop.loggers.advice.afterthrowing;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,41 +25,43 @@ public class LogAfterThrowingAdvice {
   void toStringMethod() {
   }
 
+  @Pointcut("@annotation(im.aop.loggers.advice.afterthrowing.LogAfterThrowing)")
+  void logAfterThrowingMethod() {}
+
   @Pointcut(value = "@annotation(logAfterThrowing)", argNames = "logAfterThrowing")
   void logAfterThrowingMethodContext(final LogAfterThrowing logAfterThrowing) {
   }
 
-  @AfterThrowing(
+  @Around(
       value = "publicMethod() && logAfterThrowingMethodContext(logAfterThrowing)",
-      argNames = "joinPoint, logAfterThrowing, exception",
-      throwing = "exception")
-  void logAfterThrowingMethodContext(
-      final JoinPoint joinPoint,
-      final LogAfterThrowing logAfterThrowing,
-      final Throwable exception) {
-    logAfterThrowing(joinPoint, logAfterThrowing, exception);
+      argNames = "joinPoint, logAfterThrowing")
+  public Object logAfterThrowingMethodContext(
+      final ProceedingJoinPoint joinPoint, final LogAfterThrowing logAfterThrowing)
+      throws Throwable {
+    return logAfterThrowing(joinPoint, logAfterThrowing);
   }
 
   @Pointcut(value = "@within(logAfterThrowing)", argNames = "logAfterThrowing")
   void logAfterThrowingClassContext(final LogAfterThrowing logAfterThrowing) {
   }
 
-  @AfterThrowing(
+  @Around(
       value =
-          "publicMethod() && !toStringMethod() && logAfterThrowingClassContext(logAfterThrowing)",
-      argNames = "joinPoint, logAfterThrowing, exception",
-      throwing = "exception")
-  void logAfterThrowingClassContext(
-      final JoinPoint joinPoint,
-      final LogAfterThrowing logAfterThrowing,
-      final Throwable exception) {
-    logAfterThrowing(joinPoint, logAfterThrowing, exception);
+          "publicMethod() && !toStringMethod() && !logAfterThrowingMethod()"
+              + " && logAfterThrowingClassContext(logAfterThrowing)",
+      argNames = "joinPoint, logAfterThrowing")
+  public Object logAfterThrowingClassContext(
+      final ProceedingJoinPoint joinPoint, final LogAfterThrowing logAfterThrowing)
+      throws Throwable {
+    return logAfterThrowing(joinPoint, logAfterThrowing);
   }
 
-  protected void logAfterThrowing(
-      final JoinPoint joinPoint,
-      final LogAfterThrowing logAfterThrowing,
-      final Throwable exception) {
-    logAfterThrowingService.logAfterThrowing(joinPoint, logAfterThrowing, exception);
+  protected Object logAfterThrowing(
+      final ProceedingJoinPoint joinPoint, final LogAfterThrowing logAfterThrowing)
+      throws Throwable {
+    if (logAfterThrowingService == null) {
+      return joinPoint.proceed();
+    }
+    return logAfterThrowingService.logAfterThrowing(joinPoint, logAfterThrowing);
   }
 }
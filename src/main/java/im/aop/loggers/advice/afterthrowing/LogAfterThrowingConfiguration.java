@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.afterthrowing;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogAfterThrowingConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogAfterThrowingAdvice.class)
   public LogAfterThrowingAdvice logAfterThrowingAdvice() {
-    return new LogAfterThrowingAdvice();
+    return AspectUtil.aspectOf(LogAfterThrowingAdvice.class, LogAfterThrowingAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogAfterThrowingAdvice.class)
+  public LogAfterThrowingInterceptor logAfterThrowingInterceptor(
+      final ObjectProvider<LogAfterThrowingService> logAfterThrowingService) {
+    return new LogAfterThrowingInterceptor(
+        new AnnotatedMethodResolver<>(LogAfterThrowing.class),
+        SingletonSupplier.of(logAfterThrowingService::getObject));
   }
 
   @Bean
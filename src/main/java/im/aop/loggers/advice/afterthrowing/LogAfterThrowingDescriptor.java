@@ -0,0 +1,25 @@
+package im.aop.loggers.advice.afterthrowing;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import org.slf4j.Logger;
+
+/**
+ * Values resolved once per join point for {@link LogAfterThrowing}, from the annotation attributes
+ * and their default in {@link im.aop.loggers.AopLoggersProperties}, and the {@link
+ * InvocationSampler} of the join point.
+ *
+ * <p>The stack trace message template appends the rendered stack trace to the message template, it
+ * is null unless the {@link im.aop.loggers.exception.StackTraceRenderer} is enabled.
+ *
+ * @author Andy Lian
+ */
+record LogAfterThrowingDescriptor(
+    Logger logger,
+    Level level,
+    MessageTemplate messageTemplate,
+    MessageTemplate stackTraceMessageTemplate,
+    Class<? extends Throwable>[] ignoreExceptions,
+    boolean printStackTrace,
+    InvocationSampler sampler) {}
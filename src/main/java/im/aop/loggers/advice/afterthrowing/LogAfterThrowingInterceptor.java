@@ -0,0 +1,40 @@
+package im.aop.loggers.advice.afterthrowing;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Native method interceptor for {@link LogAfterThrowing}.
+ *
+ * @author Andy Lian
+ */
+public class LogAfterThrowingInterceptor extends LogMethodInterceptor<LogAfterThrowing> {
+
+  private final Supplier<LogAfterThrowingService> logAfterThrowingService;
+
+  public LogAfterThrowingInterceptor(
+      final AnnotatedMethodResolver<LogAfterThrowing> annotatedMethodResolver,
+      final Supplier<LogAfterThrowingService> logAfterThrowingService) {
+    super(annotatedMethodResolver);
+    this.logAfterThrowingService = logAfterThrowingService;
+  }
+
+  @Override
+  protected Object invoke(
+      final MethodInvocation invocation, final LogAfterThrowing logAfterThrowing) throws Throwable {
+    final LogAfterThrowingService service = logAfterThrowingService.get();
+    final boolean scoped = service.enterScope();
+    try {
+      return invocation.proceed();
+    } catch (Throwable e) {
+      service.logAfterThrowing(joinPoint(invocation), logAfterThrowing, e);
+      throw e;
+    } finally {
+      if (scoped) {
+        service.exitScope();
+      }
+    }
+  }
+}
@@ -2,59 +2,215 @@ package im.aop.loggers.advice.afterthrowing;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.RepeatedExceptionPolicy;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.advice.JoinPointDescriptorCache;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import im.aop.loggers.exception.ExceptionDeduplicator;
+import im.aop.loggers.exception.LoggedExceptions;
+import im.aop.loggers.exception.StackTraceRenderer;
 import im.aop.loggers.messageinterpolation.ExceptionStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.JoinPointStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
 import im.aop.loggers.messageinterpolation.StringSubstitutor;
 import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.messageinterpolation.SuppressedCountStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.Variable;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import im.aop.loggers.util.LoggerUtil;
-import java.time.Duration;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.stream.Stream;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class LogAfterThrowingService {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(LogAfterThrowingService.class);
-
   @Autowired private StringSubstitutor stringSubstitutor;
 
+  @Autowired(required = false)
+  private LogDispatcher logDispatcher = SynchronousLogDispatcher.INSTANCE;
+
+  @Autowired(required = false)
+  private AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+
+  @Autowired(required = false)
+  private ExceptionDeduplicator exceptionDeduplicator;
+
+  @Autowired(required = false)
+  private LoggedExceptions loggedExceptions = new LoggedExceptions();
+
+  @Autowired(required = false)
+  private StackTraceRenderer stackTraceRenderer;
+
   @Autowired private JoinPointStringSupplierRegistrar joinPointStringSupplierRegistrar;
 
   @Autowired private ExceptionStringSupplierRegistrar exceptionStringSupplierRegistrar;
 
+  @Autowired private SuppressedCountStringSupplierRegistrar suppressedCountStringSupplierRegistrar;
+
   private final AopLoggersProperties aopLoggersProperties;
 
+  private final JoinPointDescriptorCache<LogAfterThrowing, LogAfterThrowingDescriptor>
+      descriptorCache;
+
   public LogAfterThrowingService(final AopLoggersProperties aopLoggersProperties) {
     this.aopLoggersProperties = Objects.requireNonNull(aopLoggersProperties);
+    this.descriptorCache =
+        new JoinPointDescriptorCache<>(aopLoggersProperties, this::createDescriptor);
+  }
+
+  /**
+   * Proceed with the annotated method, logging the exception it throws.
+   *
+   * @param joinPoint annotated method invocation
+   * @param annotation annotation of the method
+   * @return value returned by the method
+   * @throws Throwable exception thrown by the method
+   */
+  public Object logAfterThrowing(
+      final ProceedingJoinPoint joinPoint, final LogAfterThrowing annotation) throws Throwable {
+    final boolean scoped = enterScope();
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      logAfterThrowing(joinPoint, annotation, e);
+      throw e;
+    } finally {
+      if (scoped) {
+        exitScope();
+      }
+    }
+  }
+
+  /**
+   * Open the scope of the exceptions logged by the annotated methods of the calling thread before
+   * invoking an annotated method, so that an exception logged with its stack trace is recognized by
+   * the outer annotated methods. The scope is only opened when the repeated exceptions are not
+   * logged as is.
+   *
+   * @return whether the scope was opened, to be closed by {@link #exitScope()} once the method
+   *     exited
+   */
+  public boolean enterScope() {
+    if (aopLoggersProperties.getRepeatedExceptionPolicy() == RepeatedExceptionPolicy.LOG) {
+      return false;
+    }
+    loggedExceptions.enter();
+    return true;
+  }
+
+  /** Close the scope opened by {@link #enterScope()}. */
+  public void exitScope() {
+    loggedExceptions.exit();
   }
 
   public void logAfterThrowing(
       final JoinPoint joinPoint, final LogAfterThrowing annotation, final Throwable exception) {
-    final long startTime = System.nanoTime();
+    final AdviceStatistics statistics = aopLoggersStatistics.get(AdviceType.LOG_AFTER_THROWING);
+    statistics.recordInvocation();
 
-    final Logger logger = LoggerUtil.getLogger(annotation.declaringClass(), joinPoint);
-    final Level loggingLevel = getLoggingLevel(annotation.level());
-    if (isLoggingLevelDisabled(logger, loggingLevel)
-        || isIgnoredException(exception, annotation.ignoreExceptions())) {
-      logElapsed(startTime);
+    final LogAfterThrowingDescriptor descriptor = descriptorCache.get(joinPoint, annotation);
+    if (isIgnoredException(exception, descriptor.ignoreExceptions())) {
+      return;
+    }
+    logDispatcher.exitedAbnormally(exception);
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.level())) {
+      statistics.recordSuppressed(1);
+      return;
+    }
+    if (!aopLoggersProperties.isExceptionsBypassSampling() && !descriptor.sampler().sample()) {
+      statistics.recordSkipped();
       return;
     }
 
     final StringSupplierLookup stringLookup = new StringSupplierLookup();
 
-    logMessage(joinPoint, loggingLevel, annotation, logger, stringLookup, exception);
-    logElapsed(startTime);
+    final boolean repeated = isRepeatedException(exception);
+    if (repeated
+        && aopLoggersProperties.getRepeatedExceptionPolicy() == RepeatedExceptionPolicy.SKIP) {
+      statistics.recordSuppressed(1);
+      return;
+    }
+    if (exceptionDeduplicator != null) {
+      final ExceptionDeduplicator.Occurrence occurrence =
+          exceptionDeduplicator.occur(
+              ((MethodSignature) joinPoint.getSignature()).getMethod(),
+              exception,
+              suppressedCount ->
+                  logSummaryMessage(
+                      joinPoint,
+                      descriptor,
+                      new StringSupplierLookup(),
+                      exception,
+                      suppressedCount,
+                      statistics));
+      if (occurrence.suppressedCount() > 0) {
+        logSummaryMessage(
+            joinPoint,
+            descriptor,
+            stringLookup,
+            exception,
+            occurrence.suppressedCount(),
+            statistics);
+      }
+      if (!occurrence.logged()) {
+        statistics.recordSuppressed(1);
+        return;
+      }
+    }
+
+    final boolean printStackTrace = descriptor.printStackTrace() && !repeated;
+    final long renderStartTime = System.nanoTime();
+    logMessage(joinPoint, descriptor, stringLookup, exception, printStackTrace);
+    statistics.recordEmitted(System.nanoTime() - renderStartTime);
+    if (printStackTrace) {
+      markLoggedException(exception);
+    }
   }
 
-  private void logElapsed(long startTime) {
-    LOGGER.debug(
-        "[logAfterThrowing] elapsed [{}]", Duration.ofNanos(System.nanoTime() - startTime));
+  /**
+   * Whether the exception, or one of its causes, was already logged with its stack trace by an
+   * inner annotated method. Always false with {@link RepeatedExceptionPolicy#LOG}.
+   */
+  private boolean isRepeatedException(final Throwable exception) {
+    return aopLoggersProperties.getRepeatedExceptionPolicy() != RepeatedExceptionPolicy.LOG
+        && loggedExceptions.isLogged(exception);
+  }
+
+  private void markLoggedException(final Throwable exception) {
+    if (aopLoggersProperties.getRepeatedExceptionPolicy() != RepeatedExceptionPolicy.LOG) {
+      loggedExceptions.markLogged(exception);
+    }
+  }
+
+  private LogAfterThrowingDescriptor createDescriptor(
+      final JoinPoint joinPoint, final LogAfterThrowing annotation) {
+    final MessageTemplate messageTemplate =
+        getMessageTemplate(annotation.exitedAbnormallyMessage());
+    return new LogAfterThrowingDescriptor(
+        LoggerUtil.getLogger(annotation.declaringClass(), joinPoint),
+        getLoggingLevel(annotation.level()),
+        messageTemplate,
+        stackTraceRenderer != null
+            ? stringSubstitutor.compile(
+                messageTemplate.getTemplate() + StackTraceRenderer.STACK_TRACE_TEMPLATE)
+            : null,
+        mergeIgnoreExceptions(
+            annotation.ignoreExceptions(), aopLoggersProperties.getIgnoreExceptions()),
+        annotation.printStackTrace(),
+        InvocationSampler.of(
+            annotation.sampleRate(), annotation.maxPerSecond(), aopLoggersProperties));
   }
 
   private boolean isLoggingLevelDisabled(final Logger logger, final Level loggingLevel) {
-    return !(LoggerUtil.isEnabled(logger, loggingLevel));
+    return !(logDispatcher.isEnabled(logger, loggingLevel));
   }
 
   private boolean isIgnoredException(
@@ -63,19 +219,7 @@ public class LogAfterThrowingService {
       return true;
     }
 
-    return matchesIgnoreExceptions(exception, ignoredExceptions)
-        || matchesIgnoreExceptions(exception, aopLoggersProperties.getIgnoreExceptions());
-  }
-
-  private boolean matchesIgnoreExceptions(
-      final Throwable exception, final Class<? extends Throwable>[] ignoredExceptions) {
-    if (ignoredExceptions == null || ignoredExceptions.length == 0) {
-      return false;
-    }
     for (Class<? extends Throwable> ignoredException : ignoredExceptions) {
-      if (ignoredException == null) {
-        continue;
-      }
       if (ignoredException.isInstance(exception)) {
         return true;
       }
@@ -83,25 +227,65 @@ public class LogAfterThrowingService {
     return false;
   }
 
+  @SuppressWarnings("unchecked")
+  private Class<? extends Throwable>[] mergeIgnoreExceptions(
+      final Class<? extends Throwable>[] ignoredExceptions,
+      final Class<? extends Throwable>[] defaultIgnoredExceptions) {
+    return Stream.of(ignoredExceptions, defaultIgnoredExceptions)
+        .filter(Objects::nonNull)
+        .flatMap(Arrays::stream)
+        .filter(Objects::nonNull)
+        .toArray(Class[]::new);
+  }
+
   private void logMessage(
       final JoinPoint joinPoint,
-      final Level loggingLevel,
-      final LogAfterThrowing annotation,
-      final Logger logger,
+      final LogAfterThrowingDescriptor descriptor,
       final StringSupplierLookup stringLookup,
-      final Throwable exception) {
+      final Throwable exception,
+      final boolean printStackTrace) {
     joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
     exceptionStringSupplierRegistrar.register(stringLookup, exception);
 
-    final String message =
-        stringSubstitutor.substitute(
-            getMessageTemplate(annotation.exitedAbnormallyMessage()), stringLookup);
-
-    if (annotation.printStackTrace()) {
-      LoggerUtil.logException(logger, loggingLevel, message, exception);
-    } else {
-      LoggerUtil.log(logger, loggingLevel, message);
+    if (printStackTrace && stackTraceRenderer != null) {
+      stringLookup.addStringSupplier(Variable.STACK_TRACE, exception, stackTraceRenderer::render);
+      logDispatcher.dispatch(
+          descriptor.logger(),
+          descriptor.level(),
+          descriptor.stackTraceMessageTemplate(),
+          stringLookup,
+          null);
+      return;
     }
+
+    logDispatcher.dispatch(
+        descriptor.logger(),
+        descriptor.level(),
+        descriptor.messageTemplate(),
+        stringLookup,
+        printStackTrace ? exception : null);
+  }
+
+  /** Log the summary of the identical exceptions suppressed, without the stack trace. */
+  private void logSummaryMessage(
+      final JoinPoint joinPoint,
+      final LogAfterThrowingDescriptor descriptor,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception,
+      final long suppressedCount,
+      final AdviceStatistics statistics) {
+    final long renderStartTime = System.nanoTime();
+    joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
+    exceptionStringSupplierRegistrar.register(stringLookup, exception);
+    suppressedCountStringSupplierRegistrar.register(stringLookup, suppressedCount);
+
+    logDispatcher.dispatch(
+        descriptor.logger(),
+        descriptor.level(),
+        stringSubstitutor.compile(exceptionDeduplicator.getSummaryMessage()),
+        stringLookup,
+        null);
+    statistics.recordEmitted(System.nanoTime() - renderStartTime);
   }
 
   private Level getLoggingLevel(final Level loggingLevel) {
@@ -110,9 +294,10 @@ public class LogAfterThrowingService {
         : loggingLevel;
   }
 
-  private String getMessageTemplate(final String messageTemplate) {
-    return messageTemplate.isEmpty()
-        ? aopLoggersProperties.getExitedAbnormallyMessage()
-        : messageTemplate;
+  private MessageTemplate getMessageTemplate(final String messageTemplate) {
+    return stringSubstitutor.compile(
+        messageTemplate.isEmpty()
+            ? aopLoggersProperties.getExitedAbnormallyMessage()
+            : messageTemplate);
   }
 }
@@ -0,0 +1,20 @@
+package im.aop.loggers.advice.around;
+
+/**
+ * Callback invoked once an asynchronous return value, such as a Reactor publisher, terminates.
+ *
+ * @author Andy Lian
+ */
+@FunctionalInterface
+interface CompletionCallback {
+
+  /**
+   * @param elapsedTime elapsed time in nanoseconds, from subscription to termination
+   * @param result value to log as the return value
+   * @param elementCount number of elements emitted
+   * @param exception exception signalled, or null if terminated normally or cancelled
+   * @param cancelled whether the subscription was cancelled before terminating
+   */
+  void completed(
+      long elapsedTime, Object result, long elementCount, Throwable exception, boolean cancelled);
+}
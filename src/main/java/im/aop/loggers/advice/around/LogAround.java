@@ -39,6 +39,11 @@ public @interface LogAround {
    */
   String exitedMessage() default "";
 
+  /**
+   * @return Cancelled message template, for a Reactor return value whose subscription is cancelled
+   */
+  String cancelledMessage() default "";
+
   /**
    * @return Log level for exited abnormally message
    */
@@ -83,4 +88,21 @@ public @interface LogAround {
    * @return Elapsed time unit
    */
   ChronoUnit elapsedTimeUnit() default ChronoUnit.MILLIS;
+
+  /**
+   * @return Whether to defer the entering message until the method exits abnormally or exceeds the
+   *     elapsed time limit, logging a single exited message with the elapsed time otherwise
+   */
+  boolean deferEntering() default false;
+
+  /**
+   * @return Ratio of invocations logged, greater than 0.0 and up to 1.0, or 0.0 to use the default
+   */
+  double sampleRate() default 0.0;
+
+  /**
+   * @return Maximum number of invocations logged per second, 0 to use the default, negative for
+   *     unlimited
+   */
+  long maxPerSecond() default 0;
 }
@@ -25,6 +25,9 @@ public class LogAroundAdvice {
   void toStringMethod() {
   }
 
+  @Pointcut("@annotation(im.aop.loggers.advice.around.LogAround)")
+  void logAroundMethod() {}
+
   @Pointcut(value = "@annotation(logAround)", argNames = "logAround")
   void logAroundMethodContext(final LogAround logAround) {
   }
@@ -32,8 +35,8 @@ public class LogAroundAdvice {
   @Around(
       value = "publicMethod() && logAroundMethodContext(logAround)",
       argNames = "joinPoint, logAround")
-  Object logAroundMethodContext(final ProceedingJoinPoint joinPoint, final LogAround logAround)
-      throws Throwable {
+  public Object logAroundMethodContext(
+      final ProceedingJoinPoint joinPoint, final LogAround logAround) throws Throwable {
     return logAround(joinPoint, logAround);
   }
 
@@ -42,15 +45,20 @@ public class LogAroundAdvice {
   }
 
   @Around(
-      value = "publicMethod() && !toStringMethod() && logAroundClassContext(logAround)",
+      value =
+          "publicMethod() && !toStringMethod() && !logAroundMethod()"
+              + " && logAroundClassContext(logAround)",
       argNames = "joinPoint, logAround")
-  Object logAroundClassContext(final ProceedingJoinPoint joinPoint, final LogAround logAround)
-      throws Throwable {
+  public Object logAroundClassContext(
+      final ProceedingJoinPoint joinPoint, final LogAround logAround) throws Throwable {
     return logAround(joinPoint, logAround);
   }
 
   protected Object logAround(final ProceedingJoinPoint joinPoint, final LogAround logAround)
       throws Throwable {
+    if (logAroundService == null) {
+      return joinPoint.proceed();
+    }
     return logAroundService.logAround(joinPoint, logAround);
   }
 }
@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.around;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogAroundConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogAroundAdvice.class)
   public LogAroundAdvice logAroundAdvice() {
-    return new LogAroundAdvice();
+    return AspectUtil.aspectOf(LogAroundAdvice.class, LogAroundAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogAroundAdvice.class)
+  public LogAroundInterceptor logAroundInterceptor(
+      final ObjectProvider<LogAroundService> logAroundService) {
+    return new LogAroundInterceptor(
+        new AnnotatedMethodResolver<>(LogAround.class),
+        SingletonSupplier.of(logAroundService::getObject));
   }
 
   @Bean
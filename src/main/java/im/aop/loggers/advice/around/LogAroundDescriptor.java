@@ -0,0 +1,50 @@
+package im.aop.loggers.advice.around;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.metrics.ElapsedTimeRecorder;
+import java.time.Duration;
+import org.slf4j.Logger;
+
+/**
+ * Values resolved once per join point for {@link LogAround}, from the annotation attributes and
+ * their default in {@link im.aop.loggers.AopLoggersProperties}, the {@link ElapsedTimeRecorder} of
+ * the join point if any, and the {@link InvocationSampler} of the join point.
+ *
+ * <p>When the entering message is deferred, the entering message template is the deferred one,
+ * unless set on the annotation.
+ *
+ * <p>The exited abnormally stack trace message template appends the rendered stack trace to the
+ * exited abnormally message template, it is null unless the {@link
+ * im.aop.loggers.exception.StackTraceRenderer} is enabled.
+ *
+ * @author Andy Lian
+ */
+record LogAroundDescriptor(
+    Logger logger,
+    Level enteringLevel,
+    MessageTemplate enteringMessage,
+    boolean deferEntering,
+    MessageTemplate deferredExitedMessage,
+    Level exitedLevel,
+    MessageTemplate exitedMessage,
+    MessageTemplate cancelledMessage,
+    Level exitedAbnormallyLevel,
+    MessageTemplate exitedAbnormallyMessage,
+    MessageTemplate exitedAbnormallyStackTraceMessage,
+    Class<? extends Throwable>[] ignoreExceptions,
+    boolean printStackTrace,
+    Level elapsedLevel,
+    MessageTemplate elapsedMessage,
+    Level elapsedWarningLevel,
+    MessageTemplate elapsedWarningMessage,
+    Duration elapsedTimeLimit,
+    long elapsedTimeLimitNanos,
+    ElapsedTimeRecorder elapsedTimeRecorder,
+    InvocationSampler sampler) {
+
+  boolean exceedsElapsedTimeLimit(final long elapsedTime) {
+    return elapsedTimeLimit != null && elapsedTime > elapsedTimeLimitNanos;
+  }
+}
@@ -0,0 +1,36 @@
+package im.aop.loggers.advice.around;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.Ordered;
+
+/**
+ * Native method interceptor for {@link LogAround}, invoked innermost so that the elapsed time
+ * excludes the other interceptors advising the method.
+ *
+ * @author Andy Lian
+ */
+public class LogAroundInterceptor extends LogMethodInterceptor<LogAround> {
+
+  private final Supplier<LogAroundService> logAroundService;
+
+  public LogAroundInterceptor(
+      final AnnotatedMethodResolver<LogAround> annotatedMethodResolver,
+      final Supplier<LogAroundService> logAroundService) {
+    super(annotatedMethodResolver);
+    this.logAroundService = logAroundService;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  @Override
+  protected Object invoke(final MethodInvocation invocation, final LogAround logAround)
+      throws Throwable {
+    return logAroundService.get().logAround(joinPoint(invocation), logAround);
+  }
+}
@@ -2,27 +2,75 @@ package im.aop.loggers.advice.around;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.RepeatedExceptionPolicy;
+import im.aop.loggers.advice.InvocationSampler;
+import im.aop.loggers.advice.JoinPointDescriptorCache;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import im.aop.loggers.exception.ExceptionDeduplicator;
+import im.aop.loggers.exception.LoggedExceptions;
+import im.aop.loggers.exception.StackTraceRenderer;
 import im.aop.loggers.messageinterpolation.ElapsedStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.ElapsedTimeLimitStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.ElementCountStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.EnteredAtStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.ExceptionStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.JoinPointStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
 import im.aop.loggers.messageinterpolation.ReturnValueStringSupplierRegistrar;
 import im.aop.loggers.messageinterpolation.StringSubstitutor;
 import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.messageinterpolation.SuppressedCountStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.Variable;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
+import im.aop.loggers.metrics.ElapsedTimeRecorderFactory;
 import im.aop.loggers.util.LoggerUtil;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.ClassUtils;
 
 public class LogAroundService {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(LogAroundService.class);
+  private static final boolean REACTOR_PRESENT =
+      ClassUtils.isPresent("reactor.core.publisher.Flux", LogAroundService.class.getClassLoader());
+
+  /** Entering and elapsed messages, skipped without checking their level. */
+  private static final int ENTERING_AND_ELAPSED_MESSAGES = 2;
+
+  /** Entering, exited and elapsed messages, skipped without checking their level. */
+  private static final int ENTERING_EXITED_AND_ELAPSED_MESSAGES = ENTERING_AND_ELAPSED_MESSAGES + 1;
 
   @Autowired private StringSubstitutor stringSubstitutor;
 
+  @Autowired(required = false)
+  private LogDispatcher logDispatcher = SynchronousLogDispatcher.INSTANCE;
+
+  @Autowired(required = false)
+  private AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+
+  @Autowired(required = false)
+  private ElapsedTimeRecorderFactory elapsedTimeRecorderFactory;
+
+  @Autowired(required = false)
+  private ExceptionDeduplicator exceptionDeduplicator;
+
+  @Autowired(required = false)
+  private LoggedExceptions loggedExceptions = new LoggedExceptions();
+
+  @Autowired(required = false)
+  private StackTraceRenderer stackTraceRenderer;
+
   @Autowired private JoinPointStringSupplierRegistrar joinPointStringSupplierRegistrar;
 
   @Autowired private ReturnValueStringSupplierRegistrar returnValueStringSupplierRegistrar;
@@ -34,55 +82,359 @@ public class LogAroundService {
   @Autowired
   private ElapsedTimeLimitStringSupplierRegistrar elapsedTimeLimitStringSupplierRegistrar;
 
+  @Autowired private ElementCountStringSupplierRegistrar elementCountStringSupplierRegistrar;
+
+  @Autowired private EnteredAtStringSupplierRegistrar enteredAtStringSupplierRegistrar;
+
+  @Autowired private SuppressedCountStringSupplierRegistrar suppressedCountStringSupplierRegistrar;
+
   private final AopLoggersProperties aopLoggersProperties;
 
+  private final JoinPointDescriptorCache<LogAround, LogAroundDescriptor> descriptorCache;
+
   public LogAroundService(final AopLoggersProperties aopLoggersProperties) {
     this.aopLoggersProperties = Objects.requireNonNull(aopLoggersProperties);
+    this.descriptorCache =
+        new JoinPointDescriptorCache<>(aopLoggersProperties, this::createDescriptor);
   }
 
   public Object logAround(final ProceedingJoinPoint joinPoint, final LogAround logAround)
       throws Throwable {
-    final long startTime = System.nanoTime();
+    if (aopLoggersProperties.getRepeatedExceptionPolicy() == RepeatedExceptionPolicy.LOG) {
+      return doLogAround(joinPoint, logAround);
+    }
+
+    loggedExceptions.enter();
+    try {
+      return doLogAround(joinPoint, logAround);
+    } finally {
+      loggedExceptions.exit();
+    }
+  }
+
+  private Object doLogAround(final ProceedingJoinPoint joinPoint, final LogAround logAround)
+      throws Throwable {
+    statistics().recordInvocation();
+
+    final LogAroundDescriptor descriptor = descriptorCache.get(joinPoint, logAround);
+    if (!isTracingEnabled(descriptor)) {
+      return proceed(joinPoint, descriptor, false);
+    }
+    if (!descriptor.sampler().sample()) {
+      statistics().recordSkipped();
+      return proceed(joinPoint, descriptor, true);
+    }
 
-    final Logger logger = LoggerUtil.getLogger(logAround.declaringClass(), joinPoint);
     final StringSupplierLookup stringLookup = new StringSupplierLookup();
 
-    logEnteringMessage(joinPoint, logAround, logger, stringLookup);
+    if (descriptor.deferEntering()) {
+      deferEnteringMessage(joinPoint, stringLookup);
+    } else {
+      logEnteringMessage(joinPoint, descriptor, stringLookup);
+    }
     final long proceedStartTime = System.nanoTime();
 
     try {
 
       final Object returnValue = joinPoint.proceed();
 
-      final long proceedElapsedTime = System.nanoTime() - proceedStartTime;
-      logExitedMessage(joinPoint, logAround, logger, stringLookup, returnValue);
-      logElapsedTime(logAround, logger, stringLookup, proceedElapsedTime);
-      logElapsedWarning(logAround, logger, stringLookup, proceedElapsedTime);
+      if (isReactive(returnValue)) {
+        return ReactorReturnValues.tap(
+            returnValue,
+            (elapsedTime, result, elementCount, exception, cancelled) ->
+                logCompletion(
+                    joinPoint,
+                    descriptor,
+                    stringLookup.snapshot(),
+                    elapsedTime,
+                    result,
+                    elementCount,
+                    exception,
+                    cancelled));
+      }
+      if (returnValue instanceof CompletionStage<?> completionStage) {
+        completionStage.whenComplete(
+            (result, exception) ->
+                logCompletion(
+                    joinPoint,
+                    descriptor,
+                    stringLookup,
+                    System.nanoTime() - proceedStartTime,
+                    result,
+                    -1,
+                    unwrap(exception),
+                    false));
+        return returnValue;
+      }
 
-      logElapsed(startTime, proceedElapsedTime);
+      final long proceedElapsedTime = System.nanoTime() - proceedStartTime;
+      logCompletion(
+          joinPoint, descriptor, stringLookup, proceedElapsedTime, returnValue, -1, null, false);
 
       return returnValue;
 
     } catch (Throwable e) {
 
       final long proceedElapsedTime = System.nanoTime() - proceedStartTime;
-      logExitedAbnormallyMessage(logAround, logger, stringLookup, e);
-      logElapsedTime(logAround, logger, stringLookup, proceedElapsedTime);
-      logElapsedWarning(logAround, logger, stringLookup, proceedElapsedTime);
+      logCompletion(joinPoint, descriptor, stringLookup, proceedElapsedTime, null, -1, e, false);
+
+      throw e;
+    }
+  }
+
+  /**
+   * Record the elapsed time, then log the exited, exited abnormally or cancelled message, the
+   * elapsed message and the elapsed warning message.
+   *
+   * <p>When the entering message is deferred, it is logged first if the method exited abnormally,
+   * was cancelled or exceeded the elapsed time limit, otherwise only the deferred exited message is
+   * logged.
+   *
+   * @param elementCount number of elements emitted by a reactive return value, or -1 if not
+   *     reactive
+   * @param cancelled whether the subscription of a reactive return value was cancelled
+   */
+  private void logCompletion(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
+      final StringSupplierLookup stringLookup,
+      final long elapsedTime,
+      final Object returnValue,
+      final long elementCount,
+      final Throwable exception,
+      final boolean cancelled) {
+    recordElapsedTime(descriptor, elapsedTime, exception, cancelled);
+    if (elementCount >= 0) {
+      elementCountStringSupplierRegistrar.register(stringLookup, elementCount);
+    }
+    if (descriptor.deferEntering()) {
+      if (exception == null && !cancelled && !descriptor.exceedsElapsedTimeLimit(elapsedTime)) {
+        logDeferredExitedMessage(joinPoint, descriptor, stringLookup, returnValue, elapsedTime);
+        return;
+      }
+      logDeferredEnteringMessage(descriptor, stringLookup);
+    }
+    if (cancelled) {
+      logCancelledMessage(joinPoint, descriptor, stringLookup);
+    } else if (exception == null) {
+      logExitedMessage(joinPoint, descriptor, stringLookup, returnValue);
+    } else {
+      logExitedAbnormallyMessage(joinPoint, descriptor, stringLookup, exception);
+    }
+    logElapsedTime(descriptor, stringLookup, elapsedTime);
+    logElapsedWarning(descriptor, stringLookup, elapsedTime);
+  }
+
+  /**
+   * Whether the return value is a Reactor {@code Mono} or {@code Flux}, whose messages are logged
+   * once per subscription when it terminates, timed from the subscription.
+   */
+  private boolean isReactive(final Object returnValue) {
+    return REACTOR_PRESENT && ReactorReturnValues.isReactive(returnValue);
+  }
+
+  /**
+   * Proceed without collecting the variables, only the exited abnormally and elapsed warning
+   * messages may be logged. The invocation is timed only if its elapsed time is recorded or an
+   * elapsed warning message may be logged.
+   *
+   * <p>Unless sampled out, the entering and elapsed messages, as well as the exited message when
+   * exited normally, are counted as suppressed. When sampled out, the exited abnormally and elapsed
+   * warning messages are only logged if they bypass sampling.
+   *
+   * <p>A reactive return value is always timed, so that the exceptions signalled asynchronously are
+   * logged. A {@link CompletionStage} is timed until it completes.
+   */
+  private Object proceed(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
+      final boolean sampledOut)
+      throws Throwable {
+    final boolean elapsedWarningEnabled =
+        sampledOut
+            && descriptor.elapsedTimeLimit() != null
+            && aopLoggersProperties.isElapsedWarningsBypassSampling();
+    final boolean timed = descriptor.elapsedTimeRecorder() != null || elapsedWarningEnabled;
+    final long proceedStartTime = timed ? System.nanoTime() : 0;
+    try {
+      final Object returnValue = joinPoint.proceed();
+      if (isReactive(returnValue)) {
+        return ReactorReturnValues.tap(
+            returnValue,
+            (elapsedTime, result, elementCount, exception, cancelled) ->
+                proceeded(
+                    joinPoint,
+                    descriptor,
+                    sampledOut,
+                    elapsedWarningEnabled,
+                    elapsedTime,
+                    exception,
+                    cancelled));
+      }
+      if (returnValue instanceof CompletionStage<?> completionStage) {
+        completionStage.whenComplete(
+            (result, exception) ->
+                proceeded(
+                    joinPoint,
+                    descriptor,
+                    sampledOut,
+                    elapsedWarningEnabled,
+                    timed ? System.nanoTime() - proceedStartTime : 0,
+                    unwrap(exception),
+                    false));
+        return returnValue;
+      }
 
-      logElapsed(startTime, proceedElapsedTime);
+      final long proceedElapsedTime = timed ? System.nanoTime() - proceedStartTime : 0;
+      proceeded(
+          joinPoint,
+          descriptor,
+          sampledOut,
+          elapsedWarningEnabled,
+          proceedElapsedTime,
+          null,
+          false);
+      return returnValue;
+    } catch (Throwable e) {
+      final long proceedElapsedTime = timed ? System.nanoTime() - proceedStartTime : 0;
+      proceeded(
+          joinPoint, descriptor, sampledOut, elapsedWarningEnabled, proceedElapsedTime, e, false);
       throw e;
     }
   }
 
-  private void logElapsed(final long startTime, final long proceedElapsedTime) {
-    LOGGER.debug(
-        "[logAround] elapsed [{}]",
-        Duration.ofNanos(System.nanoTime() - startTime - proceedElapsedTime));
+  /** Unwrap the exception a dependent {@link CompletionStage} completed with. */
+  private Throwable unwrap(final Throwable exception) {
+    return exception instanceof CompletionException && exception.getCause() != null
+        ? exception.getCause()
+        : exception;
+  }
+
+  private void proceeded(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
+      final boolean sampledOut,
+      final boolean elapsedWarningEnabled,
+      final long elapsedTime,
+      final Throwable exception,
+      final boolean cancelled) {
+    recordElapsedTime(descriptor, elapsedTime, exception, cancelled);
+    if (!sampledOut) {
+      statistics()
+          .recordSuppressed(
+              exception == null
+                  ? ENTERING_EXITED_AND_ELAPSED_MESSAGES
+                  : ENTERING_AND_ELAPSED_MESSAGES);
+    }
+    if (exception == null && !elapsedWarningEnabled) {
+      return;
+    }
+
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    if (exception != null && (!sampledOut || aopLoggersProperties.isExceptionsBypassSampling())) {
+      logExitedAbnormallyMessage(joinPoint, descriptor, stringLookup, exception);
+    }
+    if (elapsedWarningEnabled) {
+      logElapsedWarning(descriptor, stringLookup, elapsedTime);
+    }
+  }
+
+  private void recordElapsedTime(
+      final LogAroundDescriptor descriptor,
+      final long elapsedTime,
+      final Throwable exception,
+      final boolean cancelled) {
+    if (descriptor.elapsedTimeRecorder() == null) {
+      return;
+    }
+    if (cancelled) {
+      descriptor.elapsedTimeRecorder().recordCancelled(elapsedTime);
+    } else {
+      descriptor.elapsedTimeRecorder().record(elapsedTime, exception);
+    }
+  }
+
+  /**
+   * Whether any message other than the exited abnormally message may be logged, checked against the
+   * Logger's current levels before each invocation.
+   */
+  private boolean isTracingEnabled(final LogAroundDescriptor descriptor) {
+    final Logger logger = descriptor.logger();
+    return logDispatcher.isEnabled(logger, descriptor.enteringLevel())
+        || logDispatcher.isEnabled(logger, descriptor.exitedLevel())
+        || logDispatcher.isEnabled(logger, descriptor.elapsedLevel())
+        || (descriptor.elapsedTimeLimit() != null
+            && logDispatcher.isEnabled(logger, descriptor.elapsedWarningLevel()));
+  }
+
+  private LogAroundDescriptor createDescriptor(
+      final JoinPoint joinPoint, final LogAround annotation) {
+    final Duration elapsedTimeLimit =
+        annotation.elapsedTimeLimit() == 0
+            ? null
+            : Duration.of(annotation.elapsedTimeLimit(), annotation.elapsedTimeUnit());
+
+    final boolean deferEntering =
+        annotation.deferEntering() || aopLoggersProperties.isDeferEntering();
+
+    final MessageTemplate exitedAbnormallyMessage =
+        getMessageTemplate(
+            annotation.exitedAbnormallyMessage(),
+            aopLoggersProperties.getExitedAbnormallyMessage());
+
+    return new LogAroundDescriptor(
+        LoggerUtil.getLogger(annotation.declaringClass(), joinPoint),
+        getLoggingLevel(annotation.level(), aopLoggersProperties.getEnteringLevel()),
+        getMessageTemplate(
+            annotation.enteringMessage(),
+            deferEntering
+                ? aopLoggersProperties.getDeferredEnteringMessage()
+                : aopLoggersProperties.getEnteringMessage()),
+        deferEntering,
+        deferEntering
+            ? getMessageTemplate(
+                annotation.exitedMessage(), aopLoggersProperties.getDeferredExitedMessage())
+            : null,
+        getLoggingLevel(annotation.level(), aopLoggersProperties.getExitedLevel()),
+        getMessageTemplate(annotation.exitedMessage(), aopLoggersProperties.getExitedMessage()),
+        getMessageTemplate(
+            annotation.cancelledMessage(), aopLoggersProperties.getCancelledMessage()),
+        getLoggingLevel(
+            annotation.exitedAbnormallyLevel(), aopLoggersProperties.getExitedAbnormallyLevel()),
+        exitedAbnormallyMessage,
+        stackTraceRenderer != null
+            ? stringSubstitutor.compile(
+                exitedAbnormallyMessage.getTemplate() + StackTraceRenderer.STACK_TRACE_TEMPLATE)
+            : null,
+        mergeIgnoreExceptions(
+            annotation.ignoreExceptions(), aopLoggersProperties.getIgnoreExceptions()),
+        annotation.printStackTrace(),
+        getLoggingLevel(annotation.level(), aopLoggersProperties.getElapsedLevel()),
+        getMessageTemplate(annotation.elapsedMessage(), aopLoggersProperties.getElapsedMessage()),
+        getLoggingLevel(
+            annotation.elapsedWarningLevel(), aopLoggersProperties.getElapsedWarningLevel()),
+        getMessageTemplate(
+            annotation.elapsedWarningMessage(), aopLoggersProperties.getElapsedWarningMessage()),
+        elapsedTimeLimit,
+        toNanos(elapsedTimeLimit),
+        elapsedTimeRecorderFactory != null ? elapsedTimeRecorderFactory.create(joinPoint) : null,
+        InvocationSampler.of(
+            annotation.sampleRate(), annotation.maxPerSecond(), aopLoggersProperties));
+  }
+
+  private long toNanos(final Duration duration) {
+    if (duration == null) {
+      return 0;
+    }
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
   }
 
   private boolean isLoggingLevelDisabled(final Logger logger, final Level loggingLevel) {
-    return !(LoggerUtil.isEnabled(logger, loggingLevel));
+    return !(logDispatcher.isEnabled(logger, loggingLevel));
   }
 
   private boolean isIgnoredException(
@@ -91,19 +443,7 @@ public class LogAroundService {
       return true;
     }
 
-    return matchesIgnoreExceptions(exception, ignoredExceptions)
-        || matchesIgnoreExceptions(exception, aopLoggersProperties.getIgnoreExceptions());
-  }
-
-  private boolean matchesIgnoreExceptions(
-      final Throwable exception, final Class<? extends Throwable>[] ignoredExceptions) {
-    if (ignoredExceptions == null || ignoredExceptions.length == 0) {
-      return false;
-    }
     for (Class<? extends Throwable> ignoredException : ignoredExceptions) {
-      if (ignoredException == null) {
-        continue;
-      }
       if (ignoredException.isInstance(exception)) {
         return true;
       }
@@ -111,138 +451,290 @@ public class LogAroundService {
     return false;
   }
 
+  @SuppressWarnings("unchecked")
+  private Class<? extends Throwable>[] mergeIgnoreExceptions(
+      final Class<? extends Throwable>[] ignoredExceptions,
+      final Class<? extends Throwable>[] defaultIgnoredExceptions) {
+    return Stream.of(ignoredExceptions, defaultIgnoredExceptions)
+        .filter(Objects::nonNull)
+        .flatMap(Arrays::stream)
+        .filter(Objects::nonNull)
+        .toArray(Class[]::new);
+  }
+
   private void logEnteringMessage(
       final ProceedingJoinPoint joinPoint,
-      final LogAround annotation,
-      final Logger logger,
+      final LogAroundDescriptor descriptor,
       final StringSupplierLookup stringLookup) {
-    final Level enteringLevel =
-        getLoggingLevel(annotation.level(), aopLoggersProperties.getEnteringLevel());
-    if (isLoggingLevelDisabled(logger, enteringLevel)) {
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.enteringLevel())) {
+      statistics().recordSuppressed(1);
       return;
     }
 
     joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
 
-    final String enteringMessage =
-        stringSubstitutor.substitute(
-            getMessageTemplate(
-                annotation.enteringMessage(), aopLoggersProperties.getEnteringMessage()),
-            stringLookup);
-    LoggerUtil.log(logger, enteringLevel, enteringMessage);
+    dispatch(
+        descriptor.logger(),
+        descriptor.enteringLevel(),
+        descriptor.enteringMessage(),
+        stringLookup,
+        null);
   }
 
-  private void logElapsedTime(
-      final LogAround annotation,
-      final Logger logger,
+  /**
+   * Register the variables of the entering message, rendered only if it is logged, with the time of
+   * entering as the {@code entered-at} variable.
+   */
+  private void deferEnteringMessage(
+      final ProceedingJoinPoint joinPoint, final StringSupplierLookup stringLookup) {
+    joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
+    enteredAtStringSupplierRegistrar.register(stringLookup, System.currentTimeMillis());
+  }
+
+  private void logDeferredEnteringMessage(
+      final LogAroundDescriptor descriptor, final StringSupplierLookup stringLookup) {
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.enteringLevel())) {
+      statistics().recordSuppressed(1);
+      return;
+    }
+
+    dispatch(
+        descriptor.logger(),
+        descriptor.enteringLevel(),
+        descriptor.enteringMessage(),
+        stringLookup,
+        null);
+  }
+
+  /**
+   * Log the exited message in place of the entering, exited and elapsed messages, the entering and
+   * elapsed messages being counted as suppressed.
+   */
+  private void logDeferredExitedMessage(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
       final StringSupplierLookup stringLookup,
+      final Object returnValue,
       final long elapsedTime) {
-    final Level elapsedLevel =
-        getLoggingLevel(annotation.level(), aopLoggersProperties.getElapsedLevel());
-    if (isLoggingLevelDisabled(logger, elapsedLevel)) {
+    statistics().recordSuppressed(ENTERING_AND_ELAPSED_MESSAGES);
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.exitedLevel())) {
+      statistics().recordSuppressed(1);
       return;
     }
 
+    returnValueStringSupplierRegistrar.register(stringLookup, joinPoint, returnValue);
     elapsedStringSupplierRegistrar.register(stringLookup, elapsedTime);
 
-    final String elapsedMessage =
-        stringSubstitutor.substitute(
-            getMessageTemplate(
-                annotation.elapsedMessage(), aopLoggersProperties.getElapsedMessage()),
-            stringLookup);
-    LoggerUtil.log(logger, elapsedLevel, elapsedMessage);
+    dispatch(
+        descriptor.logger(),
+        descriptor.exitedLevel(),
+        descriptor.deferredExitedMessage(),
+        stringLookup,
+        null);
   }
 
-  private void logElapsedWarning(
-      final LogAround annotation,
-      final Logger logger,
+  private void logElapsedTime(
+      final LogAroundDescriptor descriptor,
       final StringSupplierLookup stringLookup,
       final long elapsedTime) {
-    final Level elapsedWarningLevel =
-        getLoggingLevel(
-            annotation.elapsedWarningLevel(), aopLoggersProperties.getElapsedWarningLevel());
-    if (isLoggingLevelDisabled(logger, elapsedWarningLevel)) {
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.elapsedLevel())) {
+      statistics().recordSuppressed(1);
       return;
     }
 
-    if (annotation.elapsedTimeLimit() == 0) {
+    elapsedStringSupplierRegistrar.register(stringLookup, elapsedTime);
+
+    dispatch(
+        descriptor.logger(),
+        descriptor.elapsedLevel(),
+        descriptor.elapsedMessage(),
+        stringLookup,
+        null);
+  }
+
+  private void logElapsedWarning(
+      final LogAroundDescriptor descriptor,
+      final StringSupplierLookup stringLookup,
+      final long elapsedTime) {
+    if (!descriptor.exceedsElapsedTimeLimit(elapsedTime)) {
       return;
     }
-    final Duration elapsedTimeLimit =
-        Duration.of(annotation.elapsedTimeLimit(), annotation.elapsedTimeUnit());
-    if (!elapsedTimeLimit.minusNanos(elapsedTime).isNegative()) {
+
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.elapsedWarningLevel())) {
+      statistics().recordSuppressed(1);
       return;
     }
 
     elapsedStringSupplierRegistrar.register(stringLookup, elapsedTime);
-    elapsedTimeLimitStringSupplierRegistrar.register(stringLookup, elapsedTimeLimit);
-
-    final String elapsedWarningMessage =
-        stringSubstitutor.substitute(
-            getMessageTemplate(
-                annotation.elapsedWarningMessage(),
-                aopLoggersProperties.getElapsedWarningMessage()),
-            stringLookup);
-    LoggerUtil.log(logger, elapsedWarningLevel, elapsedWarningMessage);
+    elapsedTimeLimitStringSupplierRegistrar.register(stringLookup, descriptor.elapsedTimeLimit());
+
+    dispatch(
+        descriptor.logger(),
+        descriptor.elapsedWarningLevel(),
+        descriptor.elapsedWarningMessage(),
+        stringLookup,
+        null);
   }
 
   private void logExitedMessage(
       final ProceedingJoinPoint joinPoint,
-      final LogAround annotation,
-      final Logger logger,
+      final LogAroundDescriptor descriptor,
       final StringSupplierLookup stringLookup,
       final Object returnValue) {
-    final Level exitedLevel =
-        getLoggingLevel(annotation.level(), aopLoggersProperties.getExitedLevel());
-    if (isLoggingLevelDisabled(logger, exitedLevel)) {
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.exitedLevel())) {
+      statistics().recordSuppressed(1);
       return;
     }
 
     returnValueStringSupplierRegistrar.register(stringLookup, joinPoint, returnValue);
 
-    final String exitedMessage =
-        stringSubstitutor.substitute(
-            getMessageTemplate(annotation.exitedMessage(), aopLoggersProperties.getExitedMessage()),
-            stringLookup);
-    LoggerUtil.log(logger, exitedLevel, exitedMessage);
+    dispatch(
+        descriptor.logger(),
+        descriptor.exitedLevel(),
+        descriptor.exitedMessage(),
+        stringLookup,
+        null);
+  }
+
+  /** Log the cancelled message, at the exited level, for a cancelled reactive return value. */
+  private void logCancelledMessage(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
+      final StringSupplierLookup stringLookup) {
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.exitedLevel())) {
+      statistics().recordSuppressed(1);
+      return;
+    }
+
+    joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
+
+    dispatch(
+        descriptor.logger(),
+        descriptor.exitedLevel(),
+        descriptor.cancelledMessage(),
+        stringLookup,
+        null);
   }
 
   private void logExitedAbnormallyMessage(
-      final LogAround annotation,
-      final Logger logger,
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
       final StringSupplierLookup stringLookup,
       final Throwable exception) {
-    final Level exitedAbnormallyLevel =
-        getLoggingLevel(
-            annotation.exitedAbnormallyLevel(), aopLoggersProperties.getExitedAbnormallyLevel());
+    final Level exitedAbnormallyLevel = descriptor.exitedAbnormallyLevel();
 
-    if (isLoggingLevelDisabled(logger, exitedAbnormallyLevel)
-        || isIgnoredException(exception, annotation.ignoreExceptions())) {
+    if (isIgnoredException(exception, descriptor.ignoreExceptions())) {
+      return;
+    }
+    logDispatcher.exitedAbnormally(exception);
+    if (isLoggingLevelDisabled(descriptor.logger(), exitedAbnormallyLevel)) {
+      statistics().recordSuppressed(1);
       return;
     }
 
-    exceptionStringSupplierRegistrar.register(stringLookup, exception);
+    final boolean repeated = isRepeatedException(exception);
+    if (repeated
+        && aopLoggersProperties.getRepeatedExceptionPolicy() == RepeatedExceptionPolicy.SKIP) {
+      statistics().recordSuppressed(1);
+      return;
+    }
+    if (exceptionDeduplicator != null) {
+      final ExceptionDeduplicator.Occurrence occurrence =
+          exceptionDeduplicator.occur(
+              ((MethodSignature) joinPoint.getSignature()).getMethod(),
+              exception,
+              suppressedCount ->
+                  logSummaryMessage(joinPoint, descriptor, exception, suppressedCount));
+      if (occurrence.suppressedCount() > 0) {
+        logSummaryMessage(joinPoint, descriptor, exception, occurrence.suppressedCount());
+      }
+      if (!occurrence.logged()) {
+        statistics().recordSuppressed(1);
+        return;
+      }
+    }
 
-    final String exitedAbnormallyMessage =
-        stringSubstitutor.substitute(
-            getMessageTemplate(
-                annotation.exitedAbnormallyMessage(),
-                aopLoggersProperties.getExitedAbnormallyMessage()),
-            stringLookup);
+    exceptionStringSupplierRegistrar.register(stringLookup, exception);
 
-    if (annotation.printStackTrace()) {
-      LoggerUtil.logException(logger, exitedAbnormallyLevel, exitedAbnormallyMessage, exception);
+    final boolean printStackTrace = descriptor.printStackTrace() && !repeated;
+    if (printStackTrace && stackTraceRenderer != null) {
+      stringLookup.addStringSupplier(Variable.STACK_TRACE, exception, stackTraceRenderer::render);
+      dispatch(
+          descriptor.logger(),
+          exitedAbnormallyLevel,
+          descriptor.exitedAbnormallyStackTraceMessage(),
+          stringLookup,
+          null);
     } else {
-      LoggerUtil.log(logger, exitedAbnormallyLevel, exitedAbnormallyMessage);
+      dispatch(
+          descriptor.logger(),
+          exitedAbnormallyLevel,
+          descriptor.exitedAbnormallyMessage(),
+          stringLookup,
+          printStackTrace ? exception : null);
     }
+    if (printStackTrace) {
+      markLoggedException(exception);
+    }
+  }
+
+  /**
+   * Whether the exception, or one of its causes, was already logged with its stack trace by an
+   * inner annotated method. Always false with {@link RepeatedExceptionPolicy#LOG}.
+   */
+  private boolean isRepeatedException(final Throwable exception) {
+    return aopLoggersProperties.getRepeatedExceptionPolicy() != RepeatedExceptionPolicy.LOG
+        && loggedExceptions.isLogged(exception);
+  }
+
+  private void markLoggedException(final Throwable exception) {
+    if (aopLoggersProperties.getRepeatedExceptionPolicy() != RepeatedExceptionPolicy.LOG) {
+      loggedExceptions.markLogged(exception);
+    }
+  }
+
+  /** Log the summary of the identical exceptions suppressed, without the stack trace. */
+  private void logSummaryMessage(
+      final ProceedingJoinPoint joinPoint,
+      final LogAroundDescriptor descriptor,
+      final Throwable exception,
+      final long suppressedCount) {
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
+    exceptionStringSupplierRegistrar.register(stringLookup, exception);
+    suppressedCountStringSupplierRegistrar.register(stringLookup, suppressedCount);
+
+    dispatch(
+        descriptor.logger(),
+        descriptor.exitedAbnormallyLevel(),
+        stringSubstitutor.compile(exceptionDeduplicator.getSummaryMessage()),
+        stringLookup,
+        null);
+  }
+
+  /** Dispatch the message, recording the time spent rendering and dispatching it. */
+  private void dispatch(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    final long renderStartTime = System.nanoTime();
+    logDispatcher.dispatch(logger, level, messageTemplate, stringLookup, exception);
+    statistics().recordEmitted(System.nanoTime() - renderStartTime);
+  }
+
+  private AdviceStatistics statistics() {
+    return aopLoggersStatistics.get(AdviceType.LOG_AROUND);
   }
 
   private Level getLoggingLevel(final Level loggingLevel, final Level defaultLoggingLevel) {
     return loggingLevel == Level.DEFAULT ? defaultLoggingLevel : loggingLevel;
   }
 
-  private String getMessageTemplate(
+  private MessageTemplate getMessageTemplate(
       final String messageTemplate, final String defaultMessageTemplate) {
-    return !messageTemplate.isEmpty() ? messageTemplate : defaultMessageTemplate;
+    return stringSubstitutor.compile(
+        !messageTemplate.isEmpty() ? messageTemplate : defaultMessageTemplate);
   }
 }
@@ -0,0 +1,133 @@
+package im.aop.loggers.advice.around;
+
+import org.reactivestreams.Publisher;
+import reactor.core.observability.DefaultSignalListener;
+import reactor.core.observability.SignalListener;
+import reactor.core.observability.SignalListenerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Decorate Reactor {@link Mono} and {@link Flux} return values to invoke a {@link
+ * CompletionCallback} once per subscription, when it terminates or is cancelled, e.g. on timeout,
+ * client disconnection or {@code take(n)} downstream.
+ *
+ * <p>Only referenced when Reactor is on the classpath.
+ *
+ * @author Andy Lian
+ */
+final class ReactorReturnValues {
+
+  private ReactorReturnValues() {}
+
+  static boolean isReactive(final Object returnValue) {
+    return returnValue instanceof Mono || returnValue instanceof Flux;
+  }
+
+  /**
+   * @param returnValue {@link Mono} or {@link Flux}
+   * @param completionCallback callback invoked once per subscription
+   * @return decorated publisher of the same type
+   */
+  @SuppressWarnings("unchecked")
+  static Object tap(final Object returnValue, final CompletionCallback completionCallback) {
+    if (returnValue instanceof Mono) {
+      return ((Mono<Object>) returnValue)
+          .tap(new CompletionSignalListenerFactory<>(completionCallback, true));
+    }
+    return ((Flux<Object>) returnValue)
+        .tap(new CompletionSignalListenerFactory<>(completionCallback, false));
+  }
+
+  private record CompletionSignalListenerFactory<T>(
+      CompletionCallback completionCallback, boolean mono)
+      implements SignalListenerFactory<T, Void> {
+
+    @Override
+    public Void initializePublisherState(final Publisher<? extends T> source) {
+      return null;
+    }
+
+    @Override
+    public SignalListener<T> createListener(
+        final Publisher<? extends T> source, final ContextView listenerContext, final Void state) {
+      return new CompletionSignalListener<>(completionCallback, mono);
+    }
+  }
+
+  /**
+   * Time the subscription and count the elements, keeping only the element of a {@link Mono} as the
+   * return value, so no allocation is made per element.
+   *
+   * <p>The callback is invoked before the terminal signal is propagated downstream, or before the
+   * element of a {@link Mono} is, as it terminates the Mono.
+   */
+  private static final class CompletionSignalListener<T> extends DefaultSignalListener<T> {
+
+    private final CompletionCallback completionCallback;
+
+    private final boolean mono;
+
+    private long subscribeTime;
+
+    private long elementCount;
+
+    private Object element;
+
+    private boolean completed;
+
+    CompletionSignalListener(final CompletionCallback completionCallback, final boolean mono) {
+      this.completionCallback = completionCallback;
+      this.mono = mono;
+    }
+
+    @Override
+    public void doFirst() {
+      subscribeTime = System.nanoTime();
+    }
+
+    @Override
+    public void doOnNext(final T value) {
+      elementCount++;
+      if (mono) {
+        element = value;
+        complete(null);
+      }
+    }
+
+    @Override
+    public void doOnComplete() {
+      complete(null);
+    }
+
+    @Override
+    public void doOnError(final Throwable error) {
+      complete(error);
+    }
+
+    @Override
+    public void doOnCancel() {
+      complete(null, true);
+    }
+
+    private void complete(final Throwable exception) {
+      complete(exception, false);
+    }
+
+    private void complete(final Throwable exception, final boolean cancelled) {
+      if (completed) {
+        return;
+      }
+      completed = true;
+
+      final long elapsedTime = System.nanoTime() - subscribeTime;
+      completionCallback.completed(
+          elapsedTime,
+          mono ? element : elementCount + " elements",
+          elementCount,
+          exception,
+          cancelled);
+    }
+  }
+}
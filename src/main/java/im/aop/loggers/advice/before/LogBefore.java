@@ -31,4 +31,15 @@ public @interface LogBefore {
    * @return Entering message template
    */
   String enteringMessage() default "";
+
+  /**
+   * @return Ratio of invocations logged, greater than 0.0 and up to 1.0, or 0.0 to use the default
+   */
+  double sampleRate() default 0.0;
+
+  /**
+   * @return Maximum number of invocations logged per second, 0 to use the default, negative for
+   *     unlimited
+   */
+  long maxPerSecond() default 0;
 }
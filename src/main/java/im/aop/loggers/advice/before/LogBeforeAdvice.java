@@ -25,6 +25,9 @@ public class LogBeforeAdvice {
   void toStringMethod() {
   }
 
+  @Pointcut("@annotation(im.aop.loggers.advice.before.LogBefore)")
+  void logBeforeMethod() {}
+
   @Pointcut(value = "@annotation(logBefore)", argNames = "logBefore")
   void logBeforeMethodContext(final LogBefore logBefore) {
   }
@@ -32,7 +35,7 @@ public class LogBeforeAdvice {
   @Before(
       value = "publicMethod() && logBeforeMethodContext(logBefore)",
       argNames = "joinPoint, logBefore")
-  void logBeforeMethodContext(final JoinPoint joinPoint, final LogBefore logBefore) {
+  public void logBeforeMethodContext(final JoinPoint joinPoint, final LogBefore logBefore) {
     logBefore(joinPoint, logBefore);
   }
 
@@ -41,13 +44,18 @@ public class LogBeforeAdvice {
   }
 
   @Before(
-      value = "publicMethod() && !toStringMethod() && logBeforeClassContext(logBefore)",
+      value =
+          "publicMethod() && !toStringMethod() && !logBeforeMethod()"
+              + " && logBeforeClassContext(logBefore)",
       argNames = "joinPoint, logBefore")
-  void logBeforeClassContext(final JoinPoint joinPoint, final LogBefore logBefore) {
+  public void logBeforeClassContext(final JoinPoint joinPoint, final LogBefore logBefore) {
     logBefore(joinPoint, logBefore);
   }
 
   protected void logBefore(final JoinPoint joinPoint, final LogBefore logBefore) {
+    if (logBeforeService == null) {
+      return;
+    }
     logBeforeService.logBefore(joinPoint, logBefore);
   }
 }
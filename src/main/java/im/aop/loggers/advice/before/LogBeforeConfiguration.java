@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.before;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogBeforeConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogBeforeAdvice.class)
   public LogBeforeAdvice logBeforeAdvice() {
-    return new LogBeforeAdvice();
+    return AspectUtil.aspectOf(LogBeforeAdvice.class, LogBeforeAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogBeforeAdvice.class)
+  public LogBeforeInterceptor logBeforeInterceptor(
+      final ObjectProvider<LogBeforeService> logBeforeService) {
+    return new LogBeforeInterceptor(
+        new AnnotatedMethodResolver<>(LogBefore.class),
+        SingletonSupplier.of(logBeforeService::getObject));
   }
 
   @Bean
@@ -0,0 +1,30 @@
+package im.aop.loggers.advice.before;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Native method interceptor for {@link LogBefore}.
+ *
+ * @author Andy Lian
+ */
+public class LogBeforeInterceptor extends LogMethodInterceptor<LogBefore> {
+
+  private final Supplier<LogBeforeService> logBeforeService;
+
+  public LogBeforeInterceptor(
+      final AnnotatedMethodResolver<LogBefore> annotatedMethodResolver,
+      final Supplier<LogBeforeService> logBeforeService) {
+    super(annotatedMethodResolver);
+    this.logBeforeService = logBeforeService;
+  }
+
+  @Override
+  protected Object invoke(final MethodInvocation invocation, final LogBefore logBefore)
+      throws Throwable {
+    logBeforeService.get().logBefore(joinPoint(invocation), logBefore);
+    return invocation.proceed();
+  }
+}
@@ -24,13 +24,16 @@ public class LogBeforeCommitAdvice {
   @Pointcut("execution(String *.toString())")
   void toStringMethod() {}
 
+  @Pointcut("@annotation(im.aop.loggers.advice.beforecommit.LogBeforeCommit)")
+  void logBeforeCommitMethod() {}
+
   @Pointcut(value = "@annotation(logBeforeCommit)", argNames = "logBeforeCommit")
   void logBeforeCommitMethodContext(final LogBeforeCommit logBeforeCommit) {}
 
   @Before(
       value = "publicMethod() && logBeforeCommitMethodContext(logBeforeCommit)",
       argNames = "joinPoint, logBeforeCommit")
-  void logBeforeCommitMethodContext(
+  public void logBeforeCommitMethodContext(
       final JoinPoint joinPoint, final LogBeforeCommit logBeforeCommit) {
     logBeforeCommit(joinPoint, logBeforeCommit);
   }
@@ -39,15 +42,18 @@ public class LogBeforeCommitAdvice {
   void logBeforeCommitClassContext(final LogBeforeCommit logBeforeCommit) {}
 
   @Before(
-      value = "publicMethod() && !toStringMethod() && logBeforeCommitClassContext(logBeforeCommit)",
+      value =
+          "publicMethod() && !toStringMethod() && !logBeforeCommitMethod()"
+              + " && logBeforeCommitClassContext(logBeforeCommit)",
       argNames = "joinPoint, logBeforeCommit")
-  void logBeforeCommitClassContext(
+  public void logBeforeCommitClassContext(
       final JoinPoint joinPoint, final LogBeforeCommit logBeforeCommit) {
     logBeforeCommit(joinPoint, logBeforeCommit);
   }
 
   protected void logBeforeCommit(final JoinPoint joinPoint, final LogBeforeCommit logBeforeCommit) {
-    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+    if (logBeforeCommitService == null
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
       return;
     }
 
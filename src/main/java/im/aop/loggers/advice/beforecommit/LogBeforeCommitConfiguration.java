@@ -1,15 +1,34 @@
 package im.aop.loggers.advice.beforecommit;
 
+import im.aop.loggers.AdvisorType;
 import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.ConditionalOnAdvisorType;
+import im.aop.loggers.util.AspectUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
 
 @Configuration(proxyBeanMethods = false)
 public class LogBeforeCommitConfiguration {
 
   @Bean
+  @ConditionalOnAdvisorType(value = AdvisorType.ASPECTJ, aspect = LogBeforeCommitAdvice.class)
   public LogBeforeCommitAdvice logBeforeCommitAdvice() {
-    return new LogBeforeCommitAdvice();
+    return AspectUtil.aspectOf(LogBeforeCommitAdvice.class, LogBeforeCommitAdvice::new);
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnAdvisorType(value = AdvisorType.NATIVE, aspect = LogBeforeCommitAdvice.class)
+  public LogBeforeCommitInterceptor logBeforeCommitInterceptor(
+      final ObjectProvider<LogBeforeCommitService> logBeforeCommitService) {
+    return new LogBeforeCommitInterceptor(
+        new AnnotatedMethodResolver<>(LogBeforeCommit.class),
+        SingletonSupplier.of(logBeforeCommitService::getObject));
   }
 
   @Bean
@@ -0,0 +1,43 @@
+package im.aop.loggers.advice.beforecommit;
+
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogMethodInterceptor;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Native method interceptor for {@link LogBeforeCommit}.
+ *
+ * @author Andy Lian
+ */
+public class LogBeforeCommitInterceptor extends LogMethodInterceptor<LogBeforeCommit> {
+
+  private final Supplier<LogBeforeCommitService> logBeforeCommitService;
+
+  public LogBeforeCommitInterceptor(
+      final AnnotatedMethodResolver<LogBeforeCommit> annotatedMethodResolver,
+      final Supplier<LogBeforeCommitService> logBeforeCommitService) {
+    super(annotatedMethodResolver);
+    this.logBeforeCommitService = logBeforeCommitService;
+  }
+
+  @Override
+  protected Object invoke(final MethodInvocation invocation, final LogBeforeCommit logBeforeCommit)
+      throws Throwable {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      final JoinPoint joinPoint = joinPoint(invocation);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+              logBeforeCommitService.get().logBeforeCommit(joinPoint, logBeforeCommit);
+            }
+          });
+    }
+    return invocation.proceed();
+  }
+}
@@ -2,67 +2,82 @@ package im.aop.loggers.advice.beforecommit;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.advice.JoinPointDescriptorCache;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
 import im.aop.loggers.messageinterpolation.JoinPointStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
 import im.aop.loggers.messageinterpolation.StringSubstitutor;
 import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import im.aop.loggers.util.LoggerUtil;
-import java.time.Duration;
 import java.util.Objects;
 import org.aspectj.lang.JoinPoint;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class LogBeforeCommitService {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(LogBeforeCommitService.class);
-
   @Autowired private StringSubstitutor stringSubstitutor;
 
+  @Autowired(required = false)
+  private LogDispatcher logDispatcher = SynchronousLogDispatcher.INSTANCE;
+
+  @Autowired(required = false)
+  private AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+
   @Autowired private JoinPointStringSupplierRegistrar joinPointStringSupplierRegistrar;
 
   private final AopLoggersProperties aopLoggersProperties;
 
+  private final JoinPointDescriptorCache<LogBeforeCommit, LogBeforeCommitDescriptor>
+      descriptorCache;
+
   public LogBeforeCommitService(final AopLoggersProperties aopLoggersProperties) {
     this.aopLoggersProperties = Objects.requireNonNull(aopLoggersProperties);
+    this.descriptorCache =
+        new JoinPointDescriptorCache<>(aopLoggersProperties, this::createDescriptor);
   }
 
   public void logBeforeCommit(final JoinPoint joinPoint, final LogBeforeCommit annotation) {
-    final long startTime = System.nanoTime();
+    final AdviceStatistics statistics = aopLoggersStatistics.get(AdviceType.LOG_BEFORE_COMMIT);
+    statistics.recordInvocation();
 
-    final Logger logger = LoggerUtil.getLogger(annotation.declaringClass(), joinPoint);
-    final Level loggingLevel = getLoggingLevel(annotation.loggingLevel());
-    if (isLoggingLevelDisabled(logger, loggingLevel)) {
-      logElapsed(startTime);
+    final LogBeforeCommitDescriptor descriptor = descriptorCache.get(joinPoint, annotation);
+    if (isLoggingLevelDisabled(descriptor.logger(), descriptor.level())) {
+      statistics.recordSuppressed(1);
       return;
     }
 
     final StringSupplierLookup stringLookup = new StringSupplierLookup();
 
-    logMessage(joinPoint, loggingLevel, annotation.messageTemplate(), logger, stringLookup);
-    logElapsed(startTime);
+    final long renderStartTime = System.nanoTime();
+    logMessage(joinPoint, descriptor, stringLookup);
+    statistics.recordEmitted(System.nanoTime() - renderStartTime);
   }
 
-  private void logElapsed(long startTime) {
-    LOGGER.debug("[logBeforeCommit] elapsed [{}]", Duration.ofNanos(System.nanoTime() - startTime));
+  private LogBeforeCommitDescriptor createDescriptor(
+      final JoinPoint joinPoint, final LogBeforeCommit annotation) {
+    return new LogBeforeCommitDescriptor(
+        LoggerUtil.getLogger(annotation.declaringClass(), joinPoint),
+        getLoggingLevel(annotation.loggingLevel()),
+        getMessageTemplate(annotation.messageTemplate()));
   }
 
   private boolean isLoggingLevelDisabled(final Logger logger, final Level loggingLevel) {
-    return !LoggerUtil.isEnabled(logger, loggingLevel);
+    return !logDispatcher.isEnabled(logger, loggingLevel);
   }
 
   private void logMessage(
       final JoinPoint joinPoint,
-      final Level loggingLevel,
-      final String messageTemplate,
-      final Logger logger,
+      final LogBeforeCommitDescriptor descriptor,
       final StringSupplierLookup stringLookup) {
     joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
 
-    final String message =
-        stringSubstitutor.substitute(getMessageTemplate(messageTemplate), stringLookup);
-
-    LoggerUtil.log(logger, loggingLevel, message);
+    logDispatcher.dispatch(
+        descriptor.logger(), descriptor.level(), descriptor.messageTemplate(), stringLookup, null);
   }
 
   private Level getLoggingLevel(final Level loggingLevel) {
@@ -71,9 +86,10 @@ public class LogBeforeCommitService {
         : loggingLevel;
   }
 
-  private String getMessageTemplate(final String messageTemplate) {
-    return messageTemplate.isEmpty()
-        ? aopLoggersProperties.getCommittingTransactionMessage()
-        : messageTemplate;
+  private MessageTemplate getMessageTemplate(final String messageTemplate) {
+    return stringSubstitutor.compile(
+        messageTemplate.isEmpty()
+            ? aopLoggersProperties.getCommittingTransactionMessage()
+            : messageTemplate);
   }
 }
@@ -0,0 +1,212 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * {@link LogDispatcher} implementation capturing log events into a bounded buffer, logged by a
+ * dedicated thread, taking the message formatting and the appenders off the calling thread.
+ *
+ * <p>The variables of the message template, such as the method parameters and return value, are
+ * rendered when the event is dispatched, as they may be mutated by the calling thread afterward.
+ * The {@link MDC} of the calling thread is restored while logging the event.
+ *
+ * <p>Once stopped, or if the dedicated thread is interrupted, the log events are logged on the
+ * calling thread, after the ones left in the buffer.
+ *
+ * @author Andy Lian
+ */
+public class AsyncLogDispatcher implements LogDispatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLogDispatcher.class);
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+  private final AsyncLogDispatcherProperties properties;
+
+  private final LogDispatcher delegate;
+
+  private final BlockingQueue<LogEvent> buffer;
+
+  private final LongAdder droppedCount = new LongAdder();
+
+  private volatile boolean running;
+
+  private Thread dispatcherThread;
+
+  public AsyncLogDispatcher(final AsyncLogDispatcherProperties properties) {
+    this(properties, SynchronousLogDispatcher.INSTANCE);
+  }
+
+  /**
+   * @param properties configuration properties
+   * @param delegate logs the buffered log events on the dedicated thread
+   */
+  public AsyncLogDispatcher(
+      final AsyncLogDispatcherProperties properties, final LogDispatcher delegate) {
+    this.properties = Objects.requireNonNull(properties);
+    this.delegate = Objects.requireNonNull(delegate);
+    this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+  }
+
+  @PostConstruct
+  void start() {
+    running = true;
+    dispatcherThread = new Thread(this::dispatchLoop, "aop-loggers-dispatcher");
+    dispatcherThread.setDaemon(true);
+    dispatcherThread.start();
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    running = false;
+    dispatcherThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    drain();
+  }
+
+  @Override
+  public void dispatch(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    final LogEvent logEvent =
+        new LogEvent(
+            logger,
+            level,
+            messageTemplate,
+            stringLookup.renderedSnapshot(messageTemplate),
+            exception,
+            MDC.getCopyOfContextMap());
+
+    if (!running) {
+      logEvent.log(delegate);
+      return;
+    }
+    if (enqueue(logEvent) && !running) {
+      // Stopped while enqueuing, the dedicated thread may have drained the buffer already.
+      drain();
+    }
+  }
+
+  /**
+   * @return whether the log event was buffered, false if dropped
+   */
+  private boolean enqueue(final LogEvent logEvent) {
+    if (buffer.offer(logEvent)) {
+      return true;
+    }
+
+    if (isDropped(logEvent.level())) {
+      droppedCount.increment();
+      return false;
+    }
+    try {
+      buffer.put(logEvent);
+      return true;
+    } catch (InterruptedException e) {
+      droppedCount.increment();
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private boolean isDropped(final Level level) {
+    return switch (properties.getOverflowPolicy()) {
+      case BLOCK -> false;
+      case DROP_NEWEST -> true;
+      case DROP_BELOW_LEVEL -> level.compareTo(properties.getDropThresholdLevel()) < 0;
+    };
+  }
+
+  /**
+   * @return Number of log events dropped due to full buffer
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * @return Number of log events waiting to be logged
+   */
+  public int getPendingCount() {
+    return buffer.size();
+  }
+
+  private void dispatchLoop() {
+    // Keep draining the buffer after stop() until it is empty.
+    while (running || !buffer.isEmpty()) {
+      final LogEvent logEvent;
+      try {
+        logEvent = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        // Fall back to logging on the calling threads, so that no event is left in the buffer.
+        running = false;
+        drain();
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (logEvent != null) {
+        log(logEvent);
+      }
+    }
+  }
+
+  /** Log the events left in the buffer on the calling thread. */
+  private void drain() {
+    LogEvent logEvent;
+    while ((logEvent = buffer.poll()) != null) {
+      log(logEvent);
+    }
+  }
+
+  private void log(final LogEvent logEvent) {
+    try {
+      logEvent.log(delegate);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to log event", e);
+    }
+  }
+
+  private record LogEvent(
+      Logger logger,
+      Level level,
+      MessageTemplate messageTemplate,
+      StringSupplierLookup stringLookup,
+      Throwable exception,
+      Map<String, String> contextMap) {
+
+    void log(final LogDispatcher delegate) {
+      final Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+      setContextMap(contextMap);
+      try {
+        delegate.dispatch(logger, level, messageTemplate, stringLookup, exception);
+      } finally {
+        setContextMap(previousContextMap);
+      }
+    }
+
+    private static void setContextMap(final Map<String, String> contextMap) {
+      if (contextMap == null) {
+        MDC.clear();
+      } else {
+        MDC.setContextMap(contextMap);
+      }
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.Level;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for {@link AsyncLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = AsyncLogDispatcherProperties.PREFIX)
+public class AsyncLogDispatcherProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".async";
+
+  /** Whether to log messages on a dedicated thread */
+  private boolean enabled = false;
+
+  /** Maximum number of log events waiting to be logged */
+  @Min(1)
+  private int bufferSize = 1024;
+
+  /** Policy applied when the buffer is full */
+  @NotNull private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+  /** Log events below this level are dropped when the buffer is full, for DROP_BELOW_LEVEL */
+  @NotNull private Level dropThresholdLevel = Level.WARN;
+}
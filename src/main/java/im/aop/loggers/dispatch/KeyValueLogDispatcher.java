@@ -0,0 +1,44 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.util.LoggerUtil;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * {@link LogDispatcher} implementation logging the variables as key-value pairs of the log event
+ * with the SLF4J fluent API, on the calling thread.
+ *
+ * <p>Only the variables referenced by the message template are logged. The elapsed time and elapsed
+ * time limit are logged in nanoseconds as {@link Long}, the other variables are rendered into
+ * String. The message template is logged as is when it is not rendered, so the variables are only
+ * rendered once for the key-value pairs.
+ *
+ * @author Andy Lian
+ */
+public class KeyValueLogDispatcher implements LogDispatcher {
+
+  private final boolean renderMessage;
+
+  public KeyValueLogDispatcher(final boolean renderMessage) {
+    this.renderMessage = renderMessage;
+  }
+
+  @Override
+  public void dispatch(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    final LoggingEventBuilder loggingEventBuilder = LoggerUtil.atLevel(logger, level);
+    stringLookup.forEachKeyValue(messageTemplate, loggingEventBuilder::addKeyValue);
+    if (exception != null) {
+      loggingEventBuilder.setCause(exception);
+    }
+    loggingEventBuilder.log(
+        renderMessage ? messageTemplate.render(stringLookup) : messageTemplate.getTemplate());
+  }
+}
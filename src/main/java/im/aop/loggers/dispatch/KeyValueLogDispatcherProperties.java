@@ -0,0 +1,27 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.AopLoggersProperties;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for {@link KeyValueLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = KeyValueLogDispatcherProperties.PREFIX)
+public class KeyValueLogDispatcherProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".key-value";
+
+  /** Whether to log the variables as key-value pairs of the log event */
+  private boolean enabled = false;
+
+  /** Whether to render the message template, or log it as is without substituting the variables */
+  private boolean renderMessage = true;
+}
@@ -0,0 +1,51 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.util.LoggerUtil;
+import org.slf4j.Logger;
+
+/**
+ * Strategy interface used by the Log*Service to render a message and emit it to the {@link Logger}.
+ *
+ * @author Andy Lian
+ */
+public interface LogDispatcher {
+
+  /**
+   * Whether a message of the level may be dispatched for the Logger, checked by the Log*Service
+   * before collecting the variables of the message.
+   *
+   * @param logger Logger
+   * @param level Log Level
+   * @return true if enabled
+   */
+  default boolean isEnabled(final Logger logger, final Level level) {
+    return LoggerUtil.isEnabled(logger, level);
+  }
+
+  /**
+   * Render the message template and log it, the logging level is expected to be enabled.
+   *
+   * @param logger Logger
+   * @param level Log Level
+   * @param messageTemplate message template
+   * @param stringLookup variables of the message template
+   * @param exception exception to log with its backtrace, or null
+   */
+  void dispatch(
+      Logger logger,
+      Level level,
+      MessageTemplate messageTemplate,
+      StringSupplierLookup stringLookup,
+      Throwable exception);
+
+  /**
+   * Notify that an advised method exited abnormally, before its exited abnormally message, if any,
+   * is dispatched.
+   *
+   * @param exception exception thrown by the method
+   */
+  default void exitedAbnormally(final Throwable exception) {}
+}
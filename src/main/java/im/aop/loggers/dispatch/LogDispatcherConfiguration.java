@@ -0,0 +1,52 @@
+package im.aop.loggers.dispatch;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for {@link LogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({
+  AsyncLogDispatcherProperties.class,
+  KeyValueLogDispatcherProperties.class
+})
+public class LogDispatcherConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(
+      prefix = AsyncLogDispatcherProperties.PREFIX,
+      name = "enabled",
+      havingValue = "true")
+  public AsyncLogDispatcher asyncLogDispatcher(
+      final AsyncLogDispatcherProperties asyncLogDispatcherProperties,
+      final KeyValueLogDispatcherProperties keyValueLogDispatcherProperties) {
+    return new AsyncLogDispatcher(
+        asyncLogDispatcherProperties,
+        keyValueLogDispatcherProperties.isEnabled()
+            ? new KeyValueLogDispatcher(keyValueLogDispatcherProperties.isRenderMessage())
+            : SynchronousLogDispatcher.INSTANCE);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean({LogDispatcher.class})
+  @ConditionalOnProperty(
+      prefix = KeyValueLogDispatcherProperties.PREFIX,
+      name = "enabled",
+      havingValue = "true")
+  public KeyValueLogDispatcher keyValueLogDispatcher(
+      final KeyValueLogDispatcherProperties keyValueLogDispatcherProperties) {
+    return new KeyValueLogDispatcher(keyValueLogDispatcherProperties.isRenderMessage());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean({LogDispatcher.class})
+  public SynchronousLogDispatcher synchronousLogDispatcher() {
+    return new SynchronousLogDispatcher();
+  }
+}
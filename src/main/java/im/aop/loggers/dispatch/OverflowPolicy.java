@@ -0,0 +1,18 @@
+package im.aop.loggers.dispatch;
+
+/**
+ * Policy applied by {@link AsyncLogDispatcher} when its buffer is full.
+ *
+ * @author Andy Lian
+ */
+public enum OverflowPolicy {
+
+  /** Block the calling thread until there is room in the buffer */
+  BLOCK,
+
+  /** Drop the new log event */
+  DROP_NEWEST,
+
+  /** Drop the new log event if its level is below the drop threshold level, block otherwise */
+  DROP_BELOW_LEVEL
+}
@@ -0,0 +1,32 @@
+package im.aop.loggers.dispatch;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.util.LoggerUtil;
+import org.slf4j.Logger;
+
+/**
+ * {@link LogDispatcher} implementation rendering and logging the message on the calling thread.
+ *
+ * @author Andy Lian
+ */
+public class SynchronousLogDispatcher implements LogDispatcher {
+
+  public static final SynchronousLogDispatcher INSTANCE = new SynchronousLogDispatcher();
+
+  @Override
+  public void dispatch(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    final String message = messageTemplate.render(stringLookup);
+    if (exception == null) {
+      LoggerUtil.log(logger, level, message);
+    } else {
+      LoggerUtil.logException(logger, level, message, exception);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package im.aop.loggers.exception;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for {@link ExceptionDeduplicator} and {@link LoggedExceptions}.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({ExceptionDeduplicationProperties.class})
+public class ExceptionDeduplicationConfiguration {
+
+  @Bean
+  public LoggedExceptions loggedExceptions() {
+    return new LoggedExceptions();
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      prefix = ExceptionDeduplicationProperties.PREFIX,
+      name = "enabled",
+      havingValue = "true")
+  public ExceptionDeduplicator exceptionDeduplicator(
+      final ExceptionDeduplicationProperties exceptionDeduplicationProperties) {
+    return new ExceptionDeduplicator(exceptionDeduplicationProperties);
+  }
+}
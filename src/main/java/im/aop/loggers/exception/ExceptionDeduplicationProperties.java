@@ -0,0 +1,40 @@
+package im.aop.loggers.exception;
+
+import im.aop.loggers.AopLoggersProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for {@link ExceptionDeduplicator}.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = ExceptionDeduplicationProperties.PREFIX)
+public class ExceptionDeduplicationProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".exception-deduplication";
+
+  /** Whether to suppress the exited abnormally messages of identical exceptions */
+  private boolean enabled = false;
+
+  /** Period of the summaries of the identical exceptions suppressed */
+  @NotNull private Duration window = Duration.ofSeconds(10);
+
+  /** Maximum number of distinct exceptions tracked, the least recently seen being evicted */
+  @Min(1)
+  private int maxEntries = 1024;
+
+  /** Summary message template of the identical exceptions suppressed */
+  @NotBlank
+  private String summaryMessage =
+      "[{method}] suppressed [{suppressed-count}] identical exceptions [{exception}]";
+}
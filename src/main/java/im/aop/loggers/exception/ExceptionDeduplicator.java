@@ -0,0 +1,263 @@
+package im.aop.loggers.exception;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deduplicate the exceptions logged by a join point, identical exceptions being of the same type
+ * and thrown from the same stack trace, so that an exception storm is logged once in full followed
+ * by periodic summaries of the occurrences suppressed.
+ *
+ * <p>The first occurrence of an exception is logged, then its occurrences are suppressed until the
+ * window elapsed. The next occurrence starts a new window: if occurrences were suppressed in the
+ * previous window, a summary counting them along with this occurrence is logged in its place,
+ * otherwise, or if no occurrence was seen for another window, it is logged in full again.
+ *
+ * <p>As the last window of a storm has no next occurrence, the pending summaries are also flushed
+ * every window by a dedicated thread, through the summarizer of the last occurrence suppressed.
+ * They are flushed as well when the exception is evicted from the bounded least recently used cache
+ * tracking them, and once stopped.
+ *
+ * @author Andy Lian
+ */
+public class ExceptionDeduplicator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExceptionDeduplicator.class);
+
+  private static final int MAX_CAUSE_DEPTH = 16;
+
+  private final ExceptionDeduplicationProperties properties;
+
+  /** Guarded by itself, in access order, the least recently seen exception first. */
+  private final Map<OccurrenceKey, OccurrenceCounter> counters =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  private ScheduledExecutorService scheduler;
+
+  public ExceptionDeduplicator(final ExceptionDeduplicationProperties properties) {
+    this.properties = Objects.requireNonNull(properties);
+  }
+
+  @PostConstruct
+  void start() {
+    final long windowNanos = properties.getWindow().toNanos();
+    if (windowNanos <= 0) {
+      // Nothing is ever suppressed.
+      return;
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "aop-loggers-exception-deduplicator");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleAtFixedRate(
+        () -> flush(System.nanoTime()), windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    final List<Summary> summaries = new ArrayList<>();
+    synchronized (counters) {
+      for (OccurrenceCounter counter : counters.values()) {
+        addSummary(summaries, counter.flush(0));
+      }
+      counters.clear();
+    }
+    summarize(summaries);
+  }
+
+  /**
+   * Record an occurrence of the exception thrown by the method.
+   *
+   * @param method method of the join point
+   * @param exception exception thrown
+   * @param summarizer logs the summary of the occurrences suppressed, if flushed before the next
+   *     occurrence
+   * @return whether the occurrence is logged in full, and the number of occurrences to summarize
+   */
+  public Occurrence occur(
+      final Method method, final Throwable exception, final LongConsumer summarizer) {
+    return occur(method, exception, summarizer, System.nanoTime());
+  }
+
+  Occurrence occur(
+      final Method method,
+      final Throwable exception,
+      final LongConsumer summarizer,
+      final long time) {
+    final OccurrenceKey key =
+        new OccurrenceKey(method, exception.getClass(), fingerprint(exception));
+    final List<Summary> summaries = new ArrayList<>(1);
+    final Occurrence occurrence;
+    synchronized (counters) {
+      OccurrenceCounter counter = counters.get(key);
+      if (counter == null) {
+        counter = new OccurrenceCounter();
+        counters.put(key, counter);
+        if (counters.size() > properties.getMaxEntries()) {
+          final Iterator<OccurrenceCounter> eldest = counters.values().iterator();
+          addSummary(summaries, eldest.next().flush(time));
+          eldest.remove();
+        }
+      }
+      occurrence = counter.occur(time, properties.getWindow().toNanos(), summarizer);
+    }
+    summarize(summaries);
+    return occurrence;
+  }
+
+  /**
+   * Summarize the occurrences suppressed of the exceptions whose window elapsed, and forget the
+   * ones not seen for a whole window.
+   *
+   * @param time current time, in nanoseconds
+   */
+  void flush(final long time) {
+    final long windowNanos = properties.getWindow().toNanos();
+    final List<Summary> summaries = new ArrayList<>();
+    synchronized (counters) {
+      final Iterator<OccurrenceCounter> iterator = counters.values().iterator();
+      while (iterator.hasNext()) {
+        final OccurrenceCounter counter = iterator.next();
+        if (time - counter.windowStartTime < windowNanos) {
+          continue;
+        }
+        if (counter.suppressedCount > 0) {
+          addSummary(summaries, counter.flush(time));
+        } else {
+          // The next occurrence is logged in full anyway.
+          iterator.remove();
+        }
+      }
+    }
+    summarize(summaries);
+  }
+
+  private static void addSummary(final List<Summary> summaries, final Summary summary) {
+    if (summary != null) {
+      summaries.add(summary);
+    }
+  }
+
+  /** Log the summaries, outside of the lock of the counters. */
+  private static void summarize(final List<Summary> summaries) {
+    for (Summary summary : summaries) {
+      try {
+        summary.summarizer().accept(summary.suppressedCount());
+      } catch (RuntimeException e) {
+        LOGGER.warn("Failed to log the summary of the identical exceptions suppressed", e);
+      }
+    }
+  }
+
+  /**
+   * @return Summary message template of the identical exceptions suppressed
+   */
+  public String getSummaryMessage() {
+    return properties.getSummaryMessage();
+  }
+
+  /**
+   * Fingerprint of the stack trace of the exception and its causes, ignoring the messages. The
+   * cause chain is bounded, as it may be cyclic.
+   *
+   * @param exception exception to fingerprint
+   * @return fingerprint
+   */
+  static int fingerprint(final Throwable exception) {
+    int fingerprint = 1;
+    Throwable cause = exception;
+    for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+      fingerprint = 31 * fingerprint + cause.getClass().hashCode();
+      for (StackTraceElement element : cause.getStackTrace()) {
+        fingerprint = 31 * fingerprint + element.hashCode();
+      }
+      cause = cause.getCause();
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Outcome of an occurrence.
+   *
+   * @param logged whether the occurrence is logged in full
+   * @param suppressedCount number of occurrences suppressed to log a summary of, 0 for none
+   */
+  public record Occurrence(boolean logged, long suppressedCount) {
+
+    static final Occurrence SUPPRESSED = new Occurrence(false, 0);
+
+    static final Occurrence FIRST = new Occurrence(true, 0);
+  }
+
+  private record OccurrenceKey(Method method, Class<?> exceptionType, int fingerprint) {}
+
+  private record Summary(LongConsumer summarizer, long suppressedCount) {}
+
+  /** Guarded by the counters of the deduplicator. */
+  private static final class OccurrenceCounter {
+
+    private boolean seen;
+
+    private long windowStartTime;
+
+    private long suppressedCount;
+
+    private LongConsumer summarizer;
+
+    Occurrence occur(final long time, final long windowNanos, final LongConsumer summarizer) {
+      if (!seen) {
+        seen = true;
+        windowStartTime = time;
+        return Occurrence.FIRST;
+      }
+
+      final long elapsedTime = time - windowStartTime;
+      if (elapsedTime < windowNanos) {
+        suppressedCount++;
+        this.summarizer = summarizer;
+        return Occurrence.SUPPRESSED;
+      }
+
+      final long previousSuppressedCount = suppressedCount;
+      windowStartTime = time;
+      suppressedCount = 0;
+      this.summarizer = null;
+      if (previousSuppressedCount > 0 && elapsedTime - windowNanos < windowNanos) {
+        return new Occurrence(false, previousSuppressedCount + 1);
+      }
+      return new Occurrence(true, previousSuppressedCount);
+    }
+
+    /**
+     * Start a new window, without any occurrence.
+     *
+     * @return summary of the occurrences suppressed in the previous window, null for none
+     */
+    Summary flush(final long time) {
+      final Summary summary = suppressedCount > 0 ? new Summary(summarizer, suppressedCount) : null;
+      windowStartTime = time;
+      suppressedCount = 0;
+      summarizer = null;
+      return summary;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package im.aop.loggers.exception;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Set of the exceptions logged with their stack trace by the annotated methods of the calling
+ * thread, so that an exception propagating through nested annotated methods is recognized by the
+ * outer ones. The exceptions are compared by identity.
+ *
+ * <p>The exceptions are only marked within the scope opened by {@link #enter()} when an annotated
+ * method is invoked, and are forgotten when the outermost annotated method exits, so that an
+ * exception instance thrown again later is not considered as already logged.
+ *
+ * @author Andy Lian
+ */
+public class LoggedExceptions {
+
+  private static final int MAX_CAUSE_DEPTH = 16;
+
+  private final ThreadLocal<Scope> scopes = ThreadLocal.withInitial(Scope::new);
+
+  private static final class Scope {
+
+    private int depth;
+
+    private Set<Throwable> exceptions;
+  }
+
+  /** Open the scope of an annotated method invoked by the calling thread. */
+  public void enter() {
+    scopes.get().depth++;
+  }
+
+  /**
+   * Close the scope opened by {@link #enter()}, forgetting the exceptions marked when the outermost
+   * scope is closed.
+   */
+  public void exit() {
+    final Scope scope = scopes.get();
+    if (scope.depth == 0) {
+      return;
+    }
+    scope.depth--;
+    if (scope.depth == 0 && scope.exceptions != null) {
+      scope.exceptions.clear();
+    }
+  }
+
+  /**
+   * @param exception exception about to be logged
+   * @return whether the exception, or one of its causes, was marked as logged in the current scope
+   */
+  public boolean isLogged(final Throwable exception) {
+    final Set<Throwable> exceptions = scopes.get().exceptions;
+    if (exceptions == null || exceptions.isEmpty()) {
+      return false;
+    }
+
+    Throwable cause = exception;
+    for (int depth = 0; cause != null && depth <= MAX_CAUSE_DEPTH; depth++) {
+      if (exceptions.contains(cause)) {
+        return true;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+  /**
+   * Mark the exception as logged with its stack trace, until the outermost scope is closed. Ignored
+   * outside of a scope.
+   *
+   * @param exception exception logged
+   */
+  public void markLogged(final Throwable exception) {
+    final Scope scope = scopes.get();
+    if (scope.depth == 0) {
+      return;
+    }
+    if (scope.exceptions == null) {
+      scope.exceptions = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+    scope.exceptions.add(exception);
+  }
+}
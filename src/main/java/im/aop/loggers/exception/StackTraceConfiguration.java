@@ -0,0 +1,25 @@
+package im.aop.loggers.exception;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for {@link StackTraceRenderer}.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({StackTraceProperties.class})
+public class StackTraceConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(
+      prefix = StackTraceProperties.PREFIX,
+      name = "enabled",
+      havingValue = "true")
+  public StackTraceRenderer stackTraceRenderer(final StackTraceProperties stackTraceProperties) {
+    return new StackTraceRenderer(stackTraceProperties);
+  }
+}
@@ -0,0 +1,52 @@
+package im.aop.loggers.exception;
+
+import im.aop.loggers.AopLoggersProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for {@link StackTraceRenderer}.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = StackTraceProperties.PREFIX)
+public class StackTraceProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".stack-trace";
+
+  /** Whether to render the stack traces into the messages, instead of the logging backend */
+  private boolean enabled = false;
+
+  /** Maximum number of frames rendered per exception, the following frames being omitted */
+  @Min(1)
+  private int maxDepth = 64;
+
+  /**
+   * Maximum number of causes rendered, the following causes being omitted, and maximum number of
+   * suppressed exceptions rendered with their causes
+   */
+  @Min(0)
+  private int maxCauses = 8;
+
+  /** Packages of the frames collapsed into a count, along with the CGLIB generated classes */
+  @NotNull
+  private String[] collapsedPackages =
+      new String[] {
+        "org.springframework.aop.",
+        "org.springframework.cglib.",
+        "java.lang.reflect.",
+        "jdk.internal.reflect.",
+        "sun.reflect."
+      };
+
+  /** Maximum number of rendered stack traces cached, the least recently used being evicted */
+  @Min(1)
+  private int cacheSize = 256;
+}
@@ -0,0 +1,317 @@
+package im.aop.loggers.exception;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Render the stack trace of an exception and its causes, in the format of {@link
+ * Throwable#printStackTrace()}, trimmed for logging: the frames of the configured packages and of
+ * the CGLIB generated classes are collapsed into a count, the frames beyond the maximum depth and
+ * the causes beyond the maximum number of causes are omitted.
+ *
+ * <p>The suppressed exceptions are rendered after the frames of the exception suppressing them,
+ * with their causes and their own suppressed exceptions, up to the maximum number of causes in
+ * total, the others being counted.
+ *
+ * <p>The frames are rendered once per distinct stack trace and cached, so that a repeated exception
+ * only renders the class and message of the exception and its causes. The frames of the suppressed
+ * exceptions are not cached.
+ *
+ * @author Andy Lian
+ */
+public class StackTraceRenderer {
+
+  /** Template of the rendered stack trace, appended to the message templates on a new line. */
+  public static final String STACK_TRACE_TEMPLATE = System.lineSeparator() + "{stack-trace}";
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private static final String CGLIB_CLASS_SEPARATOR = "$$";
+
+  private final StackTraceProperties properties;
+
+  private final ConcurrentLruCache<StackTraceKey, String[]> renderedFrames;
+
+  public StackTraceRenderer(final StackTraceProperties properties) {
+    this.properties = Objects.requireNonNull(properties);
+    this.renderedFrames = new ConcurrentLruCache<>(properties.getCacheSize(), this::renderFrames);
+  }
+
+  /**
+   * Render the stack trace of the exception and its causes.
+   *
+   * @param exception exception to render
+   * @return rendered stack trace, without trailing line separator
+   */
+  public String render(final Throwable exception) {
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<Throwable> causeChain = new ArrayList<>();
+    Throwable cause = exception;
+    while (cause != null && causeChain.size() <= properties.getMaxCauses() && visited.add(cause)) {
+      causeChain.add(cause);
+      cause = cause.getCause();
+    }
+    final Throwable circularCause = cause != null && visited.contains(cause) ? cause : null;
+    int omittedCauses = 0;
+    while (cause != null && visited.add(cause)) {
+      omittedCauses++;
+      cause = cause.getCause();
+    }
+
+    final StackTraceElement[][] stackTraces = new StackTraceElement[causeChain.size()][];
+    for (int index = 0; index < stackTraces.length; index++) {
+      stackTraces[index] = causeChain.get(index).getStackTrace();
+    }
+    final String[] frames = renderedFrames.get(new StackTraceKey(stackTraces));
+
+    final StringBuilder builder = new StringBuilder();
+    int remainingSuppressed = properties.getMaxCauses();
+    for (int index = 0; index < frames.length; index++) {
+      if (index > 0) {
+        builder.append(LINE_SEPARATOR).append("Caused by: ");
+      }
+      builder.append(causeChain.get(index)).append(frames[index]);
+      remainingSuppressed =
+          appendSuppressed(
+              builder,
+              causeChain.get(index),
+              stackTraces[index],
+              "\t",
+              visited,
+              remainingSuppressed);
+    }
+    if (circularCause != null) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append("Caused by: [CIRCULAR REFERENCE: ")
+          .append(circularCause)
+          .append(']');
+    }
+    if (omittedCauses > 0) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append("\t... ")
+          .append(omittedCauses)
+          .append(" causes omitted");
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Render the suppressed exceptions of the exception, as by {@link Throwable#printStackTrace()},
+   * each line preceded by a line separator and the prefix.
+   *
+   * @param remaining number of suppressed exceptions and causes of them that may still be rendered
+   * @return number of suppressed exceptions and causes of them that may still be rendered afterward
+   */
+  private int appendSuppressed(
+      final StringBuilder builder,
+      final Throwable exception,
+      final StackTraceElement[] enclosingStackTrace,
+      final String prefix,
+      final Set<Throwable> visited,
+      final int remaining) {
+    final Throwable[] suppressedExceptions = exception.getSuppressed();
+    int remainingAfterward = remaining;
+    int index = 0;
+    for (; index < suppressedExceptions.length && remainingAfterward > 0; index++) {
+      remainingAfterward =
+          appendEnclosed(
+              builder,
+              suppressedExceptions[index],
+              enclosingStackTrace,
+              "Suppressed: ",
+              prefix,
+              visited,
+              remainingAfterward);
+    }
+    if (index < suppressedExceptions.length) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append(prefix)
+          .append("... ")
+          .append(suppressedExceptions.length - index)
+          .append(" suppressed omitted");
+    }
+    return remainingAfterward;
+  }
+
+  private int appendEnclosed(
+      final StringBuilder builder,
+      final Throwable exception,
+      final StackTraceElement[] enclosingStackTrace,
+      final String caption,
+      final String prefix,
+      final Set<Throwable> visited,
+      final int remaining) {
+    if (!visited.add(exception)) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append(prefix)
+          .append(caption)
+          .append("[CIRCULAR REFERENCE: ")
+          .append(exception)
+          .append(']');
+      return remaining;
+    }
+
+    final StackTraceElement[] stackTrace = exception.getStackTrace();
+    builder
+        .append(LINE_SEPARATOR)
+        .append(prefix)
+        .append(caption)
+        .append(exception)
+        .append(
+            renderFrames(stackTrace, enclosingStackTrace)
+                .replace(LINE_SEPARATOR, LINE_SEPARATOR + prefix));
+    int remainingAfterward =
+        appendSuppressed(builder, exception, stackTrace, prefix + "\t", visited, remaining - 1);
+
+    final Throwable cause = exception.getCause();
+    if (cause == null) {
+      return remainingAfterward;
+    }
+    if (remainingAfterward > 0) {
+      return appendEnclosed(
+          builder, cause, stackTrace, "Caused by: ", prefix, visited, remainingAfterward);
+    }
+    int omittedCauses = 0;
+    for (Throwable omitted = cause; omitted != null && visited.add(omitted); ) {
+      omittedCauses++;
+      omitted = omitted.getCause();
+    }
+    if (omittedCauses > 0) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append(prefix)
+          .append("\t... ")
+          .append(omittedCauses)
+          .append(" causes omitted");
+    }
+    return remainingAfterward;
+  }
+
+  /**
+   * Render the frames of each stack trace, each line preceded by a line separator. The frames in
+   * common with the enclosing stack trace are counted, as by {@link Throwable#printStackTrace()}.
+   */
+  private String[] renderFrames(final StackTraceKey key) {
+    final StackTraceElement[][] stackTraces = key.stackTraces();
+    final String[] frames = new String[stackTraces.length];
+    for (int index = 0; index < stackTraces.length; index++) {
+      frames[index] = renderFrames(stackTraces[index], index > 0 ? stackTraces[index - 1] : null);
+    }
+    return frames;
+  }
+
+  private String renderFrames(
+      final StackTraceElement[] stackTrace, final StackTraceElement[] enclosingStackTrace) {
+    final int framesInCommon = framesInCommon(stackTrace, enclosingStackTrace);
+    final int frameCount = stackTrace.length - framesInCommon;
+
+    final StringBuilder builder = new StringBuilder();
+    int renderedFrames = 0;
+    int collapsedFrames = 0;
+    int index = 0;
+    for (; index < frameCount && renderedFrames < properties.getMaxDepth(); index++) {
+      final StackTraceElement frame = stackTrace[index];
+      if (isCollapsed(frame)) {
+        collapsedFrames++;
+        continue;
+      }
+      appendCollapsedFrames(builder, collapsedFrames);
+      collapsedFrames = 0;
+      builder.append(LINE_SEPARATOR).append("\tat ").append(frame);
+      renderedFrames++;
+    }
+    appendCollapsedFrames(builder, collapsedFrames);
+
+    if (index < frameCount) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append("\t... ")
+          .append(frameCount - index)
+          .append(" frames omitted");
+    }
+    if (framesInCommon > 0) {
+      builder.append(LINE_SEPARATOR).append("\t... ").append(framesInCommon).append(" more");
+    }
+    return builder.toString();
+  }
+
+  private static int framesInCommon(
+      final StackTraceElement[] stackTrace, final StackTraceElement[] enclosingStackTrace) {
+    if (enclosingStackTrace == null) {
+      return 0;
+    }
+
+    int index = stackTrace.length - 1;
+    int enclosingIndex = enclosingStackTrace.length - 1;
+    while (index >= 0
+        && enclosingIndex >= 0
+        && stackTrace[index].equals(enclosingStackTrace[enclosingIndex])) {
+      index--;
+      enclosingIndex--;
+    }
+    return stackTrace.length - 1 - index;
+  }
+
+  private boolean isCollapsed(final StackTraceElement frame) {
+    final String className = frame.getClassName();
+    if (className.contains(CGLIB_CLASS_SEPARATOR)) {
+      return true;
+    }
+    for (String collapsedPackage : properties.getCollapsedPackages()) {
+      if (className.startsWith(collapsedPackage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void appendCollapsedFrames(
+      final StringBuilder builder, final int collapsedFrames) {
+    if (collapsedFrames > 0) {
+      builder
+          .append(LINE_SEPARATOR)
+          .append("\t... ")
+          .append(collapsedFrames)
+          .append(" frames collapsed");
+    }
+  }
+
+  /** Stack traces of an exception and its causes, compared by their frames. */
+  private static final class StackTraceKey {
+
+    private final StackTraceElement[][] stackTraces;
+
+    private final int hashCode;
+
+    StackTraceKey(final StackTraceElement[][] stackTraces) {
+      this.stackTraces = stackTraces;
+      this.hashCode = Arrays.deepHashCode(stackTraces);
+    }
+
+    StackTraceElement[][] stackTraces() {
+      return stackTraces;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof StackTraceKey key
+          && hashCode == key.hashCode
+          && Arrays.deepEquals(stackTraces, key.stackTraces);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package im.aop.loggers.index;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.springframework.aop.ClassFilter;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of the classes annotated with the AOP Loggers annotations, or declaring methods annotated
+ * with them, as generated at build time by {@link AopLoggersIndexProcessor}.
+ *
+ * <p>Each index file lists one class per line, mapped to the comma separated names of the
+ * annotations found on the class or its methods. The index files of all the jars on the classpath
+ * are merged.
+ *
+ * @author Andy Lian
+ */
+public final class AopLoggersIndex {
+
+  /** Location of the index files. */
+  public static final String INDEX_LOCATION = "META-INF/aop-loggers.index";
+
+  private final Map<String, Set<String>> annotationNames;
+
+  AopLoggersIndex(final Map<String, Set<String>> annotationNames) {
+    this.annotationNames = annotationNames;
+  }
+
+  /**
+   * Load and merge the index files found by the class loader.
+   *
+   * @param classLoader class loader to load the index files with, null for the default
+   * @return index, or null if there is no index file
+   */
+  public static AopLoggersIndex load(final ClassLoader classLoader) {
+    final ClassLoader resolvedClassLoader =
+        classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+    try {
+      final Enumeration<URL> urls = resolvedClassLoader.getResources(INDEX_LOCATION);
+      if (!urls.hasMoreElements()) {
+        return null;
+      }
+
+      final Map<String, Set<String>> annotationNames = new HashMap<>();
+      while (urls.hasMoreElements()) {
+        final Properties properties =
+            PropertiesLoaderUtils.loadProperties(
+                new EncodedResource(new UrlResource(urls.nextElement()), StandardCharsets.UTF_8));
+        for (String typeName : properties.stringPropertyNames()) {
+          annotationNames
+              .computeIfAbsent(typeName, key -> new HashSet<>())
+              .addAll(StringUtils.commaDelimitedListToSet(properties.getProperty(typeName)));
+        }
+      }
+      return new AopLoggersIndex(annotationNames);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Unable to load indexes from location [" + INDEX_LOCATION + "]", e);
+    }
+  }
+
+  /**
+   * Whether the type could be advised for the annotation, i.e. the type, one of its super classes
+   * or one of its interfaces is listed with the annotation.
+   *
+   * @param type type to check
+   * @param annotationType annotation type
+   * @return true if listed
+   */
+  public boolean isCandidate(
+      final Class<?> type, final Class<? extends Annotation> annotationType) {
+    final String annotationName = annotationType.getName();
+    for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+      if (isListed(clazz, annotationName)) {
+        return true;
+      }
+    }
+    for (Class<?> interfaceType : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+      if (isListed(interfaceType, annotationName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isListed(final Class<?> type, final String annotationName) {
+    final Set<String> names = annotationNames.get(type.getName());
+    return names != null && names.contains(annotationName);
+  }
+
+  /**
+   * Return a {@link ClassFilter} matching the candidate types for the annotation.
+   *
+   * @param annotationType annotation type
+   * @return class filter
+   */
+  public ClassFilter classFilter(final Class<? extends Annotation> annotationType) {
+    return type -> isCandidate(type, annotationType);
+  }
+}
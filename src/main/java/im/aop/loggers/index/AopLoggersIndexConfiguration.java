@@ -0,0 +1,30 @@
+package im.aop.loggers.index;
+
+import im.aop.loggers.AopLoggersProperties;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.io.ResourceLoader;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+    prefix = AopLoggersProperties.PREFIX,
+    name = "use-index",
+    havingValue = "true")
+public class AopLoggersIndexConfiguration {
+
+  @Bean
+  public static AopLoggersIndexPostProcessor aopLoggersIndexPostProcessor() {
+    return new AopLoggersIndexPostProcessor();
+  }
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  @ConditionalOnResource(resources = "classpath:" + AopLoggersIndex.INDEX_LOCATION)
+  public AopLoggersIndex aopLoggersIndex(final ResourceLoader resourceLoader) {
+    return AopLoggersIndex.load(resourceLoader.getClassLoader());
+  }
+}
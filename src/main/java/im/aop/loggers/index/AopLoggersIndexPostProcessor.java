@@ -0,0 +1,50 @@
+package im.aop.loggers.index;
+
+import org.springframework.aop.aspectj.annotation.AnnotationAwareAspectJAutoProxyCreator;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * {@link BeanFactoryPostProcessor} configuring the {@link AnnotationAwareAspectJAutoProxyCreator}
+ * with an {@link IndexedAspectJAdvisorFactory} when an {@link AopLoggersIndex} is found on the
+ * classpath.
+ *
+ * <p>The auto proxy creator is left as is if it is not the one registered by {@link
+ * org.springframework.context.annotation.EnableAspectJAutoProxy}, or if it was already configured
+ * with an advisor factory.
+ *
+ * @author Andy Lian
+ */
+public class AopLoggersIndexPostProcessor implements BeanFactoryPostProcessor {
+
+  private static final String ASPECTJ_ADVISOR_FACTORY_PROPERTY = "aspectJAdvisorFactory";
+
+  @Override
+  public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory)
+      throws BeansException {
+    if (!beanFactory.containsBeanDefinition(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME)) {
+      return;
+    }
+
+    final BeanDefinition beanDefinition =
+        beanFactory.getBeanDefinition(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME);
+    final MutablePropertyValues propertyValues = beanDefinition.getPropertyValues();
+    if (!AnnotationAwareAspectJAutoProxyCreator.class
+            .getName()
+            .equals(beanDefinition.getBeanClassName())
+        || propertyValues.contains(ASPECTJ_ADVISOR_FACTORY_PROPERTY)) {
+      return;
+    }
+
+    final AopLoggersIndex aopLoggersIndex = AopLoggersIndex.load(beanFactory.getBeanClassLoader());
+    if (aopLoggersIndex != null) {
+      propertyValues.add(
+          ASPECTJ_ADVISOR_FACTORY_PROPERTY,
+          new IndexedAspectJAdvisorFactory(beanFactory, aopLoggersIndex));
+    }
+  }
+}
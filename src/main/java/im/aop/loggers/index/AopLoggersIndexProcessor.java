@@ -0,0 +1,167 @@
+package im.aop.loggers.index;
+
+import im.aop.loggers.advice.aftercommit.LogAfterCommit;
+import im.aop.loggers.advice.afterreturning.LogAfterReturning;
+import im.aop.loggers.advice.afterrollback.LogAfterRollback;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowing;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.before.LogBefore;
+import im.aop.loggers.advice.beforecommit.LogBeforeCommit;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the {@link AopLoggersIndex} of the classes annotated with the AOP
+ * Loggers annotations, or declaring methods annotated with them.
+ *
+ * <p>The index of a previous build is merged on incremental compilation, keeping the entries of the
+ * classes not compiled again.
+ *
+ * @author Andy Lian
+ */
+public class AopLoggersIndexProcessor extends AbstractProcessor {
+
+  private static final Set<String> ANNOTATION_NAMES =
+      Set.of(
+          LogAround.class.getName(),
+          LogBefore.class.getName(),
+          LogAfterReturning.class.getName(),
+          LogAfterThrowing.class.getName(),
+          LogBeforeCommit.class.getName(),
+          LogAfterCommit.class.getName(),
+          LogAfterRollback.class.getName());
+
+  private final Map<String, Set<String>> annotationNames = new TreeMap<>();
+
+  private final Set<String> processedTypeNames = new HashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return ANNOTATION_NAMES;
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (Element rootElement : roundEnv.getRootElements()) {
+      if (rootElement instanceof TypeElement typeElement) {
+        processedTypeNames.add(binaryName(typeElement));
+      }
+    }
+
+    for (TypeElement annotation : annotations) {
+      final String annotationName = annotation.getQualifiedName().toString();
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        final Element typeElement =
+            element.getKind() == ElementKind.METHOD ? element.getEnclosingElement() : element;
+        if (typeElement instanceof TypeElement type
+            && type.getKind() != ElementKind.ANNOTATION_TYPE) {
+          annotationNames
+              .computeIfAbsent(binaryName(type), key -> new TreeSet<>())
+              .add(annotationName);
+        }
+      }
+    }
+
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private String binaryName(final TypeElement typeElement) {
+    return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+  }
+
+  private void writeIndex() {
+    final boolean previousIndexMerged = mergePreviousIndex();
+    if (annotationNames.isEmpty() && !previousIndexMerged) {
+      return;
+    }
+
+    try {
+      final FileObject resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", AopLoggersIndex.INDEX_LOCATION);
+      try (Writer writer =
+          new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+        for (Map.Entry<String, Set<String>> entry : annotationNames.entrySet()) {
+          writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()) + "\n");
+        }
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Unable to write " + AopLoggersIndex.INDEX_LOCATION + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Merge the entries of the index written by a previous build, for the classes still existing but
+   * not compiled again, as their annotations were not processed.
+   */
+  private boolean mergePreviousIndex() {
+    final Properties previousIndex = new Properties();
+    try {
+      final FileObject resource =
+          processingEnv
+              .getFiler()
+              .getResource(StandardLocation.CLASS_OUTPUT, "", AopLoggersIndex.INDEX_LOCATION);
+      try (Reader reader =
+          new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8)) {
+        previousIndex.load(reader);
+      }
+    } catch (IOException e) {
+      return false;
+    }
+
+    for (String typeName : previousIndex.stringPropertyNames()) {
+      if (isProcessed(typeName) || !exists(typeName)) {
+        continue;
+      }
+      for (String annotationName : previousIndex.getProperty(typeName).split(",")) {
+        if (ANNOTATION_NAMES.contains(annotationName)) {
+          annotationNames.computeIfAbsent(typeName, key -> new TreeSet<>()).add(annotationName);
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean isProcessed(final String typeName) {
+    final int nestedTypeIndex = typeName.indexOf('$');
+    return processedTypeNames.contains(
+        nestedTypeIndex < 0 ? typeName : typeName.substring(0, nestedTypeIndex));
+  }
+
+  private boolean exists(final String typeName) {
+    return processingEnv.getElementUtils().getTypeElement(typeName.replace('$', '.')) != null;
+  }
+}
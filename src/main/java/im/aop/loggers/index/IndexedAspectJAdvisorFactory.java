@@ -0,0 +1,130 @@
+package im.aop.loggers.index;
+
+import im.aop.loggers.advice.aftercommit.LogAfterCommit;
+import im.aop.loggers.advice.aftercommit.LogAfterCommitAdvice;
+import im.aop.loggers.advice.afterreturning.LogAfterReturning;
+import im.aop.loggers.advice.afterreturning.LogAfterReturningAdvice;
+import im.aop.loggers.advice.afterrollback.LogAfterRollback;
+import im.aop.loggers.advice.afterrollback.LogAfterRollbackAdvice;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowing;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowingAdvice;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.around.LogAroundAdvice;
+import im.aop.loggers.advice.before.LogBefore;
+import im.aop.loggers.advice.before.LogBeforeAdvice;
+import im.aop.loggers.advice.beforecommit.LogBeforeCommit;
+import im.aop.loggers.advice.beforecommit.LogBeforeCommitAdvice;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.aspectj.annotation.MetadataAwareAspectInstanceFactory;
+import org.springframework.aop.aspectj.annotation.ReflectiveAspectJAdvisorFactory;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.Ordered;
+
+/**
+ * {@link ReflectiveAspectJAdvisorFactory} restricting the advisors of the AOP Loggers aspects to
+ * the classes listed in the {@link AopLoggersIndex}, so that the AspectJ pointcut expressions are
+ * never evaluated against the methods of the other beans.
+ *
+ * <p>Advisors of the other aspects are left as is.
+ *
+ * @author Andy Lian
+ */
+public class IndexedAspectJAdvisorFactory extends ReflectiveAspectJAdvisorFactory {
+
+  private static final Map<Class<?>, Class<? extends Annotation>> ANNOTATION_TYPES =
+      Map.of(
+          LogAroundAdvice.class, LogAround.class,
+          LogBeforeAdvice.class, LogBefore.class,
+          LogAfterReturningAdvice.class, LogAfterReturning.class,
+          LogAfterThrowingAdvice.class, LogAfterThrowing.class,
+          LogBeforeCommitAdvice.class, LogBeforeCommit.class,
+          LogAfterCommitAdvice.class, LogAfterCommit.class,
+          LogAfterRollbackAdvice.class, LogAfterRollback.class);
+
+  private final AopLoggersIndex aopLoggersIndex;
+
+  public IndexedAspectJAdvisorFactory(
+      final BeanFactory beanFactory, final AopLoggersIndex aopLoggersIndex) {
+    super(beanFactory);
+    this.aopLoggersIndex = aopLoggersIndex;
+  }
+
+  @Override
+  public List<Advisor> getAdvisors(final MetadataAwareAspectInstanceFactory aspectInstanceFactory) {
+    final List<Advisor> advisors = super.getAdvisors(aspectInstanceFactory);
+    final Class<? extends Annotation> annotationType =
+        annotationType(aspectInstanceFactory.getAspectMetadata().getAspectClass());
+    if (annotationType == null) {
+      return advisors;
+    }
+
+    final ClassFilter classFilter = aopLoggersIndex.classFilter(annotationType);
+    final List<Advisor> indexedAdvisors = new ArrayList<>(advisors.size());
+    for (Advisor advisor : advisors) {
+      indexedAdvisors.add(
+          advisor instanceof PointcutAdvisor pointcutAdvisor
+              ? new IndexedPointcutAdvisor(pointcutAdvisor, classFilter)
+              : advisor);
+    }
+    return indexedAdvisors;
+  }
+
+  private Class<? extends Annotation> annotationType(final Class<?> aspectClass) {
+    for (Class<?> clazz = aspectClass; clazz != null; clazz = clazz.getSuperclass()) {
+      final Class<? extends Annotation> annotationType = ANNOTATION_TYPES.get(clazz);
+      if (annotationType != null) {
+        return annotationType;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Advisor checking the class against the index before the AspectJ pointcut of the aspect's
+   * advisor, the ordering being taken from the aspect's advisor and advice.
+   */
+  private static final class IndexedPointcutAdvisor implements PointcutAdvisor, Ordered {
+
+    private final PointcutAdvisor advisor;
+
+    private final Pointcut pointcut;
+
+    IndexedPointcutAdvisor(final PointcutAdvisor advisor, final ClassFilter classFilter) {
+      this.advisor = advisor;
+      this.pointcut =
+          new ComposablePointcut(
+              ClassFilters.intersection(classFilter, advisor.getPointcut().getClassFilter()),
+              advisor.getPointcut().getMethodMatcher());
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+      return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+      return advisor.getAdvice();
+    }
+
+    @Override
+    public int getOrder() {
+      return advisor instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public String toString() {
+      return "IndexedPointcutAdvisor: " + advisor;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package im.aop.loggers.messageinterpolation;
+
+/**
+ * Format of <code>byte[]</code> rendered by {@link ArrayToStringStrategy}.
+ *
+ * @author Andy Lian
+ */
+public enum ByteArrayFormat {
+  /** Render each byte as a signed decimal number, e.g. "[1, -1]" */
+  ELEMENTS,
+
+  /** Render the bytes as lowercase hexadecimal digits, e.g. "0x01ff" */
+  HEX,
+
+  /** Render the bytes in Base64, e.g. "base64:Af8=" */
+  BASE64
+}
@@ -0,0 +1,35 @@
+package im.aop.loggers.messageinterpolation;
+
+import im.aop.loggers.AopLoggersProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties limiting the elements rendered by {@link IterableToStringStrategy} and
+ * {@link ArrayToStringStrategy}, including the content of Page and Slice.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = CollectionToStringProperties.PREFIX)
+public class CollectionToStringProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".collection-to-string";
+
+  /** Maximum number of elements rendered, the remaining elements are summarized */
+  @Min(0)
+  private int maxElements = 100;
+
+  /** Maximum depth of nested Collection and array rendered, deeper ones are summarized */
+  @Min(1)
+  private int maxDepth = 3;
+
+  /** Format of byte array, its max elements is the maximum number of bytes rendered */
+  @NotNull private ByteArrayFormat byteArrayFormat = ByteArrayFormat.ELEMENTS;
+}
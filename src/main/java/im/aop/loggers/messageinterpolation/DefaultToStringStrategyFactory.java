@@ -9,16 +9,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 /**
  * Default {@link ToStringStrategyFactory} implementation.
  *
+ * <p>The resolved {@link ToStringStrategy} is cached per class of the object. Strategies that are
+ * not {@link ToStringStrategy#isCacheable() cacheable} and ordered before the resolved strategy are
+ * still evaluated on every lookup.
+ *
  * @author Andy Lian
  */
 public class DefaultToStringStrategyFactory implements ToStringStrategyFactory {
 
+  private static final ToStringStrategy[] NO_STRATEGIES = new ToStringStrategy[0];
+
   @Autowired private ObjectToStringStrategy objectToStringStrategy;
 
   @Autowired private ObjectProvider<ToStringStrategy> toStringStrategiesProvider;
 
   private List<ToStringStrategy> toStringStrategies = new ArrayList<>();
 
+  private final ClassValue<ResolutionHolder> resolutions =
+      new ClassValue<>() {
+
+        @Override
+        protected ResolutionHolder computeValue(Class<?> type) {
+          return new ResolutionHolder();
+        }
+      };
+
   @PostConstruct
   void postConstruct() {
     toStringStrategies =
@@ -33,9 +48,42 @@ public class DefaultToStringStrategyFactory implements ToStringStrategyFactory {
       return objectToStringStrategy;
     }
 
-    return toStringStrategies.parallelStream()
-        .filter(toStringStrategy -> toStringStrategy.supports(object))
-        .findFirst()
-        .orElse(objectToStringStrategy);
+    final ResolutionHolder holder = resolutions.get(object.getClass());
+    Resolution resolution = holder.resolution;
+    if (resolution == null) {
+      resolution = resolve(object);
+      holder.resolution = resolution;
+    }
+
+    for (ToStringStrategy toStringStrategy : resolution.uncacheableStrategies) {
+      if (toStringStrategy.supports(object)) {
+        return toStringStrategy;
+      }
+    }
+    return resolution.toStringStrategy;
+  }
+
+  private Resolution resolve(final Object object) {
+    final List<ToStringStrategy> uncacheableStrategies = new ArrayList<>();
+    for (ToStringStrategy toStringStrategy : toStringStrategies) {
+      if (!toStringStrategy.isCacheable()) {
+        uncacheableStrategies.add(toStringStrategy);
+      } else if (toStringStrategy.supports(object)) {
+        return new Resolution(uncacheableStrategies.toArray(NO_STRATEGIES), toStringStrategy);
+      }
+    }
+    return new Resolution(uncacheableStrategies.toArray(NO_STRATEGIES), objectToStringStrategy);
+  }
+
+  /**
+   * Resolution for a class, uncacheable strategies are evaluated in order before falling back to
+   * the cached strategy.
+   */
+  private record Resolution(
+      ToStringStrategy[] uncacheableStrategies, ToStringStrategy toStringStrategy) {}
+
+  private static final class ResolutionHolder {
+
+    private volatile Resolution resolution;
   }
 }
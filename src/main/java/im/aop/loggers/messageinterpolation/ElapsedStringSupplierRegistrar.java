@@ -4,14 +4,13 @@ import java.time.Duration;
 
 public class ElapsedStringSupplierRegistrar implements StringSupplierRegistrar<Long> {
 
-  private static final String ELAPSED_KEY = "elapsed";
-
   @Override
   public void register(StringSupplierLookup stringSupplierLookup, Long source) {
-    stringSupplierLookup.addStringSupplier(ELAPSED_KEY, () -> elapsed(source));
+    stringSupplierLookup.addStringSupplier(
+        Variable.ELAPSED, source, ElapsedStringSupplierRegistrar::elapsed);
   }
 
-  private String elapsed(long elapsed) {
+  private static String elapsed(long elapsed) {
     return Duration.ofNanos(elapsed).toString();
   }
 }
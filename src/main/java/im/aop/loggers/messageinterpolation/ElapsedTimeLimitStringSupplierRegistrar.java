@@ -4,14 +4,15 @@ import java.time.Duration;
 
 public class ElapsedTimeLimitStringSupplierRegistrar implements StringSupplierRegistrar<Duration> {
 
-  private static final String ELAPSED_TIME_LIMIT_KEY = "elapsed-time-limit";
-
   @Override
   public void register(StringSupplierLookup stringSupplierLookup, Duration source) {
-    stringSupplierLookup.addStringSupplier(ELAPSED_TIME_LIMIT_KEY, () -> elapsedTimeLimit(source));
+    stringSupplierLookup.addStringSupplier(
+        Variable.ELAPSED_TIME_LIMIT,
+        source,
+        ElapsedTimeLimitStringSupplierRegistrar::elapsedTimeLimit);
   }
 
-  private String elapsedTimeLimit(Duration elapsedTimeLimit) {
+  private static String elapsedTimeLimit(Duration elapsedTimeLimit) {
     return elapsedTimeLimit.toString();
   }
 }
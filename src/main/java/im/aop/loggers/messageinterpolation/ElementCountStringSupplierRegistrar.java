@@ -0,0 +1,14 @@
+package im.aop.loggers.messageinterpolation;
+
+public class ElementCountStringSupplierRegistrar implements StringSupplierRegistrar<Long> {
+
+  @Override
+  public void register(StringSupplierLookup stringSupplierLookup, Long source) {
+    stringSupplierLookup.addStringSupplier(
+        Variable.ELEMENT_COUNT, source, ElementCountStringSupplierRegistrar::elementCount);
+  }
+
+  private static String elementCount(long elementCount) {
+    return Long.toString(elementCount);
+  }
+}
@@ -0,0 +1,224 @@
+package im.aop.loggers.messageinterpolation;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Iterator;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Base {@link ToStringStrategy} for {@link Iterable} and array, using {@link
+ * ObjectToStringStrategy} to return a String representation of the element. Encloses elements
+ * within square brackets "[]".
+ *
+ * <p>Rendering stops after {@link CollectionToStringProperties#getMaxElements()} elements, and
+ * nested {@link Collection} and array deeper than {@link
+ * CollectionToStringProperties#getMaxDepth()} are not rendered, both are summarized instead, e.g.
+ * "[foo, bar, ... (98 more, size=100)]". The size is only summarized when known without iterating,
+ * e.g. from {@link Collection#size()}.
+ *
+ * <p>Primitive arrays are rendered like {@link java.util.Arrays#toString(int[])}, appending the
+ * elements straight into the output without boxing. <code>byte[]</code> may be rendered in
+ * hexadecimal or Base64 instead, see {@link ByteArrayFormat}.
+ *
+ * @author Andy Lian
+ */
+abstract class ElementsToStringStrategy implements ToStringStrategy {
+
+  private static final String ELLIPSIS = "...";
+
+  private static final int UNKNOWN_SIZE = -1;
+
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  @Autowired private ObjectToStringStrategy objectToStringStrategy;
+
+  @Autowired(required = false)
+  private CollectionToStringProperties collectionToStringProperties =
+      new CollectionToStringProperties();
+
+  String toString(final Iterable<?> iterable, final int depth) {
+    final Iterator<?> iterator = iterable.iterator();
+    if (!iterator.hasNext()) {
+      return "[]";
+    }
+    if (depth > collectionToStringProperties.getMaxDepth()) {
+      return summarize(sizeOf(iterable));
+    }
+
+    final int maxElements = collectionToStringProperties.getMaxElements();
+    final StringBuilder builder = new StringBuilder("[");
+    for (int count = 0; iterator.hasNext(); count++) {
+      if (count > 0) {
+        builder.append(", ");
+      }
+      if (count == maxElements) {
+        appendRemaining(builder, count, sizeOf(iterable));
+        break;
+      }
+      builder.append(elementToString(iterator.next(), depth));
+    }
+
+    return builder.append("]").toString();
+  }
+
+  String toString(final Object[] array, final int depth) {
+    if (array.length == 0) {
+      return "[]";
+    }
+    if (depth > collectionToStringProperties.getMaxDepth()) {
+      return summarize(array.length);
+    }
+
+    final int length = Math.min(array.length, collectionToStringProperties.getMaxElements());
+    final StringBuilder builder = new StringBuilder("[");
+    for (int index = 0; index < length; index++) {
+      if (index > 0) {
+        builder.append(", ");
+      }
+      builder.append(elementToString(array[index], depth));
+    }
+    if (length < array.length) {
+      if (length > 0) {
+        builder.append(", ");
+      }
+      appendRemaining(builder, length, array.length);
+    }
+
+    return builder.append("]").toString();
+  }
+
+  /**
+   * Render an array of any component type.
+   *
+   * @param array non-null array
+   * @param depth depth of the array, starting from 1
+   * @return rendered String
+   */
+  String arrayToString(final Object array, final int depth) {
+    if (array instanceof Object[] objects) {
+      return toString(objects, depth);
+    }
+    if (array instanceof byte[] bytes
+        && collectionToStringProperties.getByteArrayFormat() != ByteArrayFormat.ELEMENTS) {
+      return toString(bytes, collectionToStringProperties.getByteArrayFormat());
+    }
+
+    final int length = Array.getLength(array);
+    if (length == 0) {
+      return "[]";
+    }
+    if (depth > collectionToStringProperties.getMaxDepth()) {
+      return summarize(length);
+    }
+
+    final int rendered = Math.min(length, collectionToStringProperties.getMaxElements());
+    final StringBuilder builder = new StringBuilder(2 + rendered * 4);
+    builder.append('[');
+    appendPrimitives(builder, array, rendered);
+    if (rendered < length) {
+      if (rendered > 0) {
+        builder.append(", ");
+      }
+      appendRemaining(builder, rendered, length);
+    }
+
+    return builder.append(']').toString();
+  }
+
+  private void appendPrimitives(final StringBuilder builder, final Object array, final int count) {
+    switch (array) {
+      case int[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case long[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case byte[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case short[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case char[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case boolean[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case float[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      case double[] values -> {
+        for (int index = 0; index < count; index++) {
+          appendSeparator(builder, index).append(values[index]);
+        }
+      }
+      default -> throw new IllegalArgumentException("Not a primitive array: " + array.getClass());
+    }
+  }
+
+  private StringBuilder appendSeparator(final StringBuilder builder, final int index) {
+    return index > 0 ? builder.append(", ") : builder;
+  }
+
+  private String toString(final byte[] bytes, final ByteArrayFormat byteArrayFormat) {
+    final int rendered = Math.min(bytes.length, collectionToStringProperties.getMaxElements());
+    final StringBuilder builder = new StringBuilder(rendered * 2 + 32);
+    if (byteArrayFormat == ByteArrayFormat.HEX) {
+      HEX_FORMAT.formatHex(builder.append("0x"), bytes, 0, rendered);
+    } else {
+      final ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(bytes, 0, rendered));
+      builder.append("base64:").append(StandardCharsets.ISO_8859_1.decode(encoded));
+    }
+    if (rendered < bytes.length) {
+      appendRemaining(builder, rendered, bytes.length);
+    }
+    return builder.toString();
+  }
+
+  private String elementToString(final Object element, final int depth) {
+    if (element == null) {
+      return "null";
+    }
+    if (element instanceof Collection<?> collection) {
+      return toString(collection, depth + 1);
+    }
+    if (element.getClass().isArray()) {
+      return arrayToString(element, depth + 1);
+    }
+    return objectToStringStrategy.toString(element);
+  }
+
+  private int sizeOf(final Iterable<?> iterable) {
+    return iterable instanceof Collection<?> collection ? collection.size() : UNKNOWN_SIZE;
+  }
+
+  private String summarize(final int size) {
+    return size == UNKNOWN_SIZE ? "[" + ELLIPSIS + "]" : "[" + ELLIPSIS + " (size=" + size + ")]";
+  }
+
+  private void appendRemaining(final StringBuilder builder, final int rendered, final int size) {
+    builder.append(ELLIPSIS);
+    if (size != UNKNOWN_SIZE) {
+      builder.append(" (").append(size - rendered).append(" more, size=").append(size).append(')');
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package im.aop.loggers.messageinterpolation;
+
+import java.time.Instant;
+
+public class EnteredAtStringSupplierRegistrar implements StringSupplierRegistrar<Long> {
+
+  @Override
+  public void register(StringSupplierLookup stringSupplierLookup, Long source) {
+    stringSupplierLookup.addStringSupplier(
+        Variable.ENTERED_AT, source, EnteredAtStringSupplierRegistrar::enteredAt);
+  }
+
+  private static String enteredAt(long enteredAt) {
+    return Instant.ofEpochMilli(enteredAt).toString();
+  }
+}
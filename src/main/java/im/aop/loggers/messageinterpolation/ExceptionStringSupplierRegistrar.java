@@ -2,14 +2,13 @@ package im.aop.loggers.messageinterpolation;
 
 public class ExceptionStringSupplierRegistrar implements StringSupplierRegistrar<Throwable> {
 
-  private static final String EXCEPTION_KEY = "exception";
-
   @Override
   public void register(StringSupplierLookup stringSupplierLookup, Throwable source) {
-    stringSupplierLookup.addStringSupplier(EXCEPTION_KEY, () -> exception(source));
+    stringSupplierLookup.addStringSupplier(
+        Variable.EXCEPTION, source, ExceptionStringSupplierRegistrar::exception);
   }
 
-  private String exception(final Throwable exception) {
+  private static String exception(final Throwable exception) {
     return "type=" + exception.getClass().getSimpleName() + ", message=" + exception.getMessage();
   }
 }
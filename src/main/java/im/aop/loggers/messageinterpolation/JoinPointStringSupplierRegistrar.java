@@ -1,6 +1,7 @@
 package im.aop.loggers.messageinterpolation;
 
 import java.lang.reflect.Method;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -14,27 +15,29 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar<JoinPoint> {
 
-  private static final String METHOD_KEY = "method";
-
-  private static final String PARAMETERS_KEY = "parameters";
-
   private static final String NO_PARAMETERS_STRING = "none";
 
   @Autowired
   private ToStringStrategyFactory toStringStrategyFactory;
 
+  private final Function<JoinPoint, String> methodParametersRenderer = this::methodParameters;
+
   @Override
   public void register(StringSupplierLookup stringSupplierLookup, JoinPoint source) {
     stringSupplierLookup.addStringSupplier(
-        METHOD_KEY, () -> method(methodSignature(source).getMethod()));
-    stringSupplierLookup.addStringSupplier(PARAMETERS_KEY, () -> methodParameters(source));
+        Variable.METHOD, source, JoinPointStringSupplierRegistrar::methodString);
+    stringSupplierLookup.addStringSupplier(Variable.PARAMETERS, source, methodParametersRenderer);
   }
 
-  private MethodSignature methodSignature(final JoinPoint joinPoint) {
+  private static MethodSignature methodSignature(final JoinPoint joinPoint) {
     return (MethodSignature) joinPoint.getSignature();
   }
 
-  private String method(final Method method) {
+  private static String methodString(final JoinPoint joinPoint) {
+    return method(methodSignature(joinPoint).getMethod());
+  }
+
+  private static String method(final Method method) {
     return method.getReturnType().getSimpleName()
         + " "
         + method.getName()
@@ -66,7 +69,7 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
     return toStringStrategyFactory.findOrDefault(object).toString(object);
   }
 
-  private String methodParameterTypes(final Class<?>[] parameterTypes) {
+  private static String methodParameterTypes(final Class<?>[] parameterTypes) {
     final int parameterCount = parameterTypes.length - 1;
     if (parameterCount == -1) {
       return "";
@@ -0,0 +1,156 @@
+package im.aop.loggers.messageinterpolation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of a template String, holding the literal segments and the variable keys in
+ * between, so that the template is parsed once and rendered many times by {@link
+ * StringSubstitutor}.
+ *
+ * <p>A template with <code>n</code> variables is made of <code>n + 1</code> literal segments, the
+ * literal at index <code>i</code> is followed by the variable at index <code>i</code>.
+ *
+ * @author Andy Lian
+ */
+public final class MessageTemplate {
+
+  private static final char VARIABLE_START_CHAR = '{';
+
+  private static final char VARIABLE_END_CHAR = '}';
+
+  private static final String EMPTY_STRING = "";
+
+  private final String template;
+
+  private final String[] literals;
+
+  private final String[] variableKeys;
+
+  private final Variable[] variables;
+
+  private final int literalsLength;
+
+  private int renderedLengthHint;
+
+  private MessageTemplate(
+      final String template, final List<String> literals, final List<String> variableKeys) {
+    this.template = template;
+    this.literals = literals.toArray(String[]::new);
+    this.variableKeys = variableKeys.toArray(String[]::new);
+    this.variables = new Variable[this.variableKeys.length];
+    for (int index = 0; index < this.variableKeys.length; index++) {
+      this.variables[index] = Variable.fromKey(this.variableKeys[index]);
+    }
+
+    int length = 0;
+    for (String literal : this.literals) {
+      length += literal.length();
+    }
+    this.literalsLength = length;
+    this.renderedLengthHint = length;
+  }
+
+  /**
+   * Parse the template String into literal segments and variables. A variable is the text enclosed
+   * by the nearest "{" preceding a "}", parsing stops at the first "}" without a preceding "{".
+   *
+   * @param template non-null template String
+   * @return compiled template
+   */
+  public static MessageTemplate compile(final String template) {
+    final List<String> literals = new ArrayList<>();
+    final List<String> variableKeys = new ArrayList<>();
+
+    int templateCursor = 0;
+    do {
+      final int variableEndCursor = template.indexOf(VARIABLE_END_CHAR, templateCursor + 1);
+      if (variableEndCursor < 0) {
+        break;
+      }
+      final int variableStartCursor =
+          lastIndexOf(template, VARIABLE_START_CHAR, templateCursor, variableEndCursor);
+      if (variableStartCursor < 0) {
+        break;
+      }
+
+      literals.add(template.substring(templateCursor, variableStartCursor));
+      variableKeys.add(template.substring(variableStartCursor + 1, variableEndCursor));
+
+      templateCursor = variableEndCursor + 1;
+    } while (templateCursor < template.length());
+
+    literals.add(templateCursor < template.length() ? template.substring(templateCursor) : "");
+    return new MessageTemplate(template, literals, variableKeys);
+  }
+
+  private static int lastIndexOf(
+      final String template, final char ch, final int fromCursor, final int toCursor) {
+    for (int cursor = toCursor - 1; cursor >= fromCursor; cursor--) {
+      if (template.charAt(cursor) == ch) {
+        return cursor;
+      }
+    }
+
+    return -1;
+  }
+
+  public String getTemplate() {
+    return template;
+  }
+
+  public int getVariableCount() {
+    return variableKeys.length;
+  }
+
+  public String getVariableKey(final int index) {
+    return variableKeys[index];
+  }
+
+  /**
+   * @param index variable index
+   * @return Built-in variable at the index, or null if the key is not a built-in variable
+   */
+  public Variable getVariable(final int index) {
+    return variables[index];
+  }
+
+  /**
+   * Render the template by substituting every variable with the value from the {@link
+   * StringLookup}, or empty String if not found. Built-in {@link Variable} are resolved once at
+   * compile time and looked up by slot from {@link StringSupplierLookup}.
+   *
+   * @param stringLookup lookup for variable value
+   * @return rendered String
+   */
+  public String render(final StringLookup stringLookup) {
+    if (variableKeys.length == 0) {
+      return literals[0];
+    }
+
+    final StringBuilder builder = new StringBuilder(renderedLengthHint);
+    for (int index = 0; index < variableKeys.length; index++) {
+      builder.append(literals[index]);
+      builder.append(lookupOrEmpty(stringLookup, index));
+    }
+    builder.append(literals[variableKeys.length]);
+
+    // Racy update is fine, it only serves as a sizing hint for the next rendering.
+    renderedLengthHint = Math.max(literalsLength, builder.length());
+    return builder.toString();
+  }
+
+  private String lookupOrEmpty(final StringLookup stringLookup, final int index) {
+    final String value =
+        variables[index] != null
+                && stringLookup instanceof StringSupplierLookup stringSupplierLookup
+            ? stringSupplierLookup.lookup(variables[index])
+            : stringLookup.lookup(variableKeys[index]);
+    return value != null ? value : EMPTY_STRING;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
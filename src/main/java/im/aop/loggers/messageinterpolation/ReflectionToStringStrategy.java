@@ -1,23 +1,64 @@
 package im.aop.loggers.messageinterpolation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringExclude;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.builder.ToStringSummary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyValueException;
 
 import jakarta.annotation.PostConstruct;
 
+/**
+ * {@link ToStringStrategy} implementation rendering the fields of the object by reflection, in the
+ * same format as {@link ReflectionToStringBuilder} with {@link ToStringStyle#NO_CLASS_NAME_STYLE}.
+ *
+ * <p>The fields to render are resolved once per class into a {@link RenderPlan} of {@link
+ * MethodHandle} getters, instead of walking and filtering the class hierarchy for every object.
+ *
+ * @author Andy Lian
+ */
 public class ReflectionToStringStrategy implements ToStringStrategy {
 
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
   @Autowired private ReflectionToStringProperties reflectionToStringProperties;
 
   private final List<Class<?>> supportedBaseClasses = new ArrayList<>();
 
+  private final ClassValue<Boolean> supportedClasses =
+      new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          return isSupportedClass(type);
+        }
+      };
+
+  private final ClassValue<RenderPlan> renderPlans =
+      new ClassValue<>() {
+
+        @Override
+        protected RenderPlan computeValue(Class<?> type) {
+          return createRenderPlan(type);
+        }
+      };
+
   @PostConstruct
   void postConstruct() {
     for (String baseClass : reflectionToStringProperties.getBaseClasses()) {
@@ -32,12 +73,16 @@ public class ReflectionToStringStrategy implements ToStringStrategy {
 
   @Override
   public boolean supports(Object object) {
-    if (Proxy.isProxyClass(object.getClass())) {
+    return supportedClasses.get(object.getClass());
+  }
+
+  private boolean isSupportedClass(final Class<?> type) {
+    if (Proxy.isProxyClass(type)) {
       return false;
     }
 
     for (Class<?> supportedBaseClass : supportedBaseClasses) {
-      if (supportedBaseClass.isAssignableFrom(object.getClass())) {
+      if (supportedBaseClass.isAssignableFrom(type)) {
         return true;
       }
     }
@@ -46,25 +91,93 @@ public class ReflectionToStringStrategy implements ToStringStrategy {
 
   @Override
   public String toString(Object object) {
-    final ReflectionToStringBuilder builder =
-        new ReflectionToStringBuilder(object, ToStringStyle.NO_CLASS_NAME_STYLE) {
-
-          @Override
-          public ToStringBuilder append(
-              final String fieldName, final Object obj, final boolean fullDetail) {
-            if (!isExcludedValue(obj)) {
-              super.append(fieldName, obj, fullDetail);
-            }
-            return this;
-          }
-        };
-
-    builder.setExcludeNullValues(reflectionToStringProperties.isExcludeNullValues());
-    builder.setExcludeFieldNames(reflectionToStringProperties.getExcludeFieldNames());
+    if (object == null || object.getClass().isArray()) {
+      return reflectionToString(object);
+    }
 
+    final RenderPlan renderPlan = getRenderPlan(object.getClass());
+    final ToStringBuilder builder = new ToStringBuilder(object, ToStringStyle.NO_CLASS_NAME_STYLE);
+    for (FieldAccessor fieldAccessor : renderPlan.fieldAccessors()) {
+      final Object value = getValue(fieldAccessor, object);
+      if ((value != null || !reflectionToStringProperties.isExcludeNullValues())
+          && !isExcludedValue(value)) {
+        builder.append(fieldAccessor.name(), value, fieldAccessor.fullDetail());
+      }
+    }
     return builder.toString();
   }
 
+  private RenderPlan getRenderPlan(final Class<?> type) {
+    final RenderPlan renderPlan = renderPlans.get(type);
+    if (renderPlan.excludeFieldNames() == reflectionToStringProperties.getExcludeFieldNames()) {
+      return renderPlan;
+    }
+
+    renderPlans.remove(type);
+    return renderPlans.get(type);
+  }
+
+  /**
+   * Resolve the fields rendered by {@link ReflectionToStringBuilder}, from the class up to its
+   * super classes, each sorted by name.
+   */
+  private RenderPlan createRenderPlan(final Class<?> type) {
+    final String[] excludeFieldNames = reflectionToStringProperties.getExcludeFieldNames();
+    final Set<String> excludedFieldNames =
+        excludeFieldNames == null ? Set.of() : new HashSet<>(Arrays.asList(excludeFieldNames));
+
+    final List<FieldAccessor> fieldAccessors = new ArrayList<>();
+    for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+      final Field[] fields = clazz.getDeclaredFields();
+      Arrays.sort(fields, Comparator.comparing(Field::getName));
+      AccessibleObject.setAccessible(fields, true);
+
+      for (Field field : fields) {
+        if (isAcceptedField(field, excludedFieldNames)) {
+          fieldAccessors.add(
+              new FieldAccessor(
+                  field.getName(),
+                  getter(field),
+                  !field.isAnnotationPresent(ToStringSummary.class)));
+        }
+      }
+    }
+
+    return new RenderPlan(excludeFieldNames, fieldAccessors.toArray(FieldAccessor[]::new));
+  }
+
+  private boolean isAcceptedField(final Field field, final Set<String> excludedFieldNames) {
+    final int modifiers = field.getModifiers();
+    return field.getName().indexOf('$') == -1
+        && !Modifier.isTransient(modifiers)
+        && !Modifier.isStatic(modifiers)
+        && !excludedFieldNames.contains(field.getName())
+        && !field.isAnnotationPresent(ToStringExclude.class);
+  }
+
+  private MethodHandle getter(final Field field) {
+    try {
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Unexpected IllegalAccessException: " + e.getMessage(), e);
+    }
+  }
+
+  private static Object getValue(final FieldAccessor fieldAccessor, final Object object) {
+    try {
+      return fieldAccessor.getter().invokeExact(object);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Render the null object and the arrays, whose elements are not fields. */
+  private String reflectionToString(final Object object) {
+    return new ReflectionToStringBuilder(object, ToStringStyle.NO_CLASS_NAME_STYLE).toString();
+  }
+
   private boolean isExcludedValue(Object value) {
     return isExcludedEmptyValue(value) || isExcludedZeroValue(value);
   }
@@ -80,4 +193,12 @@ public class ReflectionToStringStrategy implements ToStringStrategy {
         && reflectionToStringProperties.isExcludeZeroValues()
         && Double.compare(number.doubleValue(), 0.0) == 0;
   }
+
+  /**
+   * Fields rendered for a class, resolved with the exclude field names of {@link
+   * ReflectionToStringProperties} at the time.
+   */
+  private record RenderPlan(String[] excludeFieldNames, FieldAccessor[] fieldAccessors) {}
+
+  private record FieldAccessor(String name, MethodHandle getter, boolean fullDetail) {}
 }
@@ -1,5 +1,6 @@
 package im.aop.loggers.messageinterpolation;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -12,25 +13,21 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public class ReturnValueStringSupplierRegistrar {
 
-  private static final String RETURN_VALUE_KEY = "return-value";
-
   private static final String NO_RETURN_VALUE_STRING = "none";
 
   @Autowired
   private ToStringStrategyFactory toStringStrategyFactory;
 
+  private final Function<Object, String> returnValueRenderer = this::toString;
+
   public void register(
       StringSupplierLookup stringSupplierLookup, JoinPoint joinPoint, Object source) {
-    stringSupplierLookup.addStringSupplier(
-        RETURN_VALUE_KEY, () -> returnedValue(methodSignature(joinPoint), source));
-  }
-
-  private String returnedValue(final MethodSignature methodSignature, final Object returnValue) {
-    if (void.class.equals(methodSignature.getReturnType())) {
-      return NO_RETURN_VALUE_STRING;
+    if (void.class.equals(methodSignature(joinPoint).getReturnType())) {
+      stringSupplierLookup.addStringSupplier(
+          Variable.RETURN_VALUE, NO_RETURN_VALUE_STRING, Function.identity());
+    } else {
+      stringSupplierLookup.addStringSupplier(Variable.RETURN_VALUE, source, returnValueRenderer);
     }
-
-    return toString(returnValue);
   }
 
   private String toString(Object object) {
@@ -28,6 +28,16 @@ public class StringSubstitutorConfiguration {
     return new ElapsedTimeLimitStringSupplierRegistrar();
   }
 
+  @Bean
+  public ElementCountStringSupplierRegistrar elementCountStringSupplierRegistrar() {
+    return new ElementCountStringSupplierRegistrar();
+  }
+
+  @Bean
+  public EnteredAtStringSupplierRegistrar enteredAtStringSupplierRegistrar() {
+    return new EnteredAtStringSupplierRegistrar();
+  }
+
   @Bean
   public ExceptionStringSupplierRegistrar exceptionStringSupplierRegistrar() {
     return new ExceptionStringSupplierRegistrar();
@@ -38,6 +48,11 @@ public class StringSubstitutorConfiguration {
     return new JoinPointStringSupplierRegistrar();
   }
 
+  @Bean
+  public SuppressedCountStringSupplierRegistrar suppressedCountStringSupplierRegistrar() {
+    return new SuppressedCountStringSupplierRegistrar();
+  }
+
   @Bean
   public ReturnValueStringSupplierRegistrar returnValueStringSupplierRegistrar() {
     return new ReturnValueStringSupplierRegistrar();
@@ -1,25 +1,203 @@
 package im.aop.loggers.messageinterpolation;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Default {@link StringLookup} used by {@link StringSubstitutor} to lookup for String value by
- * key.
+ * Default {@link StringLookup} used by {@link StringSubstitutor} to lookup for String value by key.
+ *
+ * <p>Built-in {@link Variable} are held in slots indexed by ordinal, each rendered at most once
+ * from its source however many messages it is used by. Other keys fall back to a {@link Map} of
+ * String {@link Supplier}, created on first use.
  *
  * @author Andy Lian
  */
 public class StringSupplierLookup implements StringLookup {
 
-  private final Map<String, Supplier<String>> map = new HashMap<>();
+  private static final Variable[] VARIABLES = Variable.values();
+
+  private static final int VARIABLE_COUNT = VARIABLES.length;
+
+  /** Renderer of the values already rendered, never applied as the value is held. */
+  private static final Function<Object, String> RENDERED = String::valueOf;
+
+  private final Object[] sources = new Object[VARIABLE_COUNT];
+
+  private final Function<Object, String>[] renderers = newRenderers();
+
+  private final String[] values = new String[VARIABLE_COUNT];
+
+  private Map<String, Supplier<String>> map;
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, String>[] newRenderers() {
+    return new Function[VARIABLE_COUNT];
+  }
 
   @Override
   public String lookup(final String key) {
-    return map.containsKey(key) ? map.get(key).get() : null;
+    final Variable variable = Variable.fromKey(key);
+    if (variable != null) {
+      return lookup(variable);
+    }
+
+    final Supplier<String> stringSupplier = map != null ? map.get(key) : null;
+    return stringSupplier != null ? stringSupplier.get() : null;
+  }
+
+  /**
+   * @param variable built-in variable
+   * @return Rendered value of the variable, or null if not registered
+   */
+  public String lookup(final Variable variable) {
+    final int slot = variable.ordinal();
+    String value = values[slot];
+    if (value == null && renderers[slot] != null) {
+      value = renderers[slot].apply(sources[slot]);
+      values[slot] = value;
+    }
+    return value;
   }
 
   public void addStringSupplier(final String key, final Supplier<String> stringSupplier) {
+    final Variable variable = Variable.fromKey(key);
+    if (variable != null) {
+      addStringSupplier(variable, stringSupplier, Supplier::get);
+      return;
+    }
+
+    if (map == null) {
+      map = new HashMap<>();
+    }
     map.put(key, stringSupplier);
   }
+
+  /**
+   * Register the source of a built-in variable, rendered by the renderer on first lookup. Pass a
+   * non-capturing or long-lived renderer to avoid allocating one per registration.
+   *
+   * @param variable built-in variable
+   * @param source source of the value, e.g. the return value
+   * @param renderer renders the source into String
+   * @param <T> source type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void addStringSupplier(
+      final Variable variable, final T source, final Function<? super T, String> renderer) {
+    final int slot = variable.ordinal();
+    sources[slot] = source;
+    renderers[slot] = (Function<Object, String>) renderer;
+    values[slot] = null;
+  }
+
+  /**
+   * Perform the action for every key referenced by the message template, once each, and its value
+   * if registered, rendered into String except {@link Variable#ELAPSED} and {@link
+   * Variable#ELAPSED_TIME_LIMIT} which are passed in nanoseconds, and {@link
+   * Variable#ELEMENT_COUNT} and {@link Variable#SUPPRESSED_COUNT}, as {@link Long}. The variables
+   * not referenced are not rendered.
+   *
+   * @param messageTemplate message template referencing the keys
+   * @param action action performed with the key and its value
+   */
+  public void forEachKeyValue(
+      final MessageTemplate messageTemplate, final BiConsumer<String, Object> action) {
+    for (int index = 0; index < messageTemplate.getVariableCount(); index++) {
+      final String key = messageTemplate.getVariableKey(index);
+      if (isReferencedBefore(messageTemplate, key, index)) {
+        continue;
+      }
+
+      final Variable variable = messageTemplate.getVariable(index);
+      if (variable != null) {
+        if (renderers[variable.ordinal()] != null) {
+          action.accept(key, keyValue(variable));
+        }
+        continue;
+      }
+      final Supplier<String> stringSupplier = map != null ? map.get(key) : null;
+      if (stringSupplier != null) {
+        action.accept(key, stringSupplier.get());
+      }
+    }
+  }
+
+  private static boolean isReferencedBefore(
+      final MessageTemplate messageTemplate, final String key, final int index) {
+    for (int previousIndex = 0; previousIndex < index; previousIndex++) {
+      if (messageTemplate.getVariableKey(previousIndex).equals(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object keyValue(final Variable variable) {
+    final Object source = sources[variable.ordinal()];
+    return switch (variable) {
+      case ELAPSED, ELEMENT_COUNT, SUPPRESSED_COUNT ->
+          source instanceof Long ? source : lookup(variable);
+      case ELAPSED_TIME_LIMIT ->
+          source instanceof Duration duration ? duration.toNanos() : lookup(variable);
+      default -> lookup(variable);
+    };
+  }
+
+  /**
+   * @return Copy of this lookup, not affected by String {@link Supplier} added afterward
+   */
+  public StringSupplierLookup snapshot() {
+    final StringSupplierLookup snapshot = new StringSupplierLookup();
+    System.arraycopy(sources, 0, snapshot.sources, 0, VARIABLE_COUNT);
+    System.arraycopy(renderers, 0, snapshot.renderers, 0, VARIABLE_COUNT);
+    System.arraycopy(values, 0, snapshot.values, 0, VARIABLE_COUNT);
+    if (map != null) {
+      snapshot.map = new HashMap<>(map);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Copy of the variables referenced by the message template, rendered on the calling thread, so
+   * that the copy holds no reference to sources that may be mutated afterward, such as the method
+   * parameters and return value. The elapsed times and counts are kept as is for {@link
+   * #forEachKeyValue(MessageTemplate, BiConsumer)}.
+   *
+   * @param messageTemplate message template to render the variables of
+   * @return rendered copy of this lookup
+   */
+  public StringSupplierLookup renderedSnapshot(final MessageTemplate messageTemplate) {
+    final StringSupplierLookup snapshot = new StringSupplierLookup();
+    for (int index = 0; index < messageTemplate.getVariableCount(); index++) {
+      final Variable variable = messageTemplate.getVariable(index);
+      if (variable == null) {
+        final String key = messageTemplate.getVariableKey(index);
+        final String value = lookup(key);
+        if (value != null) {
+          snapshot.addStringSupplier(key, () -> value);
+        }
+        continue;
+      }
+
+      final int slot = variable.ordinal();
+      final String value = lookup(variable);
+      if (value != null) {
+        snapshot.sources[slot] = isImmutableSource(variable) ? sources[slot] : value;
+        snapshot.renderers[slot] = RENDERED;
+        snapshot.values[slot] = value;
+      }
+    }
+    return snapshot;
+  }
+
+  private static boolean isImmutableSource(final Variable variable) {
+    return variable == Variable.ELAPSED
+        || variable == Variable.ELAPSED_TIME_LIMIT
+        || variable == Variable.ELEMENT_COUNT
+        || variable == Variable.SUPPRESSED_COUNT;
+  }
 }
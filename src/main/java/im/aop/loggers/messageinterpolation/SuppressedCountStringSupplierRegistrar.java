@@ -0,0 +1,14 @@
+package im.aop.loggers.messageinterpolation;
+
+public class SuppressedCountStringSupplierRegistrar implements StringSupplierRegistrar<Long> {
+
+  @Override
+  public void register(StringSupplierLookup stringSupplierLookup, Long source) {
+    stringSupplierLookup.addStringSupplier(
+        Variable.SUPPRESSED_COUNT, source, SuppressedCountStringSupplierRegistrar::suppressedCount);
+  }
+
+  private static String suppressedCount(long suppressedCount) {
+    return Long.toString(suppressedCount);
+  }
+}
@@ -17,4 +17,15 @@ public interface ToStringStrategy {
   boolean supports(Object object);
 
   String toString(Object object);
+
+  /**
+   * Whether the result of {@link #supports(Object)} depends only on the class of the object, which
+   * allows {@link DefaultToStringStrategyFactory} to cache the resolved strategy per class.
+   * Strategies inspecting the state of the object must override this to return false.
+   *
+   * @return true by default
+   */
+  default boolean isCacheable() {
+    return true;
+  }
 }
@@ -11,7 +11,10 @@ import org.springframework.context.annotation.Configuration;
  * @author Andy Lian
  */
 @Configuration(proxyBeanMethods = false)
-@EnableConfigurationProperties({ReflectionToStringProperties.class})
+@EnableConfigurationProperties({
+  ReflectionToStringProperties.class,
+  CollectionToStringProperties.class
+})
 class ToStringStrategyConfiguration {
 
   @Bean
@@ -0,0 +1,59 @@
+package im.aop.loggers.messageinterpolation;
+
+/**
+ * Built-in variables of the message templates, registered by the {@link StringSupplierRegistrar}
+ * and held by {@link StringSupplierLookup} in a slot indexed by ordinal.
+ *
+ * @author Andy Lian
+ */
+public enum Variable {
+  METHOD("method"),
+
+  PARAMETERS("parameters"),
+
+  RETURN_VALUE("return-value"),
+
+  EXCEPTION("exception"),
+
+  ELAPSED("elapsed"),
+
+  ELAPSED_TIME_LIMIT("elapsed-time-limit"),
+
+  ELEMENT_COUNT("element-count"),
+
+  ENTERED_AT("entered-at"),
+
+  STACK_TRACE("stack-trace"),
+
+  SUPPRESSED_COUNT("suppressed-count");
+
+  private final String key;
+
+  Variable(final String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @param key variable key within the message template
+   * @return Variable of the key, or null if the key is not a built-in variable
+   */
+  public static Variable fromKey(final String key) {
+    return switch (key) {
+      case "method" -> METHOD;
+      case "parameters" -> PARAMETERS;
+      case "return-value" -> RETURN_VALUE;
+      case "exception" -> EXCEPTION;
+      case "elapsed" -> ELAPSED;
+      case "elapsed-time-limit" -> ELAPSED_TIME_LIMIT;
+      case "element-count" -> ELEMENT_COUNT;
+      case "entered-at" -> ENTERED_AT;
+      case "stack-trace" -> STACK_TRACE;
+      case "suppressed-count" -> SUPPRESSED_COUNT;
+      default -> null;
+    };
+  }
+}
@@ -0,0 +1,73 @@
+package im.aop.loggers.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the work done by an advice type, backed by {@link LongAdder} so that concurrent
+ * invocations do not contend on a single counter.
+ *
+ * @author Andy Lian
+ */
+public final class AdviceStatistics {
+
+  private final LongAdder invocations = new LongAdder();
+
+  private final LongAdder skippedInvocations = new LongAdder();
+
+  private final LongAdder emittedMessages = new LongAdder();
+
+  private final LongAdder suppressedMessages = new LongAdder();
+
+  private final LongAdder renderTime = new LongAdder();
+
+  public void recordInvocation() {
+    invocations.increment();
+  }
+
+  /** Record an invocation not logged as it was sampled out or rate limited. */
+  public void recordSkipped() {
+    skippedInvocations.increment();
+  }
+
+  /**
+   * Record a message handed to the {@link im.aop.loggers.dispatch.LogDispatcher}.
+   *
+   * @param renderTime nanoseconds spent rendering and dispatching the message
+   */
+  public void recordEmitted(final long renderTime) {
+    emittedMessages.increment();
+    this.renderTime.add(renderTime);
+  }
+
+  /**
+   * Record messages not logged as their logging level is disabled.
+   *
+   * @param count number of messages
+   */
+  public void recordSuppressed(final int count) {
+    suppressedMessages.add(count);
+  }
+
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  public long getSkippedInvocations() {
+    return skippedInvocations.sum();
+  }
+
+  public long getEmittedMessages() {
+    return emittedMessages.sum();
+  }
+
+  public long getSuppressedMessages() {
+    return suppressedMessages.sum();
+  }
+
+  /**
+   * @return Total nanoseconds spent rendering and dispatching the emitted messages
+   */
+  public long getRenderTime() {
+    return renderTime.sum();
+  }
+}
@@ -0,0 +1,35 @@
+package im.aop.loggers.metrics;
+
+/**
+ * Type of advice instrumented by {@link AopLoggersStatistics}.
+ *
+ * @author Andy Lian
+ */
+public enum AdviceType {
+  LOG_BEFORE("log-before"),
+
+  LOG_AFTER_RETURNING("log-after-returning"),
+
+  LOG_AFTER_THROWING("log-after-throwing"),
+
+  LOG_AROUND("log-around"),
+
+  LOG_BEFORE_COMMIT("log-before-commit"),
+
+  LOG_AFTER_COMMIT("log-after-commit"),
+
+  LOG_AFTER_ROLLBACK("log-after-rollback");
+
+  private final String tagValue;
+
+  AdviceType(final String tagValue) {
+    this.tagValue = tagValue;
+  }
+
+  /**
+   * @return Value of the advice tag of the meters
+   */
+  public String getTagValue() {
+    return tagValue;
+  }
+}
@@ -0,0 +1,57 @@
+package im.aop.loggers.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for {@link AopLoggersStatistics} and Micrometer metrics, the latter only
+ * when Micrometer is on the classpath.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({AopLoggersMetricsProperties.class})
+public class AopLoggersMetricsConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean({AopLoggersStatistics.class})
+  public AopLoggersStatistics aopLoggersStatistics() {
+    return new AopLoggersStatistics();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MicrometerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = AopLoggersMetricsProperties.PREFIX,
+        name = "statistics-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+    public AopLoggersStatisticsMeterBinder aopLoggersStatisticsMeterBinder(
+        final AopLoggersStatistics aopLoggersStatistics) {
+      return new AopLoggersStatisticsMeterBinder(aopLoggersStatistics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = AopLoggersMetricsProperties.PREFIX,
+        name = "enabled",
+        havingValue = "true")
+    @ConditionalOnMissingBean({ElapsedTimeRecorderFactory.class})
+    public MicrometerElapsedTimeRecorderFactory micrometerElapsedTimeRecorderFactory(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        final AopLoggersMetricsProperties aopLoggersMetricsProperties) {
+      return new MicrometerElapsedTimeRecorderFactory(
+          meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), aopLoggersMetricsProperties);
+    }
+  }
+}
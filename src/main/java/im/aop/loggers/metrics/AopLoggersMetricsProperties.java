@@ -0,0 +1,34 @@
+package im.aop.loggers.metrics;
+
+import im.aop.loggers.AopLoggersProperties;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for Micrometer metrics.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = AopLoggersMetricsProperties.PREFIX)
+public class AopLoggersMetricsProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".metrics";
+
+  /** Whether to record the elapsed time of @LogAround methods into Micrometer Timer */
+  private boolean enabled = false;
+
+  /** Name of the Timer recording the elapsed time of @LogAround methods */
+  @NotBlank private String elapsedTimerName = "aop.loggers.elapsed";
+
+  /** Whether to publish a percentile histogram of the elapsed time */
+  private boolean percentileHistogram = true;
+
+  /** Whether to publish the invocations, messages and render time of each advice type */
+  private boolean statisticsEnabled = true;
+}
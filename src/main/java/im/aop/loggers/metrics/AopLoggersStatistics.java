@@ -0,0 +1,22 @@
+package im.aop.loggers.metrics;
+
+/**
+ * Self-overhead statistics of the loggers, one {@link AdviceStatistics} per {@link AdviceType}.
+ *
+ * @author Andy Lian
+ */
+public class AopLoggersStatistics {
+
+  private final AdviceStatistics[] adviceStatistics;
+
+  public AopLoggersStatistics() {
+    adviceStatistics = new AdviceStatistics[AdviceType.values().length];
+    for (int index = 0; index < adviceStatistics.length; index++) {
+      adviceStatistics[index] = new AdviceStatistics();
+    }
+  }
+
+  public AdviceStatistics get(final AdviceType adviceType) {
+    return adviceStatistics[adviceType.ordinal()];
+  }
+}
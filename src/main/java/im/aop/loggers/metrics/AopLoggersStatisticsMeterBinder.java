@@ -0,0 +1,61 @@
+package im.aop.loggers.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MeterBinder} exposing {@link AopLoggersStatistics}, tagged by advice type.
+ *
+ * @author Andy Lian
+ */
+public class AopLoggersStatisticsMeterBinder implements MeterBinder {
+
+  static final String ADVICE_TAG = "advice";
+
+  private final AopLoggersStatistics aopLoggersStatistics;
+
+  public AopLoggersStatisticsMeterBinder(final AopLoggersStatistics aopLoggersStatistics) {
+    this.aopLoggersStatistics = Objects.requireNonNull(aopLoggersStatistics);
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    for (AdviceType adviceType : AdviceType.values()) {
+      final AdviceStatistics statistics = aopLoggersStatistics.get(adviceType);
+      final String tagValue = adviceType.getTagValue();
+
+      FunctionCounter.builder(
+              "aop.loggers.invocations", statistics, AdviceStatistics::getInvocations)
+          .description("Number of invocations intercepted by the advice")
+          .tag(ADVICE_TAG, tagValue)
+          .register(registry);
+      FunctionCounter.builder(
+              "aop.loggers.invocations.skipped",
+              statistics,
+              AdviceStatistics::getSkippedInvocations)
+          .description("Number of invocations not logged as sampled out or rate limited")
+          .tag(ADVICE_TAG, tagValue)
+          .register(registry);
+      FunctionCounter.builder(
+              "aop.loggers.messages.suppressed",
+              statistics,
+              AdviceStatistics::getSuppressedMessages)
+          .description("Number of messages not logged as their logging level is disabled")
+          .tag(ADVICE_TAG, tagValue)
+          .register(registry);
+      FunctionTimer.builder(
+              "aop.loggers.messages.emitted",
+              statistics,
+              AdviceStatistics::getEmittedMessages,
+              AdviceStatistics::getRenderTime,
+              TimeUnit.NANOSECONDS)
+          .description("Messages logged and the time spent rendering and dispatching them")
+          .tag(ADVICE_TAG, tagValue)
+          .register(registry);
+    }
+  }
+}
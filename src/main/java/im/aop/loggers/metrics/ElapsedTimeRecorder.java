@@ -0,0 +1,24 @@
+package im.aop.loggers.metrics;
+
+/**
+ * Record the elapsed time of the target method, created once per join point by {@link
+ * ElapsedTimeRecorderFactory}.
+ *
+ * @author Andy Lian
+ */
+public interface ElapsedTimeRecorder {
+
+  /**
+   * @param elapsedTime elapsed time in nanoseconds
+   * @param exception exception thrown by the target method, or null if exited normally
+   */
+  void record(long elapsedTime, Throwable exception);
+
+  /**
+   * Record the elapsed time of a reactive return value whose subscription was cancelled before it
+   * terminated. Does nothing by default.
+   *
+   * @param elapsedTime elapsed time in nanoseconds
+   */
+  default void recordCancelled(final long elapsedTime) {}
+}
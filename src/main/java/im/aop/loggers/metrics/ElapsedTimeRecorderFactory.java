@@ -0,0 +1,17 @@
+package im.aop.loggers.metrics;
+
+import org.aspectj.lang.JoinPoint;
+
+/**
+ * Factory creating the {@link ElapsedTimeRecorder} of a join point.
+ *
+ * @author Andy Lian
+ */
+public interface ElapsedTimeRecorderFactory {
+
+  /**
+   * @param joinPoint join point
+   * @return Recorder of the join point, or null if its elapsed time is not recorded
+   */
+  ElapsedTimeRecorder create(JoinPoint joinPoint);
+}
@@ -0,0 +1,111 @@
+package im.aop.loggers.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+
+/**
+ * {@link ElapsedTimeRecorderFactory} implementation recording into Micrometer {@link Timer}, tagged
+ * by class, method, outcome and exception.
+ *
+ * <p>The Timers are resolved once per join point and exception type, so recording does not build
+ * tags nor lookup the {@link MeterRegistry}.
+ *
+ * @author Andy Lian
+ */
+public class MicrometerElapsedTimeRecorderFactory implements ElapsedTimeRecorderFactory {
+
+  static final String CLASS_TAG = "class";
+
+  static final String METHOD_TAG = "method";
+
+  static final String OUTCOME_TAG = "outcome";
+
+  static final String EXCEPTION_TAG = "exception";
+
+  static final String NORMAL_OUTCOME = "normal";
+
+  static final String EXCEPTION_OUTCOME = "exception";
+
+  static final String CANCELLED_OUTCOME = "cancelled";
+
+  static final String NO_EXCEPTION = "none";
+
+  private final MeterRegistry meterRegistry;
+
+  private final AopLoggersMetricsProperties properties;
+
+  public MicrometerElapsedTimeRecorderFactory(
+      final MeterRegistry meterRegistry, final AopLoggersMetricsProperties properties) {
+    this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    this.properties = Objects.requireNonNull(properties);
+  }
+
+  @Override
+  public ElapsedTimeRecorder create(final JoinPoint joinPoint) {
+    final Signature signature = joinPoint.getSignature();
+    final Tags tags =
+        Tags.of(CLASS_TAG, signature.getDeclaringTypeName(), METHOD_TAG, signature.getName());
+    return new MicrometerElapsedTimeRecorder(tags);
+  }
+
+  private Timer registerTimer(final Tags tags, final String outcome, final String exception) {
+    return Timer.builder(properties.getElapsedTimerName())
+        .tags(tags)
+        .tag(OUTCOME_TAG, outcome)
+        .tag(EXCEPTION_TAG, exception)
+        .publishPercentileHistogram(properties.isPercentileHistogram())
+        .register(meterRegistry);
+  }
+
+  private class MicrometerElapsedTimeRecorder implements ElapsedTimeRecorder {
+
+    private final Tags tags;
+
+    private final Timer normalTimer;
+
+    private final Map<Class<?>, Timer> exceptionTimers = new ConcurrentHashMap<>();
+
+    private volatile Timer cancelledTimer;
+
+    MicrometerElapsedTimeRecorder(final Tags tags) {
+      this.tags = tags;
+      this.normalTimer = registerTimer(tags, NORMAL_OUTCOME, NO_EXCEPTION);
+    }
+
+    @Override
+    public void record(final long elapsedTime, final Throwable exception) {
+      timer(exception).record(elapsedTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCancelled(final long elapsedTime) {
+      Timer timer = cancelledTimer;
+      if (timer == null) {
+        timer = registerTimer(tags, CANCELLED_OUTCOME, NO_EXCEPTION);
+        cancelledTimer = timer;
+      }
+      timer.record(elapsedTime, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(final Throwable exception) {
+      if (exception == null) {
+        return normalTimer;
+      }
+
+      final Timer timer = exceptionTimers.get(exception.getClass());
+      if (timer != null) {
+        return timer;
+      }
+      return exceptionTimers.computeIfAbsent(
+          exception.getClass(),
+          exceptionType -> registerTimer(tags, EXCEPTION_OUTCOME, exceptionType.getSimpleName()));
+    }
+  }
+}
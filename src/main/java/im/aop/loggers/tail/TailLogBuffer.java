@@ -0,0 +1,143 @@
+package im.aop.loggers.tail;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import org.slf4j.Logger;
+
+/**
+ * Bounded buffer of the rendered log events of a request, keeping the most recent events when full,
+ * the oldest being dropped.
+ *
+ * <p>The buffer is bounded by a number of events and by the estimated size of their rendered
+ * variables, two bytes per character plus a fixed overhead per event, the exception of an event
+ * being flushed with it rather than counted. An event larger than the maximum size on its own is
+ * dropped.
+ *
+ * @author Andy Lian
+ */
+public final class TailLogBuffer {
+
+  /** Estimated size of an event, its lookup and their references, without the rendered values. */
+  static final long EVENT_OVERHEAD_BYTES = 256;
+
+  private final TailLogEvent[] events;
+
+  private final long maxBytes;
+
+  private int head;
+
+  private int size;
+
+  private long bytes;
+
+  private long droppedCount;
+
+  TailLogBuffer(final int maxEvents, final long maxBytes) {
+    this.events = new TailLogEvent[maxEvents];
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @param stringLookup rendered variables of the message template
+   */
+  synchronized void add(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    final long eventBytes = estimateBytes(messageTemplate, stringLookup);
+    if (eventBytes > maxBytes) {
+      droppedCount++;
+      return;
+    }
+    while (size == events.length || bytes + eventBytes > maxBytes) {
+      removeOldest();
+      droppedCount++;
+    }
+
+    events[(head + size) % events.length] =
+        new TailLogEvent(logger, level, messageTemplate, stringLookup, exception, eventBytes);
+    size++;
+    bytes += eventBytes;
+  }
+
+  private static long estimateBytes(
+      final MessageTemplate messageTemplate, final StringSupplierLookup stringLookup) {
+    long eventBytes = EVENT_OVERHEAD_BYTES;
+    for (int index = 0; index < messageTemplate.getVariableCount(); index++) {
+      final String value = stringLookup.lookup(messageTemplate.getVariableKey(index));
+      if (value != null) {
+        eventBytes += 2L * value.length();
+      }
+    }
+    return eventBytes;
+  }
+
+  private void removeOldest() {
+    bytes -= events[head].bytes();
+    events[head] = null;
+    head = (head + 1) % events.length;
+    size--;
+  }
+
+  /**
+   * @return Number of log events buffered
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * @return Estimated size in bytes of the log events buffered
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return Number of log events dropped since the last drain, due to full buffer
+   */
+  public synchronized long getDroppedCount() {
+    return droppedCount;
+  }
+
+  /** Discard the buffered log events. */
+  public synchronized void clear() {
+    drain();
+  }
+
+  /**
+   * Remove the buffered log events, oldest first, resetting the dropped count.
+   *
+   * @return buffered log events
+   */
+  synchronized TailLogEvent[] drain() {
+    final TailLogEvent[] drained = new TailLogEvent[size];
+    for (int index = 0; index < size; index++) {
+      final int cursor = (head + index) % events.length;
+      drained[index] = events[cursor];
+      events[cursor] = null;
+    }
+    head = 0;
+    size = 0;
+    bytes = 0;
+    droppedCount = 0;
+    return drained;
+  }
+
+  record TailLogEvent(
+      Logger logger,
+      Level level,
+      MessageTemplate messageTemplate,
+      StringSupplierLookup stringLookup,
+      Throwable exception,
+      long bytes) {
+
+    void log(final LogDispatcher delegate, final Level flushLevel) {
+      delegate.dispatch(logger, flushLevel, messageTemplate, stringLookup, exception);
+    }
+  }
+}
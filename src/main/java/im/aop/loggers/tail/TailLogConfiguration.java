@@ -0,0 +1,49 @@
+package im.aop.loggers.tail;
+
+import im.aop.loggers.dispatch.LogDispatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * {@link Configuration} for {@link TailLogDispatcher}, decorating the {@link LogDispatcher} of the
+ * Log*Service, and the request filters binding its buffers. Imported after the configuration of the
+ * {@link LogDispatcher}, there must be a single other {@link LogDispatcher} bean to decorate.
+ *
+ * @author Andy Lian
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({TailLogProperties.class})
+@ConditionalOnProperty(prefix = TailLogProperties.PREFIX, name = "enabled", havingValue = "true")
+public class TailLogConfiguration {
+
+  @Bean
+  @Primary
+  public TailLogDispatcher tailLogDispatcher(
+      final TailLogProperties tailLogProperties, final LogDispatcher logDispatcher) {
+    return new TailLogDispatcher(tailLogProperties, logDispatcher);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  static class ServletConfiguration {
+
+    @Bean
+    public TailLogServletFilter tailLogServletFilter(final TailLogDispatcher tailLogDispatcher) {
+      return new TailLogServletFilter(tailLogDispatcher);
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+  static class ReactiveConfiguration {
+
+    @Bean
+    public TailLogWebFilter tailLogWebFilter(final TailLogDispatcher tailLogDispatcher) {
+      return new TailLogWebFilter(tailLogDispatcher);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package im.aop.loggers.tail;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.util.LoggerUtil;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LogDispatcher} decorator buffering the log events of disabled levels into the {@link
+ * TailLogBuffer} bound to the calling thread, for the duration of a request.
+ *
+ * <p>The buffered log events are logged at the flush level, oldest first, when an advised method
+ * exits abnormally or when the request fails, and discarded otherwise. Log events of enabled levels
+ * are dispatched to the delegate as they are. The variables of the message template are rendered
+ * when the event is buffered, so that the buffer holds no reference to the method parameters and
+ * return value, and its memory is bounded by the maximum size of {@link TailLogProperties}.
+ *
+ * @author Andy Lian
+ */
+public class TailLogDispatcher implements LogDispatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TailLogDispatcher.class);
+
+  private final TailLogProperties properties;
+
+  private final LogDispatcher delegate;
+
+  private final ThreadLocal<TailLogBuffer> buffers = new ThreadLocal<>();
+
+  /**
+   * @param properties configuration properties
+   * @param delegate dispatches the log events of enabled levels and the flushed log events
+   */
+  public TailLogDispatcher(final TailLogProperties properties, final LogDispatcher delegate) {
+    this.properties = Objects.requireNonNull(properties);
+    this.delegate = Objects.requireNonNull(delegate);
+  }
+
+  public LogDispatcher getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Create an empty buffer, to be bound to the threads handling a request.
+   *
+   * @return buffer
+   */
+  public TailLogBuffer createBuffer() {
+    return new TailLogBuffer(properties.getMaxEvents(), properties.getMaxSize().toBytes());
+  }
+
+  /**
+   * Bind the buffer to the calling thread.
+   *
+   * @param buffer buffer to bind
+   * @return buffer previously bound, to restore with {@link #unbind(TailLogBuffer)}, or null
+   */
+  public TailLogBuffer bind(final TailLogBuffer buffer) {
+    final TailLogBuffer previousBuffer = buffers.get();
+    buffers.set(buffer);
+    return previousBuffer;
+  }
+
+  /**
+   * Restore the buffer bound to the calling thread before {@link #bind(TailLogBuffer)}.
+   *
+   * @param previousBuffer buffer previously bound, or null
+   */
+  public void unbind(final TailLogBuffer previousBuffer) {
+    if (previousBuffer == null) {
+      buffers.remove();
+    } else {
+      buffers.set(previousBuffer);
+    }
+  }
+
+  /**
+   * Log the buffered log events at the flush level, oldest first, and empty the buffer.
+   *
+   * @param buffer buffer to flush
+   */
+  public void flush(final TailLogBuffer buffer) {
+    final Level flushLevel = properties.getFlushLevel();
+    final long droppedCount = buffer.getDroppedCount();
+    final TailLogBuffer.TailLogEvent[] events = buffer.drain();
+    if (droppedCount > 0) {
+      LoggerUtil.log(
+          LOGGER, flushLevel, "[" + droppedCount + "] earlier log events dropped from buffer");
+    }
+    for (TailLogBuffer.TailLogEvent event : events) {
+      try {
+        event.log(delegate, flushLevel);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Failed to log event", e);
+      }
+    }
+  }
+
+  @Override
+  public boolean isEnabled(final Logger logger, final Level level) {
+    return delegate.isEnabled(logger, level) || isBuffered(level);
+  }
+
+  private boolean isBuffered(final Level level) {
+    return buffers.get() != null && level.compareTo(properties.getLevel()) >= 0;
+  }
+
+  @Override
+  public void dispatch(
+      final Logger logger,
+      final Level level,
+      final MessageTemplate messageTemplate,
+      final StringSupplierLookup stringLookup,
+      final Throwable exception) {
+    if (delegate.isEnabled(logger, level)) {
+      delegate.dispatch(logger, level, messageTemplate, stringLookup, exception);
+      return;
+    }
+
+    final TailLogBuffer buffer = buffers.get();
+    if (buffer != null && level.compareTo(properties.getLevel()) >= 0) {
+      buffer.add(
+          logger,
+          level,
+          messageTemplate,
+          stringLookup.renderedSnapshot(messageTemplate),
+          exception);
+    }
+  }
+
+  @Override
+  public void exitedAbnormally(final Throwable exception) {
+    delegate.exitedAbnormally(exception);
+
+    final TailLogBuffer buffer = buffers.get();
+    if (buffer != null) {
+      flush(buffer);
+    }
+  }
+}
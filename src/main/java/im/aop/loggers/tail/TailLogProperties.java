@@ -0,0 +1,43 @@
+package im.aop.loggers.tail;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.Level;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for {@link TailLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = TailLogProperties.PREFIX)
+public class TailLogProperties {
+
+  public static final String PREFIX = AopLoggersProperties.PREFIX + ".tail";
+
+  /** Whether to buffer the messages of disabled levels per request, logged if the request fails */
+  private boolean enabled = false;
+
+  /** Lowest level of the messages buffered */
+  @NotNull private Level level = Level.DEBUG;
+
+  /** Level the buffered messages are logged at when the request fails */
+  @NotNull private Level flushLevel = Level.INFO;
+
+  /** Maximum number of messages buffered per request, the oldest being dropped */
+  @Min(1)
+  private int maxEvents = 256;
+
+  /**
+   * Maximum estimated size of the rendered messages buffered per request, the oldest being dropped
+   */
+  @NotNull private DataSize maxSize = DataSize.ofKilobytes(256);
+}
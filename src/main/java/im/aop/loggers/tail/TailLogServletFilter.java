@@ -0,0 +1,55 @@
+package im.aop.loggers.tail;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter binding a {@link TailLogBuffer} to the thread handling the request, flushed if the
+ * request throws an exception or ends with a 5xx status, and discarded otherwise.
+ *
+ * <p>Log events of asynchronous request processing on other threads are not buffered.
+ *
+ * @author Andy Lian
+ */
+public class TailLogServletFilter extends OncePerRequestFilter implements OrderedFilter {
+
+  private final TailLogDispatcher tailLogDispatcher;
+
+  public TailLogServletFilter(final TailLogDispatcher tailLogDispatcher) {
+    this.tailLogDispatcher = Objects.requireNonNull(tailLogDispatcher);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    final TailLogBuffer previousBuffer = tailLogDispatcher.bind(buffer);
+    try {
+      filterChain.doFilter(request, response);
+      if (response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+        tailLogDispatcher.flush(buffer);
+      }
+    } catch (ServletException | IOException | RuntimeException | Error e) {
+      tailLogDispatcher.flush(buffer);
+      throw e;
+    } finally {
+      tailLogDispatcher.unbind(previousBuffer);
+      buffer.clear();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package im.aop.loggers.tail;
+
+import java.util.Objects;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux filter binding a {@link TailLogBuffer} to the thread subscribing to the handling of the
+ * request, flushed if the request signals an error or ends with a 5xx status, and discarded
+ * otherwise.
+ *
+ * <p>Log events of operators running on other threads, e.g. after a non-blocking call, are not
+ * buffered.
+ *
+ * @author Andy Lian
+ */
+public class TailLogWebFilter implements WebFilter, Ordered {
+
+  private final TailLogDispatcher tailLogDispatcher;
+
+  public TailLogWebFilter(final TailLogDispatcher tailLogDispatcher) {
+    this.tailLogDispatcher = Objects.requireNonNull(tailLogDispatcher);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+    return Mono.defer(
+        () -> {
+          final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+          return new BufferBindingMono(chain.filter(exchange), buffer)
+              .doOnSuccess(
+                  result -> {
+                    if (isServerError(exchange.getResponse().getStatusCode())) {
+                      tailLogDispatcher.flush(buffer);
+                    }
+                  })
+              .doOnError(exception -> tailLogDispatcher.flush(buffer))
+              .doFinally(signalType -> buffer.clear());
+        });
+  }
+
+  private boolean isServerError(final HttpStatusCode statusCode) {
+    return statusCode != null && statusCode.is5xxServerError();
+  }
+
+  /** Bind the buffer while subscribing to the source. */
+  private final class BufferBindingMono extends Mono<Void> {
+
+    private final Mono<Void> source;
+
+    private final TailLogBuffer buffer;
+
+    BufferBindingMono(final Mono<Void> source, final TailLogBuffer buffer) {
+      this.source = source;
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void subscribe(final CoreSubscriber<? super Void> actual) {
+      final TailLogBuffer previousBuffer = tailLogDispatcher.bind(buffer);
+      try {
+        source.subscribe(actual);
+      } finally {
+        tailLogDispatcher.unbind(previousBuffer);
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package im.aop.loggers.util;
+
+import java.util.function.Supplier;
+import org.aspectj.lang.Aspects;
+
+/**
+ * Resolve the instance of an aspect, depending on whether it is applied through Spring AOP proxies
+ * or woven by AspectJ compile-time or load-time weaving.
+ *
+ * @author Andy Lian
+ */
+public final class AspectUtil {
+
+  private AspectUtil() {}
+
+  /**
+   * Return the singleton bound by AspectJ when the aspect class was woven, so that the application
+   * context configures the instance invoked by the woven join points. Spring AOP skips aspect
+   * classes woven by AspectJ, so the aspect is never applied twice.
+   *
+   * @param aspectType aspect class
+   * @param aspectSupplier creates the aspect applied through Spring AOP proxies when not woven
+   * @param <T> aspect type
+   * @return aspect instance
+   */
+  public static <T> T aspectOf(final Class<T> aspectType, final Supplier<T> aspectSupplier) {
+    return Aspects.hasAspect(aspectType) ? Aspects.aspectOf(aspectType) : aspectSupplier.get();
+  }
+}
@@ -4,6 +4,8 @@ import im.aop.loggers.Level;
 import org.aspectj.lang.JoinPoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
 
 public final class LoggerUtil {
 
@@ -78,4 +80,21 @@ public final class LoggerUtil {
         break;
     }
   }
+
+  public static LoggingEventBuilder atLevel(final Logger logger, final Level level) {
+    switch (level) {
+      case TRACE:
+        return logger.atTrace();
+      case DEBUG:
+        return logger.atDebug();
+      case WARN:
+        return logger.atWarn();
+      case INFO:
+        return logger.atInfo();
+      case ERROR:
+        return logger.atError();
+      default:
+        return NOPLoggingEventBuilder.singleton();
+    }
+  }
 }
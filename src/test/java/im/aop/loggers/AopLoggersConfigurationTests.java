@@ -6,6 +6,8 @@ import im.aop.loggers.advice.afterreturning.LogAfterReturningConfiguration;
 import im.aop.loggers.advice.afterthrowing.LogAfterThrowingConfiguration;
 import im.aop.loggers.advice.around.LogAroundConfiguration;
 import im.aop.loggers.advice.before.LogBeforeConfiguration;
+import im.aop.loggers.dispatch.LogDispatcherConfiguration;
+import im.aop.loggers.metrics.AopLoggersMetricsConfiguration;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -79,4 +81,24 @@ class AopLoggersConfigurationTests {
               .isExactlyInstanceOf(LogBeforeConfiguration.class);
         });
   }
+
+  @Test
+  void logDispatcherConfigurationNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(LogDispatcherConfiguration.class))
+              .isNotNull()
+              .isExactlyInstanceOf(LogDispatcherConfiguration.class);
+        });
+  }
+
+  @Test
+  void aopLoggersMetricsConfigurationNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(AopLoggersMetricsConfiguration.class))
+              .isNotNull()
+              .isExactlyInstanceOf(AopLoggersMetricsConfiguration.class);
+        });
+  }
 }
@@ -124,6 +124,27 @@ class AopLoggersPropertiesTests {
             });
   }
 
+  @Test
+  void cancelledMessage_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getCancelledMessage())
+              .isEqualTo("[{method}] cancelled after [{element-count}] elements");
+        });
+  }
+
+  @Test
+  void cancelledMessage_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".cancelled-message=foo")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getCancelledMessage()).isEqualTo("foo");
+            });
+  }
+
   @Test
   void exitedAbnormallyLevel_defaultValue() {
     runner.run(
@@ -267,6 +288,222 @@ class AopLoggersPropertiesTests {
             });
   }
 
+  @Test
+  void deferEntering_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.isDeferEntering()).isFalse();
+        });
+  }
+
+  @Test
+  void deferEntering_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".defer-entering=true")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.isDeferEntering()).isTrue();
+            });
+  }
+
+  @Test
+  void deferredEnteringMessage_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getDeferredEnteringMessage())
+              .isEqualTo("Entering [{method}] at [{entered-at}] with parameters [{parameters}]");
+        });
+  }
+
+  @Test
+  void deferredEnteringMessage_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".deferred-entering-message=foo")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getDeferredEnteringMessage()).isEqualTo("foo");
+            });
+  }
+
+  @Test
+  void deferredExitedMessage_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getDeferredExitedMessage())
+              .isEqualTo(
+                  "[{method}] with parameters [{parameters}] exited normally with return value"
+                      + " [{return-value}] elapsed [{elapsed}]");
+        });
+  }
+
+  @Test
+  void deferredExitedMessage_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".deferred-exited-message=foo")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getDeferredExitedMessage()).isEqualTo("foo");
+            });
+  }
+
+  @Test
+  void repeatedExceptionPolicy_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getRepeatedExceptionPolicy())
+              .isEqualTo(RepeatedExceptionPolicy.LOG);
+        });
+  }
+
+  @Test
+  void repeatedExceptionPolicy_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".repeated-exception-policy=SKIP")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getRepeatedExceptionPolicy())
+                  .isEqualTo(RepeatedExceptionPolicy.SKIP);
+            });
+  }
+
+  @Test
+  void sampleRate_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getSampleRate()).isEqualTo(1.0);
+        });
+  }
+
+  @Test
+  void sampleRate_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".sample-rate=0.25")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getSampleRate()).isEqualTo(0.25);
+            });
+  }
+
+  @Test
+  void sampleRate_invalidValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".sample-rate=0")
+        .run(
+            context -> {
+              assertThat(context).hasFailed();
+            });
+  }
+
+  @Test
+  void maxPerSecond_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getMaxPerSecond()).isEqualTo(0);
+        });
+  }
+
+  @Test
+  void maxPerSecond_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".max-per-second=10")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getMaxPerSecond()).isEqualTo(10);
+            });
+  }
+
+  @Test
+  void exceptionsBypassSampling_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.isExceptionsBypassSampling()).isTrue();
+        });
+  }
+
+  @Test
+  void exceptionsBypassSampling_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".exceptions-bypass-sampling=false")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.isExceptionsBypassSampling()).isFalse();
+            });
+  }
+
+  @Test
+  void elapsedWarningsBypassSampling_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.isElapsedWarningsBypassSampling()).isTrue();
+        });
+  }
+
+  @Test
+  void elapsedWarningsBypassSampling_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".elapsed-warnings-bypass-sampling=false")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.isElapsedWarningsBypassSampling()).isFalse();
+            });
+  }
+
+  @Test
+  void advisorType_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getAdvisorType()).isEqualTo(AdvisorType.ASPECTJ);
+        });
+  }
+
+  @Test
+  void advisorType_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.getAdvisorType()).isEqualTo(AdvisorType.NATIVE);
+            });
+  }
+
+  @Test
+  void useIndex_defaultValue() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.isUseIndex()).isFalse();
+        });
+  }
+
+  @Test
+  void useIndex_givenPropertyValue() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".use-index=true")
+        .run(
+            context -> {
+              final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+              assertThat(properties.isUseIndex()).isTrue();
+            });
+  }
+
   @Test
   void committingTransactionLevel_defaultValue() {
     runner.run(
@@ -390,4 +627,13 @@ class AopLoggersPropertiesTests {
               assertThat(properties.getTransactionRollbackedMessage()).isEqualTo("foo");
             });
   }
+
+  @Test
+  void revision_incrementedWhenBound() {
+    runner.run(
+        context -> {
+          final AopLoggersProperties properties = context.getBean(AopLoggersProperties.class);
+          assertThat(properties.getRevision()).isEqualTo(1);
+        });
+  }
 }
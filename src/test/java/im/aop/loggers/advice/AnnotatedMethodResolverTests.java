@@ -0,0 +1,156 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.advice.before.LogBefore;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AnnotatedMethodResolver}.
+ *
+ * @author Andy Lian
+ */
+class AnnotatedMethodResolverTests {
+
+  private final AnnotatedMethodResolver<LogBefore> resolver =
+      new AnnotatedMethodResolver<>(LogBefore.class);
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @LogBefore(level = Level.INFO)
+  @interface ComposedLogBefore {}
+
+  static class TestMethodContext {
+
+    @LogBefore
+    public void annotated() {}
+
+    public void notAnnotated() {}
+
+    @LogBefore
+    void notPublic() {}
+
+    @ComposedLogBefore
+    public void composed() {}
+  }
+
+  @LogBefore(level = Level.WARN)
+  static class TestClassContext {
+
+    public void foo() {}
+
+    @LogBefore(level = Level.INFO)
+    public void annotated() {}
+
+    void notPublic() {}
+
+    @Override
+    public String toString() {
+      return super.toString();
+    }
+  }
+
+  static class ChildClassContext extends TestClassContext {
+
+    @Override
+    public void foo() {}
+  }
+
+  interface TestInterface {
+
+    @LogBefore
+    void foo();
+  }
+
+  static class TestInterfaceImpl implements TestInterface {
+
+    @Override
+    public void foo() {}
+  }
+
+  @Test
+  void resolve_annotatedMethod() throws NoSuchMethodException {
+    final Method method = TestMethodContext.class.getMethod("annotated");
+
+    assertThat(resolver.resolve(method, TestMethodContext.class))
+        .isSameAs(method.getAnnotation(LogBefore.class))
+        .isSameAs(resolver.resolve(method, TestMethodContext.class));
+  }
+
+  @Test
+  void resolve_notAnnotatedMethod() throws NoSuchMethodException {
+    final Method method = TestMethodContext.class.getMethod("notAnnotated");
+
+    assertThat(resolver.resolve(method, TestMethodContext.class)).isNull();
+  }
+
+  @Test
+  void resolve_notPublicMethod() throws NoSuchMethodException {
+    assertThat(
+            resolver.resolve(
+                TestMethodContext.class.getDeclaredMethod("notPublic"), TestMethodContext.class))
+        .isNull();
+    assertThat(
+            resolver.resolve(
+                TestClassContext.class.getDeclaredMethod("notPublic"), TestClassContext.class))
+        .isNull();
+  }
+
+  @Test
+  void resolve_composedAnnotation() throws NoSuchMethodException {
+    final Method method = TestMethodContext.class.getMethod("composed");
+
+    assertThat(resolver.resolve(method, TestMethodContext.class))
+        .extracting(LogBefore::level)
+        .isEqualTo(Level.INFO);
+  }
+
+  @Test
+  void resolve_annotatedClass() throws NoSuchMethodException {
+    final Method method = TestClassContext.class.getMethod("foo");
+
+    assertThat(resolver.resolve(method, TestClassContext.class))
+        .isSameAs(TestClassContext.class.getAnnotation(LogBefore.class));
+  }
+
+  @Test
+  void resolve_annotatedMethodOverridesAnnotatedClass() throws NoSuchMethodException {
+    final Method method = TestClassContext.class.getMethod("annotated");
+
+    assertThat(resolver.resolve(method, TestClassContext.class))
+        .isSameAs(method.getAnnotation(LogBefore.class))
+        .extracting(LogBefore::level)
+        .isEqualTo(Level.INFO);
+  }
+
+  @Test
+  void resolve_toStringOfAnnotatedClass() throws NoSuchMethodException {
+    assertThat(
+            resolver.resolve(TestClassContext.class.getMethod("toString"), TestClassContext.class))
+        .isNull();
+  }
+
+  @Test
+  void resolve_methodOverriddenInNotAnnotatedChildClass() throws NoSuchMethodException {
+    assertThat(resolver.resolve(TestClassContext.class.getMethod("foo"), ChildClassContext.class))
+        .isNull();
+  }
+
+  @Test
+  void resolve_annotatedInterfaceMethod() throws NoSuchMethodException {
+    final Method method = TestInterface.class.getMethod("foo");
+
+    assertThat(resolver.resolve(method, TestInterfaceImpl.class))
+        .isSameAs(method.getAnnotation(LogBefore.class));
+  }
+
+  @Test
+  void resolve_withoutTargetClass() throws NoSuchMethodException {
+    final Method method = TestMethodContext.class.getMethod("annotated");
+
+    assertThat(resolver.resolve(method, null)).isSameAs(method.getAnnotation(LogBefore.class));
+  }
+}
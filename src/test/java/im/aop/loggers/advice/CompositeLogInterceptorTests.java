@@ -0,0 +1,119 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import im.aop.loggers.AopLoggersConfiguration;
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.Level;
+import im.aop.loggers.advice.afterreturning.LogAfterReturning;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.before.LogBefore;
+import im.aop.loggers.advice.before.LogBeforeInterceptor;
+import im.aop.loggers.advice.before.LogBeforeService;
+import java.util.List;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.aop.framework.Advised;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * Tests for {@link CompositeLogInterceptor}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class CompositeLogInterceptorTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(
+              AopLoggersConfiguration.class, CompositeLogInterceptorTestConfiguration.class)
+          .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE");
+
+  @EnableAspectJAutoProxy
+  @TestConfiguration(proxyBeanMethods = false)
+  static class CompositeLogInterceptorTestConfiguration {
+
+    @Bean
+    public TestService testService() {
+      return new TestService();
+    }
+  }
+
+  @LogBefore(level = Level.INFO, enteringMessage = "class before")
+  static class TestService {
+
+    @LogBefore(level = Level.INFO, enteringMessage = "before")
+    @LogAround(level = Level.INFO, enteringMessage = "around", exitedMessage = "around exited")
+    @LogAfterReturning(level = Level.INFO, exitedMessage = "after returning {return-value}")
+    public String stacked() {
+      return "foo";
+    }
+
+    public String classContext() {
+      return "bar";
+    }
+  }
+
+  @Test
+  void stackedAnnotationsAdvisedOnce(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final TestService testService = context.getBean(TestService.class);
+          assertThat(((Advised) testService).getAdvisors()).hasSize(1);
+
+          assertThat(testService.stacked()).isEqualTo("foo");
+          assertThat(capturedOutput.getOut().lines())
+              .containsSubsequence(
+                  "INFO " + TestService.class.getName() + " - before",
+                  "INFO " + TestService.class.getName() + " - around",
+                  "INFO " + TestService.class.getName() + " - around exited",
+                  "INFO " + TestService.class.getName() + " - after returning foo")
+              .doesNotContain("INFO " + TestService.class.getName() + " - class before");
+        });
+  }
+
+  @Test
+  void classContextAdvisedOnce(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(TestService.class).classContext()).isEqualTo("bar");
+          assertThat(capturedOutput.getOut().lines())
+              .containsOnlyOnce("INFO " + TestService.class.getName() + " - class before");
+        });
+  }
+
+  @Test
+  void invoke_notProxyMethodInvocation() throws Throwable {
+    final CompositeLogInterceptor compositeLogInterceptor =
+        new CompositeLogInterceptor(
+            List.of(
+                new LogBeforeInterceptor(
+                    new AnnotatedMethodResolver<>(LogBefore.class),
+                    () -> mock(LogBeforeService.class)),
+                new LogMethodInterceptor<>(new AnnotatedMethodResolver<>(LogAround.class)) {
+
+                  @Override
+                  protected Object invoke(
+                      final MethodInvocation invocation, final LogAround logAround) {
+                    return null;
+                  }
+                }));
+    final MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.getMethod()).thenReturn(TestService.class.getMethod("stacked"));
+    when(invocation.getThis()).thenReturn(new TestService());
+
+    assertThatThrownBy(() -> compositeLogInterceptor.invoke(invocation))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("MethodInvocation is not a Spring ProxyMethodInvocation");
+  }
+}
@@ -0,0 +1,138 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.AopLoggersProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+/**
+ * Tests for {@link InvocationSampler}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class InvocationSamplerTests {
+
+  private final AopLoggersProperties aopLoggersProperties = new AopLoggersProperties();
+
+  @Test
+  void of_givenDefaultValues_returnAlways() {
+    assertThat(InvocationSampler.of(0.0, 0, aopLoggersProperties))
+        .isSameAs(InvocationSampler.ALWAYS);
+  }
+
+  @Test
+  void of_givenUnlimitedMaxPerSecond_overridesDefault() {
+    aopLoggersProperties.setMaxPerSecond(1);
+
+    assertThat(InvocationSampler.of(0.0, -1, aopLoggersProperties))
+        .isSameAs(InvocationSampler.ALWAYS);
+  }
+
+  @Test
+  void of_givenInvalidSampleRate_fallsBackToDefault(final CapturedOutput capturedOutput) {
+    assertThat(InvocationSampler.of(1.5, 0, aopLoggersProperties))
+        .isSameAs(InvocationSampler.ALWAYS);
+    assertThat(InvocationSampler.of(-0.5, 0, aopLoggersProperties))
+        .isSameAs(InvocationSampler.ALWAYS);
+    assertThat(InvocationSampler.of(Double.NaN, 0, aopLoggersProperties))
+        .isSameAs(InvocationSampler.ALWAYS);
+
+    assertThat(capturedOutput)
+        .contains("Ignoring sampleRate [1.5]")
+        .contains("Ignoring sampleRate [-0.5]")
+        .contains("Ignoring sampleRate [NaN]");
+  }
+
+  @Test
+  void sample_always() {
+    for (int index = 0; index < 1_000; index++) {
+      assertThat(InvocationSampler.ALWAYS.sample()).isTrue();
+    }
+  }
+
+  @Test
+  void sample_givenSampleRate() {
+    final InvocationSampler sampler = InvocationSampler.of(0.5, 0, aopLoggersProperties);
+
+    int sampled = 0;
+    for (int index = 0; index < 10_000; index++) {
+      if (sampler.sample()) {
+        sampled++;
+      }
+    }
+
+    assertThat(sampled).isBetween(4_000, 6_000);
+  }
+
+  @Test
+  void sample_givenDefaultSampleRate() {
+    aopLoggersProperties.setSampleRate(0.1);
+    final InvocationSampler sampler = InvocationSampler.of(0.0, 0, aopLoggersProperties);
+
+    int sampled = 0;
+    for (int index = 0; index < 10_000; index++) {
+      if (sampler.sample()) {
+        sampled++;
+      }
+    }
+
+    assertThat(sampled).isBetween(500, 1_500);
+  }
+
+  @Test
+  void sample_givenMaxPerSecond_allowsOneSecondBurst() {
+    final InvocationSampler sampler = InvocationSampler.of(0.0, 5, aopLoggersProperties);
+
+    int sampled = 0;
+    for (int index = 0; index < 100; index++) {
+      if (sampler.sample()) {
+        sampled++;
+      }
+    }
+
+    assertThat(sampled).isEqualTo(5);
+  }
+
+  @Test
+  void sample_givenMaxPerSecond_refillsOverTime() throws InterruptedException {
+    final InvocationSampler sampler = InvocationSampler.of(0.0, 10, aopLoggersProperties);
+    while (sampler.sample()) {}
+
+    Thread.sleep(250);
+
+    assertThat(sampler.sample()).isTrue();
+  }
+
+  @Test
+  void sample_givenMaxPerSecond_concurrently() throws InterruptedException {
+    final InvocationSampler sampler = InvocationSampler.of(0.0, 1_000, aopLoggersProperties);
+    final AtomicInteger sampled = new AtomicInteger();
+
+    final long startTime = System.nanoTime();
+    final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      executorService.execute(
+          () -> {
+            for (int index = 0; index < 10_000; index++) {
+              if (sampler.sample()) {
+                sampled.incrementAndGet();
+              }
+            }
+          });
+    }
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // One second of burst, plus one permit per millisecond elapsed.
+    assertThat(sampled.get()).isBetween(1_000, 1_000 + (int) elapsedMillis + 1);
+  }
+}
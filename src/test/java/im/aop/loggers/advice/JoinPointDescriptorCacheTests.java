@@ -0,0 +1,123 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.before.LogBefore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests for {@link JoinPointDescriptorCache}.
+ *
+ * @author Andy Lian
+ */
+class JoinPointDescriptorCacheTests {
+
+  static class Foo {
+
+    void foo() {}
+
+    void bar() {}
+  }
+
+  private AopLoggersProperties aopLoggersProperties;
+
+  private AtomicInteger createdCount;
+
+  private JoinPointDescriptorCache<LogBefore, Object> cache;
+
+  @BeforeEach
+  void beforeEach() {
+    aopLoggersProperties = new AopLoggersProperties();
+    createdCount = new AtomicInteger();
+    cache =
+        new JoinPointDescriptorCache<>(
+            aopLoggersProperties,
+            (joinPoint, annotation) -> {
+              createdCount.incrementAndGet();
+              return new Object();
+            });
+  }
+
+  @Test
+  void get_sameMethodAndAnnotation_returnsCachedDescriptor() throws NoSuchMethodException {
+    final JoinPoint joinPoint = mockJoinPoint("foo");
+    final LogBefore annotation = mock(LogBefore.class);
+
+    final Object descriptor = cache.get(joinPoint, annotation);
+
+    assertThat(cache.get(joinPoint, annotation)).isSameAs(descriptor);
+    assertThat(createdCount).hasValue(1);
+  }
+
+  @Test
+  void get_differentAnnotation_returnsDifferentDescriptor() throws NoSuchMethodException {
+    final JoinPoint joinPoint = mockJoinPoint("foo");
+
+    final Object descriptor = cache.get(joinPoint, mock(LogBefore.class));
+
+    assertThat(cache.get(joinPoint, mock(LogBefore.class))).isNotSameAs(descriptor);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void get_differentMethod_returnsDifferentDescriptor() throws NoSuchMethodException {
+    final LogBefore annotation = mock(LogBefore.class);
+
+    final Object descriptor = cache.get(mockJoinPoint("foo"), annotation);
+
+    assertThat(cache.get(mockJoinPoint("bar"), annotation)).isNotSameAs(descriptor);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void get_withoutMethodSignature_doesNotCache() {
+    final JoinPoint joinPoint = mock(JoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(mock(Signature.class));
+    final LogBefore annotation = mock(LogBefore.class);
+
+    cache.get(joinPoint, annotation);
+    cache.get(joinPoint, annotation);
+
+    assertThat(createdCount).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void get_afterPropertiesRebound_createsNewDescriptor() throws NoSuchMethodException {
+    final JoinPoint joinPoint = mockJoinPoint("foo");
+    final LogBefore annotation = mock(LogBefore.class);
+
+    final Object descriptor = cache.get(joinPoint, annotation);
+    ReflectionTestUtils.invokeMethod(aopLoggersProperties, "postConstruct");
+
+    assertThat(cache.get(joinPoint, annotation)).isNotSameAs(descriptor);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void clear() throws NoSuchMethodException {
+    cache.get(mockJoinPoint("foo"), mock(LogBefore.class));
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+  }
+
+  private JoinPoint mockJoinPoint(final String methodName) throws NoSuchMethodException {
+    final MethodSignature methodSignature = mock(MethodSignature.class);
+    when(methodSignature.getMethod()).thenReturn(Foo.class.getDeclaredMethod(methodName));
+
+    final JoinPoint joinPoint = mock(JoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(methodSignature);
+    return joinPoint;
+  }
+}
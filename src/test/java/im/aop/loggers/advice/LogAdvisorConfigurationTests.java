@@ -0,0 +1,58 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.around.LogAroundConfiguration;
+import im.aop.loggers.advice.around.LogAroundInterceptor;
+import im.aop.loggers.advice.before.LogBeforeConfiguration;
+import im.aop.loggers.advice.before.LogBeforeInterceptor;
+import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link LogAdvisorConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class LogAdvisorConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(
+              StringSubstitutorConfiguration.class,
+              LogBeforeConfiguration.class,
+              LogAroundConfiguration.class,
+              LogAdvisorConfiguration.class)
+          .withBean(AopLoggersProperties.class);
+
+  @Test
+  void logAdvisorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAdvisor.class).getAdvice())
+                  .isInstanceOfSatisfying(
+                      CompositeLogInterceptor.class,
+                      compositeLogInterceptor ->
+                          assertThat(compositeLogInterceptor.getInterceptors())
+                              .containsExactly(
+                                  context.getBean(LogBeforeInterceptor.class),
+                                  context.getBean(LogAroundInterceptor.class)));
+            });
+  }
+
+  @Test
+  void logAdvisorNull_byDefault() {
+    runner.run(context -> assertThat(context).doesNotHaveBean(LogAdvisor.class));
+  }
+
+  @Test
+  void logAdvisorNull_whenAspectjAdvisorType() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=ASPECTJ")
+        .run(context -> assertThat(context).doesNotHaveBean(LogAdvisor.class));
+  }
+}
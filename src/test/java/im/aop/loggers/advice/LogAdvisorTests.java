@@ -0,0 +1,97 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.around.LogAroundInterceptor;
+import im.aop.loggers.advice.around.LogAroundService;
+import im.aop.loggers.advice.before.LogBefore;
+import im.aop.loggers.advice.before.LogBeforeInterceptor;
+import im.aop.loggers.advice.before.LogBeforeService;
+import im.aop.loggers.index.AopLoggersIndex;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.ClassFilter;
+
+/**
+ * Tests for {@link LogAdvisor}.
+ *
+ * @author Andy Lian
+ */
+class LogAdvisorTests {
+
+  private final LogBeforeInterceptor interceptor =
+      new LogBeforeInterceptor(
+          new AnnotatedMethodResolver<>(LogBefore.class), () -> mock(LogBeforeService.class));
+
+  static class TestMethodContext {
+
+    @LogBefore
+    public void annotated() {}
+
+    public void notAnnotated() {}
+  }
+
+  @LogAround
+  static class TestLogAroundContext {
+
+    public void foo() {}
+  }
+
+  @Test
+  void matches() throws NoSuchMethodException {
+    final LogAdvisor logAdvisor = new LogAdvisor(List.of(interceptor), null);
+
+    assertThat(logAdvisor.getAdvice())
+        .isInstanceOfSatisfying(
+            CompositeLogInterceptor.class,
+            compositeLogInterceptor ->
+                assertThat(compositeLogInterceptor.getInterceptors()).containsExactly(interceptor));
+    assertThat(logAdvisor.getClassFilter()).isSameAs(ClassFilter.TRUE);
+    assertThat(
+            logAdvisor.matches(
+                TestMethodContext.class.getMethod("annotated"), TestMethodContext.class))
+        .isTrue();
+    assertThat(
+            logAdvisor.matches(
+                TestMethodContext.class.getMethod("notAnnotated"), TestMethodContext.class))
+        .isFalse();
+  }
+
+  @Test
+  void classFilter_withIndex() {
+    final LogAdvisor logAdvisor =
+        new LogAdvisor(List.of(interceptor), AopLoggersIndex.load(getClass().getClassLoader()));
+
+    assertThat(logAdvisor.getClassFilter().matches(TestMethodContext.class)).isTrue();
+    assertThat(logAdvisor.getClassFilter().matches(LogAdvisorTests.class)).isFalse();
+  }
+
+  @Test
+  void classFilter_withIndexOfSeveralAnnotations() {
+    final LogAdvisor logAdvisor =
+        new LogAdvisor(
+            List.of(
+                interceptor,
+                new LogAroundInterceptor(
+                    new AnnotatedMethodResolver<>(LogAround.class),
+                    () -> mock(LogAroundService.class))),
+            AopLoggersIndex.load(getClass().getClassLoader()));
+
+    assertThat(logAdvisor.getClassFilter().matches(TestMethodContext.class)).isTrue();
+    assertThat(logAdvisor.getClassFilter().matches(TestLogAroundContext.class)).isTrue();
+    assertThat(logAdvisor.getClassFilter().matches(LogAdvisorTests.class)).isFalse();
+  }
+
+  @Test
+  void classFilter_withoutIndex() {
+    final LogAdvisor logAdvisor =
+        new LogAdvisor(
+            List.of(interceptor), AopLoggersIndex.load(new URLClassLoader(new URL[0], null)));
+
+    assertThat(logAdvisor.getClassFilter()).isSameAs(ClassFilter.TRUE);
+  }
+}
@@ -0,0 +1,59 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import im.aop.loggers.advice.before.LogBefore;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LogMethodInterceptor}.
+ *
+ * @author Andy Lian
+ */
+class LogMethodInterceptorTests {
+
+  private final LogMethodInterceptor<LogBefore> interceptor =
+      new LogMethodInterceptor<>(new AnnotatedMethodResolver<>(LogBefore.class)) {
+
+        @Override
+        protected Object invoke(final MethodInvocation invocation, final LogBefore logBefore) {
+          return joinPoint(invocation);
+        }
+      };
+
+  static class TestMethodContext {
+
+    @LogBefore
+    public String annotated() {
+      return "annotated";
+    }
+
+    public String notAnnotated() {
+      return "notAnnotated";
+    }
+  }
+
+  @Test
+  void invoke_notAnnotated() throws Throwable {
+    final MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.getMethod()).thenReturn(TestMethodContext.class.getMethod("notAnnotated"));
+    when(invocation.getThis()).thenReturn(new TestMethodContext());
+    when(invocation.proceed()).thenReturn("notAnnotated");
+
+    assertThat(interceptor.invoke(invocation)).isEqualTo("notAnnotated");
+  }
+
+  @Test
+  void invoke_notProxyMethodInvocation() throws Throwable {
+    final MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.getMethod()).thenReturn(TestMethodContext.class.getMethod("annotated"));
+
+    assertThatThrownBy(() -> interceptor.invoke(invocation))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("MethodInvocation is not a Spring ProxyMethodInvocation");
+  }
+}
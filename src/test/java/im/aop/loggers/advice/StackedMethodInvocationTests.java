@@ -0,0 +1,111 @@
+package im.aop.loggers.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import im.aop.loggers.advice.before.LogBefore;
+import java.lang.reflect.Method;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.ProxyMethodInvocation;
+
+/**
+ * Tests for {@link StackedMethodInvocation}.
+ *
+ * @author Andy Lian
+ */
+class StackedMethodInvocationTests {
+
+  private final ProxyMethodInvocation invocation = mock(ProxyMethodInvocation.class);
+
+  private final LogBefore annotation = mock(LogBefore.class);
+
+  @SuppressWarnings("unchecked")
+  private final LogMethodInterceptor<LogBefore> interceptor = mock(LogMethodInterceptor.class);
+
+  private CompositeLogInterceptor.ResolvedInterceptor<?>[] interceptors;
+
+  @BeforeEach
+  void beforeEach() throws Throwable {
+    interceptors =
+        new CompositeLogInterceptor.ResolvedInterceptor<?>[] {
+          new CompositeLogInterceptor.ResolvedInterceptor<>(interceptor, annotation)
+        };
+    when(interceptor.invoke(any(MethodInvocation.class), same(annotation)))
+        .thenAnswer(
+            invocation ->
+                "intercepted " + ((MethodInvocation) invocation.getArgument(0)).proceed());
+  }
+
+  @Test
+  void proceed_invokesRemainingInterceptors() throws Throwable {
+    when(invocation.proceed()).thenReturn("foo");
+
+    assertThat(new StackedMethodInvocation(invocation, interceptors, 0).proceed())
+        .isEqualTo("intercepted foo");
+  }
+
+  @Test
+  void proceed_withoutRemainingInterceptors() throws Throwable {
+    when(invocation.proceed()).thenReturn("foo");
+
+    assertThat(new StackedMethodInvocation(invocation, interceptors, 1).proceed()).isEqualTo("foo");
+  }
+
+  @Test
+  void invocableClone_proceedsFromSameInterceptor() throws Throwable {
+    final ProxyMethodInvocation clone = mock(ProxyMethodInvocation.class);
+    when(clone.proceed()).thenReturn("bar");
+    when(invocation.invocableClone()).thenReturn(clone);
+
+    assertThat(new StackedMethodInvocation(invocation, interceptors, 0).invocableClone().proceed())
+        .isEqualTo("intercepted bar");
+  }
+
+  @Test
+  void invocableClone_givenArguments() throws Throwable {
+    final ProxyMethodInvocation clone = mock(ProxyMethodInvocation.class);
+    when(clone.proceed()).thenReturn("bar");
+    when(invocation.invocableClone("baz")).thenReturn(clone);
+
+    assertThat(
+            new StackedMethodInvocation(invocation, interceptors, 1)
+                .invocableClone("baz")
+                .proceed())
+        .isEqualTo("bar");
+  }
+
+  @Test
+  void delegatesToInvocation() throws NoSuchMethodException {
+    final Method method = Object.class.getMethod("toString");
+    final Object proxy = new Object();
+    final Object target = new Object();
+    final Object[] arguments = {"foo"};
+    when(invocation.getProxy()).thenReturn(proxy);
+    when(invocation.getMethod()).thenReturn(method);
+    when(invocation.getArguments()).thenReturn(arguments);
+    when(invocation.getThis()).thenReturn(target);
+    when(invocation.getStaticPart()).thenReturn(method);
+    when(invocation.getUserAttribute("foo")).thenReturn("bar");
+
+    final StackedMethodInvocation stackedInvocation =
+        new StackedMethodInvocation(invocation, interceptors, 0);
+    stackedInvocation.setArguments("bar");
+    stackedInvocation.setUserAttribute("baz", "qux");
+
+    assertThat(stackedInvocation.getProxy()).isSameAs(proxy);
+    assertThat(stackedInvocation.getMethod()).isSameAs(method);
+    assertThat(stackedInvocation.getArguments()).isSameAs(arguments);
+    assertThat(stackedInvocation.getThis()).isSameAs(target);
+    assertThat(stackedInvocation.getStaticPart()).isSameAs(method);
+    assertThat(stackedInvocation.getUserAttribute("foo")).isEqualTo("bar");
+    assertThat(stackedInvocation.toString()).startsWith("StackedMethodInvocation: ");
+    verify(invocation).setArguments("bar");
+    verify(invocation).setUserAttribute("baz", "qux");
+  }
+}
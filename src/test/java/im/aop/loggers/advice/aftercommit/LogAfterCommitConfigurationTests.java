@@ -27,9 +27,23 @@ class LogAfterCommitConfigurationTests {
           assertThat(context.getBean(LogAfterCommitAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogAfterCommitAdvice.class);
+          assertThat(context).doesNotHaveBean(LogAfterCommitInterceptor.class);
         });
   }
 
+  @Test
+  void logAfterCommitInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAfterCommitInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogAfterCommitInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogAfterCommitAdvice.class);
+            });
+  }
+
   @Test
   void logAfterServiceNotNull() {
     runner.run(
@@ -7,6 +7,9 @@ import static org.mockito.Mockito.when;
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +35,7 @@ class LogAfterCommitServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogAfterCommitService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -135,36 +139,41 @@ class LogAfterCommitServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
           final LogAfterCommit annotation = mockLogAfterCommit(Level.DEBUG, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterCommitService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterCommitService service = context.getBean(LogAfterCommitService.class);
           service.logAfterCommit(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logAfterCommit] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_COMMIT);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogAfterCommit annotation = mockLogAfterCommit(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterCommitService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterCommitService service = context.getBean(LogAfterCommitService.class);
           service.logAfterCommit(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logAfterCommit] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_COMMIT);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
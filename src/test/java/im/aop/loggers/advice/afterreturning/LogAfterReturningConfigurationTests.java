@@ -27,9 +27,23 @@ class LogAfterReturningConfigurationTests {
           assertThat(context.getBean(LogAfterReturningAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogAfterReturningAdvice.class);
+          assertThat(context).doesNotHaveBean(LogAfterReturningInterceptor.class);
         });
   }
 
+  @Test
+  void logAfterReturningInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAfterReturningInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogAfterReturningInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogAfterReturningAdvice.class);
+            });
+  }
+
   @Test
   void logAfterReturningServiceNotNull() {
     runner.run(
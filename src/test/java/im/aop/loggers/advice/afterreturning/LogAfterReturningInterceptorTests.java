@@ -0,0 +1,352 @@
+package im.aop.loggers.advice.afterreturning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.AnnotatedMethodResolver;
+import im.aop.loggers.advice.LogAdvisor;
+import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import java.util.List;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Tests for {@link LogAfterReturningInterceptor}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class LogAfterReturningInterceptorTests {
+
+  private ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(
+              StringSubstitutorConfiguration.class,
+              LogAfterReturningInterceptorTestConfiguration.class)
+          .withBean(AopLoggersProperties.class);
+
+  @EnableAspectJAutoProxy
+  @TestConfiguration(proxyBeanMethods = false)
+  static class LogAfterReturningInterceptorTestConfiguration {
+
+    @Bean
+    public LogAdvisor logAdvisor(
+        final ObjectProvider<LogAfterReturningService> logAfterReturningService) {
+      return new LogAdvisor(
+          List.of(
+              new LogAfterReturningInterceptor(
+                  new AnnotatedMethodResolver<>(LogAfterReturning.class),
+                  SingletonSupplier.of(logAfterReturningService::getObject))),
+          null);
+    }
+
+    @Bean
+    public LogAfterReturningService logAfterReturningService(
+        final AopLoggersProperties aopLoggersProperties) {
+      return new LogAfterReturningService(aopLoggersProperties) {
+
+        @Override
+        public void logAfterReturning(
+            JoinPoint joinPoint, LogAfterReturning logAfterReturning, Object returnedValue) {
+          LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringType())
+              .info("joinPoint={}, returnedValue={}", joinPoint, returnedValue);
+        }
+      };
+    }
+  }
+
+  static class TestMethodContext {
+
+    @LogAfterReturning
+    public void methodWithoutParameter() {}
+
+    @LogAfterReturning
+    public void methodWithParameter(String foo) {}
+
+    @LogAfterReturning
+    public String methodWithResult() {
+      return "foo";
+    }
+
+    @LogAfterReturning
+    @Override
+    public String toString() {
+      return super.toString();
+    }
+  }
+
+  @Nested
+  class MethodContextTests {
+
+    @Test
+    void methodWithoutParameter_annotatedOnMethod(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestMethodContext.class)
+          .run(
+              context -> {
+                final TestMethodContext methodContext = context.getBean(TestMethodContext.class);
+                methodContext.methodWithoutParameter();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + TestMethodContext.class.getName()
+                            + ".methodWithoutParameter())")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithParameter_annotatedOnMethod(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestMethodContext.class)
+          .run(
+              context -> {
+                final TestMethodContext methodContext = context.getBean(TestMethodContext.class);
+                methodContext.methodWithParameter("foo");
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + TestMethodContext.class.getName()
+                            + ".methodWithParameter(String))")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithResult_annotatedOnMethod(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestMethodContext.class)
+          .run(
+              context -> {
+                final TestMethodContext methodContext = context.getBean(TestMethodContext.class);
+                methodContext.methodWithResult();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(String "
+                            + TestMethodContext.class.getName()
+                            + ".methodWithResult())")
+                    .contains("returnedValue=foo");
+              });
+    }
+
+    @Test
+    void toString_annotatedOnMethod(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestMethodContext.class)
+          .run(
+              context -> {
+                final TestMethodContext methodContext = context.getBean(TestMethodContext.class);
+                methodContext.toString();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(String "
+                            + TestMethodContext.class.getName()
+                            + ".toString())")
+                    .contains("returnedValue=" + TestMethodContext.class.getName());
+              });
+    }
+  }
+
+  @LogAfterReturning
+  static class TestClassContext {
+
+    public void methodWithoutParameter() {}
+
+    public void methodWithParameter(String foo) {}
+
+    public String methodWithResult() {
+      return "foo";
+    }
+
+    @Override
+    public String toString() {
+      return super.toString();
+    }
+  }
+
+  @Nested
+  class ClassContextTests {
+
+    @Test
+    void methodWithoutParameter_annotatedOnClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestClassContext.class)
+          .run(
+              context -> {
+                final TestClassContext classContext = context.getBean(TestClassContext.class);
+                classContext.methodWithoutParameter();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + TestClassContext.class.getName()
+                            + ".methodWithoutParameter())")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithParameter_annotatedOnClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestClassContext.class)
+          .run(
+              context -> {
+                final TestClassContext classContext = context.getBean(TestClassContext.class);
+                classContext.methodWithParameter("foo");
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + TestClassContext.class.getName()
+                            + ".methodWithParameter(String))")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithResult_annotatedOnClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestClassContext.class)
+          .run(
+              context -> {
+                final TestClassContext classContext = context.getBean(TestClassContext.class);
+                classContext.methodWithResult();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(String "
+                            + TestClassContext.class.getName()
+                            + ".methodWithResult())")
+                    .contains("returnedValue=foo");
+              });
+    }
+
+    @Test
+    void toString_annotatedOnClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestClassContext.class)
+          .run(
+              context -> {
+                final TestClassContext classContext = context.getBean(TestClassContext.class);
+                classContext.toString();
+
+                assertThat(capturedOutput)
+                    .doesNotContain(
+                        "joinPoint=execution(String "
+                            + TestClassContext.class.getName()
+                            + ".toString())")
+                    .doesNotContain("returnedValue=" + TestClassContext.class.getName());
+              });
+    }
+  }
+
+  @LogAfterReturning
+  static class ParentClassContext {
+
+    public void methodWithoutParameter() {}
+
+    public void methodWithParameter(String foo) {}
+
+    public String methodWithResult() {
+      return "foo";
+    }
+
+    @Override
+    public String toString() {
+      return super.toString();
+    }
+  }
+
+  static class ChildClassContext extends ParentClassContext {}
+
+  @Nested
+  class ChildClassContextTests {
+
+    @Test
+    void methodWithoutParameter_annotatedOnChildClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(ChildClassContext.class)
+          .run(
+              context -> {
+                final ChildClassContext classContext = context.getBean(ChildClassContext.class);
+                classContext.methodWithoutParameter();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + ParentClassContext.class.getName()
+                            + ".methodWithoutParameter())")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithParameter_annotatedOnChildClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(ChildClassContext.class)
+          .run(
+              context -> {
+                final ChildClassContext classContext = context.getBean(ChildClassContext.class);
+                classContext.methodWithParameter("foo");
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(void "
+                            + ParentClassContext.class.getName()
+                            + ".methodWithParameter(String))")
+                    .contains("returnedValue=null");
+              });
+    }
+
+    @Test
+    void methodWithResult_annotatedOnChildClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(ChildClassContext.class)
+          .run(
+              context -> {
+                final ChildClassContext classContext = context.getBean(ChildClassContext.class);
+                classContext.methodWithResult();
+
+                assertThat(capturedOutput)
+                    .contains(
+                        "joinPoint=execution(String "
+                            + ParentClassContext.class.getName()
+                            + ".methodWithResult())")
+                    .contains("returnedValue=foo");
+              });
+    }
+
+    @Test
+    void toString_annotatedOnChildClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(ChildClassContext.class)
+          .run(
+              context -> {
+                final ChildClassContext classContext = context.getBean(ChildClassContext.class);
+                classContext.toString();
+
+                assertThat(capturedOutput)
+                    .doesNotContain(
+                        "joinPoint=execution(String "
+                            + ParentClassContext.class.getName()
+                            + ".toString())")
+                    .doesNotContain("returnedValue=" + ChildClassContext.class.getName());
+              });
+    }
+  }
+}
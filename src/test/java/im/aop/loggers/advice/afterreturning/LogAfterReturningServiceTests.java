@@ -7,6 +7,10 @@ import static org.mockito.Mockito.when;
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
+import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +36,7 @@ class LogAfterReturningServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogAfterReturningService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -138,36 +143,41 @@ class LogAfterReturningServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
           final LogAfterReturning annotation = mockLogAfterReturning(Level.DEBUG, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterReturningService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterReturningService service = context.getBean(LogAfterReturningService.class);
           service.logAfterReturning(joinPoint, annotation, "foo");
 
-          assertThat(capturedOutput).contains("[logAfterReturning] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_RETURNING);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogAfterReturning annotation = mockLogAfterReturning(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterReturningService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterReturningService service = context.getBean(LogAfterReturningService.class);
           service.logAfterReturning(joinPoint, annotation, "foo");
 
-          assertThat(capturedOutput).contains("[logAfterReturning] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_RETURNING);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
@@ -200,4 +210,27 @@ class LogAfterReturningServiceTests {
 
     return annotation;
   }
+
+  @Test
+  void logMessage_rateLimited(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAfterReturning annotation = mockLogAfterReturning(Level.INFO, "foo");
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAfterReturningService service = context.getBean(LogAfterReturningService.class);
+          service.logAfterReturning(joinPoint, annotation, "foo");
+          service.logAfterReturning(joinPoint, annotation, "foo");
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "INFO " + Foo.class.getName() + " - foo"))
+              .isEqualTo(1);
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_RETURNING);
+          assertThat(statistics.getSkippedInvocations()).isEqualTo(1);
+        });
+  }
 }
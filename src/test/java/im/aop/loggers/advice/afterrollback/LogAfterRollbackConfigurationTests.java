@@ -27,9 +27,23 @@ class LogAfterRollbackConfigurationTests {
           assertThat(context.getBean(LogAfterRollbackAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogAfterRollbackAdvice.class);
+          assertThat(context).doesNotHaveBean(LogAfterRollbackInterceptor.class);
         });
   }
 
+  @Test
+  void logAfterRollbackInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAfterRollbackInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogAfterRollbackInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogAfterRollbackAdvice.class);
+            });
+  }
+
   @Test
   void logAfterServiceNotNull() {
     runner.run(
@@ -7,6 +7,9 @@ import static org.mockito.Mockito.when;
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +35,7 @@ class LogAfterRollbackServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogAfterRollbackService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -138,36 +142,41 @@ class LogAfterRollbackServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLoggingLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
           final LogAfterRollback annotation = mockLogAfterCommit(Level.DEBUG, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterRollbackService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterRollbackService service = context.getBean(LogAfterRollbackService.class);
           service.logAfterRollback(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logAfterRollback] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_ROLLBACK);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogAfterRollback annotation = mockLogAfterCommit(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterRollbackService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterRollbackService service = context.getBean(LogAfterRollbackService.class);
           service.logAfterRollback(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logAfterRollback] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_ROLLBACK);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
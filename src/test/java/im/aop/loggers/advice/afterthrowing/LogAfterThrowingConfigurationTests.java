@@ -27,9 +27,23 @@ class LogAfterThrowingConfigurationTests {
           assertThat(context.getBean(LogAfterThrowingAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogAfterThrowingAdvice.class);
+          assertThat(context).doesNotHaveBean(LogAfterThrowingInterceptor.class);
         });
   }
 
+  @Test
+  void logAfterThrowingInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAfterThrowingInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogAfterThrowingInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogAfterThrowingAdvice.class);
+            });
+  }
+
   @Test
   void logAfterThrowingServiceNotNull() {
     runner.run(
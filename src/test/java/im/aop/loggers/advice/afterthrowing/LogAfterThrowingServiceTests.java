@@ -1,14 +1,25 @@
 package im.aop.loggers.advice.afterthrowing;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.RepeatedExceptionPolicy;
 import im.aop.loggers.advice.afterreturning.LogAfterReturningService;
+import im.aop.loggers.exception.ExceptionDeduplicationConfiguration;
+import im.aop.loggers.exception.ExceptionDeduplicationProperties;
+import im.aop.loggers.exception.StackTraceConfiguration;
+import im.aop.loggers.exception.StackTraceProperties;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
-import org.aspectj.lang.JoinPoint;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.assertj.core.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +45,7 @@ class LogAfterThrowingServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogAfterThrowingService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -47,7 +59,7 @@ class LogAfterThrowingServiceTests {
 
   private MethodSignature methodSignature;
 
-  private JoinPoint joinPoint;
+  private ProceedingJoinPoint joinPoint;
 
   @BeforeEach
   void beforeEach() throws NoSuchMethodException {
@@ -238,24 +250,26 @@ class LogAfterThrowingServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
-          final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", null);
+          final LogAfterThrowing annotation = mockLogAfterThrowing(Level.WARN, "foo", null);
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterThrowingService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
           service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
 
-          assertThat(capturedOutput).contains("[logAfterThrowing] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenMatchPropertyIgnoreExceptions(final CapturedOutput capturedOutput) {
+  void recordInvocation_whenMatchPropertyIgnoreExceptions() {
     runner
         .withPropertyValues(
             AopLoggersProperties.PREFIX + ".ignore-exceptions=java.lang.RuntimeException")
@@ -264,49 +278,56 @@ class LogAfterThrowingServiceTests {
               final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", null);
               LoggingSystem.get(ClassLoader.getSystemClassLoader())
                   .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
-              LoggingSystem.get(ClassLoader.getSystemClassLoader())
-                  .setLogLevel(LogAfterThrowingService.class.getName(), LogLevel.DEBUG);
 
               final LogAfterThrowingService service =
                   context.getBean(LogAfterThrowingService.class);
               service.logAfterThrowing(joinPoint, annotation, new RuntimeException());
 
-              assertThat(capturedOutput).contains("[logAfterThrowing] elapsed [");
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getInvocations()).isEqualTo(1);
+              assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+              assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
             });
   }
 
   @Test
-  void logElapsed_whenMatchAttributeIgnoreExceptions(final CapturedOutput capturedOutput) {
+  void recordInvocation_whenMatchAttributeIgnoreExceptions() {
     runner.run(
         context -> {
           final LogAfterThrowing annotation =
               mockLogAfterThrowing(Level.ERROR, "foo", Arrays.array(RuntimeException.class));
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterThrowingService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
           service.logAfterThrowing(joinPoint, annotation, new RuntimeException());
 
-          assertThat(capturedOutput).contains("[logAfterThrowing] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", null);
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAfterThrowingService.class.getName(), LogLevel.DEBUG);
 
           final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
           service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
 
-          assertThat(capturedOutput).contains("[logAfterThrowing] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
@@ -384,11 +405,341 @@ class LogAfterThrowingServiceTests {
     return mock;
   }
 
-  private JoinPoint mockJoinPoint(final MethodSignature methodSignature) {
-    final JoinPoint mock = mock(JoinPoint.class);
+  private ProceedingJoinPoint mockJoinPoint(final MethodSignature methodSignature) {
+    final ProceedingJoinPoint mock = mock(ProceedingJoinPoint.class);
 
     when(mock.getSignature()).thenReturn(methodSignature);
 
     return mock;
   }
+
+  @Test
+  void logMessage_bypassesRateLimit(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", null);
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+          final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
+          service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+          service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+              .isEqualTo(2);
+        });
+  }
+
+  @Test
+  void logMessage_rateLimited_whenNotBypassingSampling(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".exceptions-bypass-sampling=false")
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", null);
+              when(annotation.maxPerSecond()).thenReturn(1L);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+              service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(1);
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getSkippedInvocations()).isEqualTo(1);
+            });
+  }
+
+  @Test
+  void logMessage_identicalExceptionsSuppressed(final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              for (int index = 0; index < 3; index++) {
+                service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+              }
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(1);
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(1);
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getSuppressedMessages()).isEqualTo(2);
+            });
+  }
+
+  @Test
+  void logAfterThrowing_identicalExceptionsSummarizedOnceStopped(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", false);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              for (int index = 0; index < 3; index++) {
+                service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+              }
+
+              assertThat(capturedOutput.getOut()).doesNotContain("identical exceptions");
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+            });
+
+    assertThat(capturedOutput.getOut()).contains("suppressed [2] identical exceptions");
+  }
+
+  /**
+   * Invoke the annotated method through the service, logging the exception thrown by an inner
+   * annotated method before rethrowing it.
+   */
+  private void logNested(
+      final LogAfterThrowingService service,
+      final LogAfterThrowing innerAnnotation,
+      final LogAfterThrowing annotation,
+      final Throwable innerException,
+      final Throwable exception)
+      throws Throwable {
+    doAnswer(
+            invocation -> {
+              service.logAfterThrowing(joinPoint, innerAnnotation, innerException);
+              throw exception;
+            })
+        .when(joinPoint)
+        .proceed();
+    assertThrows(exception.getClass(), () -> service.logAfterThrowing(joinPoint, annotation));
+  }
+
+  @Test
+  void logMessage_proceedingJoinPoint(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+          final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
+          when(joinPoint.proceed()).thenReturn("bar").thenThrow(new RuntimeException("foo"));
+
+          assertThat(service.logAfterThrowing(joinPoint, annotation)).isEqualTo("bar");
+          assertThrows(
+              RuntimeException.class, () -> service.logAfterThrowing(joinPoint, annotation));
+
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "ERROR " + Foo.class.getName() + " - foo", "java.lang.RuntimeException: foo");
+        });
+  }
+
+  @Test
+  void logMessage_repeatedException_logged(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+          final LogAfterThrowingService service = context.getBean(LogAfterThrowingService.class);
+          final RuntimeException exception = new RuntimeException("foo");
+          logNested(service, annotation, annotation, exception, exception);
+
+          assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+              .isEqualTo(2);
+        });
+  }
+
+  @Test
+  void logMessage_repeatedException_loggedWithoutStackTrace(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              final RuntimeException exception = new RuntimeException("foo");
+              logNested(
+                  service, annotation, annotation, exception, new IllegalStateException(exception));
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(2);
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(1);
+              assertThat(capturedOutput).doesNotContain("IllegalStateException");
+            });
+  }
+
+  @Test
+  void logMessage_repeatedException_loggedWithStackTraceByNextInvocation(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              final RuntimeException exception = new RuntimeException("foo");
+              logNested(service, annotation, annotation, exception, exception);
+              logNested(service, annotation, annotation, exception, exception);
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(4);
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(2);
+            });
+  }
+
+  @Test
+  void logMessage_repeatedException_loggedWithoutStackTraceByInnerMethod(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAfterThrowing innerAnnotation =
+                  mockLogAfterThrowing(Level.ERROR, "inner", false);
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              final RuntimeException exception = new RuntimeException("foo");
+              logNested(service, innerAnnotation, annotation, exception, exception);
+
+              assertThat(capturedOutput)
+                  .containsSubsequence(
+                      "ERROR " + Foo.class.getName() + " - inner",
+                      "ERROR " + Foo.class.getName() + " - foo",
+                      "java.lang.RuntimeException: foo");
+            });
+  }
+
+  @Test
+  void logMessage_repeatedException_deduplicated(final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(
+            ExceptionDeduplicationProperties.PREFIX + ".enabled=true",
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              final RuntimeException exception = new RuntimeException("foo");
+              logNested(service, annotation, annotation, exception, exception);
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(1);
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
+            });
+  }
+
+  @Test
+  void logMessage_repeatedException_skipped(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.SKIP)
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              final RuntimeException exception = new RuntimeException("foo");
+              logNested(service, annotation, annotation, exception, exception);
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(1);
+              final AdviceStatistics statistics =
+                  context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AFTER_THROWING);
+              assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
+            });
+  }
+
+  @Test
+  void logMessage_renderedStackTrace(final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(StackTraceConfiguration.class)
+        .withPropertyValues(StackTraceProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAfterThrowing annotation = mockLogAfterThrowing(Level.ERROR, "foo", true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final LogAfterThrowingService service =
+                  context.getBean(LogAfterThrowingService.class);
+              service.logAfterThrowing(joinPoint, annotation, new RuntimeException("foo"));
+
+              assertThat(capturedOutput)
+                  .containsSubsequence(
+                      "ERROR " + Foo.class.getName() + " - foo" + System.lineSeparator(),
+                      "java.lang.RuntimeException: foo" + System.lineSeparator(),
+                      "\tat " + LogAfterThrowingServiceTests.class.getName(),
+                      "frames collapsed");
+            });
+  }
 }
@@ -26,9 +26,23 @@ class LogAroundConfigurationTests {
           assertThat(context.getBean(LogAroundAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogAroundAdvice.class);
+          assertThat(context).doesNotHaveBean(LogAroundInterceptor.class);
         });
   }
 
+  @Test
+  void logAroundInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogAroundInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogAroundInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogAroundAdvice.class);
+            });
+  }
+
   @Test
   void logAroundServiceNotNull() {
     runner.run(
@@ -3,14 +3,38 @@ package im.aop.loggers.advice.around;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
+import im.aop.loggers.RepeatedExceptionPolicy;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowing;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowingService;
+import im.aop.loggers.exception.ExceptionDeduplicationConfiguration;
+import im.aop.loggers.exception.ExceptionDeduplicationProperties;
+import im.aop.loggers.exception.StackTraceConfiguration;
+import im.aop.loggers.exception.StackTraceProperties;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
+import im.aop.loggers.metrics.ElapsedTimeRecorder;
+import im.aop.loggers.metrics.ElapsedTimeRecorderFactory;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.runtime.reflect.Factory;
 import org.assertj.core.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +46,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Tests for {@link LogAroundService}.
@@ -35,6 +61,7 @@ class LogAroundServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogAroundService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -162,6 +189,7 @@ class LogAroundServiceTests {
     when(annotation.elapsedWarningLevel()).thenReturn(Level.TRACE);
 
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.exitedAbnormallyMessage()).thenReturn("");
     when(annotation.elapsedMessage()).thenReturn("");
     when(annotation.elapsedWarningMessage()).thenReturn("");
@@ -286,6 +314,7 @@ class LogAroundServiceTests {
 
     when(annotation.level()).thenReturn(level);
     when(annotation.exitedMessage()).thenReturn(exitedMessage);
+    when(annotation.cancelledMessage()).thenReturn("");
 
     when(annotation.exitedAbnormallyLevel()).thenReturn(Level.TRACE);
     when(annotation.elapsedWarningLevel()).thenReturn(Level.TRACE);
@@ -525,6 +554,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.elapsedMessage()).thenReturn("");
     when(annotation.elapsedWarningMessage()).thenReturn("");
 
@@ -590,6 +620,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.elapsedMessage()).thenReturn("");
     when(annotation.elapsedWarningMessage()).thenReturn("");
 
@@ -694,6 +725,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.exitedAbnormallyMessage()).thenReturn("");
     when(annotation.elapsedWarningMessage()).thenReturn("");
 
@@ -730,6 +762,7 @@ class LogAroundServiceTests {
 
     when(annotation.level()).thenReturn(level);
     when(annotation.exitedMessage()).thenReturn(exitedMessage);
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.elapsedMessage()).thenReturn(elapsedMessage);
 
     when(annotation.exitedAbnormallyLevel()).thenReturn(Level.TRACE);
@@ -785,6 +818,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.elapsedWarningMessage()).thenReturn("");
 
     when(annotation.ignoreExceptions()).thenReturn(null);
@@ -916,6 +950,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.exitedAbnormallyMessage()).thenReturn("");
     when(annotation.elapsedMessage()).thenReturn("");
 
@@ -965,6 +1000,7 @@ class LogAroundServiceTests {
 
     when(annotation.enteringMessage()).thenReturn("");
     when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
     when(annotation.exitedAbnormallyMessage()).thenReturn("");
 
     when(annotation.ignoreExceptions()).thenReturn(null);
@@ -972,6 +1008,308 @@ class LogAroundServiceTests {
     return annotation;
   }
 
+  @Test
+  void deferEntering_exitedNormally(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+          when(joinPoint.proceed()).thenReturn("foo");
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+
+          assertThat(capturedOutput)
+              .containsOnlyOnce(Foo.class.getName())
+              .containsPattern(
+                  "INFO "
+                      + Pattern.quote(Foo.class.getName())
+                      + " - \\[void foo\\(\\)\\] with parameters \\[none\\] exited normally"
+                      + " with return value \\[foo\\] elapsed \\[PT.*S\\]");
+        });
+  }
+
+  @Test
+  void deferEntering_exitedAbnormally(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+          when(joinPoint.proceed()).thenThrow(new RuntimeException("foo"));
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+          assertThat(capturedOutput)
+              .containsPattern(
+                  "INFO "
+                      + Pattern.quote(Foo.class.getName())
+                      + " - Entering \\[void foo\\(\\)\\] at \\[\\d{4}-.*Z\\] with parameters"
+                      + " \\[none\\]")
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - Entering [void foo()]",
+                  "ERROR " + Foo.class.getName() + " - [void foo()] exited abnormally",
+                  "INFO " + Foo.class.getName() + " - [void foo()] elapsed [")
+              .doesNotContain("exited normally");
+        });
+  }
+
+  @Test
+  void deferEntering_elapsedTimeLimitExceeded(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForDeferEntering(1, ChronoUnit.NANOS);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+          when(joinPoint.proceed()).thenReturn("foo");
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - Entering [void foo()] at [",
+                  "INFO "
+                      + Foo.class.getName()
+                      + " - [void foo()] exited normally with return value [foo]",
+                  "INFO " + Foo.class.getName() + " - [void foo()] elapsed [",
+                  "WARN " + Foo.class.getName() + " - [void foo()] reached elapsed time limit");
+        });
+  }
+
+  @Test
+  void deferEntering_enabledByProperty(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".defer-entering=true")
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+              when(joinPoint.proceed()).thenReturn("foo");
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              service.logAround(joinPoint, annotation);
+
+              assertThat(capturedOutput)
+                  .doesNotContain("Entering")
+                  .contains(
+                      "INFO "
+                          + Foo.class.getName()
+                          + " - [void foo()] with parameters [none] exited normally");
+            });
+  }
+
+  @Test
+  void deferEntering_recordSuppressed() {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AROUND);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(2);
+        });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_identicalExceptionsSuppressed(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+              when(annotation.deferEntering()).thenReturn(false);
+              when(annotation.printStackTrace()).thenReturn(true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final RuntimeException[] exceptions = new RuntimeException[3];
+              for (int index = 0; index < exceptions.length; index++) {
+                exceptions[index] = new RuntimeException("foo");
+              }
+              when(joinPoint.proceed()).thenThrow(exceptions);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              for (int index = 0; index < exceptions.length; index++) {
+                assertThrows(
+                    RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+              }
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "ERROR " + Foo.class.getName() + " - "))
+                  .isEqualTo(1);
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(1);
+            });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_identicalExceptionsSummarizedOnceStopped(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+              when(annotation.deferEntering()).thenReturn(false);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final RuntimeException[] exceptions = new RuntimeException[3];
+              for (int index = 0; index < exceptions.length; index++) {
+                exceptions[index] = new RuntimeException("foo");
+              }
+              when(joinPoint.proceed()).thenThrow(exceptions);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              for (int index = 0; index < exceptions.length; index++) {
+                assertThrows(
+                    RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+              }
+
+              assertThat(capturedOutput.getOut()).doesNotContain("identical exceptions");
+            });
+
+    assertThat(capturedOutput.getOut()).contains("suppressed [2] identical exceptions");
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_renderedStackTrace(final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(StackTraceConfiguration.class)
+        .withPropertyValues(StackTraceProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+              when(annotation.deferEntering()).thenReturn(false);
+              when(annotation.exitedAbnormallyMessage()).thenReturn("foo");
+              when(annotation.printStackTrace()).thenReturn(true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+              when(joinPoint.proceed()).thenThrow(new RuntimeException("foo"));
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+              assertThat(capturedOutput)
+                  .containsSubsequence(
+                      "ERROR " + Foo.class.getName() + " - foo" + System.lineSeparator(),
+                      "java.lang.RuntimeException: foo" + System.lineSeparator(),
+                      "\tat " + LogAroundServiceTests.class.getName(),
+                      "frames collapsed");
+            });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_exceptionLoggedByInnerMethod(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withBean(LogAfterThrowingService.class)
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+              when(annotation.deferEntering()).thenReturn(false);
+              when(annotation.printStackTrace()).thenReturn(true);
+              final LogAfterThrowing innerAnnotation = mock(LogAfterThrowing.class);
+              when(innerAnnotation.level()).thenReturn(Level.ERROR);
+              when(innerAnnotation.exitedAbnormallyMessage()).thenReturn("inner");
+              when(innerAnnotation.printStackTrace()).thenReturn(true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final RuntimeException exception = new RuntimeException("foo");
+              final LogAfterThrowingService innerService =
+                  context.getBean(LogAfterThrowingService.class);
+              when(joinPoint.proceed())
+                  .thenAnswer(
+                      invocation -> {
+                        innerService.logAfterThrowing(joinPoint, innerAnnotation, exception);
+                        throw exception;
+                      });
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+              assertThat(capturedOutput)
+                  .containsSubsequence(
+                      "ERROR " + Foo.class.getName() + " - inner",
+                      "java.lang.RuntimeException: foo",
+                      "ERROR " + Foo.class.getName() + " - ");
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(1);
+            });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_exceptionLoggedByPreviousInvocation(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withUserConfiguration(ExceptionDeduplicationConfiguration.class)
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX
+                + ".repeated-exception-policy="
+                + RepeatedExceptionPolicy.LOG_WITHOUT_STACK_TRACE)
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForDeferEntering(0, ChronoUnit.MILLIS);
+              when(annotation.deferEntering()).thenReturn(false);
+              when(annotation.printStackTrace()).thenReturn(true);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+              final RuntimeException exception = new RuntimeException("foo");
+              when(joinPoint.proceed()).thenThrow(exception);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+              assertThat(StringUtils.countMatches(capturedOutput.getOut(), "RuntimeException: foo"))
+                  .isEqualTo(2);
+            });
+  }
+
+  private LogAround mockLogAroundForDeferEntering(
+      final long elapsedTimeLimit, final ChronoUnit elapsedTimeUnit) {
+    final LogAround annotation = mock(LogAround.class);
+
+    when(annotation.deferEntering()).thenReturn(true);
+    when(annotation.level()).thenReturn(Level.INFO);
+    when(annotation.exitedAbnormallyLevel()).thenReturn(Level.ERROR);
+    when(annotation.elapsedWarningLevel()).thenReturn(Level.WARN);
+    when(annotation.elapsedTimeLimit()).thenReturn(elapsedTimeLimit);
+    when(annotation.elapsedTimeUnit()).thenReturn(elapsedTimeUnit);
+
+    when(annotation.enteringMessage()).thenReturn("");
+    when(annotation.exitedMessage()).thenReturn("");
+    when(annotation.cancelledMessage()).thenReturn("");
+    when(annotation.exitedAbnormallyMessage()).thenReturn("");
+    when(annotation.elapsedMessage()).thenReturn("");
+    when(annotation.elapsedWarningMessage()).thenReturn("");
+
+    when(annotation.ignoreExceptions()).thenReturn(null);
+
+    return annotation;
+  }
+
   private MethodSignature mockMethodSignature(
       final Class<?> declaringClass, final String methodName, Class<?>... methodParameterTypes)
       throws NoSuchMethodException {
@@ -994,24 +1332,27 @@ class LogAroundServiceTests {
   }
 
   @Test
-  void logElapsed_whenExitedNormally(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenExitedNormally() {
     runner.run(
         context -> {
           final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAroundService.class.getName(), LogLevel.DEBUG);
 
           final LogAroundService service = context.getBean(LogAroundService.class);
           service.logAround(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logAround] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AROUND);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(3);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
   @Test
-  void logElapsed_whenExitedAbnormally(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenExitedAbnormally() {
     runner.run(
         context -> {
           when(joinPoint.proceed()).thenThrow(new RuntimeException());
@@ -1019,13 +1360,572 @@ class LogAroundServiceTests {
           final LogAround annotation = mockLogAroundForExitAbnormally(Level.ERROR, "foo", null);
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.ERROR);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AROUND);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(2);
+          assertThat(statistics.getRenderTime()).isPositive();
+        });
+  }
+
+  @Test
+  void resolvesAnnotationAttributesOnce_whenInvokedRepeatedly() {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForEntering(Level.INFO, "foo");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+          service.logAround(joinPoint, annotation);
+
+          verify(annotation, times(1)).enteringMessage();
+        });
+  }
+
+  @Test
+  void doesNotAllocate_whenAllLevelsDisabled() {
+    runner.run(
+        context -> {
+          final ProceedingJoinPoint joinPoint = newJoinPoint(Foo.class, "foo");
+          final LogAround annotation = mockLogAroundForExitedNormally(Level.DEBUG, "foo");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(LogAroundService.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          for (int index = 0; index < 10_000; index++) {
+            service.logAround(joinPoint, annotation);
+          }
+
+          final com.sun.management.ThreadMXBean threadMXBean =
+              (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+          final long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+          for (int index = 0; index < 10_000; index++) {
+            service.logAround(joinPoint, annotation);
+          }
+          final long allocatedBytes =
+              threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+
+          // Allow for the allocation made by the measurement itself, far less than a byte per call.
+          assertThat(allocatedBytes).isLessThan(1_000);
+        });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_whenOtherLevelsDisabled(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenThrow(new RuntimeException("foo"));
+
+          final LogAround annotation = mockLogAroundForExitAbnormally(Level.ERROR, "bar", false);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogAroundService.class.getName(), LogLevel.DEBUG);
+              .setLogLevel(LogAroundService.class.getName(), LogLevel.INFO);
 
           final LogAroundService service = context.getBean(LogAroundService.class);
           assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
 
-          assertThat(capturedOutput).contains("[logAround] elapsed [");
+          assertThat(capturedOutput).contains("ERROR " + Foo.class.getName() + " - bar");
         });
   }
+
+  @Test
+  void recordElapsedTime_whenAllLevelsDisabled() {
+    final List<Throwable> recorded = new ArrayList<>();
+    runner
+        .withBean(
+            ElapsedTimeRecorderFactory.class,
+            () -> joinPoint -> (elapsedTime, exception) -> recorded.add(exception))
+        .run(
+            context -> {
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.DEBUG, "foo");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(LogAroundService.class.getName(), LogLevel.INFO);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              service.logAround(joinPoint, annotation);
+
+              assertThat(recorded).containsExactly((Throwable) null);
+            });
+  }
+
+  @Test
+  void recordElapsedTime_whenExitedAbnormally() {
+    final List<Throwable> recorded = new ArrayList<>();
+    runner
+        .withBean(
+            ElapsedTimeRecorderFactory.class,
+            () -> joinPoint -> (elapsedTime, exception) -> recorded.add(exception))
+        .run(
+            context -> {
+              final RuntimeException exception = new RuntimeException("foo");
+              when(joinPoint.proceed()).thenThrow(exception);
+
+              final LogAround annotation = mockLogAroundForExitAbnormally(Level.ERROR, "foo", null);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.TRACE);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+              assertThat(recorded).containsExactly(exception);
+            });
+  }
+
+  /** Join point from AspectJ runtime, allocating nothing on {@code getSignature()}. */
+  private ProceedingJoinPoint newJoinPoint(final Class<?> declaringType, final String methodName) {
+    final Factory factory = new Factory(declaringType.getSimpleName() + ".java", declaringType);
+    final MethodSignature methodSignature =
+        factory.makeMethodSig(
+            Modifier.PUBLIC,
+            methodName,
+            declaringType,
+            new Class[0],
+            new String[0],
+            new Class[0],
+            void.class);
+    final JoinPoint.StaticPart staticPart =
+        factory.makeSJP(JoinPoint.METHOD_EXECUTION, methodSignature, 1);
+    return (ProceedingJoinPoint) Factory.makeJP(staticPart, null, null);
+  }
+
+  @Test
+  void logAround_rateLimited(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+          service.logAround(joinPoint, annotation);
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "INFO " + Foo.class.getName() + " - foo"))
+              .isEqualTo(1);
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_AROUND);
+          assertThat(statistics.getInvocations()).isEqualTo(2);
+          assertThat(statistics.getSkippedInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(3);
+        });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_bypassesRateLimit(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(null).thenThrow(new RuntimeException("foo"));
+
+          final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
+          when(annotation.exitedAbnormallyLevel()).thenReturn(Level.ERROR);
+          when(annotation.exitedAbnormallyMessage()).thenReturn("bar");
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+          assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+          assertThat(capturedOutput).contains("ERROR " + Foo.class.getName() + " - bar");
+        });
+  }
+
+  @Test
+  void logExitedAbnormallyMessage_rateLimited_whenNotBypassingSampling(
+      final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".exceptions-bypass-sampling=false")
+        .run(
+            context -> {
+              when(joinPoint.proceed()).thenReturn(null).thenThrow(new RuntimeException("foo"));
+
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
+              when(annotation.exitedAbnormallyLevel()).thenReturn(Level.ERROR);
+              when(annotation.exitedAbnormallyMessage()).thenReturn("bar");
+              when(annotation.maxPerSecond()).thenReturn(1L);
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              service.logAround(joinPoint, annotation);
+              assertThrows(RuntimeException.class, () -> service.logAround(joinPoint, annotation));
+
+              assertThat(capturedOutput).doesNotContain("ERROR " + Foo.class.getName() + " - bar");
+            });
+  }
+
+  @Test
+  void logElapsedWarningMessage_bypassesRateLimit(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
+          when(annotation.elapsedWarningLevel()).thenReturn(Level.WARN);
+          when(annotation.elapsedWarningMessage()).thenReturn("bar");
+          when(annotation.elapsedTimeLimit()).thenReturn(1L);
+          when(annotation.elapsedTimeUnit()).thenReturn(ChronoUnit.NANOS);
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+          service.logAround(joinPoint, annotation);
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "WARN " + Foo.class.getName() + " - bar"))
+              .isEqualTo(2);
+        });
+  }
+
+  @Test
+  void logAround_mono_logsOnTermination(final CapturedOutput capturedOutput) throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Mono.fromSupplier(() -> "bar"));
+
+          final LogAround annotation =
+              mockLogAroundForExitedAndElapsed(
+                  Level.INFO, "exited [{return-value}] [{element-count}]", "elapsed");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+          assertThat(capturedOutput).doesNotContain("INFO " + Foo.class.getName() + " - exited");
+
+          assertThat(mono.block()).isEqualTo("bar");
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - exited [bar] [1]",
+                  "INFO " + Foo.class.getName() + " - elapsed");
+        });
+  }
+
+  @Test
+  void logAround_flux_logsElementCount(final CapturedOutput capturedOutput) throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Flux.just(1, 2, 3));
+
+          final LogAround annotation =
+              mockLogAroundForExitedAndElapsed(
+                  Level.INFO, "exited [{return-value}] [{element-count}]", "elapsed");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Flux<?> flux = (Flux<?>) service.logAround(joinPoint, annotation);
+
+          assertThat(flux.collectList().block()).isEqualTo(List.of(1, 2, 3));
+          assertThat(capturedOutput)
+              .contains("INFO " + Foo.class.getName() + " - exited [3 elements] [3]");
+        });
+  }
+
+  @Test
+  void logAround_mono_logsOncePerSubscription(final CapturedOutput capturedOutput)
+      throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Mono.just("bar"));
+
+          final LogAround annotation = mockLogAroundForExitedNormally(Level.INFO, "foo");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+          mono.block();
+          mono.block();
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "INFO " + Foo.class.getName() + " - foo"))
+              .isEqualTo(2);
+        });
+  }
+
+  @Test
+  void logAround_mono_logsErrorSignal(final CapturedOutput capturedOutput) throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Mono.error(new RuntimeException("foo")));
+
+          final LogAround annotation =
+              mockLogAroundForExitedAbnormallyAndElapsed(
+                  Level.INFO, Level.ERROR, "exited-abnormally [{exception}]", "elapsed");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+
+          assertThrows(RuntimeException.class, mono::block);
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "ERROR " + Foo.class.getName() + " - exited-abnormally",
+                  "INFO " + Foo.class.getName() + " - elapsed");
+        });
+  }
+
+  @Test
+  void logAround_mono_logsErrorSignal_whenAllLevelsDisabled(final CapturedOutput capturedOutput)
+      throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Mono.error(new RuntimeException("foo")));
+
+          final LogAround annotation = mockLogAroundForExitAbnormally(Level.ERROR, "bar", null);
+          when(annotation.level()).thenReturn(Level.DEBUG);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+
+          assertThrows(RuntimeException.class, mono::block);
+          assertThat(capturedOutput).contains("ERROR " + Foo.class.getName() + " - bar");
+        });
+  }
+
+  @Test
+  void recordElapsedTime_mono_fromSubscription() throws Throwable {
+    final List<Long> recorded = new ArrayList<>();
+    runner
+        .withBean(
+            ElapsedTimeRecorderFactory.class,
+            () -> joinPoint -> (elapsedTime, exception) -> recorded.add(elapsedTime))
+        .run(
+            context -> {
+              when(joinPoint.proceed())
+                  .thenReturn(Mono.delay(Duration.ofMillis(50)).thenReturn("bar"));
+
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.DEBUG, "foo");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+              assertThat(recorded).isEmpty();
+
+              mono.block();
+              assertThat(recorded)
+                  .singleElement()
+                  .satisfies(
+                      elapsedTime ->
+                          assertThat(elapsedTime)
+                              .isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos()));
+            });
+  }
+
+  @Test
+  void logAround_flux_logsCancellation(final CapturedOutput capturedOutput) throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Flux.range(1, 10));
+
+          final LogAround annotation =
+              mockLogAroundForExitedAndElapsed(Level.INFO, "exited [{return-value}]", "elapsed");
+          when(annotation.cancelledMessage()).thenReturn("cancelled [{element-count}]");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Flux<?> flux = (Flux<?>) service.logAround(joinPoint, annotation);
+
+          assertThat(flux.take(2).collectList().block()).isEqualTo(List.of(1, 2));
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - cancelled [2]",
+                  "INFO " + Foo.class.getName() + " - elapsed")
+              .doesNotContain("INFO " + Foo.class.getName() + " - exited");
+        });
+  }
+
+  @Test
+  void logAround_mono_logsCancellation_withDeferredEntering(final CapturedOutput capturedOutput)
+      throws Throwable {
+    runner.run(
+        context -> {
+          when(joinPoint.proceed()).thenReturn(Mono.never());
+
+          final LogAround annotation =
+              mockLogAroundForExitedAndElapsed(Level.INFO, "exited [{return-value}]", "elapsed");
+          when(annotation.deferEntering()).thenReturn(true);
+          when(annotation.enteringMessage()).thenReturn("entering");
+          when(annotation.cancelledMessage()).thenReturn("cancelled");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+
+          assertThrows(RuntimeException.class, () -> mono.timeout(Duration.ofMillis(10)).block());
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - entering",
+                  "INFO " + Foo.class.getName() + " - cancelled",
+                  "INFO " + Foo.class.getName() + " - elapsed")
+              .doesNotContain("INFO " + Foo.class.getName() + " - exited");
+        });
+  }
+
+  @Test
+  void recordElapsedTime_mono_cancelled() throws Throwable {
+    final List<String> recorded = new ArrayList<>();
+    runner
+        .withBean(
+            ElapsedTimeRecorderFactory.class,
+            () ->
+                joinPoint ->
+                    new ElapsedTimeRecorder() {
+
+                      @Override
+                      public void record(final long elapsedTime, final Throwable exception) {
+                        recorded.add("record");
+                      }
+
+                      @Override
+                      public void recordCancelled(final long elapsedTime) {
+                        recorded.add("cancelled");
+                      }
+                    })
+        .run(
+            context -> {
+              when(joinPoint.proceed()).thenReturn(Mono.never());
+
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.DEBUG, "foo");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              final Mono<?> mono = (Mono<?>) service.logAround(joinPoint, annotation);
+
+              assertThrows(
+                  RuntimeException.class, () -> mono.timeout(Duration.ofMillis(10)).block());
+              assertThat(recorded).containsExactly("cancelled");
+            });
+  }
+
+  @Test
+  void logAround_completableFuture_logsOnCompletion(final CapturedOutput capturedOutput)
+      throws Throwable {
+    runner.run(
+        context -> {
+          final CompletableFuture<String> future = new CompletableFuture<>();
+          when(joinPoint.proceed()).thenReturn(future);
+
+          final LogAround annotation =
+              mockLogAroundForExitedAndElapsed(Level.INFO, "exited [{return-value}]", "elapsed");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          assertThat(service.logAround(joinPoint, annotation)).isSameAs(future);
+          assertThat(capturedOutput).doesNotContain("INFO " + Foo.class.getName() + " - exited");
+
+          future.complete("bar");
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "INFO " + Foo.class.getName() + " - exited [bar]",
+                  "INFO " + Foo.class.getName() + " - elapsed");
+        });
+  }
+
+  @Test
+  void logAround_completableFuture_logsExceptionalCompletion(final CapturedOutput capturedOutput)
+      throws Throwable {
+    runner.run(
+        context -> {
+          final CompletableFuture<String> future = new CompletableFuture<>();
+          when(joinPoint.proceed()).thenReturn(future.thenApply(String::trim));
+
+          final LogAround annotation =
+              mockLogAroundForExitedAbnormallyAndElapsed(
+                  Level.INFO, Level.ERROR, "exited-abnormally [{exception}]", "elapsed");
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+
+          future.completeExceptionally(new IllegalStateException("foo"));
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "ERROR "
+                      + Foo.class.getName()
+                      + " - exited-abnormally [type=IllegalStateException, message=foo]",
+                  "INFO " + Foo.class.getName() + " - elapsed");
+        });
+  }
+
+  @Test
+  void logAround_completableFuture_logsExceptionalCompletion_whenAllLevelsDisabled(
+      final CapturedOutput capturedOutput) throws Throwable {
+    runner.run(
+        context -> {
+          final CompletableFuture<String> future = new CompletableFuture<>();
+          when(joinPoint.proceed()).thenReturn(future);
+
+          final LogAround annotation = mockLogAroundForExitAbnormally(Level.ERROR, "bar", null);
+          when(annotation.level()).thenReturn(Level.DEBUG);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogAroundService service = context.getBean(LogAroundService.class);
+          service.logAround(joinPoint, annotation);
+          assertThat(capturedOutput).doesNotContain("ERROR " + Foo.class.getName() + " - bar");
+
+          future.completeExceptionally(new RuntimeException("foo"));
+          assertThat(capturedOutput).contains("ERROR " + Foo.class.getName() + " - bar");
+        });
+  }
+
+  @Test
+  void recordElapsedTime_completableFuture_untilCompletion() throws Throwable {
+    final List<Long> recorded = new ArrayList<>();
+    runner
+        .withBean(
+            ElapsedTimeRecorderFactory.class,
+            () -> joinPoint -> (elapsedTime, exception) -> recorded.add(elapsedTime))
+        .run(
+            context -> {
+              final CompletableFuture<String> future = new CompletableFuture<>();
+              when(joinPoint.proceed()).thenReturn(future);
+
+              final LogAround annotation = mockLogAroundForExitedNormally(Level.DEBUG, "foo");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+              final LogAroundService service = context.getBean(LogAroundService.class);
+              service.logAround(joinPoint, annotation);
+              assertThat(recorded).isEmpty();
+
+              Thread.sleep(50);
+              future.complete("bar");
+              assertThat(recorded)
+                  .singleElement()
+                  .satisfies(
+                      elapsedTime ->
+                          assertThat(elapsedTime)
+                              .isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos()));
+            });
+  }
 }
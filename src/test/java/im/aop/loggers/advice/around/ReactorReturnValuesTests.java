@@ -0,0 +1,90 @@
+package im.aop.loggers.advice.around;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ReactorReturnValues}.
+ *
+ * @author Andy Lian
+ */
+class ReactorReturnValuesTests {
+
+  private record Completion(
+      Object result, long elementCount, Throwable exception, boolean cancelled) {}
+
+  private final List<Completion> completions = new ArrayList<>();
+
+  private final CompletionCallback completionCallback =
+      (elapsedTime, result, elementCount, exception, cancelled) ->
+          completions.add(new Completion(result, elementCount, exception, cancelled));
+
+  @Test
+  void isReactive() {
+    assertThat(ReactorReturnValues.isReactive(Mono.empty())).isTrue();
+    assertThat(ReactorReturnValues.isReactive(Flux.empty())).isTrue();
+    assertThat(ReactorReturnValues.isReactive("foo")).isFalse();
+    assertThat(ReactorReturnValues.isReactive(null)).isFalse();
+  }
+
+  @Test
+  void tap_mono() {
+    final Object mono = ReactorReturnValues.tap(Mono.just("foo"), completionCallback);
+    assertThat(mono).isInstanceOf(Mono.class);
+    assertThat(completions).isEmpty();
+
+    assertThat(((Mono<?>) mono).block()).isEqualTo("foo");
+    assertThat(completions).containsExactly(new Completion("foo", 1, null, false));
+  }
+
+  @Test
+  void tap_emptyMono() {
+    final Object mono = ReactorReturnValues.tap(Mono.empty(), completionCallback);
+
+    assertThat(((Mono<?>) mono).block()).isNull();
+    assertThat(completions).containsExactly(new Completion(null, 0, null, false));
+  }
+
+  @Test
+  void tap_flux() {
+    final Object flux = ReactorReturnValues.tap(Flux.just(1, 2, 3), completionCallback);
+    assertThat(flux).isInstanceOf(Flux.class);
+
+    assertThat(((Flux<?>) flux).collectList().block()).isEqualTo(List.of(1, 2, 3));
+    assertThat(completions).containsExactly(new Completion("3 elements", 3, null, false));
+  }
+
+  @Test
+  void tap_fluxError() {
+    final RuntimeException exception = new RuntimeException("foo");
+    final Object flux =
+        ReactorReturnValues.tap(Flux.just(1).concatWith(Flux.error(exception)), completionCallback);
+
+    assertThrows(RuntimeException.class, () -> ((Flux<?>) flux).blockLast());
+    assertThat(completions).containsExactly(new Completion("1 elements", 1, exception, false));
+  }
+
+  @Test
+  void tap_fluxCancelled() {
+    final Object flux = ReactorReturnValues.tap(Flux.range(1, 10), completionCallback);
+
+    assertThat(((Flux<?>) flux).take(2).collectList().block()).isEqualTo(List.of(1, 2));
+    assertThat(completions).containsExactly(new Completion("2 elements", 2, null, true));
+  }
+
+  @Test
+  void tap_monoCancelled() {
+    final Object mono = ReactorReturnValues.tap(Mono.never(), completionCallback);
+
+    assertThrows(
+        RuntimeException.class, () -> ((Mono<?>) mono).timeout(Duration.ofMillis(10)).block());
+    assertThat(completions).containsExactly(new Completion(null, 0, null, true));
+  }
+}
@@ -312,4 +312,33 @@ class LogBeforeAdviceTests {
               });
     }
   }
+
+  @LogBefore
+  static class TestMethodAndClassContext {
+
+    @LogBefore
+    public void methodWithoutParameter() {}
+  }
+
+  @Nested
+  class MethodAndClassContextTests {
+
+    @Test
+    void methodWithoutParameter_annotatedOnMethodAndClass(final CapturedOutput capturedOutput) {
+      runner
+          .withBean(TestMethodAndClassContext.class)
+          .run(
+              context -> {
+                final TestMethodAndClassContext methodAndClassContext =
+                    context.getBean(TestMethodAndClassContext.class);
+                methodAndClassContext.methodWithoutParameter();
+
+                assertThat(capturedOutput)
+                    .containsOnlyOnce(
+                        "execution(void "
+                            + TestMethodAndClassContext.class.getName()
+                            + ".methodWithoutParameter())");
+              });
+    }
+  }
 }
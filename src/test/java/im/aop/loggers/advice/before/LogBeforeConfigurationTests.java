@@ -26,9 +26,23 @@ class LogBeforeConfigurationTests {
           assertThat(context.getBean(LogBeforeAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogBeforeAdvice.class);
+          assertThat(context).doesNotHaveBean(LogBeforeInterceptor.class);
         });
   }
 
+  @Test
+  void logBeforeInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogBeforeInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogBeforeInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogBeforeAdvice.class);
+            });
+  }
+
   @Test
   void logBeforeServiceNotNull() {
     runner.run(
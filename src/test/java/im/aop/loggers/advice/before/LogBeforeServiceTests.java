@@ -7,6 +7,10 @@ import static org.mockito.Mockito.when;
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
+import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +36,7 @@ class LogBeforeServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogBeforeService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -135,36 +140,41 @@ class LogBeforeServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
           final LogBefore annotation = mockLogBefore(Level.DEBUG, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogBeforeService.class.getName(), LogLevel.DEBUG);
 
           final LogBeforeService service = context.getBean(LogBeforeService.class);
           service.logBefore(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logBefore] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_BEFORE);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogBefore annotation = mockLogBefore(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogBeforeService.class.getName(), LogLevel.DEBUG);
 
           final LogBeforeService service = context.getBean(LogBeforeService.class);
           service.logBefore(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logBefore] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_BEFORE);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
@@ -196,4 +206,49 @@ class LogBeforeServiceTests {
 
     return annotation;
   }
+
+  @Test
+  void logMessage_rateLimited(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          final LogBefore annotation = mockLogBefore(Level.INFO, "foo");
+          when(annotation.maxPerSecond()).thenReturn(1L);
+          LoggingSystem.get(ClassLoader.getSystemClassLoader())
+              .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+          final LogBeforeService service = context.getBean(LogBeforeService.class);
+          service.logBefore(joinPoint, annotation);
+          service.logBefore(joinPoint, annotation);
+
+          assertThat(
+                  StringUtils.countMatches(
+                      capturedOutput.getOut(), "INFO " + Foo.class.getName() + " - foo"))
+              .isEqualTo(1);
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_BEFORE);
+          assertThat(statistics.getInvocations()).isEqualTo(2);
+          assertThat(statistics.getSkippedInvocations()).isEqualTo(1);
+        });
+  }
+
+  @Test
+  void logMessage_rateLimitedByDefault(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".max-per-second=1")
+        .run(
+            context -> {
+              final LogBefore annotation = mockLogBefore(Level.INFO, "foo");
+              LoggingSystem.get(ClassLoader.getSystemClassLoader())
+                  .setLogLevel(Foo.class.getName(), LogLevel.INFO);
+
+              final LogBeforeService service = context.getBean(LogBeforeService.class);
+              service.logBefore(joinPoint, annotation);
+              service.logBefore(joinPoint, annotation);
+
+              assertThat(
+                      StringUtils.countMatches(
+                          capturedOutput.getOut(), "INFO " + Foo.class.getName() + " - foo"))
+                  .isEqualTo(1);
+            });
+  }
 }
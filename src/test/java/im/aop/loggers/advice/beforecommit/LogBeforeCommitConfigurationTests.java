@@ -27,9 +27,23 @@ class LogBeforeCommitConfigurationTests {
           assertThat(context.getBean(LogBeforeCommitAdvice.class))
               .isNotNull()
               .isExactlyInstanceOf(LogBeforeCommitAdvice.class);
+          assertThat(context).doesNotHaveBean(LogBeforeCommitInterceptor.class);
         });
   }
 
+  @Test
+  void logBeforeCommitInterceptorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".advisor-type=NATIVE")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogBeforeCommitInterceptor.class))
+                  .isNotNull()
+                  .isExactlyInstanceOf(LogBeforeCommitInterceptor.class);
+              assertThat(context).doesNotHaveBean(LogBeforeCommitAdvice.class);
+            });
+  }
+
   @Test
   void logBeforeServiceNotNull() {
     runner.run(
@@ -7,6 +7,9 @@ import static org.mockito.Mockito.when;
 import im.aop.loggers.AopLoggersProperties;
 import im.aop.loggers.Level;
 import im.aop.loggers.messageinterpolation.StringSubstitutorConfiguration;
+import im.aop.loggers.metrics.AdviceStatistics;
+import im.aop.loggers.metrics.AdviceType;
+import im.aop.loggers.metrics.AopLoggersStatistics;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +35,7 @@ class LogBeforeCommitServiceTests {
       new ApplicationContextRunner()
           .withUserConfiguration(
               AopLoggersPropertiesTestConfiguration.class, StringSubstitutorConfiguration.class)
+          .withBean(AopLoggersStatistics.class)
           .withBean(LogBeforeCommitService.class);
 
   @TestConfiguration(proxyBeanMethods = false)
@@ -136,36 +140,41 @@ class LogBeforeCommitServiceTests {
   }
 
   @Test
-  void logElapsed_whenLoggerLoggingLevelDisabled(final CapturedOutput capturedOutput) {
+  void recordSuppressed_whenLoggerLevelDisabled() {
     runner.run(
         context -> {
           final LogBeforeCommit annotation = mockLogBeforeCommit(Level.DEBUG, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogBeforeCommitService.class.getName(), LogLevel.DEBUG);
 
           final LogBeforeCommitService service = context.getBean(LogBeforeCommitService.class);
           service.logBeforeCommit(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logBeforeCommit] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_BEFORE_COMMIT);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(0);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(1);
         });
   }
 
   @Test
-  void logElapsed_whenEnabled(final CapturedOutput capturedOutput) {
+  void recordEmitted_whenEnabled() {
     runner.run(
         context -> {
           final LogBeforeCommit annotation = mockLogBeforeCommit(Level.INFO, "foo");
           LoggingSystem.get(ClassLoader.getSystemClassLoader())
               .setLogLevel(Foo.class.getName(), LogLevel.INFO);
-          LoggingSystem.get(ClassLoader.getSystemClassLoader())
-              .setLogLevel(LogBeforeCommitService.class.getName(), LogLevel.DEBUG);
 
           final LogBeforeCommitService service = context.getBean(LogBeforeCommitService.class);
           service.logBeforeCommit(joinPoint, annotation);
 
-          assertThat(capturedOutput).contains("[logBeforeCommit] elapsed [");
+          final AdviceStatistics statistics =
+              context.getBean(AopLoggersStatistics.class).get(AdviceType.LOG_BEFORE_COMMIT);
+          assertThat(statistics.getInvocations()).isEqualTo(1);
+          assertThat(statistics.getEmittedMessages()).isEqualTo(1);
+          assertThat(statistics.getSuppressedMessages()).isEqualTo(0);
+          assertThat(statistics.getRenderTime()).isPositive();
         });
   }
 
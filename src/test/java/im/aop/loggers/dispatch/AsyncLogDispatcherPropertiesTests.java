@@ -0,0 +1,68 @@
+package im.aop.loggers.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link AsyncLogDispatcherProperties}.
+ *
+ * @author Andy Lian
+ */
+class AsyncLogDispatcherPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({AsyncLogDispatcherProperties.class})
+  static class AsyncLogDispatcherPropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(AsyncLogDispatcherPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final AsyncLogDispatcherProperties properties =
+              context.getBean(AsyncLogDispatcherProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.getBufferSize()).isEqualTo(1024);
+          assertThat(properties.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+          assertThat(properties.getDropThresholdLevel()).isEqualTo(Level.WARN);
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            AsyncLogDispatcherProperties.PREFIX + ".enabled=true",
+            AsyncLogDispatcherProperties.PREFIX + ".buffer-size=16",
+            AsyncLogDispatcherProperties.PREFIX + ".overflow-policy=DROP_BELOW_LEVEL",
+            AsyncLogDispatcherProperties.PREFIX + ".drop-threshold-level=ERROR")
+        .run(
+            context -> {
+              final AsyncLogDispatcherProperties properties =
+                  context.getBean(AsyncLogDispatcherProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.getBufferSize()).isEqualTo(16);
+              assertThat(properties.getOverflowPolicy())
+                  .isEqualTo(OverflowPolicy.DROP_BELOW_LEVEL);
+              assertThat(properties.getDropThresholdLevel()).isEqualTo(Level.ERROR);
+            });
+  }
+
+  @Test
+  void bufferSize_invalidValue() {
+    runner
+        .withPropertyValues(AsyncLogDispatcherProperties.PREFIX + ".buffer-size=0")
+        .run(
+            context -> {
+              assertThat(context).hasFailed();
+            });
+  }
+}
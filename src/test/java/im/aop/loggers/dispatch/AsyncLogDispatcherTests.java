@@ -0,0 +1,366 @@
+package im.aop.loggers.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.messageinterpolation.Variable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+/**
+ * Tests for {@link AsyncLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class AsyncLogDispatcherTests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLogDispatcherTests.class);
+
+  private AsyncLogDispatcher asyncLogDispatcher;
+
+  @AfterEach
+  void stop() throws InterruptedException {
+    if (asyncLogDispatcher != null) {
+      asyncLogDispatcher.stop();
+    }
+    MDC.clear();
+  }
+
+  private AsyncLogDispatcher newAsyncLogDispatcher(
+      final int bufferSize, final OverflowPolicy overflowPolicy) {
+    final AsyncLogDispatcherProperties properties = new AsyncLogDispatcherProperties();
+    properties.setBufferSize(bufferSize);
+    properties.setOverflowPolicy(overflowPolicy);
+    return new AsyncLogDispatcher(properties);
+  }
+
+  private AsyncLogDispatcher newAsyncLogDispatcher(
+      final int bufferSize, final OverflowPolicy overflowPolicy, final LogDispatcher delegate) {
+    final AsyncLogDispatcherProperties properties = new AsyncLogDispatcherProperties();
+    properties.setBufferSize(bufferSize);
+    properties.setOverflowPolicy(overflowPolicy);
+    return new AsyncLogDispatcher(properties, delegate);
+  }
+
+  private StringSupplierLookup newStringLookup(final String value) {
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier("foo", () -> value);
+    return stringLookup;
+  }
+
+  @Test
+  void dispatch_loggedOnDispatcherThread(final CapturedOutput capturedOutput) {
+    asyncLogDispatcher = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={foo}"), newStringLookup("bar"), null);
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(capturedOutput).contains("foo=bar"));
+  }
+
+  @Test
+  void dispatch_notAffectedBySupplierAddedAfterward(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    asyncLogDispatcher = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK);
+    asyncLogDispatcher.start();
+
+    final StringSupplierLookup stringLookup = newStringLookup("bar");
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={foo}"), stringLookup, null);
+    stringLookup.addStringSupplier("foo", () -> "baz");
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("foo=bar").doesNotContain("foo=baz");
+  }
+
+  @Test
+  void dispatch_renderedBeforeSourceMutated(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    final BlockingLogDispatcher blockingLogDispatcher = new BlockingLogDispatcher();
+    asyncLogDispatcher = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK, blockingLogDispatcher);
+    asyncLogDispatcher.start();
+
+    final List<String> parameters = new ArrayList<>(List.of("bar"));
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier(Variable.PARAMETERS, parameters, List::toString);
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={parameters}"), stringLookup, null);
+    blockingLogDispatcher.awaitDispatching();
+    parameters.add("baz");
+    blockingLogDispatcher.release();
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("foo=[bar]").doesNotContain("baz");
+  }
+
+  @Test
+  void dispatch_restoresContextMap(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    asyncLogDispatcher = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK);
+    asyncLogDispatcher.start();
+
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier("requestId", () -> MDC.get("requestId"));
+
+    MDC.put("requestId", "abc");
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("requestId={requestId}"), stringLookup, null);
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("requestId=abc");
+  }
+
+  @Test
+  void dispatch_withException(final CapturedOutput capturedOutput) throws InterruptedException {
+    asyncLogDispatcher = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER,
+        Level.ERROR,
+        MessageTemplate.compile("failed"),
+        new StringSupplierLookup(),
+        new IllegalStateException("boom"));
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("failed").contains("IllegalStateException: boom");
+  }
+
+  @Test
+  void dispatch_loggedSynchronouslyWhenNotRunning(final CapturedOutput capturedOutput) {
+    final AsyncLogDispatcher notStarted = newAsyncLogDispatcher(16, OverflowPolicy.BLOCK);
+
+    notStarted.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={foo}"), newStringLookup("bar"), null);
+
+    assertThat(capturedOutput).contains("foo=bar");
+    assertThat(notStarted.getPendingCount()).isZero();
+  }
+
+  @Test
+  void dispatch_withDelegate() throws InterruptedException {
+    final List<String> messages = new CopyOnWriteArrayList<>();
+    asyncLogDispatcher =
+        new AsyncLogDispatcher(
+            new AsyncLogDispatcherProperties(),
+            (logger, level, messageTemplate, stringLookup, exception) ->
+                messages.add(messageTemplate.render(stringLookup)));
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={foo}"), newStringLookup("bar"), null);
+    asyncLogDispatcher.stop();
+
+    assertThat(messages).containsExactly("foo=bar");
+  }
+
+  @Test
+  void dispatch_dropNewestWhenBufferFull(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    final BlockingLogDispatcher blockingLogDispatcher = new BlockingLogDispatcher();
+    asyncLogDispatcher =
+        newAsyncLogDispatcher(1, OverflowPolicy.DROP_NEWEST, blockingLogDispatcher);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("first={foo}"), newStringLookup("bar"), null);
+    blockingLogDispatcher.awaitDispatching();
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("second"), new StringSupplierLookup(), null);
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.ERROR, MessageTemplate.compile("third"), new StringSupplierLookup(), null);
+
+    assertThat(asyncLogDispatcher.getDroppedCount()).isEqualTo(1);
+    blockingLogDispatcher.release();
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("first=bar").contains("second").doesNotContain("third");
+  }
+
+  @Test
+  void dispatch_dropBelowLevelWhenBufferFull(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    final BlockingLogDispatcher blockingLogDispatcher = new BlockingLogDispatcher();
+    asyncLogDispatcher =
+        newAsyncLogDispatcher(1, OverflowPolicy.DROP_BELOW_LEVEL, blockingLogDispatcher);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("first={foo}"), newStringLookup("bar"), null);
+    blockingLogDispatcher.awaitDispatching();
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("second"), new StringSupplierLookup(), null);
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("third"), new StringSupplierLookup(), null);
+
+    assertThat(asyncLogDispatcher.getDroppedCount()).isEqualTo(1);
+    blockingLogDispatcher.release();
+    asyncLogDispatcher.stop();
+
+    assertThat(capturedOutput).contains("first=bar").contains("second").doesNotContain("third");
+  }
+
+  @Test
+  void dispatch_blockWhenBufferFull(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    final BlockingLogDispatcher blockingLogDispatcher = new BlockingLogDispatcher();
+    asyncLogDispatcher = newAsyncLogDispatcher(1, OverflowPolicy.BLOCK, blockingLogDispatcher);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("first={foo}"), newStringLookup("bar"), null);
+    blockingLogDispatcher.awaitDispatching();
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("second"), new StringSupplierLookup(), null);
+    final Thread blockedThread =
+        new Thread(
+            () ->
+                asyncLogDispatcher.dispatch(
+                    LOGGER,
+                    Level.INFO,
+                    MessageTemplate.compile("third"),
+                    new StringSupplierLookup(),
+                    null));
+    blockedThread.start();
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> blockedThread.getState() == Thread.State.WAITING);
+    blockingLogDispatcher.release();
+    blockedThread.join();
+    asyncLogDispatcher.stop();
+
+    assertThat(asyncLogDispatcher.getDroppedCount()).isZero();
+    assertThat(capturedOutput).contains("first=bar").contains("second").contains("third");
+  }
+
+  @Test
+  void dispatch_droppedWhenInterruptedWhileBlocked() throws InterruptedException {
+    final BlockingLogDispatcher blockingLogDispatcher = new BlockingLogDispatcher();
+    asyncLogDispatcher = newAsyncLogDispatcher(1, OverflowPolicy.BLOCK, blockingLogDispatcher);
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("first"), new StringSupplierLookup(), null);
+    blockingLogDispatcher.awaitDispatching();
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("second"), new StringSupplierLookup(), null);
+    Thread.currentThread().interrupt();
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("third"), new StringSupplierLookup(), null);
+
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(asyncLogDispatcher.getDroppedCount()).isEqualTo(1);
+    blockingLogDispatcher.release();
+  }
+
+  @Test
+  void dispatch_continuesAfterFailingDelegate(final CapturedOutput capturedOutput)
+      throws InterruptedException {
+    final List<String> messages = new CopyOnWriteArrayList<>();
+    asyncLogDispatcher =
+        new AsyncLogDispatcher(
+            new AsyncLogDispatcherProperties(),
+            (logger, level, messageTemplate, stringLookup, exception) -> {
+              if (messages.isEmpty()) {
+                messages.add("failed");
+                throw new IllegalStateException("delegate failure");
+              }
+              messages.add(messageTemplate.render(stringLookup));
+            });
+    asyncLogDispatcher.start();
+
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("first"), new StringSupplierLookup(), null);
+    asyncLogDispatcher.dispatch(
+        LOGGER, Level.INFO, MessageTemplate.compile("foo={foo}"), newStringLookup("bar"), null);
+    asyncLogDispatcher.stop();
+
+    assertThat(messages).containsExactly("failed", "foo=bar");
+    assertThat(capturedOutput).contains("Failed to log event").contains("delegate failure");
+  }
+
+  @Test
+  void dispatch_loggedSynchronouslyWhenDispatcherThreadInterrupted() {
+    final List<String> threadNames = new CopyOnWriteArrayList<>();
+    asyncLogDispatcher =
+        newAsyncLogDispatcher(
+            1,
+            OverflowPolicy.BLOCK,
+            (logger, level, messageTemplate, stringLookup, exception) -> {
+              if (threadNames.isEmpty()) {
+                Thread.currentThread().interrupt();
+              }
+              threadNames.add(Thread.currentThread().getName());
+            });
+    asyncLogDispatcher.start();
+
+    final AtomicInteger dispatchedCount = new AtomicInteger();
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () -> {
+              asyncLogDispatcher.dispatch(
+                  LOGGER, Level.INFO, MessageTemplate.compile("foo"), newStringLookup("bar"), null);
+              dispatchedCount.incrementAndGet();
+              return threadNames.contains(Thread.currentThread().getName());
+            });
+
+    assertThat(threadNames).first().isEqualTo("aop-loggers-dispatcher");
+    assertThat(threadNames).hasSize(dispatchedCount.get());
+    assertThat(asyncLogDispatcher.getDroppedCount()).isZero();
+    assertThat(asyncLogDispatcher.getPendingCount()).isZero();
+  }
+
+  /** Delegate blocking the dispatcher thread while logging, until released. */
+  private static class BlockingLogDispatcher implements LogDispatcher {
+
+    private final CountDownLatch dispatching = new CountDownLatch(1);
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    public void dispatch(
+        final Logger logger,
+        final Level level,
+        final MessageTemplate messageTemplate,
+        final StringSupplierLookup stringLookup,
+        final Throwable exception) {
+      dispatching.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      SynchronousLogDispatcher.INSTANCE.dispatch(
+          logger, level, messageTemplate, stringLookup, exception);
+    }
+
+    void awaitDispatching() throws InterruptedException {
+      dispatching.await();
+    }
+
+    void release() {
+      released.countDown();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package im.aop.loggers.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link KeyValueLogDispatcherProperties}.
+ *
+ * @author Andy Lian
+ */
+class KeyValueLogDispatcherPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({KeyValueLogDispatcherProperties.class})
+  static class KeyValueLogDispatcherPropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(KeyValueLogDispatcherPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final KeyValueLogDispatcherProperties properties =
+              context.getBean(KeyValueLogDispatcherProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.isRenderMessage()).isTrue();
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            KeyValueLogDispatcherProperties.PREFIX + ".enabled=true",
+            KeyValueLogDispatcherProperties.PREFIX + ".render-message=false")
+        .run(
+            context -> {
+              final KeyValueLogDispatcherProperties properties =
+                  context.getBean(KeyValueLogDispatcherProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.isRenderMessage()).isFalse();
+            });
+  }
+}
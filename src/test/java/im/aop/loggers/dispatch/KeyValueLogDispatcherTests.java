@@ -0,0 +1,120 @@
+package im.aop.loggers.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.ElapsedStringSupplierRegistrar;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import im.aop.loggers.messageinterpolation.Variable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link KeyValueLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+class KeyValueLogDispatcherTests {
+
+  private static final ch.qos.logback.classic.Logger LOGGER =
+      (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(KeyValueLogDispatcherTests.class);
+
+  private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+
+  @BeforeEach
+  void addAppender() {
+    listAppender.start();
+    LOGGER.addAppender(listAppender);
+  }
+
+  @AfterEach
+  void detachAppender() {
+    LOGGER.detachAppender(listAppender);
+  }
+
+  private StringSupplierLookup newStringLookup() {
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier(Variable.METHOD, "foo", String::toString);
+    new ElapsedStringSupplierRegistrar().register(stringLookup, 2_000L);
+    return stringLookup;
+  }
+
+  @Test
+  void dispatch_logsKeyValues() {
+    new KeyValueLogDispatcher(true)
+        .dispatch(
+            LOGGER,
+            Level.INFO,
+            MessageTemplate.compile("method={method} elapsed={elapsed}"),
+            newStringLookup(),
+            null);
+
+    assertThat(listAppender.list).hasSize(1);
+    final ILoggingEvent loggingEvent = listAppender.list.get(0);
+    assertThat(loggingEvent.getLevel()).isEqualTo(ch.qos.logback.classic.Level.INFO);
+    assertThat(loggingEvent.getFormattedMessage()).isEqualTo("method=foo elapsed=PT0.000002S");
+    assertThat(loggingEvent.getKeyValuePairs())
+        .extracting(keyValuePair -> keyValuePair.key, keyValuePair -> keyValuePair.value)
+        .containsExactly(tuple("method", "foo"), tuple("elapsed", 2_000L));
+  }
+
+  @Test
+  void dispatch_withoutRenderingMessage() {
+    new KeyValueLogDispatcher(false)
+        .dispatch(
+            LOGGER,
+            Level.INFO,
+            MessageTemplate.compile("method={method}"),
+            newStringLookup(),
+            null);
+
+    assertThat(listAppender.list).hasSize(1);
+    final ILoggingEvent loggingEvent = listAppender.list.get(0);
+    assertThat(loggingEvent.getFormattedMessage()).isEqualTo("method={method}");
+    assertThat(loggingEvent.getKeyValuePairs())
+        .extracting(keyValuePair -> keyValuePair.key, keyValuePair -> keyValuePair.value)
+        .containsExactly(tuple("method", "foo"));
+  }
+
+  @Test
+  void dispatch_withException() {
+    final Exception exception = new RuntimeException("bar");
+    new KeyValueLogDispatcher(true)
+        .dispatch(
+            LOGGER,
+            Level.ERROR,
+            MessageTemplate.compile("method={method}"),
+            newStringLookup(),
+            exception);
+
+    assertThat(listAppender.list).hasSize(1);
+    final ILoggingEvent loggingEvent = listAppender.list.get(0);
+    assertThat(loggingEvent.getLevel()).isEqualTo(ch.qos.logback.classic.Level.ERROR);
+    assertThat(loggingEvent.getThrowableProxy().getMessage()).isEqualTo("bar");
+  }
+
+  @Test
+  void dispatch_whenLevelDisabled() {
+    final ch.qos.logback.classic.Level previousLevel = LOGGER.getLevel();
+    LOGGER.setLevel(ch.qos.logback.classic.Level.WARN);
+    try {
+      new KeyValueLogDispatcher(true)
+          .dispatch(
+              LOGGER,
+              Level.INFO,
+              MessageTemplate.compile("method={method}"),
+              newStringLookup(),
+              null);
+    } finally {
+      LOGGER.setLevel(previousLevel);
+    }
+
+    assertThat(listAppender.list).isEmpty();
+  }
+}
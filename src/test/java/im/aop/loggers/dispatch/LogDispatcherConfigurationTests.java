@@ -0,0 +1,89 @@
+package im.aop.loggers.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link LogDispatcherConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class LogDispatcherConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withUserConfiguration(LogDispatcherConfiguration.class);
+
+  @Test
+  void asyncLogDispatcherPropertiesNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(AsyncLogDispatcherProperties.class)).isNotNull();
+        });
+  }
+
+  @Test
+  void logDispatcher_synchronousByDefault() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(LogDispatcher.class))
+              .isExactlyInstanceOf(SynchronousLogDispatcher.class);
+        });
+  }
+
+  @Test
+  void logDispatcher_asynchronousWhenEnabled() {
+    runner
+        .withPropertyValues(AsyncLogDispatcherProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogDispatcher.class))
+                  .isExactlyInstanceOf(AsyncLogDispatcher.class);
+            });
+  }
+
+  @Test
+  void keyValueLogDispatcherPropertiesNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(KeyValueLogDispatcherProperties.class)).isNotNull();
+        });
+  }
+
+  @Test
+  void logDispatcher_keyValueWhenEnabled() {
+    runner
+        .withPropertyValues(KeyValueLogDispatcherProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogDispatcher.class))
+                  .isExactlyInstanceOf(KeyValueLogDispatcher.class);
+            });
+  }
+
+  @Test
+  void logDispatcher_asynchronousWithKeyValueEnabled() {
+    runner
+        .withPropertyValues(
+            AsyncLogDispatcherProperties.PREFIX + ".enabled=true",
+            KeyValueLogDispatcherProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(LogDispatcher.class))
+                  .isExactlyInstanceOf(AsyncLogDispatcher.class);
+              assertThat(context).doesNotHaveBean(KeyValueLogDispatcher.class);
+            });
+  }
+
+  @Test
+  void logDispatcher_customBean() {
+    final LogDispatcher logDispatcher = (logger, level, messageTemplate, stringLookup, e) -> {};
+    runner
+        .withBean(LogDispatcher.class, () -> logDispatcher)
+        .run(
+            context -> {
+              assertThat(context.getBean(LogDispatcher.class)).isSameAs(logDispatcher);
+            });
+  }
+}
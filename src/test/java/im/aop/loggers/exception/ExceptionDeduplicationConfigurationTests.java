@@ -0,0 +1,35 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link ExceptionDeduplicationConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class ExceptionDeduplicationConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(ExceptionDeduplicationConfiguration.class);
+
+  @Test
+  void loggedExceptionsNotNull() {
+    runner.run(context -> assertThat(context).hasSingleBean(LoggedExceptions.class));
+  }
+
+  @Test
+  void exceptionDeduplicator_disabledByDefault() {
+    runner.run(context -> assertThat(context).doesNotHaveBean(ExceptionDeduplicator.class));
+  }
+
+  @Test
+  void exceptionDeduplicator_whenEnabled() {
+    runner
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".enabled=true")
+        .run(context -> assertThat(context).hasSingleBean(ExceptionDeduplicator.class));
+  }
+}
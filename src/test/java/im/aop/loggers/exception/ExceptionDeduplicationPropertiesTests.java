@@ -0,0 +1,66 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link ExceptionDeduplicationProperties}.
+ *
+ * @author Andy Lian
+ */
+class ExceptionDeduplicationPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({ExceptionDeduplicationProperties.class})
+  static class ExceptionDeduplicationPropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(ExceptionDeduplicationPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final ExceptionDeduplicationProperties properties =
+              context.getBean(ExceptionDeduplicationProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.getWindow()).isEqualTo(Duration.ofSeconds(10));
+          assertThat(properties.getMaxEntries()).isEqualTo(1024);
+          assertThat(properties.getSummaryMessage())
+              .isEqualTo(
+                  "[{method}] suppressed [{suppressed-count}] identical exceptions [{exception}]");
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            ExceptionDeduplicationProperties.PREFIX + ".enabled=true",
+            ExceptionDeduplicationProperties.PREFIX + ".window=1m",
+            ExceptionDeduplicationProperties.PREFIX + ".max-entries=16",
+            ExceptionDeduplicationProperties.PREFIX + ".summary-message=foo")
+        .run(
+            context -> {
+              final ExceptionDeduplicationProperties properties =
+                  context.getBean(ExceptionDeduplicationProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.getWindow()).isEqualTo(Duration.ofMinutes(1));
+              assertThat(properties.getMaxEntries()).isEqualTo(16);
+              assertThat(properties.getSummaryMessage()).isEqualTo("foo");
+            });
+  }
+
+  @Test
+  void invalidMaxEntries() {
+    runner
+        .withPropertyValues(ExceptionDeduplicationProperties.PREFIX + ".max-entries=0")
+        .run(context -> assertThat(context).hasFailed());
+  }
+}
@@ -0,0 +1,276 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import im.aop.loggers.exception.ExceptionDeduplicator.Occurrence;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExceptionDeduplicator}.
+ *
+ * @author Andy Lian
+ */
+class ExceptionDeduplicatorTests {
+
+  private static final long WINDOW = Duration.ofSeconds(10).toNanos();
+
+  static class Foo {
+
+    void foo() {}
+
+    void bar() {}
+  }
+
+  private final ExceptionDeduplicationProperties properties =
+      new ExceptionDeduplicationProperties();
+
+  /** Suppressed counts of the summaries flushed. */
+  private final List<Long> summaries = new CopyOnWriteArrayList<>();
+
+  private ExceptionDeduplicator deduplicator;
+
+  private Method foo;
+
+  private Method bar;
+
+  @BeforeEach
+  void beforeEach() throws NoSuchMethodException {
+    deduplicator = new ExceptionDeduplicator(properties);
+    foo = Foo.class.getDeclaredMethod("foo");
+    bar = Foo.class.getDeclaredMethod("bar");
+  }
+
+  /** Exceptions thrown from the same stack trace, with different messages. */
+  private final RuntimeException[] exceptions = new RuntimeException[5];
+
+  @BeforeEach
+  void createExceptions() {
+    for (int index = 0; index < exceptions.length; index++) {
+      exceptions[index] = new RuntimeException("foo" + index);
+    }
+  }
+
+  @Test
+  void occur_firstOccurrenceLogged() {
+    assertThat(deduplicator.occur(foo, exceptions[0], summaries::add, 0))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_identicalExceptionWithinWindowSuppressed() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+
+    assertThat(deduplicator.occur(foo, exceptions[1], summaries::add, 1))
+        .isEqualTo(new Occurrence(false, 0));
+    assertThat(deduplicator.occur(foo, exceptions[2], summaries::add, WINDOW - 1))
+        .isEqualTo(new Occurrence(false, 0));
+  }
+
+  @Test
+  void occur_summaryAfterWindow() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+    deduplicator.occur(foo, exceptions[2], summaries::add, 2);
+
+    assertThat(deduplicator.occur(foo, exceptions[3], summaries::add, WINDOW))
+        .isEqualTo(new Occurrence(false, 3));
+    assertThat(deduplicator.occur(foo, exceptions[4], summaries::add, WINDOW + 1))
+        .isEqualTo(new Occurrence(false, 0));
+  }
+
+  @Test
+  void occur_loggedAfterQuietWindow() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+
+    assertThat(deduplicator.occur(foo, exceptions[1], summaries::add, WINDOW))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_loggedWithPendingSummaryAfterQuietWindow() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+
+    assertThat(deduplicator.occur(foo, exceptions[2], summaries::add, 2 * WINDOW))
+        .isEqualTo(new Occurrence(true, 1));
+  }
+
+  @Test
+  void occur_differentMethod() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+
+    assertThat(deduplicator.occur(bar, exceptions[1], summaries::add, 1))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_differentExceptionType() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+
+    assertThat(deduplicator.occur(foo, new IllegalStateException("foo"), summaries::add, 1))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_differentStackTrace() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+
+    assertThat(deduplicator.occur(foo, new RuntimeException("foo"), summaries::add, 1))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_leastRecentlySeenEvicted() {
+    properties.setMaxEntries(1);
+    deduplicator = new ExceptionDeduplicator(properties);
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(bar, exceptions[1], summaries::add, 1);
+
+    assertThat(deduplicator.occur(foo, exceptions[2], summaries::add, 2))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void occur_evictedSummarized() {
+    properties.setMaxEntries(1);
+    deduplicator = new ExceptionDeduplicator(properties);
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+    deduplicator.occur(bar, exceptions[2], summaries::add, 2);
+
+    assertThat(summaries).containsExactly(1L);
+  }
+
+  @Test
+  void flush_summarizesAfterWindow() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+    deduplicator.occur(foo, exceptions[2], summaries::add, 2);
+
+    deduplicator.flush(WINDOW - 1);
+    assertThat(summaries).isEmpty();
+
+    deduplicator.flush(WINDOW);
+    assertThat(summaries).containsExactly(2L);
+  }
+
+  @Test
+  void flush_startsNewWindow() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+    deduplicator.flush(WINDOW);
+
+    assertThat(deduplicator.occur(foo, exceptions[2], summaries::add, WINDOW + 1))
+        .isEqualTo(new Occurrence(false, 0));
+    deduplicator.flush(2 * WINDOW);
+    assertThat(summaries).containsExactly(1L, 1L);
+  }
+
+  @Test
+  void flush_summarizerOfLastOccurrence() {
+    final List<Long> firstSummaries = new ArrayList<>();
+    deduplicator.occur(foo, exceptions[0], firstSummaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], firstSummaries::add, 1);
+    deduplicator.occur(foo, exceptions[2], summaries::add, 2);
+    deduplicator.flush(WINDOW);
+
+    assertThat(firstSummaries).isEmpty();
+    assertThat(summaries).containsExactly(2L);
+  }
+
+  @Test
+  void flush_forgetsQuietExceptions() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.flush(WINDOW);
+
+    assertThat(summaries).isEmpty();
+    assertThat(deduplicator.occur(foo, exceptions[1], summaries::add, WINDOW + 1))
+        .isEqualTo(new Occurrence(true, 0));
+  }
+
+  @Test
+  void flush_failedSummarizerIgnored() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(
+        foo,
+        exceptions[1],
+        suppressedCount -> {
+          throw new IllegalStateException("foo");
+        },
+        1);
+    deduplicator.occur(bar, exceptions[2], summaries::add, 2);
+    deduplicator.occur(bar, exceptions[3], summaries::add, 3);
+    deduplicator.flush(WINDOW + 3);
+
+    assertThat(summaries).containsExactly(1L);
+  }
+
+  @Test
+  void start_flushesEveryWindow() {
+    properties.setWindow(Duration.ofMillis(50));
+    deduplicator = new ExceptionDeduplicator(properties);
+    deduplicator.start();
+    try {
+      deduplicator.occur(foo, exceptions[0], summaries::add);
+      deduplicator.occur(foo, exceptions[1], summaries::add);
+
+      await().atMost(Duration.ofSeconds(5)).until(() -> summaries.contains(1L));
+    } finally {
+      deduplicator.stop();
+    }
+    assertThat(summaries).containsExactly(1L);
+  }
+
+  @Test
+  void start_withoutWindow() {
+    properties.setWindow(Duration.ZERO);
+    deduplicator = new ExceptionDeduplicator(properties);
+    deduplicator.start();
+    deduplicator.occur(foo, exceptions[0], summaries::add);
+
+    assertThat(deduplicator.occur(foo, exceptions[1], summaries::add))
+        .isEqualTo(new Occurrence(true, 0));
+    deduplicator.stop();
+    assertThat(summaries).isEmpty();
+  }
+
+  @Test
+  void stop_summarizesPending() {
+    deduplicator.occur(foo, exceptions[0], summaries::add, 0);
+    deduplicator.occur(foo, exceptions[1], summaries::add, 1);
+    deduplicator.stop();
+
+    assertThat(summaries).containsExactly(1L);
+  }
+
+  @Test
+  void fingerprint_ignoresMessage() {
+    assertThat(ExceptionDeduplicator.fingerprint(exceptions[0]))
+        .isEqualTo(ExceptionDeduplicator.fingerprint(exceptions[1]));
+  }
+
+  @Test
+  void fingerprint_includesCause() {
+    final RuntimeException exception = exceptions[0];
+    exception.initCause(new IllegalStateException());
+
+    assertThat(ExceptionDeduplicator.fingerprint(exception))
+        .isNotEqualTo(ExceptionDeduplicator.fingerprint(exceptions[1]));
+  }
+
+  @Test
+  void fingerprint_cyclicCause() {
+    final RuntimeException exception = exceptions[0];
+    final IllegalStateException cause = new IllegalStateException(exception);
+    exception.initCause(cause);
+
+    assertThat(ExceptionDeduplicator.fingerprint(exception)).isNotZero();
+  }
+}
@@ -0,0 +1,138 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LoggedExceptions}.
+ *
+ * @author Andy Lian
+ */
+class LoggedExceptionsTests {
+
+  private final LoggedExceptions loggedExceptions = new LoggedExceptions();
+
+  /** Exception equal to any other, to check that the exceptions are compared by identity. */
+  static class EqualException extends RuntimeException {
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof EqualException;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
+  @BeforeEach
+  void enter() {
+    loggedExceptions.enter();
+  }
+
+  @AfterEach
+  void exit() {
+    loggedExceptions.exit();
+  }
+
+  @Test
+  void isLogged_notMarked() {
+    assertThat(loggedExceptions.isLogged(new RuntimeException("foo"))).isFalse();
+  }
+
+  @Test
+  void isLogged_sameException() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.markLogged(exception);
+
+    assertThat(loggedExceptions.isLogged(exception)).isTrue();
+  }
+
+  @Test
+  void isLogged_otherException() {
+    loggedExceptions.markLogged(new RuntimeException("foo"));
+
+    assertThat(loggedExceptions.isLogged(new RuntimeException("foo"))).isFalse();
+  }
+
+  @Test
+  void isLogged_equalException() {
+    loggedExceptions.markLogged(new EqualException());
+
+    assertThat(loggedExceptions.isLogged(new EqualException())).isFalse();
+  }
+
+  @Test
+  void isLogged_wrappingLoggedException() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.markLogged(exception);
+
+    assertThat(loggedExceptions.isLogged(new IllegalStateException(exception))).isTrue();
+  }
+
+  @Test
+  void isLogged_cyclicCause() {
+    final RuntimeException exception = new RuntimeException("foo");
+    final IllegalStateException cause = new IllegalStateException(exception);
+    exception.initCause(cause);
+    loggedExceptions.markLogged(new RuntimeException("bar"));
+
+    assertThat(loggedExceptions.isLogged(exception)).isFalse();
+  }
+
+  @Test
+  void isLogged_nestedScope() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.enter();
+    loggedExceptions.markLogged(exception);
+    loggedExceptions.exit();
+
+    assertThat(loggedExceptions.isLogged(exception)).isTrue();
+  }
+
+  @Test
+  void isLogged_afterOutermostScopeExited() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.markLogged(exception);
+    loggedExceptions.exit();
+
+    assertThat(loggedExceptions.isLogged(exception)).isFalse();
+    loggedExceptions.enter();
+    assertThat(loggedExceptions.isLogged(exception)).isFalse();
+  }
+
+  @Test
+  void markLogged_outsideScope() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.exit();
+    loggedExceptions.markLogged(exception);
+    loggedExceptions.enter();
+
+    assertThat(loggedExceptions.isLogged(exception)).isFalse();
+  }
+
+  @Test
+  void isLogged_otherThread() {
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.markLogged(exception);
+
+    assertThat(CompletableFuture.supplyAsync(() -> loggedExceptions.isLogged(exception)).join())
+        .isFalse();
+  }
+
+  @Test
+  void exit_outsideScope() {
+    loggedExceptions.exit();
+    loggedExceptions.exit();
+    loggedExceptions.enter();
+
+    final RuntimeException exception = new RuntimeException("foo");
+    loggedExceptions.markLogged(exception);
+    assertThat(loggedExceptions.isLogged(exception)).isTrue();
+  }
+}
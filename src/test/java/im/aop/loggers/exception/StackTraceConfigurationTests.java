@@ -0,0 +1,29 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link StackTraceConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class StackTraceConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withUserConfiguration(StackTraceConfiguration.class);
+
+  @Test
+  void stackTraceRenderer_disabledByDefault() {
+    runner.run(context -> assertThat(context).doesNotHaveBean(StackTraceRenderer.class));
+  }
+
+  @Test
+  void stackTraceRenderer_whenEnabled() {
+    runner
+        .withPropertyValues(StackTraceProperties.PREFIX + ".enabled=true")
+        .run(context -> assertThat(context).hasSingleBean(StackTraceRenderer.class));
+  }
+}
@@ -0,0 +1,85 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link StackTraceProperties}.
+ *
+ * @author Andy Lian
+ */
+class StackTracePropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({StackTraceProperties.class})
+  static class StackTracePropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(StackTracePropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final StackTraceProperties properties = context.getBean(StackTraceProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.getMaxDepth()).isEqualTo(64);
+          assertThat(properties.getMaxCauses()).isEqualTo(8);
+          assertThat(properties.getCollapsedPackages())
+              .containsExactly(
+                  "org.springframework.aop.",
+                  "org.springframework.cglib.",
+                  "java.lang.reflect.",
+                  "jdk.internal.reflect.",
+                  "sun.reflect.");
+          assertThat(properties.getCacheSize()).isEqualTo(256);
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            StackTraceProperties.PREFIX + ".enabled=true",
+            StackTraceProperties.PREFIX + ".max-depth=16",
+            StackTraceProperties.PREFIX + ".max-causes=2",
+            StackTraceProperties.PREFIX + ".collapsed-packages=org.apache.catalina.,reactor.core.",
+            StackTraceProperties.PREFIX + ".cache-size=32")
+        .run(
+            context -> {
+              final StackTraceProperties properties = context.getBean(StackTraceProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.getMaxDepth()).isEqualTo(16);
+              assertThat(properties.getMaxCauses()).isEqualTo(2);
+              assertThat(properties.getCollapsedPackages())
+                  .containsExactly("org.apache.catalina.", "reactor.core.");
+              assertThat(properties.getCacheSize()).isEqualTo(32);
+            });
+  }
+
+  @Test
+  void invalidMaxDepth() {
+    runner
+        .withPropertyValues(StackTraceProperties.PREFIX + ".max-depth=0")
+        .run(context -> assertThat(context).hasFailed());
+  }
+
+  @Test
+  void invalidMaxCauses() {
+    runner
+        .withPropertyValues(StackTraceProperties.PREFIX + ".max-causes=-1")
+        .run(context -> assertThat(context).hasFailed());
+  }
+
+  @Test
+  void invalidCacheSize() {
+    runner
+        .withPropertyValues(StackTraceProperties.PREFIX + ".cache-size=0")
+        .run(context -> assertThat(context).hasFailed());
+  }
+}
@@ -0,0 +1,254 @@
+package im.aop.loggers.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StackTraceRenderer}.
+ *
+ * @author Andy Lian
+ */
+class StackTraceRendererTests {
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final StackTraceProperties properties = new StackTraceProperties();
+
+  private static StackTraceElement frame(final String className) {
+    return new StackTraceElement(className, "foo", "Foo.java", 1);
+  }
+
+  private static RuntimeException exception(
+      final String message, final StackTraceElement... stackTrace) {
+    final RuntimeException exception = new RuntimeException(message);
+    exception.setStackTrace(stackTrace);
+    return exception;
+  }
+
+  @Test
+  void render() {
+    final RuntimeException exception = exception("foo", frame("a.Foo"), frame("a.Bar"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\tat a.Bar.foo(Foo.java:1)");
+  }
+
+  @Test
+  void render_collapsedFrames() {
+    final RuntimeException exception =
+        exception(
+            "foo",
+            frame("a.Foo"),
+            frame("org.springframework.aop.framework.ReflectiveMethodInvocation"),
+            frame("jdk.internal.reflect.DirectMethodHandleAccessor"),
+            frame("a.Foo$$SpringCGLIB$$0"),
+            frame("a.Bar"),
+            frame("java.lang.reflect.Method"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t... 3 frames collapsed"
+                + LINE_SEPARATOR
+                + "\tat a.Bar.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t... 1 frames collapsed");
+  }
+
+  @Test
+  void render_givenCollapsedPackages() {
+    properties.setCollapsedPackages(new String[] {"a."});
+    final RuntimeException exception = exception("foo", frame("a.Foo"), frame("b.Bar"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\t... 1 frames collapsed"
+                + LINE_SEPARATOR
+                + "\tat b.Bar.foo(Foo.java:1)");
+  }
+
+  @Test
+  void render_maxDepth() {
+    properties.setMaxDepth(1);
+    final RuntimeException exception =
+        exception("foo", frame("a.Foo"), frame("a.Bar"), frame("a.Baz"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t... 2 frames omitted");
+  }
+
+  @Test
+  void render_cause() {
+    final RuntimeException cause = exception("bar", frame("a.Bar"), frame("a.Main"));
+    final RuntimeException exception = exception("foo", frame("a.Foo"), frame("a.Main"));
+    exception.initCause(cause);
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\tat a.Main.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "Caused by: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\tat a.Bar.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t... 1 more");
+  }
+
+  @Test
+  void render_maxCauses() {
+    properties.setMaxCauses(1);
+    final RuntimeException exception = exception("foo");
+    final RuntimeException cause = exception("bar");
+    exception.initCause(cause);
+    cause.initCause(exception("baz"));
+    cause.getCause().initCause(exception("qux"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "Caused by: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\t... 2 causes omitted");
+  }
+
+  @Test
+  void render_suppressed() {
+    final RuntimeException exception = exception("foo", frame("a.Foo"), frame("a.Bar"));
+    exception.addSuppressed(exception("bar", frame("a.Baz"), frame("a.Bar")));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\tat a.Bar.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\tSuppressed: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\t\tat a.Baz.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t\t... 1 more");
+  }
+
+  @Test
+  void render_suppressedWithCause() {
+    final RuntimeException exception = exception("foo", frame("a.Foo"));
+    final RuntimeException cause = exception("baz", frame("a.Foo"));
+    final RuntimeException suppressed = exception("bar", frame("a.Bar"), frame("a.Foo"));
+    suppressed.initCause(exception("qux", frame("a.Qux"), frame("a.Bar"), frame("a.Foo")));
+    cause.addSuppressed(suppressed);
+    exception.initCause(cause);
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tat a.Foo.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "Caused by: java.lang.RuntimeException: baz"
+                + LINE_SEPARATOR
+                + "\t... 1 more"
+                + LINE_SEPARATOR
+                + "\tSuppressed: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\t\tat a.Bar.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t\t... 1 more"
+                + LINE_SEPARATOR
+                + "\tCaused by: java.lang.RuntimeException: qux"
+                + LINE_SEPARATOR
+                + "\t\tat a.Qux.foo(Foo.java:1)"
+                + LINE_SEPARATOR
+                + "\t\t... 2 more");
+  }
+
+  @Test
+  void render_maxSuppressed() {
+    properties.setMaxCauses(1);
+    final RuntimeException exception = exception("foo");
+    final RuntimeException suppressed = exception("bar");
+    suppressed.initCause(exception("baz"));
+    exception.addSuppressed(suppressed);
+    exception.addSuppressed(exception("qux"));
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tSuppressed: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\t\t... 1 causes omitted"
+                + LINE_SEPARATOR
+                + "\t... 1 suppressed omitted");
+  }
+
+  @Test
+  void render_circularSuppressed() {
+    final RuntimeException exception = exception("foo");
+    final RuntimeException suppressed = exception("bar");
+    suppressed.initCause(exception);
+    exception.addSuppressed(suppressed);
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "\tSuppressed: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "\tCaused by: [CIRCULAR REFERENCE: java.lang.RuntimeException: foo]");
+  }
+
+  @Test
+  void render_circularCause() {
+    final RuntimeException exception = exception("foo");
+    final RuntimeException cause = exception("bar");
+    exception.initCause(cause);
+    cause.initCause(exception);
+
+    assertThat(new StackTraceRenderer(properties).render(exception))
+        .isEqualTo(
+            "java.lang.RuntimeException: foo"
+                + LINE_SEPARATOR
+                + "Caused by: java.lang.RuntimeException: bar"
+                + LINE_SEPARATOR
+                + "Caused by: [CIRCULAR REFERENCE: java.lang.RuntimeException: foo]");
+  }
+
+  @Test
+  void render_cachedFramesWithOwnMessage() {
+    final StackTraceRenderer stackTraceRenderer = new StackTraceRenderer(properties);
+    final String[] renderedStackTraces = new String[2];
+    for (int index = 0; index < renderedStackTraces.length; index++) {
+      renderedStackTraces[index] =
+          stackTraceRenderer.render(new IllegalStateException("foo" + index));
+    }
+
+    assertThat(renderedStackTraces[0]).startsWith("java.lang.IllegalStateException: foo0");
+    assertThat(renderedStackTraces[1]).startsWith("java.lang.IllegalStateException: foo1");
+    assertThat(renderedStackTraces[1].substring(renderedStackTraces[1].indexOf(LINE_SEPARATOR)))
+        .isEqualTo(renderedStackTraces[0].substring(renderedStackTraces[0].indexOf(LINE_SEPARATOR)))
+        .contains("\tat " + StackTraceRendererTests.class.getName());
+  }
+}
@@ -0,0 +1,225 @@
+package im.aop.loggers.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.AopLoggersAutoConfiguration;
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.before.LogBefore;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+/**
+ * Tests for {@link AopLoggersIndexConfiguration}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class AopLoggersIndexConfigurationTests {
+
+  @TempDir Path indexDirectory;
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(
+              AutoConfigurations.of(AopAutoConfiguration.class, AopLoggersAutoConfiguration.class))
+          .withBean(ListedService.class)
+          .withBean(UnlistedService.class);
+
+  static class ListedService {
+
+    @LogBefore
+    public void listed() {}
+  }
+
+  static class UnlistedService {
+
+    @LogBefore
+    public void unlisted() {}
+  }
+
+  @Aspect
+  static class OtherAspect {
+
+    @Before(
+        "execution(* im.aop.loggers.index.AopLoggersIndexConfigurationTests.UnlistedService.*(..))")
+    public void before(final JoinPoint joinPoint) {
+      System.out.println("Other aspect before [" + joinPoint.getSignature().toShortString() + "]");
+    }
+  }
+
+  /** Class loader exposing only the given index files. */
+  static class IndexClassLoader extends ClassLoader {
+
+    private final List<URL> indexes;
+
+    IndexClassLoader(final List<URL> indexes) {
+      super(AopLoggersIndexConfigurationTests.class.getClassLoader());
+      this.indexes = indexes;
+    }
+
+    @Override
+    public Enumeration<URL> getResources(final String name) throws IOException {
+      return AopLoggersIndex.INDEX_LOCATION.equals(name)
+          ? Collections.enumeration(indexes)
+          : super.getResources(name);
+    }
+
+    @Override
+    public URL getResource(final String name) {
+      if (AopLoggersIndex.INDEX_LOCATION.equals(name)) {
+        return indexes.isEmpty() ? null : indexes.get(0);
+      }
+      return super.getResource(name);
+    }
+  }
+
+  @Test
+  void aopLoggersIndexPostProcessorNotNull() {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".use-index=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(AopLoggersIndexPostProcessor.class)).isNotNull();
+            });
+  }
+
+  @Test
+  void aopLoggersIndexPostProcessorNull_byDefault() {
+    runner.run(
+        context -> {
+          assertThat(context).doesNotHaveBean(AopLoggersIndexPostProcessor.class);
+        });
+  }
+
+  @Test
+  void logBefore_listedClassesOnly_withAspectjAdvisorType(final CapturedOutput capturedOutput)
+      throws IOException {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX + ".use-index=true",
+            AopLoggersProperties.PREFIX + ".advisor-type=aspectj")
+        .withClassLoader(
+            new IndexClassLoader(
+                List.of(
+                    writeIndex(ListedService.class.getName() + "=" + LogBefore.class.getName()))))
+        .run(
+            context -> {
+              final ListedService listedService = context.getBean(ListedService.class);
+              final UnlistedService unlistedService = context.getBean(UnlistedService.class);
+              assertThat(((Advised) listedService).getAdvisors())
+                  .anySatisfy(
+                      advisor ->
+                          assertThat(advisor).asString().startsWith("IndexedPointcutAdvisor: "));
+              assertThat(AopUtils.isAopProxy(unlistedService)).isFalse();
+
+              listedService.listed();
+              unlistedService.unlisted();
+
+              assertThat(capturedOutput)
+                  .contains("Entering [void listed()]")
+                  .doesNotContain("Entering [void unlisted()]");
+            });
+  }
+
+  @Test
+  void logBefore_listedClassesOnly_withNativeAdvisorType(final CapturedOutput capturedOutput)
+      throws IOException {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX + ".use-index=true",
+            AopLoggersProperties.PREFIX + ".advisor-type=native")
+        .withClassLoader(
+            new IndexClassLoader(
+                List.of(
+                    writeIndex(ListedService.class.getName() + "=" + LogBefore.class.getName()))))
+        .run(
+            context -> {
+              final UnlistedService unlistedService = context.getBean(UnlistedService.class);
+              assertThat(AopUtils.isAopProxy(unlistedService)).isFalse();
+
+              context.getBean(ListedService.class).listed();
+              unlistedService.unlisted();
+
+              assertThat(capturedOutput)
+                  .contains("Entering [void listed()]")
+                  .doesNotContain("Entering [void unlisted()]");
+            });
+  }
+
+  @Test
+  void otherAspects_notRestrictedByIndex(final CapturedOutput capturedOutput) throws IOException {
+    runner
+        .withPropertyValues(
+            AopLoggersProperties.PREFIX + ".use-index=true",
+            AopLoggersProperties.PREFIX + ".advisor-type=aspectj")
+        .withBean(OtherAspect.class)
+        .withClassLoader(
+            new IndexClassLoader(
+                List.of(
+                    writeIndex(ListedService.class.getName() + "=" + LogBefore.class.getName()))))
+        .run(
+            context -> {
+              context.getBean(UnlistedService.class).unlisted();
+
+              assertThat(capturedOutput)
+                  .contains("Other aspect before [UnlistedService.unlisted()]")
+                  .doesNotContain("Entering [void unlisted()]");
+            });
+  }
+
+  @Test
+  void logBefore_withoutIndex(final CapturedOutput capturedOutput) {
+    runner
+        .withPropertyValues(AopLoggersProperties.PREFIX + ".use-index=true")
+        .withClassLoader(new IndexClassLoader(List.of()))
+        .run(
+            context -> {
+              context.getBean(ListedService.class).listed();
+              context.getBean(UnlistedService.class).unlisted();
+
+              assertThat(capturedOutput)
+                  .contains("Entering [void listed()]")
+                  .contains("Entering [void unlisted()]");
+            });
+  }
+
+  @Test
+  void logBefore_byDefault(final CapturedOutput capturedOutput) throws IOException {
+    runner
+        .withClassLoader(
+            new IndexClassLoader(
+                List.of(
+                    writeIndex(ListedService.class.getName() + "=" + LogBefore.class.getName()))))
+        .run(
+            context -> {
+              context.getBean(UnlistedService.class).unlisted();
+
+              assertThat(capturedOutput).contains("Entering [void unlisted()]");
+            });
+  }
+
+  private URL writeIndex(final String content) throws IOException {
+    final Path index = indexDirectory.resolve(AopLoggersIndex.INDEX_LOCATION);
+    Files.createDirectories(index.getParent());
+    Files.writeString(index, content);
+    return index.toUri().toURL();
+  }
+}
@@ -0,0 +1,139 @@
+package im.aop.loggers.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowing;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.before.LogBefore;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link AopLoggersIndexProcessor}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersIndexProcessorTests {
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  void process_annotatedClass() throws IOException {
+    compile(
+        """
+        package test;
+        @im.aop.loggers.advice.around.LogAround
+        public class Foo {
+          public void foo() {}
+        }
+        """);
+
+    assertThat(readIndex()).containsExactly("test.Foo=" + LogAround.class.getName());
+  }
+
+  @Test
+  void process_annotatedMethods() throws IOException {
+    compile(
+        """
+        package test;
+        public class Foo {
+          @im.aop.loggers.advice.afterthrowing.LogAfterThrowing
+          public void foo() {}
+          @im.aop.loggers.advice.around.LogAround
+          public void bar() {}
+          public static class Bar {
+            @im.aop.loggers.advice.before.LogBefore
+            public void bar() {}
+          }
+        }
+        """);
+
+    assertThat(readIndex())
+        .containsExactly(
+            "test.Foo=" + LogAfterThrowing.class.getName() + "," + LogAround.class.getName(),
+            "test.Foo$Bar=" + LogBefore.class.getName());
+  }
+
+  @Test
+  void process_notAnnotated() {
+    compile(
+        """
+        package test;
+        public class Foo {
+          public void foo() {}
+        }
+        """);
+
+    assertThat(outputDirectory.resolve(AopLoggersIndex.INDEX_LOCATION)).doesNotExist();
+  }
+
+  @Test
+  void process_mergesPreviousIndex() throws IOException {
+    final Path index = outputDirectory.resolve(AopLoggersIndex.INDEX_LOCATION);
+    Files.createDirectories(index.getParent());
+    Files.writeString(
+        index,
+        String.join(
+            "\n",
+            AopLoggersIndexTests.class.getName() + "=" + LogBefore.class.getName() + ",foo.Bar",
+            "test.Foo=" + LogBefore.class.getName(),
+            "test.Removed=" + LogBefore.class.getName()));
+
+    compile(
+        """
+        package test;
+        @im.aop.loggers.advice.around.LogAround
+        public class Foo {}
+        """);
+
+    assertThat(readIndex())
+        .containsExactly(
+            AopLoggersIndexTests.class.getName() + "=" + LogBefore.class.getName(),
+            "test.Foo=" + LogAround.class.getName());
+  }
+
+  private void compile(final String source) {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final JavaFileObject sourceFile =
+        new SimpleJavaFileObject(
+            URI.create("string:///test/Foo.java"), JavaFileObject.Kind.SOURCE) {
+
+          @Override
+          public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+          }
+        };
+
+    final Boolean compiled =
+        compiler
+            .getTask(
+                null,
+                null,
+                null,
+                List.of(
+                    "-proc:only",
+                    "-processor",
+                    AopLoggersIndexProcessor.class.getName(),
+                    "-classpath",
+                    System.getProperty("java.class.path"),
+                    "-d",
+                    outputDirectory.toString()),
+                null,
+                List.of(sourceFile))
+            .call();
+    assertThat(compiled).isTrue();
+  }
+
+  private List<String> readIndex() throws IOException {
+    return Files.readAllLines(outputDirectory.resolve(AopLoggersIndex.INDEX_LOCATION));
+  }
+}
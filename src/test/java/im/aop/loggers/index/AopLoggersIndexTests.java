@@ -0,0 +1,107 @@
+package im.aop.loggers.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.before.LogBefore;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link AopLoggersIndex}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersIndexTests {
+
+  @TempDir Path firstDirectory;
+
+  @TempDir Path secondDirectory;
+
+  interface TestInterface {}
+
+  static class TestParentClass {}
+
+  static class TestClass extends TestParentClass implements TestInterface {}
+
+  static class OtherClass {}
+
+  @Test
+  void load_withoutIndex() {
+    assertThat(AopLoggersIndex.load(new URLClassLoader(new URL[0], null))).isNull();
+  }
+
+  @Test
+  void load_mergesIndexes() throws IOException {
+    writeIndex(firstDirectory, TestClass.class.getName() + "=" + LogBefore.class.getName());
+    writeIndex(
+        secondDirectory,
+        TestClass.class.getName()
+            + "="
+            + LogAround.class.getName()
+            + "\n"
+            + OtherClass.class.getName()
+            + "="
+            + LogBefore.class.getName());
+
+    final AopLoggersIndex aopLoggersIndex =
+        AopLoggersIndex.load(
+            new URLClassLoader(
+                new URL[] {firstDirectory.toUri().toURL(), secondDirectory.toUri().toURL()}, null));
+
+    assertThat(aopLoggersIndex).isNotNull();
+    assertThat(aopLoggersIndex.isCandidate(TestClass.class, LogBefore.class)).isTrue();
+    assertThat(aopLoggersIndex.isCandidate(TestClass.class, LogAround.class)).isTrue();
+    assertThat(aopLoggersIndex.isCandidate(OtherClass.class, LogBefore.class)).isTrue();
+    assertThat(aopLoggersIndex.isCandidate(OtherClass.class, LogAround.class)).isFalse();
+  }
+
+  @Test
+  void isCandidate_notListed() {
+    final AopLoggersIndex aopLoggersIndex = new AopLoggersIndex(Map.of());
+
+    assertThat(aopLoggersIndex.isCandidate(TestClass.class, LogBefore.class)).isFalse();
+  }
+
+  @Test
+  void isCandidate_listedParentClass() {
+    final AopLoggersIndex aopLoggersIndex =
+        new AopLoggersIndex(
+            Map.of(TestParentClass.class.getName(), Set.of(LogBefore.class.getName())));
+
+    assertThat(aopLoggersIndex.isCandidate(TestClass.class, LogBefore.class)).isTrue();
+    assertThat(aopLoggersIndex.isCandidate(OtherClass.class, LogBefore.class)).isFalse();
+  }
+
+  @Test
+  void isCandidate_listedInterface() {
+    final AopLoggersIndex aopLoggersIndex =
+        new AopLoggersIndex(
+            Map.of(TestInterface.class.getName(), Set.of(LogBefore.class.getName())));
+
+    assertThat(aopLoggersIndex.isCandidate(TestClass.class, LogBefore.class)).isTrue();
+  }
+
+  @Test
+  void classFilter() {
+    final AopLoggersIndex aopLoggersIndex =
+        new AopLoggersIndex(Map.of(TestClass.class.getName(), Set.of(LogBefore.class.getName())));
+
+    assertThat(aopLoggersIndex.classFilter(LogBefore.class).matches(TestClass.class)).isTrue();
+    assertThat(aopLoggersIndex.classFilter(LogBefore.class).matches(OtherClass.class)).isFalse();
+    assertThat(aopLoggersIndex.classFilter(LogAround.class).matches(TestClass.class)).isFalse();
+  }
+
+  private void writeIndex(final Path directory, final String content) throws IOException {
+    final Path index = directory.resolve(AopLoggersIndex.INDEX_LOCATION);
+    Files.createDirectories(index.getParent());
+    Files.writeString(index, content);
+  }
+}
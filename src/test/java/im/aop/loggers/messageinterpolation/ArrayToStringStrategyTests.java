@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -15,6 +19,10 @@ class ArrayToStringStrategyTests {
 
   @Mock private ObjectToStringStrategy objectToStringStrategy;
 
+  @Spy
+  private CollectionToStringProperties collectionToStringProperties =
+      new CollectionToStringProperties();
+
   @InjectMocks private ArrayToStringStrategy toStringStrategy;
 
   @Test
@@ -39,7 +47,7 @@ class ArrayToStringStrategyTests {
 
   @Test
   void toString_givenString() {
-    assertThrows(ClassCastException.class, () -> toStringStrategy.toString("foo"));
+    assertThrows(IllegalArgumentException.class, () -> toStringStrategy.toString("foo"));
   }
 
   @Test
@@ -59,4 +67,114 @@ class ArrayToStringStrategyTests {
     when(objectToStringStrategy.toString("foo")).thenReturn("foo");
     assertThat(toStringStrategy.toString(new String[] {"foo", null})).isEqualTo("[foo, null]");
   }
+
+  @Test
+  void toString_givenStringArray_exceedsMaxElements() {
+    collectionToStringProperties.setMaxElements(2);
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    when(objectToStringStrategy.toString("bar")).thenReturn("bar");
+    assertThat(toStringStrategy.toString(new String[] {"foo", "bar", "baz", "qux"}))
+        .isEqualTo("[foo, bar, ... (2 more, size=4)]");
+  }
+
+  @Test
+  void toString_givenStringArray_zeroMaxElements() {
+    collectionToStringProperties.setMaxElements(0);
+    assertThat(toStringStrategy.toString(new String[] {"foo", "bar"}))
+        .isEqualTo("[... (2 more, size=2)]");
+  }
+
+  @Test
+  void toString_givenNestedArray() {
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    assertThat(toStringStrategy.toString(new Object[] {new String[] {"foo"}, List.of("foo")}))
+        .isEqualTo("[[foo], [foo]]");
+  }
+
+  @Test
+  void toString_givenNestedArray_exceedsMaxDepth() {
+    collectionToStringProperties.setMaxDepth(2);
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    assertThat(
+            toStringStrategy.toString(
+                new Object[] {"foo", new Object[] {"foo", new String[] {"foo", "bar"}}}))
+        .isEqualTo("[foo, [foo, [... (size=2)]]]");
+  }
+
+  @Test
+  void toString_givenIntArray() {
+    assertThat(toStringStrategy.toString(new int[] {1, -2, 3})).isEqualTo("[1, -2, 3]");
+  }
+
+  @Test
+  void toString_givenEmptyLongArray() {
+    assertThat(toStringStrategy.toString(new long[] {})).isEqualTo("[]");
+  }
+
+  @Test
+  void toString_givenPrimitiveArrays_sameAsArraysToString() {
+    assertThat(toStringStrategy.toString(new long[] {1L, Long.MAX_VALUE}))
+        .isEqualTo(Arrays.toString(new long[] {1L, Long.MAX_VALUE}));
+    assertThat(toStringStrategy.toString(new short[] {1, -1}))
+        .isEqualTo(Arrays.toString(new short[] {1, -1}));
+    assertThat(toStringStrategy.toString(new char[] {'a', 'b'}))
+        .isEqualTo(Arrays.toString(new char[] {'a', 'b'}));
+    assertThat(toStringStrategy.toString(new boolean[] {true, false}))
+        .isEqualTo(Arrays.toString(new boolean[] {true, false}));
+    assertThat(toStringStrategy.toString(new float[] {1.5f, -0.0f}))
+        .isEqualTo(Arrays.toString(new float[] {1.5f, -0.0f}));
+    assertThat(toStringStrategy.toString(new double[] {1.5, Double.NaN}))
+        .isEqualTo(Arrays.toString(new double[] {1.5, Double.NaN}));
+    assertThat(toStringStrategy.toString(new byte[] {1, -1}))
+        .isEqualTo(Arrays.toString(new byte[] {1, -1}));
+  }
+
+  @Test
+  void toString_givenLongArray_exceedsMaxElements() {
+    collectionToStringProperties.setMaxElements(2);
+    assertThat(toStringStrategy.toString(new long[] {1L, 2L, 3L, 4L, 5L}))
+        .isEqualTo("[1, 2, ... (3 more, size=5)]");
+  }
+
+  @Test
+  void toString_givenNestedPrimitiveArray() {
+    assertThat(toStringStrategy.toString(new Object[] {new int[] {1, 2}, new long[0]}))
+        .isEqualTo("[[1, 2], []]");
+  }
+
+  @Test
+  void toString_givenNestedPrimitiveArray_exceedsMaxDepth() {
+    collectionToStringProperties.setMaxDepth(1);
+    assertThat(toStringStrategy.toString(new int[][] {{1, 2}})).isEqualTo("[[... (size=2)]]");
+  }
+
+  @Test
+  void toString_givenByteArray_hexFormat() {
+    collectionToStringProperties.setByteArrayFormat(ByteArrayFormat.HEX);
+    assertThat(toStringStrategy.toString(new byte[] {0x01, (byte) 0xab, 0x7f}))
+        .isEqualTo("0x01ab7f");
+  }
+
+  @Test
+  void toString_givenByteArray_hexFormat_exceedsMaxElements() {
+    collectionToStringProperties.setByteArrayFormat(ByteArrayFormat.HEX);
+    collectionToStringProperties.setMaxElements(2);
+    assertThat(toStringStrategy.toString(new byte[] {0x01, (byte) 0xab, 0x7f}))
+        .isEqualTo("0x01ab... (1 more, size=3)");
+  }
+
+  @Test
+  void toString_givenByteArray_base64Format() {
+    collectionToStringProperties.setByteArrayFormat(ByteArrayFormat.BASE64);
+    assertThat(toStringStrategy.toString("foobar".getBytes(StandardCharsets.US_ASCII)))
+        .isEqualTo("base64:Zm9vYmFy");
+  }
+
+  @Test
+  void toString_givenByteArray_base64Format_exceedsMaxElements() {
+    collectionToStringProperties.setByteArrayFormat(ByteArrayFormat.BASE64);
+    collectionToStringProperties.setMaxElements(3);
+    assertThat(toStringStrategy.toString("foobar".getBytes(StandardCharsets.US_ASCII)))
+        .isEqualTo("base64:Zm9v... (3 more, size=6)");
+  }
 }
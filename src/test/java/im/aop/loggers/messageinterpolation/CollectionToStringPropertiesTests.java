@@ -0,0 +1,73 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link CollectionToStringProperties}.
+ *
+ * @author Andy Lian
+ */
+class CollectionToStringPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({CollectionToStringProperties.class})
+  static class CollectionToStringPropertiesTestConfiguration {}
+
+  private ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(CollectionToStringPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final CollectionToStringProperties properties =
+              context.getBean(CollectionToStringProperties.class);
+          assertThat(properties.getMaxElements()).isEqualTo(100);
+          assertThat(properties.getMaxDepth()).isEqualTo(3);
+          assertThat(properties.getByteArrayFormat()).isEqualTo(ByteArrayFormat.ELEMENTS);
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            CollectionToStringProperties.PREFIX + ".max-elements=10",
+            CollectionToStringProperties.PREFIX + ".max-depth=1",
+            CollectionToStringProperties.PREFIX + ".byte-array-format=HEX")
+        .run(
+            context -> {
+              final CollectionToStringProperties properties =
+                  context.getBean(CollectionToStringProperties.class);
+              assertThat(properties.getMaxElements()).isEqualTo(10);
+              assertThat(properties.getMaxDepth()).isEqualTo(1);
+              assertThat(properties.getByteArrayFormat()).isEqualTo(ByteArrayFormat.HEX);
+            });
+  }
+
+  @Test
+  void maxElements_invalidValue() {
+    runner
+        .withPropertyValues(CollectionToStringProperties.PREFIX + ".max-elements=-1")
+        .run(
+            context -> {
+              assertThat(context).hasFailed();
+            });
+  }
+
+  @Test
+  void maxDepth_invalidValue() {
+    runner
+        .withPropertyValues(CollectionToStringProperties.PREFIX + ".max-depth=0")
+        .run(
+            context -> {
+              assertThat(context).hasFailed();
+            });
+  }
+}
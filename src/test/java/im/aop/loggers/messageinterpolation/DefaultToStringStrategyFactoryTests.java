@@ -29,7 +29,10 @@ class DefaultToStringStrategyFactoryTests {
 
   @InjectMocks private DefaultToStringStrategyFactory factory;
 
-  static class TestClass {}
+  static class TestClass {
+
+    private boolean uncacheable;
+  }
 
   static class TestToStringStrategy implements ToStringStrategy {
 
@@ -44,6 +47,38 @@ class DefaultToStringStrategyFactoryTests {
     }
   }
 
+  static class CountingToStringStrategy extends TestToStringStrategy {
+
+    private int supportsCount;
+
+    @Override
+    public boolean supports(Object object) {
+      supportsCount++;
+      return super.supports(object);
+    }
+  }
+
+  static class UncacheableToStringStrategy implements ToStringStrategy {
+
+    private int supportsCount;
+
+    @Override
+    public boolean supports(Object object) {
+      supportsCount++;
+      return object instanceof TestClass testClass && testClass.uncacheable;
+    }
+
+    @Override
+    public String toString(Object object) {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean isCacheable() {
+      return false;
+    }
+  }
+
   static interface TestInterface {}
 
   @Test
@@ -92,4 +127,58 @@ class DefaultToStringStrategyFactoryTests {
 
     assertThat(factory.findOrDefault(proxy)).isInstanceOf(ObjectToStringStrategy.class);
   }
+
+  @Test
+  void findOrDefault_givenSameClass_resolvesOnce() {
+    final CountingToStringStrategy toStringStrategy = new CountingToStringStrategy();
+    when(toStringStrategiesProvider.stream()).thenReturn(Stream.of(toStringStrategy));
+    factory.postConstruct();
+
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(toStringStrategy);
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(toStringStrategy);
+    assertThat(toStringStrategy.supportsCount).isEqualTo(1);
+  }
+
+  @Test
+  void findOrDefault_givenUnsupportedClass_cachesDefault() {
+    final CountingToStringStrategy toStringStrategy = new CountingToStringStrategy();
+    when(toStringStrategiesProvider.stream()).thenReturn(Stream.of(toStringStrategy));
+    factory.postConstruct();
+
+    assertThat(factory.findOrDefault("foo")).isSameAs(objectToStringStrategy);
+    assertThat(factory.findOrDefault("bar")).isSameAs(objectToStringStrategy);
+    assertThat(toStringStrategy.supportsCount).isEqualTo(1);
+  }
+
+  @Test
+  void findOrDefault_withUncacheableToStringStrategy_evaluatesEveryTime() {
+    final UncacheableToStringStrategy uncacheableToStringStrategy =
+        new UncacheableToStringStrategy();
+    final TestToStringStrategy testToStringStrategy = new TestToStringStrategy();
+    when(toStringStrategiesProvider.stream())
+        .thenReturn(Stream.of(uncacheableToStringStrategy, testToStringStrategy));
+    factory.postConstruct();
+
+    final TestClass uncacheable = new TestClass();
+    uncacheable.uncacheable = true;
+
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(testToStringStrategy);
+    assertThat(factory.findOrDefault(uncacheable)).isSameAs(uncacheableToStringStrategy);
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(testToStringStrategy);
+    assertThat(uncacheableToStringStrategy.supportsCount).isEqualTo(3);
+  }
+
+  @Test
+  void findOrDefault_withUncacheableToStringStrategyAfterResolved_isNotEvaluated() {
+    final TestToStringStrategy testToStringStrategy = new TestToStringStrategy();
+    final UncacheableToStringStrategy uncacheableToStringStrategy =
+        new UncacheableToStringStrategy();
+    when(toStringStrategiesProvider.stream())
+        .thenReturn(Stream.of(testToStringStrategy, uncacheableToStringStrategy));
+    factory.postConstruct();
+
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(testToStringStrategy);
+    assertThat(factory.findOrDefault(new TestClass())).isSameAs(testToStringStrategy);
+    assertThat(uncacheableToStringStrategy.supportsCount).isZero();
+  }
 }
@@ -0,0 +1,30 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link ElementCountStringSupplierRegistrar}.
+ *
+ * @author Andy Lian
+ */
+class ElementCountStringSupplierRegistrarTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withBean(ElementCountStringSupplierRegistrar.class);
+
+  @Test
+  void elementCount() {
+    runner.run(
+        context -> {
+          final ElementCountStringSupplierRegistrar registrar =
+              context.getBean(ElementCountStringSupplierRegistrar.class);
+
+          final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+          registrar.register(stringSupplierLookup, 3L);
+          assertThat(stringSupplierLookup.lookup("element-count")).isEqualTo("3");
+        });
+  }
+}
@@ -0,0 +1,31 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link EnteredAtStringSupplierRegistrar}.
+ *
+ * @author Andy Lian
+ */
+class EnteredAtStringSupplierRegistrarTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withBean(EnteredAtStringSupplierRegistrar.class);
+
+  @Test
+  void enteredAt() {
+    runner.run(
+        context -> {
+          final EnteredAtStringSupplierRegistrar registrar =
+              context.getBean(EnteredAtStringSupplierRegistrar.class);
+
+          final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+          registrar.register(stringSupplierLookup, 1_700_000_000_123L);
+          assertThat(stringSupplierLookup.lookup("entered-at"))
+              .isEqualTo("2023-11-14T22:13:20.123Z");
+        });
+  }
+}
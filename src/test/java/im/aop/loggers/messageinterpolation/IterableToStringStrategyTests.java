@@ -6,11 +6,15 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,6 +22,10 @@ class IterableToStringStrategyTests {
 
   @Mock private ObjectToStringStrategy objectToStringStrategy;
 
+  @Spy
+  private CollectionToStringProperties collectionToStringProperties =
+      new CollectionToStringProperties();
+
   @InjectMocks private IterableToStringStrategy toStringStrategy;
 
   @Test
@@ -62,4 +70,30 @@ class IterableToStringStrategyTests {
     when(objectToStringStrategy.toString("foo")).thenReturn("foo");
     assertThat(toStringStrategy.toString(Arrays.asList("foo", null))).isEqualTo("[foo, null]");
   }
+
+  @Test
+  void toString_givenIterableString_exceedsMaxElements() {
+    collectionToStringProperties.setMaxElements(2);
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    when(objectToStringStrategy.toString("bar")).thenReturn("bar");
+    assertThat(toStringStrategy.toString(Arrays.asList("foo", "bar", "baz", "qux")))
+        .isEqualTo("[foo, bar, ... (2 more, size=4)]");
+  }
+
+  @Test
+  void toString_givenNonCollectionIterable_exceedsMaxElements() {
+    collectionToStringProperties.setMaxElements(1);
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    final Iterable<String> iterable =
+        () -> Stream.iterate("foo", UnaryOperator.identity()).iterator();
+    assertThat(toStringStrategy.toString(iterable)).isEqualTo("[foo, ...]");
+  }
+
+  @Test
+  void toString_givenNestedCollection_exceedsMaxDepth() {
+    collectionToStringProperties.setMaxDepth(1);
+    when(objectToStringStrategy.toString("foo")).thenReturn("foo");
+    assertThat(toStringStrategy.toString(Arrays.asList("foo", List.of("bar", "baz"), List.of())))
+        .isEqualTo("[foo, [... (size=2)], []]");
+  }
 }
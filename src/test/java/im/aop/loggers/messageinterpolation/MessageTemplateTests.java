@@ -0,0 +1,82 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MessageTemplate}.
+ *
+ * @author Andy Lian
+ */
+class MessageTemplateTests {
+
+  private static final StringSupplierLookup STRING_LOOKUP = new StringSupplierLookup();
+
+  @BeforeAll
+  static void configure() {
+    STRING_LOOKUP.addStringSupplier("foo", () -> "foo");
+    STRING_LOOKUP.addStringSupplier("bar", () -> "bar");
+  }
+
+  @Test
+  void compile_withoutVariable() {
+    final MessageTemplate messageTemplate = MessageTemplate.compile("foo bar");
+    assertThat(messageTemplate.getVariableCount()).isZero();
+    assertThat(messageTemplate.render(STRING_LOOKUP)).isEqualTo("foo bar");
+  }
+
+  @Test
+  void compile_withVariables() {
+    final MessageTemplate messageTemplate = MessageTemplate.compile("[{foo}] and [{bar}]");
+    assertThat(messageTemplate.getVariableCount()).isEqualTo(2);
+    assertThat(messageTemplate.getVariableKey(0)).isEqualTo("foo");
+    assertThat(messageTemplate.getVariableKey(1)).isEqualTo("bar");
+  }
+
+  @Test
+  void compile_stopsAtEndTokenCharWithoutStartTokenChar() {
+    final MessageTemplate messageTemplate = MessageTemplate.compile("foo} {bar}");
+    assertThat(messageTemplate.getVariableCount()).isZero();
+    assertThat(messageTemplate.render(STRING_LOOKUP)).isEqualTo("foo} {bar}");
+  }
+
+  @Test
+  void render_repeatedly() {
+    final MessageTemplate messageTemplate = MessageTemplate.compile("[{foo}] and [{bar}]");
+    assertThat(messageTemplate.render(STRING_LOOKUP)).isEqualTo("[foo] and [bar]");
+    assertThat(messageTemplate.render(STRING_LOOKUP)).isEqualTo("[foo] and [bar]");
+  }
+
+  @Test
+  void render_variableNotFound() {
+    final MessageTemplate messageTemplate = MessageTemplate.compile("[{qux}]");
+    assertThat(messageTemplate.render(STRING_LOOKUP)).isEqualTo("[]");
+  }
+
+  @Test
+  void toString_returnsTemplate() {
+    assertThat(MessageTemplate.compile("{foo} bar")).hasToString("{foo} bar");
+  }
+
+  @Test
+  void render_builtInVariableRenderedOnceAcrossTemplates() {
+    final AtomicInteger renderedCount = new AtomicInteger();
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier(
+        Variable.METHOD,
+        "void foo()",
+        source -> {
+          renderedCount.incrementAndGet();
+          return source;
+        });
+
+    assertThat(MessageTemplate.compile("Entering [{method}]").render(stringLookup))
+        .isEqualTo("Entering [void foo()]");
+    assertThat(MessageTemplate.compile("[{method}] exited").render(stringLookup))
+        .isEqualTo("[void foo()] exited");
+    assertThat(renderedCount).hasValue(1);
+  }
+}
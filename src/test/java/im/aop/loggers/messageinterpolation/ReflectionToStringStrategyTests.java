@@ -8,6 +8,11 @@ import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.List;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringExclude;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.builder.ToStringSummary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -277,4 +282,64 @@ class ReflectionToStringStrategyTests {
 
     assertThrows(InaccessibleObjectException.class, () -> toStringStrategy.toString(proxy));
   }
+
+  static class ParentObject {
+
+    private final String parentValue = "parent";
+
+    private static final String STATIC_VALUE = "static";
+  }
+
+  static class ChildObject extends ParentObject {
+
+    private final String b = "b";
+
+    private final String a = "a";
+
+    private final transient String transientValue = "transient";
+
+    private final int[] numbers = {1, 2};
+
+    private final List<String> list = List.of("x", "y");
+
+    @ToStringSummary private final List<String> summary = List.of("x", "y");
+
+    @ToStringExclude private final String excluded = "excluded";
+  }
+
+  @Test
+  void toString_givenChildObject_rendersSameAsReflectionToStringBuilder() {
+    toStringStrategy.postConstruct();
+
+    assertThat(toStringStrategy.toString(new ChildObject()))
+        .isEqualTo("[a=a,b=b,list=[x, y],numbers={1,2},summary=<size=2>,parentValue=parent]")
+        .isEqualTo(
+            new ReflectionToStringBuilder(new ChildObject(), ToStringStyle.NO_CLASS_NAME_STYLE)
+                .toString());
+  }
+
+  @Test
+  void toString_givenSameClassRepeatedly() {
+    toStringStrategy.postConstruct();
+
+    assertThat(toStringStrategy.toString(new TestObject("foo"))).isEqualTo("[value=foo]");
+    assertThat(toStringStrategy.toString(new TestObject("bar"))).isEqualTo("[value=bar]");
+  }
+
+  @Test
+  void toString_whenExcludeFieldNamesChanged() {
+    toStringStrategy.postConstruct();
+
+    assertThat(toStringStrategy.toString(new TestObject("foo"))).isEqualTo("[value=foo]");
+
+    when(reflectionToStringProperties.getExcludeFieldNames()).thenReturn(new String[] {"value"});
+    assertThat(toStringStrategy.toString(new TestObject("foo"))).isEqualTo("[]");
+  }
+
+  @Test
+  void toString_givenArray() {
+    toStringStrategy.postConstruct();
+
+    assertThat(toStringStrategy.toString(new String[] {"foo", "bar"})).isEqualTo("[{foo,bar}]");
+  }
 }
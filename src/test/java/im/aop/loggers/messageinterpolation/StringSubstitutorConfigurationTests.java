@@ -72,6 +72,26 @@ class StringSubstitutorConfigurationTests {
         });
   }
 
+  @Test
+  void elementCountStringSupplierRegistrarNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(ElementCountStringSupplierRegistrar.class))
+              .isNotNull()
+              .isExactlyInstanceOf(ElementCountStringSupplierRegistrar.class);
+        });
+  }
+
+  @Test
+  void enteredAtStringSupplierRegistrarNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(EnteredAtStringSupplierRegistrar.class))
+              .isNotNull()
+              .isExactlyInstanceOf(EnteredAtStringSupplierRegistrar.class);
+        });
+  }
+
   @Test
   void exceptionStringSupplierRegistrarNotNull() {
     runner.run(
@@ -92,6 +112,16 @@ class StringSubstitutorConfigurationTests {
         });
   }
 
+  @Test
+  void suppressedCountStringSupplierRegistrarNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(SuppressedCountStringSupplierRegistrar.class))
+              .isNotNull()
+              .isExactlyInstanceOf(SuppressedCountStringSupplierRegistrar.class);
+        });
+  }
+
   @Test
   void returnValueStringSupplierRegistrarNotNull() {
     runner.run(
@@ -81,4 +81,16 @@ class StringSubstitutorTests {
     final String result = STRING_SUBSTITUTOR.substitute("{qux}", STRING_LOOKUP);
     assertThat(result).isEmpty();
   }
+
+  @Test
+  void substitute_multipleTokens() {
+    final String result = STRING_SUBSTITUTOR.substitute("{foo} {bar} {foo}", STRING_LOOKUP);
+    assertThat(result).isEqualTo("foo bar foo");
+  }
+
+  @Test
+  void compile_returnsCachedMessageTemplate() {
+    final MessageTemplate messageTemplate = STRING_SUBSTITUTOR.compile("foo {bar}");
+    assertThat(STRING_SUBSTITUTOR.compile("foo {bar}")).isSameAs(messageTemplate);
+  }
 }
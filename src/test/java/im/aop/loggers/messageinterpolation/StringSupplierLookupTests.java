@@ -1,7 +1,12 @@
 package im.aop.loggers.messageinterpolation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -23,4 +28,181 @@ class StringSupplierLookupTests {
     final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
     assertThat(stringSupplierLookup.lookup("foo")).isNull();
   }
+
+  @Test
+  void lookup_withBuiltInVariable() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "foo", String::toUpperCase);
+    assertThat(stringSupplierLookup.lookup("method")).isEqualTo("FOO");
+    assertThat(stringSupplierLookup.lookup(Variable.METHOD)).isEqualTo("FOO");
+  }
+
+  @Test
+  void lookup_withBuiltInVariableKey() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier("method", () -> "foo");
+    assertThat(stringSupplierLookup.lookup(Variable.METHOD)).isEqualTo("foo");
+  }
+
+  @Test
+  void lookup_withoutBuiltInVariable() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    assertThat(stringSupplierLookup.lookup(Variable.METHOD)).isNull();
+  }
+
+  @Test
+  void lookup_rendersBuiltInVariableOnce() {
+    final AtomicInteger renderedCount = new AtomicInteger();
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(
+        Variable.PARAMETERS,
+        "foo",
+        source -> {
+          renderedCount.incrementAndGet();
+          return source;
+        });
+
+    assertThat(stringSupplierLookup.lookup("parameters")).isEqualTo("foo");
+    assertThat(stringSupplierLookup.lookup(Variable.PARAMETERS)).isEqualTo("foo");
+    assertThat(renderedCount).hasValue(1);
+  }
+
+  @Test
+  void lookup_afterBuiltInVariableRegisteredAgain() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(Variable.ELAPSED, "foo", String::toString);
+    assertThat(stringSupplierLookup.lookup(Variable.ELAPSED)).isEqualTo("foo");
+
+    stringSupplierLookup.addStringSupplier(Variable.ELAPSED, "bar", String::toString);
+    assertThat(stringSupplierLookup.lookup(Variable.ELAPSED)).isEqualTo("bar");
+  }
+
+  @Test
+  void snapshot_withBuiltInVariable() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "foo", String::toString);
+
+    final StringSupplierLookup snapshot = stringSupplierLookup.snapshot();
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "bar", String::toString);
+    stringSupplierLookup.addStringSupplier(Variable.EXCEPTION, "baz", String::toString);
+
+    assertThat(snapshot.lookup(Variable.METHOD)).isEqualTo("foo");
+    assertThat(snapshot.lookup(Variable.EXCEPTION)).isNull();
+  }
+
+  @Test
+  void snapshot_notAffectedBySupplierAddedAfterward() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier("foo", () -> "bar");
+
+    final StringSupplierLookup snapshot = stringSupplierLookup.snapshot();
+    stringSupplierLookup.addStringSupplier("foo", () -> "baz");
+    stringSupplierLookup.addStringSupplier("qux", () -> "quux");
+
+    assertThat(snapshot.lookup("foo")).isEqualTo("bar");
+    assertThat(snapshot.lookup("qux")).isNull();
+  }
+
+  @Test
+  void forEachKeyValue_withoutVariable() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(MessageTemplate.compile("{method}"), keyValues::put);
+    assertThat(keyValues).isEmpty();
+  }
+
+  @Test
+  void forEachKeyValue_withVariables() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "foo", String::toUpperCase);
+    stringSupplierLookup.addStringSupplier("bar", () -> "baz");
+
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(
+        MessageTemplate.compile("{method} {bar} {method}"), keyValues::put);
+    assertThat(keyValues).containsExactly(Map.entry("method", "FOO"), Map.entry("bar", "baz"));
+  }
+
+  @Test
+  void forEachKeyValue_withVariablesNotReferenced() {
+    final AtomicInteger renderCount = new AtomicInteger();
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "foo", String::toUpperCase);
+    stringSupplierLookup.addStringSupplier(
+        Variable.PARAMETERS,
+        "bar",
+        parameters -> {
+          renderCount.incrementAndGet();
+          return parameters;
+        });
+    stringSupplierLookup.addStringSupplier("baz", () -> "qux");
+
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(MessageTemplate.compile("{method}"), keyValues::put);
+    assertThat(keyValues).containsExactly(Map.entry("method", "FOO"));
+    assertThat(renderCount).hasValue(0);
+  }
+
+  @Test
+  void forEachKeyValue_withElapsedInNanoseconds() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    new ElapsedStringSupplierRegistrar().register(stringSupplierLookup, 1_500_000L);
+    new ElapsedTimeLimitStringSupplierRegistrar()
+        .register(stringSupplierLookup, Duration.ofMillis(1));
+
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(
+        MessageTemplate.compile("{elapsed} {elapsed-time-limit}"), keyValues::put);
+    assertThat(keyValues)
+        .containsExactly(
+            Map.entry("elapsed", 1_500_000L), Map.entry("elapsed-time-limit", 1_000_000L));
+  }
+
+  @Test
+  void forEachKeyValue_withCounts() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    new ElementCountStringSupplierRegistrar().register(stringSupplierLookup, 3L);
+    new SuppressedCountStringSupplierRegistrar().register(stringSupplierLookup, 2L);
+
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(
+        MessageTemplate.compile("{element-count} {suppressed-count}"), keyValues::put);
+    assertThat(keyValues)
+        .containsExactly(Map.entry("element-count", 3L), Map.entry("suppressed-count", 2L));
+  }
+
+  @Test
+  void forEachKeyValue_withElapsedKey() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    stringSupplierLookup.addStringSupplier("elapsed", () -> "PT1S");
+
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    stringSupplierLookup.forEachKeyValue(MessageTemplate.compile("{elapsed}"), keyValues::put);
+    assertThat(keyValues).containsExactly(Map.entry("elapsed", "PT1S"));
+  }
+
+  @Test
+  void renderedSnapshot_withTemplateVariables() {
+    final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+    final StringBuilder parameters = new StringBuilder("foo");
+    stringSupplierLookup.addStringSupplier(
+        Variable.PARAMETERS, parameters, StringBuilder::toString);
+    stringSupplierLookup.addStringSupplier(Variable.ELAPSED, 1000L, String::valueOf);
+    stringSupplierLookup.addStringSupplier(Variable.METHOD, "bar", String::toString);
+    stringSupplierLookup.addStringSupplier("baz", () -> "qux");
+
+    final StringSupplierLookup snapshot =
+        stringSupplierLookup.renderedSnapshot(
+            MessageTemplate.compile("{parameters} {elapsed} {baz}"));
+    parameters.append("bar");
+
+    assertThat(snapshot.lookup(Variable.PARAMETERS)).isEqualTo("foo");
+    assertThat(snapshot.lookup(Variable.METHOD)).isNull();
+    assertThat(snapshot.lookup("baz")).isEqualTo("qux");
+    final Map<String, Object> keyValues = new LinkedHashMap<>();
+    snapshot.forEachKeyValue(
+        MessageTemplate.compile("{parameters} {elapsed} {baz}"), keyValues::put);
+    assertThat(keyValues)
+        .containsExactly(entry("parameters", "foo"), entry("elapsed", 1000L), entry("baz", "qux"));
+  }
 }
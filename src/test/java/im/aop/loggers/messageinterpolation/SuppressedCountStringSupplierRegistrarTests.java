@@ -0,0 +1,30 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link SuppressedCountStringSupplierRegistrar}.
+ *
+ * @author Andy Lian
+ */
+class SuppressedCountStringSupplierRegistrarTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withBean(SuppressedCountStringSupplierRegistrar.class);
+
+  @Test
+  void suppressedCount() {
+    runner.run(
+        context -> {
+          final SuppressedCountStringSupplierRegistrar registrar =
+              context.getBean(SuppressedCountStringSupplierRegistrar.class);
+
+          final StringSupplierLookup stringSupplierLookup = new StringSupplierLookup();
+          registrar.register(stringSupplierLookup, 3L);
+          assertThat(stringSupplierLookup.lookup("suppressed-count")).isEqualTo("3");
+        });
+  }
+}
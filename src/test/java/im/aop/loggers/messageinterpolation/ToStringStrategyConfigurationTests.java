@@ -2,6 +2,7 @@ package im.aop.loggers.messageinterpolation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
@@ -64,4 +65,18 @@ class ToStringStrategyConfigurationTests {
               .isExactlyInstanceOf(DefaultToStringStrategyFactory.class);
         });
   }
+
+  @Test
+  void iterableToStringStrategy_limitedByCollectionToStringProperties() {
+    runner
+        .withPropertyValues(CollectionToStringProperties.PREFIX + ".max-elements=1")
+        .run(
+            context -> {
+              assertThat(
+                      context
+                          .getBean(IterableToStringStrategy.class)
+                          .toString(List.of("foo", "bar")))
+                  .isEqualTo("[foo, ... (1 more, size=2)]");
+            });
+  }
 }
@@ -0,0 +1,25 @@
+package im.aop.loggers.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Variable}.
+ *
+ * @author Andy Lian
+ */
+class VariableTests {
+
+  @Test
+  void fromKey_builtInVariable() {
+    for (Variable variable : Variable.values()) {
+      assertThat(Variable.fromKey(variable.getKey())).isSameAs(variable);
+    }
+  }
+
+  @Test
+  void fromKey_otherKey() {
+    assertThat(Variable.fromKey("foo")).isNull();
+  }
+}
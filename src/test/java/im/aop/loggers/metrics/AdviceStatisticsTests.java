@@ -0,0 +1,60 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AdviceStatistics}.
+ *
+ * @author Andy Lian
+ */
+class AdviceStatisticsTests {
+
+  @Test
+  void defaultValues() {
+    final AdviceStatistics statistics = new AdviceStatistics();
+
+    assertThat(statistics.getInvocations()).isZero();
+    assertThat(statistics.getSkippedInvocations()).isZero();
+    assertThat(statistics.getEmittedMessages()).isZero();
+    assertThat(statistics.getSuppressedMessages()).isZero();
+    assertThat(statistics.getRenderTime()).isZero();
+  }
+
+  @Test
+  void recordInvocation() {
+    final AdviceStatistics statistics = new AdviceStatistics();
+    statistics.recordInvocation();
+    statistics.recordInvocation();
+
+    assertThat(statistics.getInvocations()).isEqualTo(2);
+  }
+
+  @Test
+  void recordEmitted() {
+    final AdviceStatistics statistics = new AdviceStatistics();
+    statistics.recordEmitted(100);
+    statistics.recordEmitted(50);
+
+    assertThat(statistics.getEmittedMessages()).isEqualTo(2);
+    assertThat(statistics.getRenderTime()).isEqualTo(150);
+  }
+
+  @Test
+  void recordSuppressed() {
+    final AdviceStatistics statistics = new AdviceStatistics();
+    statistics.recordSuppressed(1);
+    statistics.recordSuppressed(3);
+
+    assertThat(statistics.getSuppressedMessages()).isEqualTo(4);
+  }
+
+  @Test
+  void recordSkipped() {
+    final AdviceStatistics statistics = new AdviceStatistics();
+    statistics.recordSkipped();
+
+    assertThat(statistics.getSkippedInvocations()).isEqualTo(1);
+  }
+}
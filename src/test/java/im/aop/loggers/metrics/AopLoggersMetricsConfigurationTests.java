@@ -0,0 +1,98 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link AopLoggersMetricsConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersMetricsConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner().withUserConfiguration(AopLoggersMetricsConfiguration.class);
+
+  @Test
+  void aopLoggersStatisticsNotNull() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(AopLoggersStatistics.class)).isNotNull();
+        });
+  }
+
+  @Test
+  void aopLoggersStatisticsMeterBinder_enabledByDefault() {
+    runner.run(
+        context -> {
+          assertThat(context).hasSingleBean(AopLoggersStatisticsMeterBinder.class);
+        });
+  }
+
+  @Test
+  void aopLoggersStatisticsMeterBinder_whenDisabled() {
+    runner
+        .withPropertyValues(AopLoggersMetricsProperties.PREFIX + ".statistics-enabled=false")
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(AopLoggersStatisticsMeterBinder.class);
+            });
+  }
+
+  @Test
+  void aopLoggersStatisticsMeterBinder_whenMicrometerNotOnClasspath() {
+    runner
+        .withClassLoader(new FilteredClassLoader("io.micrometer.core"))
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(AopLoggersStatistics.class);
+              assertThat(context).doesNotHaveBean(AopLoggersStatisticsMeterBinder.class);
+            });
+  }
+
+  @Test
+  void elapsedTimeRecorderFactory_disabledByDefault() {
+    runner.run(
+        context -> {
+          assertThat(context).doesNotHaveBean(ElapsedTimeRecorderFactory.class);
+        });
+  }
+
+  @Test
+  void elapsedTimeRecorderFactory_whenEnabled() {
+    runner
+        .withPropertyValues(AopLoggersMetricsProperties.PREFIX + ".enabled=true")
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .run(
+            context -> {
+              assertThat(context.getBean(ElapsedTimeRecorderFactory.class))
+                  .isExactlyInstanceOf(MicrometerElapsedTimeRecorderFactory.class);
+            });
+  }
+
+  @Test
+  void elapsedTimeRecorderFactory_whenEnabledWithoutMeterRegistry() {
+    runner
+        .withPropertyValues(AopLoggersMetricsProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(ElapsedTimeRecorderFactory.class);
+            });
+  }
+
+  @Test
+  void elapsedTimeRecorderFactory_whenMicrometerNotOnClasspath() {
+    runner
+        .withPropertyValues(AopLoggersMetricsProperties.PREFIX + ".enabled=true")
+        .withClassLoader(new FilteredClassLoader("io.micrometer.core"))
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(ElapsedTimeRecorderFactory.class);
+            });
+  }
+}
@@ -0,0 +1,66 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link AopLoggersMetricsProperties}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersMetricsPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({AopLoggersMetricsProperties.class})
+  static class AopLoggersMetricsPropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(AopLoggersMetricsPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final AopLoggersMetricsProperties properties =
+              context.getBean(AopLoggersMetricsProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.getElapsedTimerName()).isEqualTo("aop.loggers.elapsed");
+          assertThat(properties.isPercentileHistogram()).isTrue();
+          assertThat(properties.isStatisticsEnabled()).isTrue();
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            AopLoggersMetricsProperties.PREFIX + ".enabled=true",
+            AopLoggersMetricsProperties.PREFIX + ".elapsed-timer-name=foo",
+            AopLoggersMetricsProperties.PREFIX + ".percentile-histogram=false",
+            AopLoggersMetricsProperties.PREFIX + ".statistics-enabled=false")
+        .run(
+            context -> {
+              final AopLoggersMetricsProperties properties =
+                  context.getBean(AopLoggersMetricsProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.getElapsedTimerName()).isEqualTo("foo");
+              assertThat(properties.isPercentileHistogram()).isFalse();
+              assertThat(properties.isStatisticsEnabled()).isFalse();
+            });
+  }
+
+  @Test
+  void elapsedTimerName_invalidValue() {
+    runner
+        .withPropertyValues(AopLoggersMetricsProperties.PREFIX + ".elapsed-timer-name=")
+        .run(
+            context -> {
+              assertThat(context).hasFailed();
+            });
+  }
+}
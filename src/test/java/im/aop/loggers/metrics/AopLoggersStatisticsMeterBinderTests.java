@@ -0,0 +1,87 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AopLoggersStatisticsMeterBinder}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersStatisticsMeterBinderTests {
+
+  @Test
+  void bindTo_registersMetersPerAdviceType() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    new AopLoggersStatisticsMeterBinder(new AopLoggersStatistics()).bindTo(registry);
+
+    for (AdviceType adviceType : AdviceType.values()) {
+      assertThat(
+              registry
+                  .find("aop.loggers.invocations")
+                  .tag("advice", adviceType.getTagValue())
+                  .functionCounter())
+          .isNotNull();
+      assertThat(
+              registry
+                  .find("aop.loggers.invocations.skipped")
+                  .tag("advice", adviceType.getTagValue())
+                  .functionCounter())
+          .isNotNull();
+      assertThat(
+              registry
+                  .find("aop.loggers.messages.suppressed")
+                  .tag("advice", adviceType.getTagValue())
+                  .functionCounter())
+          .isNotNull();
+      assertThat(
+              registry
+                  .find("aop.loggers.messages.emitted")
+                  .tag("advice", adviceType.getTagValue())
+                  .functionTimer())
+          .isNotNull();
+    }
+  }
+
+  @Test
+  void bindTo_reflectsStatistics() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+    new AopLoggersStatisticsMeterBinder(aopLoggersStatistics).bindTo(registry);
+
+    final AdviceStatistics statistics = aopLoggersStatistics.get(AdviceType.LOG_AROUND);
+    statistics.recordInvocation();
+    statistics.recordEmitted(TimeUnit.MILLISECONDS.toNanos(2));
+    statistics.recordSuppressed(2);
+    statistics.recordSkipped();
+
+    final FunctionCounter invocations =
+        registry.get("aop.loggers.invocations").tag("advice", "log-around").functionCounter();
+    assertThat(invocations.count()).isEqualTo(1);
+
+    final FunctionCounter skipped =
+        registry
+            .get("aop.loggers.invocations.skipped")
+            .tag("advice", "log-around")
+            .functionCounter();
+    assertThat(skipped.count()).isEqualTo(1);
+
+    final FunctionCounter suppressed =
+        registry
+            .get("aop.loggers.messages.suppressed")
+            .tag("advice", "log-around")
+            .functionCounter();
+    assertThat(suppressed.count()).isEqualTo(2);
+
+    final FunctionTimer emitted =
+        registry.get("aop.loggers.messages.emitted").tag("advice", "log-around").functionTimer();
+    assertThat(emitted.count()).isEqualTo(1);
+    assertThat(emitted.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+  }
+}
@@ -0,0 +1,33 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AopLoggersStatistics}.
+ *
+ * @author Andy Lian
+ */
+class AopLoggersStatisticsTests {
+
+  @Test
+  void get_returnsSameInstancePerAdviceType() {
+    final AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+
+    for (AdviceType adviceType : AdviceType.values()) {
+      assertThat(aopLoggersStatistics.get(adviceType))
+          .isNotNull()
+          .isSameAs(aopLoggersStatistics.get(adviceType));
+    }
+  }
+
+  @Test
+  void get_isolatedPerAdviceType() {
+    final AopLoggersStatistics aopLoggersStatistics = new AopLoggersStatistics();
+    aopLoggersStatistics.get(AdviceType.LOG_AROUND).recordInvocation();
+
+    assertThat(aopLoggersStatistics.get(AdviceType.LOG_AROUND).getInvocations()).isEqualTo(1);
+    assertThat(aopLoggersStatistics.get(AdviceType.LOG_BEFORE).getInvocations()).isZero();
+  }
+}
@@ -0,0 +1,25 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ElapsedTimeRecorder}.
+ *
+ * @author Andy Lian
+ */
+class ElapsedTimeRecorderTests {
+
+  @Test
+  void recordCancelled_ignoredByDefault() {
+    final List<Long> elapsedTimes = new ArrayList<>();
+    final ElapsedTimeRecorder recorder = (elapsedTime, exception) -> elapsedTimes.add(elapsedTime);
+
+    recorder.recordCancelled(5);
+
+    assertThat(elapsedTimes).isEmpty();
+  }
+}
@@ -0,0 +1,117 @@
+package im.aop.loggers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MicrometerElapsedTimeRecorderFactory}.
+ *
+ * @author Andy Lian
+ */
+class MicrometerElapsedTimeRecorderFactoryTests {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private AopLoggersMetricsProperties properties;
+
+  private MicrometerElapsedTimeRecorderFactory factory;
+
+  private JoinPoint joinPoint;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new AopLoggersMetricsProperties();
+    factory = new MicrometerElapsedTimeRecorderFactory(meterRegistry, properties);
+
+    final Signature signature = mock(Signature.class);
+    when(signature.getDeclaringTypeName()).thenReturn("im.aop.loggers.Foo");
+    when(signature.getName()).thenReturn("foo");
+    joinPoint = mock(JoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(signature);
+  }
+
+  @Test
+  void record_exitedNormally() {
+    factory.create(joinPoint).record(TimeUnit.MILLISECONDS.toNanos(5), null);
+
+    final Timer timer =
+        meterRegistry
+            .get("aop.loggers.elapsed")
+            .tag("class", "im.aop.loggers.Foo")
+            .tag("method", "foo")
+            .tag("outcome", "normal")
+            .tag("exception", "none")
+            .timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+  }
+
+  @Test
+  void record_exitedAbnormally() {
+    final ElapsedTimeRecorder recorder = factory.create(joinPoint);
+    recorder.record(1, new IllegalStateException());
+    recorder.record(1, new IllegalStateException());
+    recorder.record(1, new IllegalArgumentException());
+
+    assertThat(
+            meterRegistry
+                .get("aop.loggers.elapsed")
+                .tag("outcome", "exception")
+                .tag("exception", "IllegalStateException")
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get("aop.loggers.elapsed")
+                .tag("outcome", "exception")
+                .tag("exception", "IllegalArgumentException")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void recordCancelled() {
+    final ElapsedTimeRecorder recorder = factory.create(joinPoint);
+    recorder.recordCancelled(TimeUnit.MILLISECONDS.toNanos(5));
+    recorder.recordCancelled(TimeUnit.MILLISECONDS.toNanos(5));
+
+    final Timer timer =
+        meterRegistry
+            .get("aop.loggers.elapsed")
+            .tag("outcome", "cancelled")
+            .tag("exception", "none")
+            .timer();
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+  }
+
+  @Test
+  void record_customTimerName() {
+    properties.setElapsedTimerName("foo.elapsed");
+
+    factory.create(joinPoint).record(1, null);
+
+    assertThat(meterRegistry.get("foo.elapsed").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void create_sameJoinPoint_sharesTimer() {
+    factory.create(joinPoint).record(1, null);
+    factory.create(joinPoint).record(1, null);
+
+    assertThat(meterRegistry.get("aop.loggers.elapsed").timers()).hasSize(1);
+    assertThat(meterRegistry.get("aop.loggers.elapsed").timer().count()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,114 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link TailLogBuffer}.
+ *
+ * @author Andy Lian
+ */
+class TailLogBufferTests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TailLogBufferTests.class);
+
+  private void add(final TailLogBuffer buffer, final String message) {
+    buffer.add(
+        LOGGER, Level.DEBUG, MessageTemplate.compile(message), new StringSupplierLookup(), null);
+  }
+
+  private void add(final TailLogBuffer buffer, final String message, final String value) {
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier("foo", () -> value);
+    buffer.add(
+        LOGGER, Level.DEBUG, MessageTemplate.compile(message + " {foo}"), stringLookup, null);
+  }
+
+  private String[] messages(final TailLogBuffer.TailLogEvent[] events) {
+    final String[] messages = new String[events.length];
+    for (int index = 0; index < events.length; index++) {
+      messages[index] = events[index].messageTemplate().getTemplate();
+    }
+    return messages;
+  }
+
+  @Test
+  void drain_oldestFirst() {
+    final TailLogBuffer buffer = new TailLogBuffer(4, Long.MAX_VALUE);
+    add(buffer, "foo");
+    add(buffer, "bar");
+
+    assertThat(buffer.size()).isEqualTo(2);
+    assertThat(messages(buffer.drain())).containsExactly("foo", "bar");
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  void add_full_dropsOldest() {
+    final TailLogBuffer buffer = new TailLogBuffer(2, Long.MAX_VALUE);
+    add(buffer, "foo");
+    add(buffer, "bar");
+    add(buffer, "baz");
+    add(buffer, "qux");
+
+    assertThat(buffer.size()).isEqualTo(2);
+    assertThat(buffer.getDroppedCount()).isEqualTo(2);
+    assertThat(messages(buffer.drain())).containsExactly("baz", "qux");
+    assertThat(buffer.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void add_exceedsMaxBytes_dropsOldest() {
+    final TailLogBuffer buffer =
+        new TailLogBuffer(16, 2 * TailLogBuffer.EVENT_OVERHEAD_BYTES + 2 * 10);
+    add(buffer, "foo", "12345");
+    add(buffer, "bar", "12345");
+    add(buffer, "baz", "1");
+
+    assertThat(buffer.size()).isEqualTo(2);
+    assertThat(buffer.getBytes()).isEqualTo(2 * TailLogBuffer.EVENT_OVERHEAD_BYTES + 2 * 6);
+    assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    assertThat(messages(buffer.drain())).containsExactly("bar {foo}", "baz {foo}");
+    assertThat(buffer.getBytes()).isZero();
+  }
+
+  @Test
+  void add_largerThanMaxBytes_dropped() {
+    final TailLogBuffer buffer = new TailLogBuffer(16, TailLogBuffer.EVENT_OVERHEAD_BYTES + 2 * 4);
+    add(buffer, "foo", "1234");
+    add(buffer, "bar", "12345");
+
+    assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    assertThat(messages(buffer.drain())).containsExactly("foo {foo}");
+  }
+
+  @Test
+  void add_afterDrain() {
+    final TailLogBuffer buffer = new TailLogBuffer(2, Long.MAX_VALUE);
+    add(buffer, "foo");
+    add(buffer, "bar");
+    buffer.drain();
+    add(buffer, "baz");
+
+    assertThat(messages(buffer.drain())).containsExactly("baz");
+  }
+
+  @Test
+  void clear() {
+    final TailLogBuffer buffer = new TailLogBuffer(2, Long.MAX_VALUE);
+    add(buffer, "foo");
+    add(buffer, "bar");
+    add(buffer, "baz");
+    buffer.clear();
+
+    assertThat(buffer.size()).isZero();
+    assertThat(buffer.getDroppedCount()).isZero();
+    assertThat(buffer.drain()).isEmpty();
+  }
+}
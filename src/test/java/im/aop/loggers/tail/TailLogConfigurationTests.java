@@ -0,0 +1,125 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.dispatch.AsyncLogDispatcher;
+import im.aop.loggers.dispatch.AsyncLogDispatcherProperties;
+import im.aop.loggers.dispatch.LogDispatcher;
+import im.aop.loggers.dispatch.LogDispatcherConfiguration;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+/**
+ * Tests for {@link TailLogConfiguration}.
+ *
+ * @author Andy Lian
+ */
+class TailLogConfigurationTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(LogDispatcherConfiguration.class, TailLogConfiguration.class);
+
+  @Test
+  void tailLogDispatcher_disabledByDefault() {
+    runner.run(
+        context -> {
+          assertThat(context).doesNotHaveBean(TailLogDispatcher.class);
+          assertThat(context.getBean(LogDispatcher.class))
+              .isExactlyInstanceOf(SynchronousLogDispatcher.class);
+        });
+  }
+
+  @Test
+  void tailLogDispatcher_primaryWhenEnabled() {
+    runner
+        .withPropertyValues(TailLogProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              final LogDispatcher logDispatcher = context.getBean(LogDispatcher.class);
+              assertThat(logDispatcher).isExactlyInstanceOf(TailLogDispatcher.class);
+              assertThat(((TailLogDispatcher) logDispatcher).getDelegate())
+                  .isExactlyInstanceOf(SynchronousLogDispatcher.class);
+            });
+  }
+
+  @Test
+  void tailLogDispatcher_decoratesAsyncLogDispatcher() {
+    runner
+        .withPropertyValues(
+            TailLogProperties.PREFIX + ".enabled=true",
+            AsyncLogDispatcherProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(TailLogDispatcher.class).getDelegate())
+                  .isExactlyInstanceOf(AsyncLogDispatcher.class);
+            });
+  }
+
+  @Test
+  void tailLogDispatcher_decoratesUserDefinedLogDispatcher() {
+    final LogDispatcher userDefinedLogDispatcher = new SynchronousLogDispatcher();
+    runner
+        .withBean(LogDispatcher.class, () -> userDefinedLogDispatcher)
+        .withPropertyValues(TailLogProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context.getBean(TailLogDispatcher.class).getDelegate())
+                  .isSameAs(userDefinedLogDispatcher);
+            });
+  }
+
+  @Test
+  void tailLogDispatcher_failsWithSeveralLogDispatchers() {
+    runner
+        .withBean("userDefinedLogDispatcher", LogDispatcher.class, SynchronousLogDispatcher::new)
+        .withPropertyValues(
+            TailLogProperties.PREFIX + ".enabled=true",
+            AsyncLogDispatcherProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context)
+                  .getFailure()
+                  .hasRootCauseInstanceOf(NoUniqueBeanDefinitionException.class);
+            });
+  }
+
+  @Test
+  void tailLogFilters_notWebApplication() {
+    runner
+        .withPropertyValues(TailLogProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(TailLogServletFilter.class);
+              assertThat(context).doesNotHaveBean(TailLogWebFilter.class);
+            });
+  }
+
+  @Test
+  void tailLogServletFilter_servletWebApplication() {
+    new WebApplicationContextRunner()
+        .withUserConfiguration(LogDispatcherConfiguration.class, TailLogConfiguration.class)
+        .withPropertyValues(TailLogProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(TailLogServletFilter.class);
+              assertThat(context).doesNotHaveBean(TailLogWebFilter.class);
+            });
+  }
+
+  @Test
+  void tailLogWebFilter_reactiveWebApplication() {
+    new ReactiveWebApplicationContextRunner()
+        .withUserConfiguration(LogDispatcherConfiguration.class, TailLogConfiguration.class)
+        .withPropertyValues(TailLogProperties.PREFIX + ".enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(TailLogWebFilter.class);
+              assertThat(context).doesNotHaveBean(TailLogServletFilter.class);
+            });
+  }
+}
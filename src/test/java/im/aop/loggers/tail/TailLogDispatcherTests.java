@@ -0,0 +1,198 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tests for {@link TailLogDispatcher}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class TailLogDispatcherTests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TailLogDispatcherTests.class);
+
+  private final TailLogProperties properties = new TailLogProperties();
+
+  private final TailLogDispatcher tailLogDispatcher =
+      new TailLogDispatcher(properties, SynchronousLogDispatcher.INSTANCE);
+
+  private TailLogBuffer previousBuffer;
+
+  @BeforeEach
+  void setLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(ch.qos.logback.classic.Level.INFO);
+  }
+
+  @AfterEach
+  void resetLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(null);
+    tailLogDispatcher.unbind(previousBuffer);
+  }
+
+  private void dispatch(final Level level, final String message, final String value) {
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier("foo", () -> value);
+    if (tailLogDispatcher.isEnabled(LOGGER, level)) {
+      tailLogDispatcher.dispatch(
+          LOGGER, level, MessageTemplate.compile(message + " foo={foo}"), stringLookup, null);
+    }
+  }
+
+  @Test
+  void isEnabled_withoutBuffer() {
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.INFO)).isTrue();
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)).isFalse();
+  }
+
+  @Test
+  void isEnabled_withBuffer() {
+    previousBuffer = tailLogDispatcher.bind(tailLogDispatcher.createBuffer());
+
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.INFO)).isTrue();
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)).isTrue();
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.TRACE)).isFalse();
+  }
+
+  @Test
+  void dispatch_enabledLevel(final CapturedOutput capturedOutput) {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.INFO, "info", "bar");
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - info foo=bar");
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  void dispatch_disabledLevel_buffered(final CapturedOutput capturedOutput) {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.DEBUG, "debug", "bar");
+
+    assertThat(capturedOutput).doesNotContain("debug foo=bar");
+    assertThat(buffer.size()).isEqualTo(1);
+  }
+
+  @Test
+  void dispatch_disabledLevel_withoutBuffer(final CapturedOutput capturedOutput) {
+    tailLogDispatcher.dispatch(
+        LOGGER, Level.DEBUG, MessageTemplate.compile("debug"), new StringSupplierLookup(), null);
+
+    assertThat(capturedOutput).doesNotContain("debug");
+  }
+
+  @Test
+  void flush_loggedAtFlushLevel(final CapturedOutput capturedOutput) {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.DEBUG, "first", "bar");
+    dispatch(Level.DEBUG, "second", "baz");
+    tailLogDispatcher.flush(buffer);
+
+    assertThat(capturedOutput.getOut().lines())
+        .containsSubsequence(
+            "INFO " + LOGGER.getName() + " - first foo=bar",
+            "INFO " + LOGGER.getName() + " - second foo=baz");
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  void flush_droppedEvents(final CapturedOutput capturedOutput) {
+    properties.setMaxEvents(1);
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.DEBUG, "first", "bar");
+    dispatch(Level.DEBUG, "second", "baz");
+    tailLogDispatcher.flush(buffer);
+
+    assertThat(capturedOutput)
+        .contains("[1] earlier log events dropped from buffer")
+        .contains("INFO " + LOGGER.getName() + " - second foo=baz")
+        .doesNotContain("first foo=bar");
+  }
+
+  @Test
+  void flush_renderedWhenBuffered(final CapturedOutput capturedOutput) {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+    final StringBuilder parameter = new StringBuilder("bar");
+
+    final StringSupplierLookup stringLookup = new StringSupplierLookup();
+    stringLookup.addStringSupplier("foo", parameter::toString);
+    tailLogDispatcher.dispatch(
+        LOGGER, Level.DEBUG, MessageTemplate.compile("debug foo={foo}"), stringLookup, null);
+    parameter.append("baz");
+    tailLogDispatcher.flush(buffer);
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug foo=bar\n");
+  }
+
+  @Test
+  void flush_droppedEventsExceedingMaxSize(final CapturedOutput capturedOutput) {
+    properties.setMaxSize(DataSize.ofBytes(TailLogBuffer.EVENT_OVERHEAD_BYTES + 2 * 3));
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.DEBUG, "first", "bar");
+    dispatch(Level.DEBUG, "second", "baz");
+    tailLogDispatcher.flush(buffer);
+
+    assertThat(capturedOutput)
+        .contains("[1] earlier log events dropped from buffer")
+        .contains("INFO " + LOGGER.getName() + " - second foo=baz")
+        .doesNotContain("first foo=bar");
+  }
+
+  @Test
+  void exitedAbnormally_flushed(final CapturedOutput capturedOutput) {
+    final TailLogBuffer buffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(buffer);
+
+    dispatch(Level.DEBUG, "debug", "bar");
+    tailLogDispatcher.exitedAbnormally(new RuntimeException("foo"));
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug foo=bar");
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  void exitedAbnormally_withoutBuffer(final CapturedOutput capturedOutput) {
+    tailLogDispatcher.exitedAbnormally(new RuntimeException("foo"));
+
+    assertThat(capturedOutput).doesNotContain(LOGGER.getName());
+  }
+
+  @Test
+  void unbind_restoresPreviousBuffer() {
+    final TailLogBuffer outerBuffer = tailLogDispatcher.createBuffer();
+    previousBuffer = tailLogDispatcher.bind(outerBuffer);
+    final TailLogBuffer innerBuffer = tailLogDispatcher.createBuffer();
+    final TailLogBuffer restoredBuffer = tailLogDispatcher.bind(innerBuffer);
+    tailLogDispatcher.unbind(restoredBuffer);
+
+    dispatch(Level.DEBUG, "debug", "bar");
+
+    assertThat(restoredBuffer).isSameAs(outerBuffer);
+    assertThat(outerBuffer.size()).isEqualTo(1);
+    assertThat(innerBuffer.size()).isZero();
+  }
+}
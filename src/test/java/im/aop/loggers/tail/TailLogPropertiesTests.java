@@ -0,0 +1,66 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tests for {@link TailLogProperties}.
+ *
+ * @author Andy Lian
+ */
+class TailLogPropertiesTests {
+
+  @TestConfiguration(proxyBeanMethods = false)
+  @EnableConfigurationProperties({TailLogProperties.class})
+  static class TailLogPropertiesTestConfiguration {}
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(TailLogPropertiesTestConfiguration.class);
+
+  @Test
+  void defaultValues() {
+    runner.run(
+        context -> {
+          final TailLogProperties properties = context.getBean(TailLogProperties.class);
+          assertThat(properties.isEnabled()).isFalse();
+          assertThat(properties.getLevel()).isEqualTo(Level.DEBUG);
+          assertThat(properties.getFlushLevel()).isEqualTo(Level.INFO);
+          assertThat(properties.getMaxEvents()).isEqualTo(256);
+          assertThat(properties.getMaxSize()).isEqualTo(DataSize.ofKilobytes(256));
+        });
+  }
+
+  @Test
+  void givenPropertyValues() {
+    runner
+        .withPropertyValues(
+            TailLogProperties.PREFIX + ".enabled=true",
+            TailLogProperties.PREFIX + ".level=TRACE",
+            TailLogProperties.PREFIX + ".flush-level=WARN",
+            TailLogProperties.PREFIX + ".max-events=16",
+            TailLogProperties.PREFIX + ".max-size=1MB")
+        .run(
+            context -> {
+              final TailLogProperties properties = context.getBean(TailLogProperties.class);
+              assertThat(properties.isEnabled()).isTrue();
+              assertThat(properties.getLevel()).isEqualTo(Level.TRACE);
+              assertThat(properties.getFlushLevel()).isEqualTo(Level.WARN);
+              assertThat(properties.getMaxEvents()).isEqualTo(16);
+              assertThat(properties.getMaxSize()).isEqualTo(DataSize.ofMegabytes(1));
+            });
+  }
+
+  @Test
+  void invalidMaxEvents() {
+    runner
+        .withPropertyValues(TailLogProperties.PREFIX + ".max-events=0")
+        .run(context -> assertThat(context).hasFailed());
+  }
+}
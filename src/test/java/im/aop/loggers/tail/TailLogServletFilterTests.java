@@ -0,0 +1,115 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Tests for {@link TailLogServletFilter}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class TailLogServletFilterTests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TailLogServletFilterTests.class);
+
+  private final TailLogDispatcher tailLogDispatcher =
+      new TailLogDispatcher(new TailLogProperties(), SynchronousLogDispatcher.INSTANCE);
+
+  private final TailLogServletFilter tailLogServletFilter =
+      new TailLogServletFilter(tailLogDispatcher);
+
+  @BeforeEach
+  void setLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(ch.qos.logback.classic.Level.INFO);
+  }
+
+  @AfterEach
+  void resetLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(null);
+  }
+
+  private void logDebug() {
+    if (tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)) {
+      tailLogDispatcher.dispatch(
+          LOGGER, Level.DEBUG, MessageTemplate.compile("debug"), new StringSupplierLookup(), null);
+    }
+  }
+
+  @Test
+  void doFilter_successfulRequest(final CapturedOutput capturedOutput) throws Exception {
+    tailLogServletFilter.doFilter(
+        new MockHttpServletRequest(),
+        new MockHttpServletResponse(),
+        (request, response) -> logDebug());
+
+    assertThat(capturedOutput).doesNotContain(LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void doFilter_serverErrorStatus(final CapturedOutput capturedOutput) throws Exception {
+    tailLogServletFilter.doFilter(
+        new MockHttpServletRequest(),
+        new MockHttpServletResponse(),
+        (request, response) -> {
+          logDebug();
+          ((HttpServletResponse) response).setStatus(500);
+        });
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void doFilter_clientErrorStatus(final CapturedOutput capturedOutput) throws Exception {
+    tailLogServletFilter.doFilter(
+        new MockHttpServletRequest(),
+        new MockHttpServletResponse(),
+        (request, response) -> {
+          logDebug();
+          ((HttpServletResponse) response).setStatus(404);
+        });
+
+    assertThat(capturedOutput).doesNotContain(LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void doFilter_exceptionThrown(final CapturedOutput capturedOutput) {
+    assertThatThrownBy(
+            () ->
+                tailLogServletFilter.doFilter(
+                    new MockHttpServletRequest(),
+                    new MockHttpServletResponse(),
+                    (request, response) -> {
+                      logDebug();
+                      throw new IllegalStateException("foo");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void doFilter_bufferUnbound(final CapturedOutput capturedOutput) throws Exception {
+    tailLogServletFilter.doFilter(
+        new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)).isFalse();
+  }
+}
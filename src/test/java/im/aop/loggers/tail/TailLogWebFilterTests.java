@@ -0,0 +1,103 @@
+package im.aop.loggers.tail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import im.aop.loggers.Level;
+import im.aop.loggers.dispatch.SynchronousLogDispatcher;
+import im.aop.loggers.messageinterpolation.MessageTemplate;
+import im.aop.loggers.messageinterpolation.StringSupplierLookup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link TailLogWebFilter}.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class TailLogWebFilterTests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TailLogWebFilterTests.class);
+
+  private final TailLogDispatcher tailLogDispatcher =
+      new TailLogDispatcher(new TailLogProperties(), SynchronousLogDispatcher.INSTANCE);
+
+  private final TailLogWebFilter tailLogWebFilter = new TailLogWebFilter(tailLogDispatcher);
+
+  private final MockServerWebExchange exchange =
+      MockServerWebExchange.from(MockServerHttpRequest.get("/foo"));
+
+  @BeforeEach
+  void setLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(ch.qos.logback.classic.Level.INFO);
+  }
+
+  @AfterEach
+  void resetLevel() {
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(null);
+  }
+
+  private void logDebug() {
+    if (tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)) {
+      tailLogDispatcher.dispatch(
+          LOGGER, Level.DEBUG, MessageTemplate.compile("debug"), new StringSupplierLookup(), null);
+    }
+  }
+
+  @Test
+  void filter_successfulRequest(final CapturedOutput capturedOutput) {
+    tailLogWebFilter.filter(exchange, exchange -> Mono.fromRunnable(this::logDebug)).block();
+
+    assertThat(capturedOutput).doesNotContain(LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void filter_serverErrorStatus(final CapturedOutput capturedOutput) {
+    tailLogWebFilter
+        .filter(
+            exchange,
+            exchange ->
+                Mono.fromRunnable(
+                    () -> {
+                      logDebug();
+                      exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    }))
+        .block();
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void filter_errorSignal(final CapturedOutput capturedOutput) {
+    assertThatThrownBy(
+            () ->
+                tailLogWebFilter
+                    .filter(
+                        exchange,
+                        exchange ->
+                            Mono.fromRunnable(this::logDebug)
+                                .then(Mono.error(new IllegalStateException("foo"))))
+                    .block())
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(capturedOutput).contains("INFO " + LOGGER.getName() + " - debug");
+  }
+
+  @Test
+  void filter_bufferUnbound() {
+    tailLogWebFilter.filter(exchange, exchange -> Mono.empty()).block();
+
+    assertThat(tailLogDispatcher.isEnabled(LOGGER, Level.DEBUG)).isFalse();
+  }
+}
@@ -0,0 +1,21 @@
+package im.aop.loggers.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import im.aop.loggers.advice.around.LogAroundAdvice;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AspectUtil}.
+ *
+ * @author Andy Lian
+ */
+class AspectUtilTests {
+
+  @Test
+  void aspectOf_notWoven() {
+    final LogAroundAdvice logAroundAdvice = new LogAroundAdvice();
+    assertThat(AspectUtil.aspectOf(LogAroundAdvice.class, () -> logAroundAdvice))
+        .isSameAs(logAroundAdvice);
+  }
+}
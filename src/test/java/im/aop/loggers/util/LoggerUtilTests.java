@@ -240,6 +240,26 @@ class LoggerUtilTests {
         .doesNotContain("java.lang.RuntimeException: foo");
   }
 
+  @Test
+  @ExtendWith(OutputCaptureExtension.class)
+  void atLevel_givenLevelEqualsInfo(final CapturedOutput capturedOutput) {
+    LoggingSystem.get(ClassLoader.getSystemClassLoader()).setLogLevel("foo", LogLevel.INFO);
+
+    final Logger logger = LoggerFactory.getLogger("foo");
+    LoggerUtil.atLevel(logger, Level.INFO).log("foo");
+    assertThat(capturedOutput).containsOnlyOnce("INFO foo - foo");
+  }
+
+  @Test
+  @ExtendWith(OutputCaptureExtension.class)
+  void atLevel_givenLevelEqualsDefault(final CapturedOutput capturedOutput) {
+    LoggingSystem.get(ClassLoader.getSystemClassLoader()).setLogLevel("foo", LogLevel.DEBUG);
+
+    final Logger logger = LoggerFactory.getLogger("foo");
+    LoggerUtil.atLevel(logger, Level.DEFAULT).log("foo");
+    assertThat(capturedOutput).doesNotContain("foo - foo");
+  }
+
   private MethodSignature mockMethodSignature(
       final Class<?> declaringClass, final String methodName, Class<?>... methodParameterTypes)
       throws NoSuchMethodException {
@@ -0,0 +1,117 @@
+package im.aop.loggers.weaving;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import im.aop.loggers.AopLoggersAutoConfiguration;
+import im.aop.loggers.AopLoggersProperties;
+import im.aop.loggers.advice.afterthrowing.LogAfterThrowing;
+import im.aop.loggers.advice.around.LogAround;
+import im.aop.loggers.advice.around.LogAroundAdvice;
+import im.aop.loggers.advice.before.LogBefore;
+import im.aop.loggers.advice.before.LogBeforeAdvice;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+/**
+ * Tests for the advices woven by AspectJ load-time weaving, run with the <code>weaving</code> Maven
+ * profile.
+ *
+ * @author Andy Lian
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class LoadTimeWeavingTests {
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(
+              AutoConfigurations.of(AopAutoConfiguration.class, AopLoggersAutoConfiguration.class))
+          .withPropertyValues(
+              AopLoggersProperties.PREFIX + ".entering-level=INFO",
+              AopLoggersProperties.PREFIX + ".exited-level=INFO");
+
+  static class Foo {
+
+    @LogAround
+    public String foo() {
+      return bar();
+    }
+
+    @LogBefore
+    public String bar() {
+      return "bar";
+    }
+
+    @LogAfterThrowing
+    public void baz() {
+      throw new IllegalStateException("baz");
+    }
+  }
+
+  @Test
+  void aspectsWoven() {
+    assertThat(Aspects.hasAspect(LogAroundAdvice.class)).isTrue();
+    assertThat(Aspects.hasAspect(LogBeforeAdvice.class)).isTrue();
+  }
+
+  @Test
+  void adviceBean_isWovenAspect() {
+    runner.run(
+        context -> {
+          assertThat(context.getBean(LogAroundAdvice.class))
+              .isSameAs(Aspects.aspectOf(LogAroundAdvice.class));
+        });
+  }
+
+  @Test
+  void selfInvocation_logged(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          new Foo().foo();
+
+          assertThat(capturedOutput)
+              .containsSubsequence(
+                  "Entering [String foo()] with parameters [none]",
+                  "Entering [String bar()] with parameters [none]",
+                  "[String foo()] exited normally with return value [bar]");
+        });
+  }
+
+  @Test
+  void bean_notProxied_loggedOnce(final CapturedOutput capturedOutput) {
+    runner
+        .withBean(Foo.class)
+        .run(
+            context -> {
+              final Foo foo = context.getBean(Foo.class);
+              assertThat(AopUtils.isAopProxy(foo)).isFalse();
+
+              foo.bar();
+
+              assertThat(
+                      StringUtils.countMatches(capturedOutput.getOut(), "Entering [String bar()]"))
+                  .isEqualTo(1);
+            });
+  }
+
+  @Test
+  void exception_logged(final CapturedOutput capturedOutput) {
+    runner.run(
+        context -> {
+          assertThrows(IllegalStateException.class, () -> new Foo().baz());
+
+          assertThat(capturedOutput)
+              .contains(
+                  "[void baz()] exited abnormally with exception"
+                      + " [type=IllegalStateException, message=baz]");
+        });
+  }
+}